@@ -0,0 +1,81 @@
+package com.pragma.benchmarks;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.input.rest.dto.ProductRequestDto;
+import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba de los benchmarks, con tamaños y contenido parecidos a los de un catálogo real.
+ */
+final class DatosBenchmark {
+
+    private static final String DESCRIPCION =
+            "Producto de catálogo con una descripción de longitud media, como la que suelen tener los productos reales.";
+
+    private DatosBenchmark() {
+    }
+
+    static ProductoEntity entidad(long id) {
+        return new ProductoEntity(id, "Producto " + id, DESCRIPCION, 10.0 + id % 1000, (int) (id % 500));
+    }
+
+    static Producto producto(long id) {
+        return new Producto(id, "Producto " + id, DESCRIPCION, 10.0 + id % 1000, (int) (id % 500));
+    }
+
+    static ProductResponseDto respuesta(long id) {
+        ProductResponseDto dto = new ProductResponseDto();
+        dto.setId(id);
+        dto.setNombre("Producto " + id);
+        dto.setDescripcion(DESCRIPCION);
+        dto.setPrecio(10.0 + id % 1000);
+        dto.setStock((int) (id % 500));
+        return dto;
+    }
+
+    static List<ProductoEntity> entidades(int cantidad) {
+        List<ProductoEntity> entidades = new ArrayList<>(cantidad);
+        for (long id = 1; id <= cantidad; id++) {
+            entidades.add(entidad(id));
+        }
+        return entidades;
+    }
+
+    static List<Producto> productos(int cantidad) {
+        List<Producto> productos = new ArrayList<>(cantidad);
+        for (long id = 1; id <= cantidad; id++) {
+            productos.add(producto(id));
+        }
+        return productos;
+    }
+
+    static List<ProductResponseDto> respuestas(int cantidad) {
+        List<ProductResponseDto> respuestas = new ArrayList<>(cantidad);
+        for (long id = 1; id <= cantidad; id++) {
+            respuestas.add(respuesta(id));
+        }
+        return respuestas;
+    }
+
+    static ProductRequestDto solicitudValida() {
+        ProductRequestDto dto = new ProductRequestDto();
+        dto.setNombre("Teclado mecánico");
+        dto.setDescripcion(DESCRIPCION);
+        dto.setPrecio(89.9);
+        dto.setStock(25);
+        return dto;
+    }
+
+    static ProductRequestDto solicitudInvalida() {
+        ProductRequestDto dto = new ProductRequestDto();
+        dto.setNombre("");
+        dto.setDescripcion(DESCRIPCION);
+        dto.setPrecio(-1.0);
+        dto.setStock(null);
+        return dto;
+    }
+}
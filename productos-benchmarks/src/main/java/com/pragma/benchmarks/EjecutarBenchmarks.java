@@ -0,0 +1,35 @@
+package com.pragma.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Punto de entrada de {@code benchmarks.jar}. Acepta las mismas opciones que el lanzador de JMH
+ * ({@code java -jar target/benchmarks.jar -h}) y añade siempre el perfilador de GC, de modo que cada
+ * resultado incluye los bytes asignados por operación ({@code gc.alloc.rate.norm}) y las regresiones
+ * de asignación quedan a la vista junto a las de tiempo.
+ */
+public final class EjecutarBenchmarks {
+
+    private EjecutarBenchmarks() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions opciones = new CommandLineOptions(args);
+        if (opciones.shouldHelp()) {
+            opciones.showHelp();
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .parent(opciones)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
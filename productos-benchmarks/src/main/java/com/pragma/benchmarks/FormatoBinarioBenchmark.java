@@ -0,0 +1,95 @@
+package com.pragma.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de serializar y deserializar un {@link ProductResponseDto} y una lista de 100 en JSON, Smile y CBOR,
+ * los formatos que negocia la API REST, con un {@link ObjectMapper} configurado como el de Spring Boot.
+ * <p>
+ * Corresponde a los dos extremos de una llamada de ventas a productos: productos serializa la respuesta y
+ * ventas la deserializa. El tamaño de cada cuerpo no depende de la máquina y se imprime al preparar
+ * cada combinación de parámetros ({@code Tamaño del cuerpo ...}).
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatoBinarioBenchmark {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private String formato;
+
+    private ObjectWriter escritor;
+    private ObjectReader lectorProducto;
+    private ObjectReader lectorLista;
+    private ProductResponseDto producto;
+    private List<ProductResponseDto> productos;
+    private byte[] cuerpoProducto;
+    private byte[] cuerpoLista;
+
+    @Setup
+    public void preparar() throws IOException {
+        JsonFactory factoria = switch (formato) {
+            case "SMILE" -> new SmileFactory();
+            case "CBOR" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().factory(factoria).build();
+        JavaType tipoLista = mapper.getTypeFactory().constructCollectionType(List.class, ProductResponseDto.class);
+        escritor = mapper.writer();
+        lectorProducto = mapper.readerFor(ProductResponseDto.class);
+        lectorLista = mapper.readerFor(tipoLista);
+        producto = DatosBenchmark.respuesta(42);
+        productos = DatosBenchmark.respuestas(100);
+        cuerpoProducto = escritor.writeValueAsBytes(producto);
+        cuerpoLista = escritor.writeValueAsBytes(productos);
+        System.out.printf("%nTamaño del cuerpo en %s: producto %d bytes, lista de 100 %d bytes%n",
+                formato, cuerpoProducto.length, cuerpoLista.length);
+    }
+
+    @Benchmark
+    public byte[] serializarProducto() throws IOException {
+        return escritor.writeValueAsBytes(producto);
+    }
+
+    @Benchmark
+    public ProductResponseDto deserializarProducto() throws IOException {
+        return lectorProducto.readValue(cuerpoProducto);
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws IOException {
+        return escritor.writeValueAsBytes(productos);
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> deserializarLista() throws IOException {
+        return lectorLista.readValue(cuerpoLista);
+    }
+}
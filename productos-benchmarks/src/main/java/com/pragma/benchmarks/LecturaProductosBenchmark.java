@@ -0,0 +1,110 @@
+package com.pragma.benchmarks;
+
+import com.pragma.ProductosApplication;
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.output.persistence.mapper.ProductoPersistenceMapper;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura de productos cargando entidades JPA y mapeándolas al dominio, frente a las proyecciones
+ * por constructor que usa el adaptador para los listados. Arranca el contexto de productos sin
+ * servidor web sobre una base de datos H2 en memoria con {@code filas} productos.
+ * <p>
+ * Incluye la lectura por ID, que el adaptador mantiene sobre la entidad porque para una sola fila
+ * la búsqueda por clave primaria de Hibernate es más barata que la consulta de la proyección.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LecturaProductosBenchmark {
+
+    @Param({"1", "100"})
+    private int filas;
+
+    private ConfigurableApplicationContext contexto;
+    private ProductoSpringDataJpaRepository jpaRepository;
+    private ProductoPersistenceMapper productoPersistenceMapper;
+    private TransactionTemplate lectura;
+    private Long primerId;
+
+    @Setup
+    public void preparar() {
+        contexto = new SpringApplicationBuilder(ProductosApplication.class)
+                .web(WebApplicationType.NONE)
+                // Como argumentos de línea de comandos, para que prevalezcan sobre el application.properties de productos
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--productos.busqueda.motor=memoria",
+                        "--productos.existencia.filtro.habilitado=false",
+                        "--productos.reservas.expiracion.intervalo-ms=3600000",
+                        "--logging.level.root=WARN");
+        jpaRepository = contexto.getBean(ProductoSpringDataJpaRepository.class);
+        productoPersistenceMapper = contexto.getBean(ProductoPersistenceMapper.class);
+        lectura = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        lectura.setReadOnly(true);
+
+        jpaRepository.deleteAll();
+        List<Long> ids = jpaRepository.saveAll(DatosBenchmark.entidades(filas).stream()
+                        .peek(entidad -> entidad.setId(null))
+                        .toList())
+                .stream().map(entidad -> entidad.getId()).sorted().toList();
+        primerId = ids.get(0);
+    }
+
+    @TearDown
+    public void cerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<Producto> listarConEntidades() {
+        return lectura.execute(estado -> productoPersistenceMapper.toProductoList(jpaRepository.findAll(Sort.by("id"))));
+    }
+
+    @Benchmark
+    public List<Producto> listarConProyeccion() {
+        return lectura.execute(estado -> jpaRepository.buscarVistas());
+    }
+
+    @Benchmark
+    public Optional<Producto> obtenerPorIdConEntidad() {
+        return lectura.execute(estado -> jpaRepository.findById(primerId).map(productoPersistenceMapper::toProducto));
+    }
+
+    @Benchmark
+    public List<Producto> obtenerPorIdConProyeccion() {
+        return lectura.execute(estado -> jpaRepository.buscarVistasPorIds(List.of(primerId)));
+    }
+}
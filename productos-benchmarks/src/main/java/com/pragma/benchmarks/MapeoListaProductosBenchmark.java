@@ -0,0 +1,65 @@
+package com.pragma.benchmarks;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.mapper.ProductoPersistenceMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste del mapeo de listas de productos con MapStruct, con los tamaños de una página, de un
+ * catálogo mediano y de un listado completo grande.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeoListaProductosBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int tamano;
+
+    private final ProductoPersistenceMapper productoPersistenceMapper = Mappers.getMapper(ProductoPersistenceMapper.class);
+    private final ProductRestMapper productRestMapper = Mappers.getMapper(ProductRestMapper.class);
+
+    private List<ProductoEntity> entidades;
+    private List<Producto> productos;
+
+    @Setup
+    public void preparar() {
+        entidades = DatosBenchmark.entidades(tamano);
+        productos = DatosBenchmark.productos(tamano);
+    }
+
+    @Benchmark
+    public List<Producto> entidadesADominio() {
+        return productoPersistenceMapper.toProductoList(entidades);
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> dominioADtos() {
+        return productRestMapper.toProductResponseDtoList(productos);
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> entidadesADtos() {
+        return productRestMapper.toProductResponseDtoList(productoPersistenceMapper.toProductoList(entidades));
+    }
+}
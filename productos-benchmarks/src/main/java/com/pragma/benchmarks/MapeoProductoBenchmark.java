@@ -0,0 +1,54 @@
+package com.pragma.benchmarks;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.mapper.ProductoPersistenceMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de los mappers de MapStruct para un producto: de la entidad JPA al dominio
+ * ({@link ProductoPersistenceMapper}), del dominio al DTO de respuesta ({@link ProductRestMapper})
+ * y la cadena completa que recorre una lectura por ID.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeoProductoBenchmark {
+
+    private final ProductoPersistenceMapper productoPersistenceMapper = Mappers.getMapper(ProductoPersistenceMapper.class);
+    private final ProductRestMapper productRestMapper = Mappers.getMapper(ProductRestMapper.class);
+
+    private final ProductoEntity entidad = DatosBenchmark.entidad(42);
+    private final Producto producto = DatosBenchmark.producto(42);
+
+    @Benchmark
+    public Producto entidadADominio() {
+        return productoPersistenceMapper.toProducto(entidad);
+    }
+
+    @Benchmark
+    public ProductResponseDto dominioADto() {
+        return productRestMapper.toProductResponseDto(producto);
+    }
+
+    @Benchmark
+    public ProductResponseDto entidadADto() {
+        return productRestMapper.toProductResponseDto(productoPersistenceMapper.toProducto(entidad));
+    }
+}
@@ -0,0 +1,61 @@
+package com.pragma.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de serializar a JSON el {@link ProductResponseDto} de una lectura por ID y las listas del
+ * listado de productos, con un {@link ObjectMapper} configurado como el de Spring Boot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacionProductoBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int tamano;
+
+    private ObjectWriter escritor;
+    private ProductResponseDto producto;
+    private List<ProductResponseDto> productos;
+
+    @Setup
+    public void preparar() {
+        escritor = Jackson2ObjectMapperBuilder.json().build().writer();
+        producto = DatosBenchmark.respuesta(42);
+        productos = DatosBenchmark.respuestas(tamano);
+    }
+
+    /**
+     * No depende de {@code tamano}; se repite con cada valor del parámetro.
+     */
+    @Benchmark
+    public byte[] serializarProducto() throws JsonProcessingException {
+        return escritor.writeValueAsBytes(producto);
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws JsonProcessingException {
+        return escritor.writeValueAsBytes(productos);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pragma.benchmarks;
+
+import com.pragma.infrastructure.input.rest.dto.ProductRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de la validación de Bean Validation de un {@link ProductRequestDto}, válido (el caso
+ * habitual de las altas y modificaciones) e inválido (construye un mensaje por cada restricción).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidacionProductoBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private final ProductRequestDto valido = DatosBenchmark.solicitudValida();
+    private final ProductRequestDto invalido = DatosBenchmark.solicitudInvalida();
+
+    @Setup
+    public void preparar() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void cerrar() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ProductRequestDto>> validarSolicitudValida() {
+        return validator.validate(valido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ProductRequestDto>> validarSolicitudInvalida() {
+        return validator.validate(invalido);
+    }
+}
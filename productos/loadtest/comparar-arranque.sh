@@ -0,0 +1,102 @@
+#!/usr/bin/env bash
+# Compara el arranque y la memoria de la imagen JVM con la imagen nativa (GraalVM) de productos.
+#
+# Uso (desde el directorio productos):
+#   loadtest/comparar-arranque.sh
+#
+# Variables: REPETICIONES (5 por defecto), PETICIONES (200 lecturas de calentamiento antes de medir
+# la memoria en carga), CONSTRUIR (1: construye ambas imágenes; 0: reutiliza las existentes).
+#
+# Cada imagen arranca REPETICIONES veces contra la misma base de datos PostgreSQL efímera (postgres:15-alpine,
+# creada y borrada por el script), con los mismos límites de CPU y memoria. Por cada arranque se mide:
+#   - listo_ms: desde 'docker run' hasta que /api/v1/actuator/health responde 200.
+#   - spring_ms: el tiempo que Spring informa en "Started ProductosApplication in ... seconds".
+#   - rss_mb: memoria residente del contenedor al quedar listo y tras PETICIONES lecturas de GET /api/v1/productos.
+# Al final imprime la mediana de cada medida por imagen; los valores de cada arranque se guardan en
+# resultados-arranque.csv.
+
+set -euo pipefail
+
+REPETICIONES="${REPETICIONES:-5}"
+PETICIONES="${PETICIONES:-200}"
+CONSTRUIR="${CONSTRUIR:-1}"
+CPUS="${CPUS:-2}"
+MEMORIA="${MEMORIA:-1g}"
+RED=productos-arranque
+BD=productos-arranque-db
+APP=productos-arranque-app
+PUERTO=18080
+CSV=resultados-arranque.csv
+
+limpiar() {
+    docker rm -f "$APP" "$BD" >/dev/null 2>&1 || true
+    docker network rm "$RED" >/dev/null 2>&1 || true
+}
+trap limpiar EXIT
+
+ahora_ms() {
+    date +%s%3N
+}
+
+rss_mb() {
+    docker stats --no-stream --format '{{.MemUsage}}' "$APP" | awk '{
+        valor = $1; unidad = valor; gsub(/[0-9.]/, "", unidad); gsub(/[^0-9.]/, "", valor);
+        if (unidad == "GiB") valor *= 1024; else if (unidad == "KiB") valor /= 1024;
+        printf "%.0f", valor }'
+}
+
+mediana() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+if [ "$CONSTRUIR" = "1" ]; then
+    docker build --target jvm -t productos:jvm .
+    docker build --target native -t productos:native .
+fi
+
+limpiar
+docker network create "$RED" >/dev/null
+docker run -d --name "$BD" --network "$RED" \
+    -e POSTGRES_DB=productos_db -e POSTGRES_USER=productos_user -e POSTGRES_PASSWORD=productos_pass \
+    postgres:15-alpine >/dev/null
+until docker exec "$BD" pg_isready -U productos_user -d productos_db >/dev/null 2>&1; do sleep 1; done
+
+echo "imagen,repeticion,listo_ms,spring_ms,rss_listo_mb,rss_carga_mb" > "$CSV"
+
+for imagen in jvm native; do
+    for repeticion in $(seq 1 "$REPETICIONES"); do
+        inicio=$(ahora_ms)
+        docker run -d --name "$APP" --network "$RED" -p "$PUERTO:8080" --cpus "$CPUS" --memory "$MEMORIA" \
+            -e SPRING_DATASOURCE_URL="jdbc:postgresql://$BD:5432/productos_db" \
+            -e SPRING_DATASOURCE_USERNAME=productos_user -e SPRING_DATASOURCE_PASSWORD=productos_pass \
+            "productos:$imagen" >/dev/null
+        until curl -fs "http://localhost:$PUERTO/api/v1/actuator/health" >/dev/null 2>&1; do
+            if [ -z "$(docker ps -q -f name="^$APP$")" ]; then
+                docker logs "$APP" | tail -50
+                echo "El contenedor $imagen terminó antes de quedar listo" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        listo=$(( $(ahora_ms) - inicio ))
+        spring=$(docker logs "$APP" 2>&1 | sed -n 's/.*Started ProductosApplication in \([0-9.]*\) seconds.*/\1/p' \
+            | awk '{ printf "%.0f", $1 * 1000 }')
+        rss_listo=$(rss_mb)
+        for _ in $(seq 1 "$PETICIONES"); do
+            curl -fs -o /dev/null "http://localhost:$PUERTO/api/v1/productos?limit=50"
+        done
+        rss_carga=$(rss_mb)
+        echo "$imagen,$repeticion,$listo,$spring,$rss_listo,$rss_carga" >> "$CSV"
+        echo "$imagen #$repeticion: listo en $listo ms (Spring $spring ms), RSS $rss_listo MB -> $rss_carga MB"
+        docker rm -f "$APP" >/dev/null
+    done
+done
+
+echo
+printf '%-8s %12s %12s %16s %16s\n' imagen listo_ms spring_ms rss_listo_mb rss_carga_mb
+for imagen in jvm native; do
+    fila=$(grep "^$imagen," "$CSV")
+    printf '%-8s %12s %12s %16s %16s\n' "$imagen" \
+        "$(cut -d, -f3 <<< "$fila" | mediana)" "$(cut -d, -f4 <<< "$fila" | mediana)" \
+        "$(cut -d, -f5 <<< "$fila" | mediana)" "$(cut -d, -f6 <<< "$fila" | mediana)"
+done
@@ -0,0 +1,86 @@
+// Prueba de carga de la API de productos con k6 (https://k6.io), para comparar la pila de
+// servlets (perfil por defecto) con la reactiva (perfil 'reactivo') a alta concurrencia.
+//
+// Uso:
+//   k6 run -e BASE_URL=http://localhost:8080/api/v1 -e PERFIL=servlet  loadtest/productos-carga.js
+//   k6 run -e BASE_URL=http://localhost:8080/api/v1 -e PERFIL=reactivo loadtest/productos-carga.js
+//
+// Variables: VUS (usuarios concurrentes, 1000 por defecto), DURACION (2m), PRODUCTOS (200).
+// El resumen se guarda en resultados-<PERFIL>.json con las latencias p50/p95/p99 y las solicitudes por segundo.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/v1';
+const PERFIL = __ENV.PERFIL || 'servlet';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const DURACION = __ENV.DURACION || '2m';
+const PRODUCTOS = parseInt(__ENV.PRODUCTOS || '200', 10);
+
+export const options = {
+    scenarios: {
+        mezcla: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURACION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < PRODUCTOS; i++) {
+        const respuesta = http.post(`${BASE_URL}/productos`, JSON.stringify({
+            nombre: `Producto de carga ${i}`,
+            descripcion: 'Creado por la prueba de carga',
+            precio: 10 + i,
+            stock: 1000000,
+        }), JSON_HEADERS);
+        check(respuesta, { 'producto creado': (r) => r.status === 201 });
+        ids.push(respuesta.json('id'));
+    }
+    return { ids };
+}
+
+// 70 % lecturas por ID, 20 % páginas de 50 productos y 10 % ajustes de stock.
+export default function (datos) {
+    const id = datos.ids[Math.floor(Math.random() * datos.ids.length)];
+    const tirada = Math.random();
+    if (tirada < 0.7) {
+        const r = http.get(`${BASE_URL}/productos/${id}`, { tags: { operacion: 'obtener' } });
+        check(r, { 'obtener 200': (x) => x.status === 200 });
+    } else if (tirada < 0.9) {
+        const r = http.get(`${BASE_URL}/productos?limit=50`, { tags: { operacion: 'pagina' } });
+        check(r, { 'pagina 200': (x) => x.status === 200 });
+    } else {
+        const cantidad = Math.random() < 0.5 ? -1 : 1;
+        const r = http.patch(`${BASE_URL}/productos/${id}/stock?cantidad=${cantidad}`, null, { tags: { operacion: 'stock' } });
+        check(r, { 'stock 200': (x) => x.status === 200 });
+    }
+}
+
+export function teardown(datos) {
+    datos.ids.forEach((id) => http.del(`${BASE_URL}/productos/${id}`));
+}
+
+export function handleSummary(resumen) {
+    const duracion = resumen.metrics.http_req_duration.values;
+    const linea = `[${PERFIL}] ${resumen.metrics.http_reqs.values.rate.toFixed(1)} sol/s, `
+        + `p50 ${duracion.med.toFixed(1)} ms, p95 ${duracion['p(95)'].toFixed(1)} ms, p99 ${duracion['p(99)'].toFixed(1)} ms, `
+        + `errores ${(resumen.metrics.http_req_failed.values.rate * 100).toFixed(2)} %\n`;
+    return {
+        stdout: linea,
+        [`resultados-${PERFIL}.json`]: JSON.stringify(resumen, null, 2),
+    };
+}
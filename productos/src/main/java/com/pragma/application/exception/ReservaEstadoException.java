@@ -0,0 +1,17 @@
+package com.pragma.application.exception;
+
+/**
+ * Excepción lanzada cuando se intenta confirmar o cancelar una reserva de stock que ya no
+ * está pendiente, por ejemplo porque venció, ya se confirmó o ya se canceló.
+ */
+public class ReservaEstadoException extends RuntimeException {
+
+    /**
+     * Constructor que toma un mensaje detallado sobre la excepción.
+     *
+     * @param message El mensaje que describe la razón de la excepción.
+     */
+    public ReservaEstadoException(String message) {
+        super(message);
+    }
+}
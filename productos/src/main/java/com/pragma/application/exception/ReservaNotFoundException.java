@@ -0,0 +1,16 @@
+package com.pragma.application.exception;
+
+/**
+ * Excepción lanzada cuando no se encuentra una reserva de stock con el ID solicitado.
+ */
+public class ReservaNotFoundException extends RuntimeException {
+
+    /**
+     * Constructor que toma un mensaje detallado sobre la excepción.
+     *
+     * @param message El mensaje que describe la razón de la excepción.
+     */
+    public ReservaNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.pragma.application.exception;
+
+/**
+ * Excepción lanzada cuando se intenta modificar un producto a partir de una versión que ya no es
+ * la actual, porque otra operación lo cambió entretanto.
+ */
+public class VersionConflictoException extends RuntimeException {
+
+    /**
+     * Constructor que toma un mensaje detallado sobre la excepción.
+     *
+     * @param message El mensaje que describe la razón de la excepción.
+     */
+    public VersionConflictoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.pragma.application.port.input;
+
+/**
+ * Puerto de entrada para la publicación de los eventos de cambio de productos
+ * registrados en la bandeja de salida.
+ */
+public interface EventoProductoInputPort {
+
+    /**
+     * Publica un lote de los eventos pendientes más antiguos y los retira de la bandeja de salida.
+     *
+     * @return El número de eventos publicados; 0 si no quedaba ninguno pendiente.
+     */
+    int publicarEventosPendientes();
+}
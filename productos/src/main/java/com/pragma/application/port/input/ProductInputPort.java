@@ -1,7 +1,12 @@
 package com.pragma.application.port.input;
 
+import com.pragma.domain.model.PaginaProductos;
 import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.ResultadoBusqueda;
+import com.pragma.domain.model.SugerenciaProducto;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Puerto de entrada para la gestión de productos.
@@ -20,6 +25,16 @@ public interface ProductInputPort {
      */
     Producto crearProducto(Producto producto);
 
+    /**
+     * Crea un conjunto de productos en una única operación.
+     * Todos los productos se validan antes de insertar ninguno; si alguno no es válido no se crea ninguno.
+     *
+     * @param productos La lista de productos a crear. No debe ser nula ni vacía.
+     * @return Los productos creados, en el mismo orden recibido y con su ID asignado.
+     * @throws com.pragma.application.exception.ValidationException Si la lista o alguno de sus productos no son válidos.
+     */
+    List<Producto> crearProductos(List<Producto> productos);
+
     /**
      * Obtiene un producto específico por su identificador único.
      *
@@ -29,6 +44,31 @@ public interface ProductInputPort {
      */
     Producto obtenerProductoPorId(Long id);
 
+    /**
+     * Obtiene varios productos por su identificador en una sola consulta.
+     *
+     * @param ids Los IDs de los productos a obtener. No debe ser nula.
+     * @return Los productos encontrados, en el orden de los IDs recibidos; los IDs que no existen se omiten.
+     * @throws com.pragma.application.exception.ValidationException Si la lista es nula, contiene IDs nulos o supera el tamaño de lote permitido.
+     */
+    List<Producto> obtenerProductosPorIds(List<Long> ids);
+
+    /**
+     * Indica si existe un producto con el identificador dado, sin recuperarlo.
+     *
+     * @param id El ID del producto a verificar.
+     * @return {@code true} si el producto existe, {@code false} en caso contrario.
+     * @throws com.pragma.application.exception.ValidationException Si el ID del producto es nulo.
+     */
+    boolean existeProducto(Long id);
+
+    /**
+     * Obtiene la versión actual del catálogo, que cambia con cada alta, modificación o baja de un producto.
+     *
+     * @return La versión del catálogo, o vacío si las versiones no están disponibles.
+     */
+    Optional<String> obtenerVersionCatalogo();
+
     /**
      * Obtiene una lista de todos los productos registrados en el sistema.
      *
@@ -37,13 +77,56 @@ public interface ProductInputPort {
     List<Producto> obtenerTodosLosProductos();
 
     /**
-     * Actualiza la información completa de un producto existente.
+     * Obtiene una página de productos ordenados por ID usando paginación por cursor.
+     *
+     * @param despuesDeId El ID del último producto de la página anterior, o {@code null} para la primera página.
+     * @param limite El número máximo de productos de la página.
+     * @return La {@link PaginaProductos} solicitada.
+     * @throws com.pragma.application.exception.ValidationException Si el límite está fuera del rango permitido.
+     */
+    PaginaProductos obtenerProductosPaginados(Long despuesDeId, int limite);
+
+    /**
+     * Busca productos por texto en su nombre y descripción, ordenados por relevancia.
+     *
+     * @param consulta El texto de búsqueda. No debe ser nulo ni vacío.
+     * @param pagina El número de página, empezando en 0.
+     * @param tamano El tamaño de página.
+     * @return El {@link ResultadoBusqueda} con los productos de la página solicitada.
+     * @throws com.pragma.application.exception.ValidationException Si la consulta, la página o su tamaño no son válidos.
+     */
+    ResultadoBusqueda buscarProductos(String consulta, int pagina, int tamano);
+
+    /**
+     * Sugiere productos cuyo nombre empieza por el texto escrito, para el autocompletado.
+     *
+     * @param prefijo El texto escrito. No debe ser nulo ni vacío.
+     * @param limite El número máximo de sugerencias.
+     * @return Las sugerencias, ordenadas alfabéticamente por nombre.
+     * @throws com.pragma.application.exception.ValidationException Si el prefijo o el límite no son válidos.
+     */
+    List<SugerenciaProducto> autocompletarProductos(String prefijo, int limite);
+
+    /**
+     * Recorre todo el catálogo de productos en orden de ID, entregando cada producto al consumidor
+     * a medida que se lee, sin materializar el catálogo completo en memoria.
+     * Si el consumidor lanza una excepción (por ejemplo, porque el cliente cerró la conexión),
+     * el recorrido se interrumpe y se liberan los recursos de base de datos.
+     *
+     * @param consumidor La función que recibe cada {@link Producto}. No debe ser nula.
+     */
+    void exportarProductos(Consumer<Producto> consumidor);
+
+    /**
+     * Actualiza la información completa de un producto existente. Si el producto indica una
+     * {@linkplain Producto#getVersion() versión}, solo se actualiza si sigue siendo la actual.
      *
      * @param id El ID del producto a actualizar.
-     * @param producto El objeto {@link Producto} con la nueva información. No debe ser nulo.
-     * @return El producto actualizado.
+     * @param producto El objeto {@link Producto} con la nueva información y la versión esperada, si la hay. No debe ser nulo.
+     * @return El producto actualizado, con su nueva versión.
      * @throws com.pragma.application.exception.ProductoNotFoundException Si no se encuentra el producto con el ID especificado.
      * @throws com.pragma.application.exception.ValidationException Si los datos del producto no son válidos.
+     * @throws com.pragma.application.exception.VersionConflictoException Si el producto ya no está en la versión indicada.
      */
     Producto actualizarProducto(Long id, Producto producto);
 
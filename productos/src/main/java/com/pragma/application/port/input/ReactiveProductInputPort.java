@@ -0,0 +1,94 @@
+package com.pragma.application.port.input;
+
+import com.pragma.domain.model.PaginaProductos;
+import com.pragma.domain.model.Producto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Puerto de entrada no bloqueante para la gestión de productos, usado por el perfil {@code reactivo}.
+ * Ofrece los mismos casos de uso de lectura y escritura individual que {@link ProductInputPort},
+ * con las mismas validaciones y errores, emitidos como señales de error de los publicadores.
+ */
+public interface ReactiveProductInputPort {
+
+    /**
+     * Crea un nuevo producto.
+     *
+     * @param producto El producto a crear.
+     * @return Un {@link Mono} con el producto creado, o con error
+     * {@link com.pragma.application.exception.ValidationException} si sus datos no son válidos.
+     */
+    Mono<Producto> crearProducto(Producto producto);
+
+    /**
+     * Obtiene un producto por su ID.
+     *
+     * @param id El ID del producto.
+     * @return Un {@link Mono} con el producto, o con error
+     * {@link com.pragma.application.exception.ProductoNotFoundException} si no existe.
+     */
+    Mono<Producto> obtenerProductoPorId(Long id);
+
+    /**
+     * Comprueba si existe un producto.
+     *
+     * @param id El ID del producto.
+     * @return Un {@link Mono} con {@code true} si existe.
+     */
+    Mono<Boolean> existeProducto(Long id);
+
+    /**
+     * Obtiene la versión actual del catálogo, con la que se construye su ETag.
+     *
+     * @return La versión, o vacío si las versiones están desactivadas.
+     */
+    Optional<String> obtenerVersionCatalogo();
+
+    /**
+     * Obtiene todos los productos ordenados por ID.
+     *
+     * @return Un {@link Flux} con los productos.
+     */
+    Flux<Producto> obtenerTodosLosProductos();
+
+    /**
+     * Obtiene una página de productos con paginación por cursor.
+     *
+     * @param despuesDeId El ID del último producto de la página anterior, o {@code null} para la primera.
+     * @param limite El número máximo de productos de la página.
+     * @return Un {@link Mono} con la página.
+     */
+    Mono<PaginaProductos> obtenerProductosPaginados(Long despuesDeId, int limite);
+
+    /**
+     * Actualiza la información completa de un producto. Si {@code producto} indica una versión, solo se
+     * actualiza si el producto sigue en ella.
+     *
+     * @param id El ID del producto.
+     * @param producto Los datos nuevos y, opcionalmente, la versión sobre la que se hicieron los cambios.
+     * @return Un {@link Mono} con el producto actualizado y su nueva versión, o con error
+     *         {@link com.pragma.application.exception.VersionConflictoException} si ya no está en la versión indicada.
+     */
+    Mono<Producto> actualizarProducto(Long id, Producto producto);
+
+    /**
+     * Suma o resta una cantidad al stock de un producto.
+     *
+     * @param id El ID del producto.
+     * @param cantidad La cantidad a sumar (negativa para restar).
+     * @return Un {@link Mono} con el producto actualizado, o con error
+     * {@link com.pragma.application.exception.StockUpdateException} si el stock quedaría negativo.
+     */
+    Mono<Producto> actualizarStockProducto(Long id, Integer cantidad);
+
+    /**
+     * Elimina un producto.
+     *
+     * @param id El ID del producto.
+     * @return Un {@link Mono} que termina al eliminarlo.
+     */
+    Mono<Void> eliminarProductoPorId(Long id);
+}
@@ -0,0 +1,64 @@
+package com.pragma.application.port.input;
+
+import com.pragma.domain.model.Reserva;
+import com.pragma.domain.model.ReservaItem;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Puerto de entrada para las reservas de stock.
+ * Permite retener el stock de varios productos en una sola operación, de todo o nada,
+ * y confirmar o liberar después esa retención.
+ */
+public interface ReservaInputPort {
+
+    /**
+     * Reserva stock de varios productos. O se retiene el stock de todos o no se retiene ninguno.
+     *
+     * @param items Los productos y cantidades a reservar. No debe ser nula ni vacía.
+     * @param ttl El tiempo que se mantiene la reserva sin confirmar, o {@code null} para usar el valor por defecto.
+     * @return La reserva creada, en estado pendiente.
+     * @throws com.pragma.application.exception.ValidationException Si los datos de la reserva no son válidos.
+     * @throws com.pragma.application.exception.ProductoNotFoundException Si alguno de los productos no existe.
+     * @throws com.pragma.application.exception.StockUpdateException Si alguno de los productos no tiene stock suficiente.
+     */
+    Reserva crearReserva(List<ReservaItem> items, Duration ttl);
+
+    /**
+     * Obtiene una reserva por su ID.
+     *
+     * @param id El ID de la reserva.
+     * @return La reserva encontrada.
+     * @throws com.pragma.application.exception.ReservaNotFoundException Si la reserva no existe.
+     */
+    Reserva obtenerReserva(UUID id);
+
+    /**
+     * Confirma una reserva pendiente; el stock retenido queda vendido.
+     *
+     * @param id El ID de la reserva.
+     * @return La reserva confirmada.
+     * @throws com.pragma.application.exception.ReservaNotFoundException Si la reserva no existe.
+     * @throws com.pragma.application.exception.ReservaEstadoException Si la reserva ya no está pendiente o venció.
+     */
+    Reserva confirmarReserva(UUID id);
+
+    /**
+     * Cancela una reserva pendiente y devuelve su stock a los productos.
+     *
+     * @param id El ID de la reserva.
+     * @return La reserva cancelada.
+     * @throws com.pragma.application.exception.ReservaNotFoundException Si la reserva no existe.
+     * @throws com.pragma.application.exception.ReservaEstadoException Si la reserva ya no está pendiente.
+     */
+    Reserva cancelarReserva(UUID id);
+
+    /**
+     * Marca como expiradas las reservas pendientes vencidas y devuelve su stock.
+     *
+     * @return El número de reservas expiradas.
+     */
+    int expirarReservasVencidas();
+}
@@ -0,0 +1,51 @@
+package com.pragma.application.usecase;
+
+import com.pragma.application.port.input.EventoProductoInputPort;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.repository.ProductEventOutboxRepository;
+import com.pragma.domain.repository.ProductEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementación de {@link EventoProductoInputPort}: traslada los eventos de la bandeja de salida
+ * al {@link ProductEventPublisher}.
+ * <p>
+ * Cada lote se lee bloqueado, se publica y se elimina en una sola transacción. Si la publicación
+ * falla, la transacción se revierte y el lote se reintenta completo en la siguiente llamada, de modo
+ * que los eventos se entregan al menos una vez y en el orden de la bandeja.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class EventoProductoUseCase implements EventoProductoInputPort {
+
+    /**
+     * Número máximo de eventos que se publican en cada lote.
+     */
+    public static final int TAMANO_LOTE_PUBLICACION = 500;
+
+    private final ProductEventOutboxRepository productEventOutboxRepository;
+    private final ProductEventPublisher productEventPublisher;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Publica como máximo {@value #TAMANO_LOTE_PUBLICACION} eventos por llamada.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public int publicarEventosPendientes() {
+        List<EventoProducto> eventos = productEventOutboxRepository.findOldest(TAMANO_LOTE_PUBLICACION);
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+        productEventPublisher.publish(eventos);
+        productEventOutboxRepository.deleteByIds(eventos.stream().map(EventoProducto::getId).toList());
+        return eventos.size();
+    }
+}
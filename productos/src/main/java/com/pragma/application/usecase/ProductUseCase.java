@@ -2,25 +2,110 @@ package com.pragma.application.usecase;
 
 import com.pragma.application.exception.ProductoNotFoundException;
 import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.VersionConflictoException;
 import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.PaginaProductos;
 import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.ResultadoBusqueda;
+import com.pragma.domain.model.SugerenciaProducto;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.domain.repository.ProductAutocompleteRepository;
+import com.pragma.domain.repository.ProductEventOutboxRepository;
 import com.pragma.domain.repository.ProductRepository;
+import com.pragma.domain.repository.ProductSearchRepository;
+import com.pragma.domain.repository.ProductVersionRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementación de {@link ProductInputPort} que define los casos de uso para la gestión de productos.
  * Esta clase contiene la lógica de negocio principal relacionada con las operaciones de productos,
  * interactuando con la capa de persistencia a través de {@link ProductRepository}.
+ * <p>
+ * Las lecturas por ID se sirven desde la caché {@value #CACHE_PRODUCTOS}; las operaciones de
+ * escritura la invalidan al terminar su transacción, a través de {@link RegistroCambiosProductos}. No se
+ * escribe en ella el resultado: las escrituras concurrentes pueden terminar en otro orden que sus commits,
+ * y la lectura siguiente carga siempre la última versión confirmada.
+ * </p>
+ * <p>
+ * Las altas, modificaciones y bajas se notifican además al índice de búsqueda de texto
+ * ({@link ProductSearchRepository}) y al de autocompletado ({@link ProductAutocompleteRepository}),
+ * y cambian la versión del catálogo ({@link ProductVersionRepository}) al terminar su transacción.
+ * </p>
+ * <p>
+ * Cada cambio registra además un {@link EventoProducto} en la bandeja de salida
+ * ({@link ProductEventOutboxRepository}) dentro de su misma transacción, desde donde se publica a los consumidores.
+ * </p>
+ * <p>
+ * Cada operación publica su latencia en el temporizador {@value #METRICA_OPERACIONES}, incluidas las
+ * lecturas resueltas desde la caché.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
 public class ProductUseCase implements ProductInputPort {
 
+    /**
+     * Nombre de la caché de productos indexada por ID.
+     */
+    public static final String CACHE_PRODUCTOS = "productos";
+
+    /**
+     * Nombre del temporizador de los casos de uso, etiquetado por operación y resultado.
+     */
+    public static final String METRICA_OPERACIONES = "productos.operaciones";
+
+    /**
+     * Tamaño máximo de página admitido en la paginación por cursor.
+     */
+    public static final int LIMITE_MAXIMO_PAGINA = 500;
+
+    /**
+     * Número máximo de productos que se pueden crear en una sola operación por lotes.
+     */
+    public static final int LIMITE_MAXIMO_LOTE = 10_000;
+
+    /**
+     * Tamaño máximo de página admitido en la búsqueda de productos por texto.
+     */
+    public static final int LIMITE_MAXIMO_BUSQUEDA = 100;
+
+    /**
+     * Número máximo de resultados de búsqueda que se pueden recorrer paginando; las páginas
+     * más profundas obligarían a ordenar por relevancia demasiadas coincidencias.
+     */
+    public static final int PROFUNDIDAD_MAXIMA_BUSQUEDA = 10_000;
+
+    /**
+     * Longitud máxima del texto de búsqueda.
+     */
+    public static final int LONGITUD_MAXIMA_CONSULTA = 200;
+
+    /**
+     * Número máximo de sugerencias de autocompletado por consulta.
+     */
+    public static final int LIMITE_MAXIMO_AUTOCOMPLETADO = 50;
+
     private final ProductRepository productRepository;
+    private final ProductSearchRepository productSearchRepository;
+    private final ProductAutocompleteRepository productAutocompleteRepository;
+    private final ProductVersionRepository productVersionRepository;
+    private final RegistroCambiosProductos registroCambiosProductos;
+    private final ProductEventOutboxRepository productEventOutboxRepository;
 
     /**
      * Crea un nuevo producto en el sistema.
@@ -30,21 +115,60 @@ public class ProductUseCase implements ProductInputPort {
      * @throws com.pragma.application.exception.ValidationException Si el producto es nulo o sus datos no son válidos (nombre, precio, stock).
      */
     @Override
+    @Timed(METRICA_OPERACIONES)
     @Transactional
     public Producto crearProducto(Producto producto) {
-        if (producto == null) {
-            throw new com.pragma.application.exception.ValidationException("El producto no puede ser nulo.");
+        ReglasProducto.validarNuevoProducto(producto);
+        Producto creado = productRepository.save(producto);
+        productSearchRepository.index(creado);
+        productAutocompleteRepository.index(creado);
+        registroCambiosProductos.registrar(List.of(creado.getId()));
+        productEventOutboxRepository.append(List.of(EventoProducto.de(TipoEventoProducto.CREADO, creado)));
+        return creado;
+    }
+
+    /**
+     * Crea un conjunto de productos en una única operación.
+     * Todos los productos se validan antes de insertar ninguno y, si alguno no es válido,
+     * se informa del motivo de cada producto rechazado sin crear ninguno. Los válidos se insertan
+     * en lotes JDBC dentro de la misma transacción.
+     *
+     * @param productos La lista de productos a crear. No debe ser nula ni vacía, y como máximo de {@value #LIMITE_MAXIMO_LOTE} productos.
+     * @return Los productos creados, en el mismo orden recibido y con su ID asignado.
+     * @throws com.pragma.application.exception.ValidationException Si la lista o alguno de sus productos no son válidos.
+     */
+    @Override
+    @Timed(METRICA_OPERACIONES)
+    @Transactional
+    public List<Producto> crearProductos(List<Producto> productos) {
+        if (productos == null || productos.isEmpty()) {
+            throw new com.pragma.application.exception.ValidationException("La lista de productos no puede estar vacía.");
+        }
+        if (productos.size() > LIMITE_MAXIMO_LOTE) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "No se pueden crear más de " + LIMITE_MAXIMO_LOTE + " productos por lote.");
         }
-        if (producto.getNombre() == null || producto.getNombre().trim().isEmpty()) {
-            throw new com.pragma.application.exception.ValidationException("El nombre del producto es obligatorio.");
+        StringBuilder errores = new StringBuilder();
+        for (int i = 0; i < productos.size(); i++) {
+            try {
+                ReglasProducto.validarNuevoProducto(productos.get(i));
+            } catch (com.pragma.application.exception.ValidationException e) {
+                errores.append("Producto [").append(i).append("]: ").append(e.getMessage()).append(' ');
+            }
         }
-        if (producto.getPrecio() == null || producto.getPrecio() <= 0) {
-            throw new com.pragma.application.exception.ValidationException("El precio del producto debe ser mayor que cero.");
+        if (errores.length() > 0) {
+            throw new com.pragma.application.exception.ValidationException(errores.toString().trim());
         }
-        if (producto.getStock() == null || producto.getStock() < 0) {
-            throw new com.pragma.application.exception.ValidationException("El stock inicial del producto no puede ser negativo.");
+        List<Producto> creados = productRepository.saveAll(productos);
+        for (Producto creado : creados) {
+            productSearchRepository.index(creado);
+            productAutocompleteRepository.index(creado);
         }
-        return productRepository.save(producto);
+        registroCambiosProductos.registrar(creados.stream().map(Producto::getId).toList());
+        productEventOutboxRepository.append(creados.stream()
+                .map(creado -> EventoProducto.de(TipoEventoProducto.CREADO, creado))
+                .toList());
+        return creados;
     }
 
     /**
@@ -56,64 +180,248 @@ public class ProductUseCase implements ProductInputPort {
      * @throws ProductoNotFoundException Si no se encuentra el producto con el ID especificado.
      */
     @Override
+    @Timed(METRICA_OPERACIONES)
+    @Cacheable(cacheNames = CACHE_PRODUCTOS, key = "#id", condition = "#id != null", sync = true)
     @Transactional(readOnly = true)
     public Producto obtenerProductoPorId(Long id) {
-        if (id == null) {
-            throw new com.pragma.application.exception.ValidationException("El ID del producto no puede ser nulo.");
-        }
+        ReglasProducto.validarId(id);
         return productRepository.findById(id)
                 .orElseThrow(() -> new ProductoNotFoundException("Producto no encontrado con ID: " + id));
     }
 
+    /**
+     * Obtiene varios productos por su identificador con una única consulta al repositorio, sin pasar
+     * por la caché de lecturas individuales.
+     *
+     * @param ids Los IDs de los productos a obtener, como máximo {@value #LIMITE_MAXIMO_LOTE}.
+     * @return Los productos encontrados, en el orden de los IDs recibidos; los IDs que no existen se omiten.
+     * @throws com.pragma.application.exception.ValidationException Si la lista es nula, contiene IDs nulos
+     *         o tiene más de {@value #LIMITE_MAXIMO_LOTE} IDs.
+     */
+    @Override
+    @Timed(METRICA_OPERACIONES)
+    @Transactional(readOnly = true)
+    public List<Producto> obtenerProductosPorIds(List<Long> ids) {
+        if (ids == null) {
+            throw new com.pragma.application.exception.ValidationException("La lista de IDs no puede ser nula.");
+        }
+        if (ids.size() > LIMITE_MAXIMO_LOTE) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "No se pueden consultar más de " + LIMITE_MAXIMO_LOTE + " productos por lote.");
+        }
+        ids.forEach(ReglasProducto::validarId);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Producto> porId = productRepository.findAllById(ids.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(Producto::getId, Function.identity()));
+        List<Producto> productos = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Producto producto = porId.get(id);
+            if (producto != null) {
+                productos.add(producto);
+            }
+        }
+        return productos;
+    }
+
+    /**
+     * Indica si existe un producto con el identificador dado.
+     * A diferencia de {@link #obtenerProductoPorId(Long)}, no carga ni mapea el producto y no usa
+     * excepciones para el caso en que no existe.
+     *
+     * @param id El ID del producto a verificar. No debe ser nulo.
+     * @return {@code true} si el producto existe, {@code false} en caso contrario.
+     * @throws com.pragma.application.exception.ValidationException Si el ID del producto es nulo.
+     */
+    @Override
+    @Timed(METRICA_OPERACIONES)
+    @Transactional(readOnly = true)
+    public boolean existeProducto(Long id) {
+        ReglasProducto.validarId(id);
+        return productRepository.existsById(id);
+    }
+
     /**
      * Obtiene una lista de todos los productos registrados en el sistema.
      *
      * @return Una lista de {@link Producto}. La lista puede estar vacía si no hay productos.
      */
     @Override
+    @Timed(METRICA_OPERACIONES)
     @Transactional(readOnly = true)
     public List<Producto> obtenerTodosLosProductos() {
         return productRepository.findAll();
     }
 
+    /**
+     * Obtiene una página de productos ordenados por ID usando paginación por cursor.
+     * Se solicita un elemento adicional al repositorio para saber si existe una página siguiente
+     * sin necesidad de una consulta de conteo.
+     *
+     * @param despuesDeId El ID del último producto de la página anterior, o {@code null} para la primera página.
+     * @param limite El número máximo de productos de la página, entre 1 y {@value #LIMITE_MAXIMO_PAGINA}.
+     * @return La {@link PaginaProductos} solicitada.
+     * @throws com.pragma.application.exception.ValidationException Si el límite está fuera del rango permitido.
+     */
+    @Override
+    @Timed(METRICA_OPERACIONES)
+    @Transactional(readOnly = true)
+    public PaginaProductos obtenerProductosPaginados(Long despuesDeId, int limite) {
+        ReglasProducto.validarLimitePagina(limite);
+        return ReglasProducto.paginar(productRepository.findNextPage(despuesDeId, limite + 1), limite);
+    }
+
+    /**
+     * Busca productos por texto en su nombre y descripción, ordenados por relevancia.
+     * Se solicita un resultado adicional al índice para saber si existe una página siguiente,
+     * y los productos de la página se cargan después por ID en una sola consulta.
+     *
+     * @param consulta El texto de búsqueda, de como máximo {@value #LONGITUD_MAXIMA_CONSULTA} caracteres.
+     * @param pagina El número de página, empezando en 0.
+     * @param tamano El tamaño de página, entre 1 y {@value #LIMITE_MAXIMO_BUSQUEDA}.
+     * @return El {@link ResultadoBusqueda} con los productos de la página.
+     * @throws com.pragma.application.exception.ValidationException Si la consulta está vacía o es demasiado larga,
+     *         o si la página o su tamaño están fuera del rango permitido.
+     */
+    @Override
+    @Timed(METRICA_OPERACIONES)
+    @Transactional(readOnly = true)
+    public ResultadoBusqueda buscarProductos(String consulta, int pagina, int tamano) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new com.pragma.application.exception.ValidationException("El texto de búsqueda es obligatorio.");
+        }
+        if (consulta.length() > LONGITUD_MAXIMA_CONSULTA) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "El texto de búsqueda no puede superar " + LONGITUD_MAXIMA_CONSULTA + " caracteres.");
+        }
+        if (tamano < 1 || tamano > LIMITE_MAXIMO_BUSQUEDA) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "El tamaño de página debe estar entre 1 y " + LIMITE_MAXIMO_BUSQUEDA + ".");
+        }
+        if (pagina < 0 || (long) pagina * tamano >= PROFUNDIDAD_MAXIMA_BUSQUEDA) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "Solo se pueden recorrer los primeros " + PROFUNDIDAD_MAXIMA_BUSQUEDA + " resultados de una búsqueda.");
+        }
+
+        List<Long> ids = productSearchRepository.search(consulta.trim(), tamano + 1, pagina * tamano);
+        boolean haySiguiente = ids.size() > tamano;
+        List<Long> idsPagina = haySiguiente ? ids.subList(0, tamano) : ids;
+        if (idsPagina.isEmpty()) {
+            return new ResultadoBusqueda(List.of(), pagina, tamano, false);
+        }
+
+        // Se conserva el orden de relevancia del índice; los productos eliminados entretanto se omiten.
+        Map<Long, Producto> porId = productRepository.findAllById(idsPagina).stream()
+                .collect(Collectors.toMap(Producto::getId, Function.identity()));
+        List<Producto> productos = new ArrayList<>(idsPagina.size());
+        for (Long id : idsPagina) {
+            Producto producto = porId.get(id);
+            if (producto != null) {
+                productos.add(producto);
+            }
+        }
+        return new ResultadoBusqueda(productos, pagina, tamano, haySiguiente);
+    }
+
+    /**
+     * Sugiere productos cuyo nombre empieza por el texto escrito, sin distinguir mayúsculas ni tildes.
+     * Se resuelve con el índice en memoria, sin acceder a la base de datos.
+     *
+     * @param prefijo El texto escrito, de como máximo {@value #LONGITUD_MAXIMA_CONSULTA} caracteres.
+     * @param limite El número máximo de sugerencias, entre 1 y {@value #LIMITE_MAXIMO_AUTOCOMPLETADO}.
+     * @return Las sugerencias, ordenadas alfabéticamente por nombre.
+     * @throws com.pragma.application.exception.ValidationException Si el prefijo está vacío o es demasiado largo,
+     *         o si el límite está fuera del rango permitido.
+     */
+    @Override
+    @Timed(METRICA_OPERACIONES)
+    public List<SugerenciaProducto> autocompletarProductos(String prefijo, int limite) {
+        if (prefijo == null || prefijo.isBlank()) {
+            throw new com.pragma.application.exception.ValidationException("El prefijo es obligatorio.");
+        }
+        if (prefijo.length() > LONGITUD_MAXIMA_CONSULTA) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "El prefijo no puede superar " + LONGITUD_MAXIMA_CONSULTA + " caracteres.");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO_AUTOCOMPLETADO) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "El límite de sugerencias debe estar entre 1 y " + LIMITE_MAXIMO_AUTOCOMPLETADO + ".");
+        }
+        return productAutocompleteRepository.findByPrefix(prefijo, limite);
+    }
+
+    /**
+     * Recorre todo el catálogo de productos en orden de ID, entregando cada producto al consumidor
+     * a medida que se lee de la base de datos.
+     *
+     * @param consumidor La función que recibe cada {@link Producto}. No debe ser nula.
+     * @throws com.pragma.application.exception.ValidationException Si el consumidor es nulo.
+     */
+    @Override
+    @Timed(METRICA_OPERACIONES)
+    @Transactional(readOnly = true)
+    public void exportarProductos(Consumer<Producto> consumidor) {
+        if (consumidor == null) {
+            throw new com.pragma.application.exception.ValidationException("El consumidor de la exportación no puede ser nulo.");
+        }
+        try (Stream<Producto> productos = productRepository.streamAll()) {
+            productos.forEach(consumidor);
+        }
+    }
+
     /**
      * Actualiza la información completa de un producto existente.
+     * <p>
+     * Los cambios se aplican con una única sentencia que devuelve el producto guardado, sin leerlo antes.
+     * Si el producto recibido indica una versión, la misma sentencia la comprueba; solo si entonces no se
+     * actualizó ninguna fila se consulta la existencia para distinguir el motivo.
+     * </p>
      *
      * @param id El ID del producto a actualizar. No debe ser nulo.
-     * @param productoActualizado El objeto {@link Producto} con la nueva información. No debe ser nulo.
-     * @return El producto actualizado.
+     * @param productoActualizado El objeto {@link Producto} con la nueva información y, opcionalmente, la versión
+     *                            sobre la que se hicieron los cambios. No debe ser nulo.
+     * @return El producto actualizado, con su nueva versión.
      * @throws com.pragma.application.exception.ValidationException Si el ID o el producto son nulos, o si los datos del producto actualizado no son válidos.
      * @throws ProductoNotFoundException Si no se encuentra el producto con el ID especificado para actualizar.
+     * @throws VersionConflictoException Si se indicó una versión y el producto ya no está en esa versión.
      */
     @Override
+    @Timed(METRICA_OPERACIONES)
     @Transactional
     public Producto actualizarProducto(Long id, Producto productoActualizado) {
         if (id == null || productoActualizado == null) {
             throw new com.pragma.application.exception.ValidationException("El ID y el producto para actualizar no pueden ser nulos.");
         }
-        Producto productoExistente = productRepository.findById(id)
-                .orElseThrow(() -> new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para actualizar."));
-
-        productoExistente.setNombre(productoActualizado.getNombre());
-        productoExistente.setDescripcion(productoActualizado.getDescripcion());
-        productoExistente.setPrecio(productoActualizado.getPrecio());
-        productoExistente.setStock(productoActualizado.getStock());
+        Long version = productoActualizado.getVersion();
+        Producto cambios = new Producto(id, productoActualizado.getNombre(), productoActualizado.getDescripcion(),
+                productoActualizado.getPrecio(), productoActualizado.getStock(), version);
+        ReglasProducto.validarDatosActualizados(cambios);
 
-        if (productoExistente.getNombre() == null || productoExistente.getNombre().trim().isEmpty()) {
-            throw new com.pragma.application.exception.ValidationException("El nombre del producto es obligatorio.");
-        }
-        if (productoExistente.getPrecio() == null || productoExistente.getPrecio() <= 0) {
-            throw new com.pragma.application.exception.ValidationException("El precio del producto debe ser mayor que cero.");
-        }
-        if (productoExistente.getStock() == null || productoExistente.getStock() < 0) {
-            throw new com.pragma.application.exception.ValidationException("El stock del producto no puede ser negativo.");
+        if (version == null) {
+            return registrarActualizacion(productRepository.update(cambios)
+                    .orElseThrow(() -> new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para actualizar.")));
         }
+        Producto guardado = productRepository.updateIfVersion(cambios)
+                .orElseThrow(() -> productRepository.existsById(id)
+                        ? new VersionConflictoException("El producto con ID: " + id + " ha cambiado desde la versión "
+                                + version + ".")
+                        : new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para actualizar."));
+        return registrarActualizacion(guardado);
+    }
 
-        return productRepository.save(productoExistente);
+    private Producto registrarActualizacion(Producto guardado) {
+        productSearchRepository.index(guardado);
+        productAutocompleteRepository.index(guardado);
+        registroCambiosProductos.registrar(List.of(guardado.getId()));
+        productEventOutboxRepository.append(List.of(EventoProducto.de(TipoEventoProducto.ACTUALIZADO, guardado)));
+        return guardado;
     }
 
     /**
      * Actualiza el stock de un producto específico sumando o restando una cantidad.
+     * La actualización es atómica y condicional, de modo que las ventas concurrentes sobre
+     * un mismo producto no pierden actualizaciones ni dejan el stock en negativo.
      *
      * @param id El ID del producto cuyo stock se va a actualizar. No debe ser nulo.
      * @param cantidad La cantidad a sumar o restar del stock (positiva para sumar, negativa para restar).
@@ -123,22 +431,22 @@ public class ProductUseCase implements ProductInputPort {
      * @throws ProductoNotFoundException Si no se encuentra el producto con el ID especificado para actualizar el stock.
      */
     @Override
+    @Timed(METRICA_OPERACIONES)
     @Transactional
     public Producto actualizarStockProducto(Long id, Integer cantidad) {
         if (id == null || cantidad == null) {
             throw new com.pragma.application.exception.ValidationException("El ID y la cantidad no pueden ser nulos.");
         }
 
-        Producto producto = productRepository.findById(id)
-                .orElseThrow(() -> new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para actualizar stock."));
-
-        int stockActual = producto.getStock() != null ? producto.getStock() : 0;
-        int stockNuevo = stockActual + cantidad;
-        if (stockNuevo < 0) {
-            throw new StockUpdateException("El stock resultante no puede ser negativo.");
-        }
-        producto.setStock(stockNuevo);
-        return productRepository.save(producto);
+        // Una sola sentencia condicional: sin lectura previa ni actualizaciones perdidas bajo concurrencia.
+        // Solo si no se actualizó ninguna fila se consulta la existencia para distinguir el motivo.
+        Producto actualizado = productRepository.adjustStock(id, cantidad)
+                .orElseThrow(() -> productRepository.existsById(id)
+                        ? new StockUpdateException("El stock resultante no puede ser negativo.")
+                        : new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para actualizar stock."));
+        registroCambiosProductos.registrar(List.of(id));
+        productEventOutboxRepository.append(List.of(EventoProducto.de(TipoEventoProducto.STOCK, actualizado)));
+        return actualizado;
     }
 
     /**
@@ -149,14 +457,27 @@ public class ProductUseCase implements ProductInputPort {
      * @throws ProductoNotFoundException Si no se encuentra el producto con el ID especificado para eliminar.
      */
     @Override
+    @Timed(METRICA_OPERACIONES)
+    @CacheEvict(cacheNames = CACHE_PRODUCTOS, key = "#id", condition = "#id != null")
     @Transactional
     public void eliminarProductoPorId(Long id) {
-        if (id == null) {
-            throw new com.pragma.application.exception.ValidationException("El ID del producto no puede ser nulo.");
-        }
+        ReglasProducto.validarId(id);
         if (!productRepository.existsById(id)) {
             throw new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para eliminar.");
         }
         productRepository.deleteById(id);
+        productSearchRepository.remove(id);
+        productAutocompleteRepository.remove(id);
+        registroCambiosProductos.registrar(List.of(id));
+        productEventOutboxRepository.append(List.of(EventoProducto.eliminado(id)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Timed(METRICA_OPERACIONES)
+    public Optional<String> obtenerVersionCatalogo() {
+        return productVersionRepository.findCatalogVersion();
     }
 }
@@ -0,0 +1,194 @@
+package com.pragma.application.usecase;
+
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.VersionConflictoException;
+import com.pragma.application.port.input.ReactiveProductInputPort;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.PaginaProductos;
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.domain.repository.ProductAutocompleteRepository;
+import com.pragma.domain.repository.ProductSearchRepository;
+import com.pragma.domain.repository.ProductVersionRepository;
+import com.pragma.domain.repository.ReactiveProductEventOutboxRepository;
+import com.pragma.domain.repository.ReactiveProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación de {@link ReactiveProductInputPort} sobre {@link ReactiveProductRepository}.
+ * <p>
+ * Aplica las mismas reglas que {@link ProductUseCase} ({@link ReglasProducto}) y, como él, registra
+ * cada alta, modificación, cambio de stock y baja en la bandeja de salida de eventos en la misma
+ * transacción que el cambio, con {@link TransactionalOperator}: un cambio revertido no deja evento.
+ * Tras confirmarse, los cambios se notifican a los índices de búsqueda y autocompletado y a las
+ * versiones de los ETag, que viven en memoria y se actualizan sin bloquear.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ReactiveProductUseCase implements ReactiveProductInputPort {
+
+    private final ReactiveProductRepository reactiveProductRepository;
+    private final ProductSearchRepository productSearchRepository;
+    private final ProductAutocompleteRepository productAutocompleteRepository;
+    private final ProductVersionRepository productVersionRepository;
+    private final RegistroCambiosProductos registroCambiosProductos;
+    private final ReactiveProductEventOutboxRepository reactiveProductEventOutboxRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Producto> crearProducto(Producto producto) {
+        return Mono.defer(() -> {
+            ReglasProducto.validarNuevoProducto(producto);
+            return reactiveProductRepository.insert(producto);
+        }).flatMap(creado -> conEvento(creado, EventoProducto.de(TipoEventoProducto.CREADO, creado)))
+                .as(transactionalOperator::transactional)
+                .doOnNext(this::registrarAltaOModificacion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Producto> obtenerProductoPorId(Long id) {
+        return Mono.defer(() -> {
+            ReglasProducto.validarId(id);
+            return reactiveProductRepository.findById(id);
+        }).switchIfEmpty(Mono.error(() -> new ProductoNotFoundException("Producto no encontrado con ID: " + id)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Boolean> existeProducto(Long id) {
+        return Mono.defer(() -> {
+            ReglasProducto.validarId(id);
+            return reactiveProductRepository.existsById(id);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> obtenerVersionCatalogo() {
+        return productVersionRepository.findCatalogVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<Producto> obtenerTodosLosProductos() {
+        return reactiveProductRepository.findAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PaginaProductos> obtenerProductosPaginados(Long despuesDeId, int limite) {
+        return Mono.defer(() -> {
+            ReglasProducto.validarLimitePagina(limite);
+            return reactiveProductRepository.findNextPage(despuesDeId, limite + 1)
+                    .collectList()
+                    .map(productos -> ReglasProducto.paginar(productos, limite));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los datos nuevos se validan antes de escribir y el producto se actualiza con una sola
+     * sentencia, sin leerlo antes: si no existe no se actualiza ninguna fila. Si se indica una versión,
+     * la misma sentencia la comprueba; solo si entonces no se actualizó ninguna fila se consulta la
+     * existencia para distinguir el motivo.
+     * </p>
+     */
+    @Override
+    public Mono<Producto> actualizarProducto(Long id, Producto productoActualizado) {
+        return Mono.defer(() -> {
+            if (id == null || productoActualizado == null) {
+                throw new com.pragma.application.exception.ValidationException("El ID y el producto para actualizar no pueden ser nulos.");
+            }
+            Producto producto = new Producto(id, productoActualizado.getNombre(), productoActualizado.getDescripcion(),
+                    productoActualizado.getPrecio(), productoActualizado.getStock(), productoActualizado.getVersion());
+            ReglasProducto.validarDatosActualizados(producto);
+            Mono<Producto> guardado = producto.getVersion() == null
+                    ? reactiveProductRepository.update(producto)
+                    : reactiveProductRepository.updateIfVersion(producto);
+            return guardado.flatMap(actualizado -> conEvento(actualizado, EventoProducto.de(TipoEventoProducto.ACTUALIZADO, actualizado)));
+        }).as(transactionalOperator::transactional)
+                .switchIfEmpty(Mono.defer(() -> productoActualizado.getVersion() == null
+                        ? Mono.error(new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para actualizar."))
+                        : reactiveProductRepository.existsById(id).flatMap(existe -> Mono.error(existe
+                                ? new VersionConflictoException("El producto con ID: " + id + " ha cambiado desde la versión "
+                                        + productoActualizado.getVersion() + ".")
+                                : new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para actualizar.")))))
+                .doOnNext(this::registrarAltaOModificacion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Producto> actualizarStockProducto(Long id, Integer cantidad) {
+        return Mono.defer(() -> {
+            if (id == null || cantidad == null) {
+                throw new com.pragma.application.exception.ValidationException("El ID y la cantidad no pueden ser nulos.");
+            }
+            return reactiveProductRepository.adjustStock(id, cantidad)
+                    .flatMap(actualizado -> conEvento(actualizado, EventoProducto.de(TipoEventoProducto.STOCK, actualizado)));
+        }).as(transactionalOperator::transactional)
+                .switchIfEmpty(Mono.defer(() -> reactiveProductRepository.existsById(id)
+                        .flatMap(existe -> Mono.error(existe
+                                ? new StockUpdateException("El stock resultante no puede ser negativo.")
+                                : new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para actualizar stock.")))))
+                .doOnNext(actualizado -> registroCambiosProductos.registrar(List.of(id)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> eliminarProductoPorId(Long id) {
+        return Mono.defer(() -> {
+            ReglasProducto.validarId(id);
+            return reactiveProductRepository.deleteById(id);
+        }).flatMap(eliminado -> {
+            if (!eliminado) {
+                return Mono.error(new ProductoNotFoundException("Producto no encontrado con ID: " + id + " para eliminar."));
+            }
+            return reactiveProductEventOutboxRepository.append(List.of(EventoProducto.eliminado(id))).thenReturn(id);
+        }).as(transactionalOperator::transactional)
+                .doOnNext(eliminado -> {
+                    productSearchRepository.remove(id);
+                    productAutocompleteRepository.remove(id);
+                    registroCambiosProductos.registrar(List.of(id));
+                })
+                .then();
+    }
+
+    /**
+     * Registra el evento del cambio en la bandeja de salida, dentro de la transacción del cambio.
+     */
+    private Mono<Producto> conEvento(Producto producto, EventoProducto evento) {
+        return reactiveProductEventOutboxRepository.append(List.of(evento)).thenReturn(producto);
+    }
+
+    private void registrarAltaOModificacion(Producto producto) {
+        productSearchRepository.index(producto);
+        productAutocompleteRepository.index(producto);
+        registroCambiosProductos.registrar(List.of(producto.getId()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.pragma.application.usecase;
+
+import com.pragma.domain.repository.ProductVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Propaga los cambios de productos a la caché {@value ProductUseCase#CACHE_PRODUCTOS} y a la
+ * versión del catálogo de {@link ProductVersionRepository} con la que se construye su ETag.
+ * <p>
+ * Dentro de una transacción, los productos cambiados se acumulan y se propagan una sola vez al
+ * terminar, tanto si se confirma como si se revierte (con el inventario en memoria, el stock de una
+ * transacción revertida pudo llegar a leerse). Primero se invalida cada producto en la caché y después
+ * se avanza la versión del catálogo: quien lee la versión nueva ya no puede obtener de la caché el contenido anterior.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistroCambiosProductos {
+
+    private final CacheManager cacheManager;
+    private final ProductVersionRepository productVersionRepository;
+
+    /**
+     * Registra el cambio de un conjunto de productos.
+     *
+     * @param ids Los IDs de los productos creados, modificados o eliminados.
+     */
+    public void registrar(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            propagar(ids);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> pendientes = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pendientes == null) {
+            Set<Long> nuevos = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, nuevos);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RegistroCambiosProductos.this);
+                    propagar(nuevos);
+                }
+            });
+            pendientes = nuevos;
+        }
+        pendientes.addAll(ids);
+    }
+
+    private void propagar(Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(ProductUseCase.CACHE_PRODUCTOS);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+        productVersionRepository.increment(ids);
+    }
+}
@@ -0,0 +1,96 @@
+package com.pragma.application.usecase;
+
+import com.pragma.application.exception.ValidationException;
+import com.pragma.domain.model.PaginaProductos;
+import com.pragma.domain.model.Producto;
+
+import java.util.List;
+
+/**
+ * Reglas de validación y paginación de productos, compartidas por {@link ProductUseCase} y
+ * {@link ReactiveProductUseCase} para que ambas variantes del servicio se comporten igual.
+ */
+final class ReglasProducto {
+
+    private ReglasProducto() {
+    }
+
+    /**
+     * Valida que se haya indicado el ID de un producto.
+     *
+     * @param id El ID a validar.
+     * @throws ValidationException Si el ID es nulo.
+     */
+    static void validarId(Long id) {
+        if (id == null) {
+            throw new ValidationException("El ID del producto no puede ser nulo.");
+        }
+    }
+
+    /**
+     * Valida los datos obligatorios de un producto que se va a crear.
+     *
+     * @param producto El producto a validar.
+     * @throws ValidationException Si el producto es nulo o sus datos no son válidos.
+     */
+    static void validarNuevoProducto(Producto producto) {
+        if (producto == null) {
+            throw new ValidationException("El producto no puede ser nulo.");
+        }
+        validarNombreYPrecio(producto);
+        if (producto.getStock() == null || producto.getStock() < 0) {
+            throw new ValidationException("El stock inicial del producto no puede ser negativo.");
+        }
+    }
+
+    /**
+     * Valida los datos con los que queda un producto tras actualizarlo.
+     *
+     * @param producto El producto con los datos actualizados.
+     * @throws ValidationException Si sus datos no son válidos.
+     */
+    static void validarDatosActualizados(Producto producto) {
+        validarNombreYPrecio(producto);
+        if (producto.getStock() == null || producto.getStock() < 0) {
+            throw new ValidationException("El stock del producto no puede ser negativo.");
+        }
+    }
+
+    /**
+     * Valida el tamaño de una página de la paginación por cursor.
+     *
+     * @param limite El número máximo de productos de la página.
+     * @throws ValidationException Si está fuera del rango permitido.
+     */
+    static void validarLimitePagina(int limite) {
+        if (limite < 1 || limite > ProductUseCase.LIMITE_MAXIMO_PAGINA) {
+            throw new ValidationException(
+                    "El límite de la página debe estar entre 1 y " + ProductUseCase.LIMITE_MAXIMO_PAGINA + ".");
+        }
+    }
+
+    /**
+     * Construye una página a partir de los productos leídos, que incluyen uno adicional si existe
+     * una página siguiente.
+     *
+     * @param productos Hasta {@code limite + 1} productos ordenados por ID.
+     * @param limite El número máximo de productos de la página.
+     * @return La página, con el cursor de la siguiente si la hay.
+     */
+    static PaginaProductos paginar(List<Producto> productos, int limite) {
+        if (productos.size() <= limite) {
+            return new PaginaProductos(productos, null);
+        }
+        List<Producto> pagina = productos.subList(0, limite);
+        return new PaginaProductos(pagina, pagina.get(limite - 1).getId());
+    }
+
+    private static void validarNombreYPrecio(Producto producto) {
+        if (producto.getNombre() == null || producto.getNombre().trim().isEmpty()) {
+            throw new ValidationException("El nombre del producto es obligatorio.");
+        }
+        if (producto.getPrecio() == null || producto.getPrecio() <= 0) {
+            throw new ValidationException("El precio del producto debe ser mayor que cero.");
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.pragma.application.usecase;
+
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.ReservaEstadoException;
+import com.pragma.application.exception.ReservaNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.port.input.ReservaInputPort;
+import com.pragma.domain.model.EstadoReserva;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.Reserva;
+import com.pragma.domain.model.ReservaItem;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.domain.repository.ProductEventOutboxRepository;
+import com.pragma.domain.repository.ProductRepository;
+import com.pragma.domain.repository.ReservaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Implementación de {@link ReservaInputPort}.
+ * <p>
+ * Crear una reserva descuenta el stock de todos sus productos con la actualización atómica
+ * condicional de {@link ProductRepository#adjustStock(Long, int)} dentro de una única transacción:
+ * si algún producto no tiene stock suficiente la transacción se revierte y no queda nada retenido.
+ * Cancelar o vencer una reserva devuelve ese stock; confirmarla solo cambia su estado.
+ * </p>
+ * <p>
+ * Los vencimientos se procesan en lotes mediante la columna indexada {@code expira_en}, por lo
+ * que el coste de cada barrido depende de las reservas vencidas y no del total de reservas. Cada
+ * reserva del lote se expira en su propia transacción, de modo que el barrido solo bloquea las filas
+ * de una reserva a la vez y el fallo de una no revierte las demás.
+ * </p>
+ * <p>
+ * Cada cambio de stock de una reserva registra un evento {@link TipoEventoProducto#STOCK} en la bandeja
+ * de salida, igual que las actualizaciones de stock directas.
+ * </p>
+ */
+@Service
+public class ReservaUseCase implements ReservaInputPort {
+
+    /**
+     * Tiempo que se mantiene una reserva sin confirmar cuando no se indica otro.
+     */
+    public static final Duration TTL_POR_DEFECTO = Duration.ofMinutes(5);
+
+    /**
+     * Tiempo máximo que se puede mantener una reserva sin confirmar.
+     */
+    public static final Duration TTL_MAXIMO = Duration.ofMinutes(30);
+
+    /**
+     * Número máximo de productos distintos en una misma reserva.
+     */
+    public static final int LIMITE_MAXIMO_ITEMS = 100;
+
+    /**
+     * Número máximo de reservas vencidas que se procesan en cada barrido.
+     */
+    public static final int TAMANO_LOTE_EXPIRACION = 500;
+
+    private final ProductRepository productRepository;
+    private final ReservaRepository reservaRepository;
+    private final RegistroCambiosProductos registroCambiosProductos;
+    private final ProductEventOutboxRepository productEventOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param productRepository El repositorio de productos.
+     * @param reservaRepository El repositorio de reservas.
+     * @param registroCambiosProductos El registro de productos cambiados.
+     * @param productEventOutboxRepository La bandeja de salida de eventos de productos.
+     * @param transactionManager El gestor de transacciones con el que se expira cada reserva vencida.
+     */
+    public ReservaUseCase(ProductRepository productRepository, ReservaRepository reservaRepository,
+                          RegistroCambiosProductos registroCambiosProductos,
+                          ProductEventOutboxRepository productEventOutboxRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.reservaRepository = reservaRepository;
+        this.registroCambiosProductos = registroCambiosProductos;
+        this.productEventOutboxRepository = productEventOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Las líneas repetidas de un mismo producto se suman, y los productos se actualizan en
+     * orden de ID para que dos reservas concurrentes bloqueen las filas en el mismo orden.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public Reserva crearReserva(List<ReservaItem> items, Duration ttl) {
+        Map<Long, Integer> cantidades = agruparPorProducto(items);
+        Duration duracion = ttl != null ? ttl : TTL_POR_DEFECTO;
+        if (duracion.isNegative() || duracion.isZero() || duracion.compareTo(TTL_MAXIMO) > 0) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "La duración de la reserva debe ser positiva y como máximo de " + TTL_MAXIMO.toMinutes() + " minutos.");
+        }
+
+        List<ReservaItem> reservados = new ArrayList<>(cantidades.size());
+        List<Producto> actualizados = new ArrayList<>(cantidades.size());
+        cantidades.forEach((productoId, cantidad) -> {
+            Producto actualizado = productRepository.adjustStock(productoId, -cantidad).orElseThrow(() ->
+                    productRepository.existsById(productoId)
+                            ? new StockUpdateException("Stock insuficiente para el producto con ID: " + productoId)
+                            : new ProductoNotFoundException("Producto no encontrado con ID: " + productoId));
+            reservados.add(new ReservaItem(productoId, cantidad));
+            actualizados.add(actualizado);
+        });
+        registrarCambiosDeStock(reservados, actualizados);
+
+        return reservaRepository.save(new Reserva(null, EstadoReserva.PENDIENTE, Instant.now().plus(duracion), reservados));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Reserva obtenerReserva(UUID id) {
+        return buscarReserva(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Una reserva vencida no se puede confirmar aunque el barrido aún no la haya expirado;
+     * su stock se liberará en el siguiente barrido.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public Reserva confirmarReserva(UUID id) {
+        Reserva reserva = buscarReserva(id);
+        if (reserva.getEstado() == EstadoReserva.PENDIENTE && reserva.estaVencida(Instant.now())) {
+            throw new ReservaEstadoException("La reserva " + id + " ha vencido.");
+        }
+        cambiarEstado(reserva, EstadoReserva.CONFIRMADA);
+        return new Reserva(reserva.getId(), EstadoReserva.CONFIRMADA, reserva.getExpiraEn(), reserva.getItems());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Reserva cancelarReserva(UUID id) {
+        Reserva reserva = buscarReserva(id);
+        cambiarEstado(reserva, EstadoReserva.CANCELADA);
+        liberarStock(reserva);
+        return new Reserva(reserva.getId(), EstadoReserva.CANCELADA, reserva.getExpiraEn(), reserva.getItems());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Procesa como máximo {@value #TAMANO_LOTE_EXPIRACION} reservas por llamada, cada una en su propia
+     * transacción. Una reserva confirmada o cancelada entre la consulta y su expiración se omite. Si
+     * alguna reserva no se puede expirar, se continúa con las siguientes y al final se propaga el primer error.
+     * </p>
+     */
+    @Override
+    public int expirarReservasVencidas() {
+        int expiradas = 0;
+        RuntimeException error = null;
+        for (UUID id : reservaRepository.findExpiredIds(Instant.now(), TAMANO_LOTE_EXPIRACION)) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(estado -> expirarReserva(id)))) {
+                    expiradas++;
+                }
+            } catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return expiradas;
+    }
+
+    private boolean expirarReserva(UUID id) {
+        if (!reservaRepository.updateEstado(id, EstadoReserva.PENDIENTE, EstadoReserva.EXPIRADA)) {
+            return false;
+        }
+        reservaRepository.findById(id).ifPresent(this::liberarStock);
+        return true;
+    }
+
+    /**
+     * Valida las líneas de una reserva y suma las cantidades de un mismo producto.
+     *
+     * @param items Las líneas recibidas.
+     * @return Las cantidades por ID de producto, ordenadas por ID.
+     */
+    private Map<Long, Integer> agruparPorProducto(List<ReservaItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new com.pragma.application.exception.ValidationException("La reserva debe incluir al menos un producto.");
+        }
+        Map<Long, Integer> cantidades = new TreeMap<>();
+        for (ReservaItem item : items) {
+            if (item == null || item.getProductoId() == null) {
+                throw new com.pragma.application.exception.ValidationException("El ID del producto es obligatorio en cada línea de la reserva.");
+            }
+            if (item.getCantidad() == null || item.getCantidad() <= 0) {
+                throw new com.pragma.application.exception.ValidationException(
+                        "La cantidad a reservar del producto " + item.getProductoId() + " debe ser positiva.");
+            }
+            cantidades.merge(item.getProductoId(), item.getCantidad(), Math::addExact);
+        }
+        if (cantidades.size() > LIMITE_MAXIMO_ITEMS) {
+            throw new com.pragma.application.exception.ValidationException(
+                    "Una reserva no puede incluir más de " + LIMITE_MAXIMO_ITEMS + " productos distintos.");
+        }
+        return cantidades;
+    }
+
+    private Reserva buscarReserva(UUID id) {
+        if (id == null) {
+            throw new com.pragma.application.exception.ValidationException("El ID de la reserva no puede ser nulo.");
+        }
+        return reservaRepository.findById(id)
+                .orElseThrow(() -> new ReservaNotFoundException("Reserva no encontrada con ID: " + id));
+    }
+
+    private void cambiarEstado(Reserva reserva, EstadoReserva nuevo) {
+        if (!reservaRepository.updateEstado(reserva.getId(), EstadoReserva.PENDIENTE, nuevo)) {
+            throw new ReservaEstadoException("La reserva " + reserva.getId() + " ya no está pendiente.");
+        }
+    }
+
+    private void liberarStock(Reserva reserva) {
+        // Mismo orden de productos que al reservar para no invertir el orden de bloqueo de filas.
+        // Un producto eliminado después de reservarlo no tiene stock que devolver.
+        List<Producto> actualizados = reserva.getItems().stream()
+                .sorted(Comparator.comparing(ReservaItem::getProductoId))
+                .flatMap(item -> productRepository.adjustStock(item.getProductoId(), item.getCantidad()).stream())
+                .toList();
+        registrarCambiosDeStock(reserva.getItems(), actualizados);
+    }
+
+    /**
+     * Invalida en la caché los productos cuyo stock cambió y avanza la versión del catálogo. Se aplica al terminar
+     * la transacción para que ninguna lectura concurrente vuelva a cachear el stock anterior.
+     * Registra además el nuevo stock de cada producto en la bandeja de salida de eventos.
+     */
+    private void registrarCambiosDeStock(List<ReservaItem> items, List<Producto> actualizados) {
+        registroCambiosProductos.registrar(items.stream().map(ReservaItem::getProductoId).toList());
+        productEventOutboxRepository.append(actualizados.stream()
+                .map(producto -> EventoProducto.de(TipoEventoProducto.STOCK, producto))
+                .toList());
+    }
+}
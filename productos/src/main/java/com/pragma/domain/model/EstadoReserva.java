@@ -0,0 +1,32 @@
+package com.pragma.domain.model;
+
+/**
+ * Estados del ciclo de vida de una {@link Reserva} de stock.
+ * <p>
+ * Una reserva nace {@link #PENDIENTE} y pasa una única vez a uno de los estados finales:
+ * {@link #CONFIRMADA} (el stock retenido queda vendido), {@link #CANCELADA} o
+ * {@link #EXPIRADA} (el stock retenido se devuelve al producto).
+ * </p>
+ */
+public enum EstadoReserva {
+
+    /**
+     * El stock está retenido hasta que la reserva se confirme, se cancele o venza.
+     */
+    PENDIENTE,
+
+    /**
+     * La reserva se confirmó y el stock retenido se da por vendido.
+     */
+    CONFIRMADA,
+
+    /**
+     * La reserva se canceló y su stock se devolvió.
+     */
+    CANCELADA,
+
+    /**
+     * La reserva venció sin confirmarse y su stock se devolvió.
+     */
+    EXPIRADA
+}
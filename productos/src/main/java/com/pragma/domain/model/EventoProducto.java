@@ -0,0 +1,157 @@
+package com.pragma.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Evento de cambio de un producto, tal como se registra en la bandeja de salida y se publica
+ * a los consumidores (ventas, indexadores de búsqueda).
+ * <p>
+ * Es una instantánea compacta del producto tras el cambio: lleva el nombre, el precio y el stock,
+ * pero no la descripción. Para un producto eliminado solo se informa su ID.
+ * </p>
+ */
+public class EventoProducto {
+
+    /**
+     * Posición del evento en el flujo de cambios, asignada al registrarlo. Para un mismo producto,
+     * crece en el orden en que se confirmaron los cambios.
+     */
+    private final Long id;
+
+    /**
+     * Tipo de cambio.
+     */
+    private final TipoEventoProducto tipo;
+
+    /**
+     * ID del producto cambiado.
+     */
+    private final Long productoId;
+
+    /**
+     * Nombre del producto tras el cambio, o {@code null} si se eliminó.
+     */
+    private final String nombre;
+
+    /**
+     * Precio del producto tras el cambio, o {@code null} si se eliminó.
+     */
+    private final Double precio;
+
+    /**
+     * Stock del producto tras el cambio, o {@code null} si se eliminó.
+     */
+    private final Integer stock;
+
+    /**
+     * Instante en que se produjo el cambio.
+     */
+    private final Instant ocurridoEn;
+
+    /**
+     * Constructor completo.
+     *
+     * @param id La posición del evento, o {@code null} si aún no se ha registrado.
+     * @param tipo El tipo de cambio.
+     * @param productoId El ID del producto.
+     * @param nombre El nombre del producto.
+     * @param precio El precio del producto.
+     * @param stock El stock del producto.
+     * @param ocurridoEn El instante del cambio.
+     */
+    public EventoProducto(Long id, TipoEventoProducto tipo, Long productoId, String nombre, Double precio,
+                          Integer stock, Instant ocurridoEn) {
+        this.id = id;
+        this.tipo = tipo;
+        this.productoId = productoId;
+        this.nombre = nombre;
+        this.precio = precio;
+        this.stock = stock;
+        this.ocurridoEn = ocurridoEn;
+    }
+
+    /**
+     * Crea el evento de un cambio en un producto existente.
+     *
+     * @param tipo El tipo de cambio; no debe ser {@link TipoEventoProducto#ELIMINADO}.
+     * @param producto El producto tal como queda tras el cambio.
+     * @return El evento, sin registrar.
+     */
+    public static EventoProducto de(TipoEventoProducto tipo, Producto producto) {
+        return new EventoProducto(null, tipo, producto.getId(), producto.getNombre(), producto.getPrecio(),
+                producto.getStock(), Instant.now());
+    }
+
+    /**
+     * Crea el evento de la eliminación de un producto.
+     *
+     * @param productoId El ID del producto eliminado.
+     * @return El evento, sin registrar.
+     */
+    public static EventoProducto eliminado(Long productoId) {
+        return new EventoProducto(null, TipoEventoProducto.ELIMINADO, productoId, null, null, null, Instant.now());
+    }
+
+    /**
+     * Obtiene la posición del evento en el flujo de cambios.
+     *
+     * @return El ID del evento.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el tipo de cambio.
+     *
+     * @return El tipo de cambio.
+     */
+    public TipoEventoProducto getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Obtiene el ID del producto cambiado.
+     *
+     * @return El ID del producto.
+     */
+    public Long getProductoId() {
+        return productoId;
+    }
+
+    /**
+     * Obtiene el nombre del producto tras el cambio.
+     *
+     * @return El nombre, o {@code null} si se eliminó.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Obtiene el precio del producto tras el cambio.
+     *
+     * @return El precio, o {@code null} si se eliminó.
+     */
+    public Double getPrecio() {
+        return precio;
+    }
+
+    /**
+     * Obtiene el stock del producto tras el cambio.
+     *
+     * @return El stock, o {@code null} si se eliminó.
+     */
+    public Integer getStock() {
+        return stock;
+    }
+
+    /**
+     * Obtiene el instante en que se produjo el cambio.
+     *
+     * @return El instante del cambio.
+     */
+    public Instant getOcurridoEn() {
+        return ocurridoEn;
+    }
+}
@@ -0,0 +1,60 @@
+package com.pragma.domain.model;
+
+import java.util.List;
+
+/**
+ * Representa una página de productos obtenida mediante paginación por cursor (keyset).
+ * Contiene los productos de la página, ordenados por ID ascendente, y el ID del último
+ * producto devuelto cuando existen más resultados.
+ */
+public class PaginaProductos {
+
+    /**
+     * Productos que componen la página, ordenados por ID ascendente.
+     */
+    private final List<Producto> productos;
+
+    /**
+     * ID a partir del cual se debe solicitar la siguiente página,
+     * o {@code null} si esta es la última.
+     */
+    private final Long siguienteCursor;
+
+    /**
+     * Constructor completo para crear una página de productos.
+     *
+     * @param productos Los productos de la página.
+     * @param siguienteCursor El ID a partir del cual continuar, o {@code null} si no hay más productos.
+     */
+    public PaginaProductos(List<Producto> productos, Long siguienteCursor) {
+        this.productos = productos;
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    /**
+     * Obtiene los productos de la página.
+     *
+     * @return La lista de productos.
+     */
+    public List<Producto> getProductos() {
+        return productos;
+    }
+
+    /**
+     * Obtiene el ID a partir del cual se debe solicitar la siguiente página.
+     *
+     * @return El cursor de la siguiente página, o {@code null} si esta es la última.
+     */
+    public Long getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    /**
+     * Indica si existen más productos después de esta página.
+     *
+     * @return {@code true} si hay una página siguiente, {@code false} en caso contrario.
+     */
+    public boolean tieneSiguiente() {
+        return siguienteCursor != null;
+    }
+}
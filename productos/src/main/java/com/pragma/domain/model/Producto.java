@@ -36,6 +36,12 @@ public class Producto {
      */
     private Integer stock;
 
+    /**
+     * Versión del producto para el control de concurrencia optimista. Cambia con cada modificación
+     * de sus datos o de su stock; es {@code null} en un producto que aún no se ha guardado.
+     */
+    private Long version;
+
     /**
      * Constructor por defecto.
      * Requerido por algunos frameworks de persistencia.
@@ -60,6 +66,21 @@ public class Producto {
         this.stock = stock;
     }
 
+    /**
+     * Constructor completo que incluye la versión del producto.
+     *
+     * @param id El identificador único del producto.
+     * @param nombre El nombre del producto.
+     * @param descripcion La descripción detallada del producto.
+     * @param precio El precio unitario del producto.
+     * @param stock La cantidad de unidades en stock.
+     * @param version La versión del producto.
+     */
+    public Producto(Long id, String nombre, String descripcion, Double precio, Integer stock, Long version) {
+        this(id, nombre, descripcion, precio, stock);
+        this.version = version;
+    }
+
     /**
      * Obtiene el identificador único del producto.
      *
@@ -149,4 +170,22 @@ public class Producto {
     public void setStock(Integer stock) {
         this.stock = stock;
     }
+
+    /**
+     * Obtiene la versión del producto.
+     *
+     * @return La versión, o {@code null} si el producto no se ha guardado.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Establece la versión del producto.
+     *
+     * @param version La nueva versión del producto.
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,96 @@
+package com.pragma.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Retención temporal de stock sobre uno o varios productos.
+ * <p>
+ * El stock de todos los productos se descuenta al crear la reserva, de forma que nadie más
+ * pueda venderlo, y se devuelve si la reserva se cancela o vence sin haberse confirmado.
+ * </p>
+ */
+public class Reserva {
+
+    /**
+     * Identificador único de la reserva.
+     */
+    private final UUID id;
+
+    /**
+     * Estado actual de la reserva.
+     */
+    private final EstadoReserva estado;
+
+    /**
+     * Instante a partir del cual la reserva pendiente se considera vencida.
+     */
+    private final Instant expiraEn;
+
+    /**
+     * Productos y cantidades retenidas.
+     */
+    private final List<ReservaItem> items;
+
+    /**
+     * Constructor completo.
+     *
+     * @param id El ID de la reserva, o {@code null} si aún no se ha persistido.
+     * @param estado El estado de la reserva.
+     * @param expiraEn El instante de vencimiento.
+     * @param items Los productos y cantidades retenidas.
+     */
+    public Reserva(UUID id, EstadoReserva estado, Instant expiraEn, List<ReservaItem> items) {
+        this.id = id;
+        this.estado = estado;
+        this.expiraEn = expiraEn;
+        this.items = items;
+    }
+
+    /**
+     * Obtiene el ID de la reserva.
+     *
+     * @return El ID de la reserva.
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el estado de la reserva.
+     *
+     * @return El estado actual.
+     */
+    public EstadoReserva getEstado() {
+        return estado;
+    }
+
+    /**
+     * Obtiene el instante de vencimiento de la reserva.
+     *
+     * @return El instante de vencimiento.
+     */
+    public Instant getExpiraEn() {
+        return expiraEn;
+    }
+
+    /**
+     * Obtiene los productos y cantidades retenidas.
+     *
+     * @return La lista de líneas de la reserva.
+     */
+    public List<ReservaItem> getItems() {
+        return items;
+    }
+
+    /**
+     * Indica si la reserva ha vencido en el instante indicado.
+     *
+     * @param ahora El instante de referencia.
+     * @return {@code true} si el vencimiento es anterior o igual a {@code ahora}.
+     */
+    public boolean estaVencida(Instant ahora) {
+        return !expiraEn.isAfter(ahora);
+    }
+}
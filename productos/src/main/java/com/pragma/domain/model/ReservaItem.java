@@ -0,0 +1,46 @@
+package com.pragma.domain.model;
+
+/**
+ * Línea de una {@link Reserva}: la cantidad de unidades retenidas de un producto.
+ */
+public class ReservaItem {
+
+    /**
+     * ID del producto cuyo stock se retiene.
+     */
+    private final Long productoId;
+
+    /**
+     * Número de unidades retenidas. Siempre positivo.
+     */
+    private final Integer cantidad;
+
+    /**
+     * Constructor completo.
+     *
+     * @param productoId El ID del producto.
+     * @param cantidad El número de unidades a retener.
+     */
+    public ReservaItem(Long productoId, Integer cantidad) {
+        this.productoId = productoId;
+        this.cantidad = cantidad;
+    }
+
+    /**
+     * Obtiene el ID del producto.
+     *
+     * @return El ID del producto.
+     */
+    public Long getProductoId() {
+        return productoId;
+    }
+
+    /**
+     * Obtiene el número de unidades retenidas.
+     *
+     * @return La cantidad retenida.
+     */
+    public Integer getCantidad() {
+        return cantidad;
+    }
+}
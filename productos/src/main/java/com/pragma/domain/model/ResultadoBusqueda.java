@@ -0,0 +1,81 @@
+package com.pragma.domain.model;
+
+import java.util.List;
+
+/**
+ * Representa una página de resultados de una búsqueda de productos por texto.
+ * Los productos están ordenados por relevancia descendente.
+ */
+public class ResultadoBusqueda {
+
+    /**
+     * Productos de la página, ordenados por relevancia.
+     */
+    private final List<Producto> productos;
+
+    /**
+     * Número de la página, empezando en 0.
+     */
+    private final int pagina;
+
+    /**
+     * Tamaño de página solicitado.
+     */
+    private final int tamano;
+
+    /**
+     * Indica si existen más resultados después de esta página.
+     */
+    private final boolean haySiguiente;
+
+    /**
+     * Constructor completo para crear una página de resultados.
+     *
+     * @param productos Los productos de la página, ordenados por relevancia.
+     * @param pagina El número de la página, empezando en 0.
+     * @param tamano El tamaño de página solicitado.
+     * @param haySiguiente {@code true} si existen más resultados después de esta página.
+     */
+    public ResultadoBusqueda(List<Producto> productos, int pagina, int tamano, boolean haySiguiente) {
+        this.productos = productos;
+        this.pagina = pagina;
+        this.tamano = tamano;
+        this.haySiguiente = haySiguiente;
+    }
+
+    /**
+     * Obtiene los productos de la página.
+     *
+     * @return La lista de productos, ordenada por relevancia.
+     */
+    public List<Producto> getProductos() {
+        return productos;
+    }
+
+    /**
+     * Obtiene el número de la página.
+     *
+     * @return El número de la página, empezando en 0.
+     */
+    public int getPagina() {
+        return pagina;
+    }
+
+    /**
+     * Obtiene el tamaño de página solicitado.
+     *
+     * @return El tamaño de página.
+     */
+    public int getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Indica si existen más resultados después de esta página.
+     *
+     * @return {@code true} si hay una página siguiente, {@code false} en caso contrario.
+     */
+    public boolean tieneSiguiente() {
+        return haySiguiente;
+    }
+}
@@ -0,0 +1,47 @@
+package com.pragma.domain.model;
+
+/**
+ * Representa una sugerencia de autocompletado: el ID y el nombre de un producto
+ * cuyo nombre empieza por el texto escrito.
+ */
+public class SugerenciaProducto {
+
+    /**
+     * Identificador único del producto sugerido.
+     */
+    private final Long id;
+
+    /**
+     * Nombre del producto sugerido, tal como se guardó.
+     */
+    private final String nombre;
+
+    /**
+     * Constructor completo para crear una sugerencia.
+     *
+     * @param id El ID del producto.
+     * @param nombre El nombre del producto.
+     */
+    public SugerenciaProducto(Long id, String nombre) {
+        this.id = id;
+        this.nombre = nombre;
+    }
+
+    /**
+     * Obtiene el ID del producto sugerido.
+     *
+     * @return El ID del producto.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el nombre del producto sugerido.
+     *
+     * @return El nombre del producto.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+}
@@ -0,0 +1,27 @@
+package com.pragma.domain.model;
+
+/**
+ * Tipos de cambio que se notifican en un {@link EventoProducto}.
+ */
+public enum TipoEventoProducto {
+
+    /**
+     * Se dio de alta el producto.
+     */
+    CREADO,
+
+    /**
+     * Se modificaron los datos del producto.
+     */
+    ACTUALIZADO,
+
+    /**
+     * Cambió el stock del producto, por una actualización directa o por una reserva.
+     */
+    STOCK,
+
+    /**
+     * Se eliminó el producto. El evento solo lleva su ID.
+     */
+    ELIMINADO
+}
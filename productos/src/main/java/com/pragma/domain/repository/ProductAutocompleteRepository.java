@@ -0,0 +1,38 @@
+package com.pragma.domain.repository;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.SugerenciaProducto;
+
+import java.util.List;
+
+/**
+ * Interfaz del índice de autocompletado de nombres de productos.
+ * Actúa como un puerto de salida en la arquitectura hexagonal; se consulta en cada pulsación de
+ * tecla, por lo que las implementaciones deben responder sin acceder a la base de datos.
+ */
+public interface ProductAutocompleteRepository {
+
+    /**
+     * Busca los productos cuyo nombre empieza por el prefijo indicado, sin distinguir mayúsculas
+     * ni tildes, ordenados alfabéticamente por nombre y, a igual nombre, por ID.
+     *
+     * @param prefijo El texto escrito. No debe ser nulo ni vacío.
+     * @param limite El número máximo de sugerencias a devolver.
+     * @return Las sugerencias encontradas.
+     */
+    List<SugerenciaProducto> findByPrefix(String prefijo, int limite);
+
+    /**
+     * Incorpora un producto al índice o actualiza su nombre.
+     *
+     * @param producto El producto guardado, con su ID asignado.
+     */
+    void index(Producto producto);
+
+    /**
+     * Retira un producto del índice.
+     *
+     * @param id El ID del producto eliminado.
+     */
+    void remove(Long id);
+}
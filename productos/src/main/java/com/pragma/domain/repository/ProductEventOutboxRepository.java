@@ -0,0 +1,41 @@
+package com.pragma.domain.repository;
+
+import com.pragma.domain.model.EventoProducto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Puerto de salida de la bandeja de salida (outbox) de eventos de productos.
+ * <p>
+ * Los eventos se registran en la misma transacción que el cambio que describen, de modo que solo
+ * llegan a publicarse los cambios confirmados, y permanecen en la bandeja hasta que se publican.
+ * </p>
+ */
+public interface ProductEventOutboxRepository {
+
+    /**
+     * Registra eventos en la bandeja de salida, asignándoles su posición en el flujo de cambios.
+     * Debe llamarse dentro de la transacción del cambio y después de haberlo aplicado, para que los
+     * eventos de un mismo producto reciban posiciones en el orden en que se confirman sus cambios.
+     *
+     * @param eventos Los eventos a registrar, en orden.
+     */
+    void append(List<EventoProducto> eventos);
+
+    /**
+     * Obtiene los eventos más antiguos pendientes de publicar, bloqueándolos hasta el final de la
+     * transacción para que dos publicadores concurrentes no publiquen el mismo lote.
+     *
+     * @param limite El número máximo de eventos.
+     * @return Los eventos, ordenados por su posición.
+     */
+    List<EventoProducto> findOldest(int limite);
+
+    /**
+     * Elimina de la bandeja de salida los eventos ya publicados.
+     *
+     * @param ids Los IDs de los eventos.
+     */
+    void deleteByIds(Collection<Long> ids);
+}
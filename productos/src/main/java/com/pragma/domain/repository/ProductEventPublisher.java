@@ -0,0 +1,25 @@
+package com.pragma.domain.repository;
+
+import com.pragma.domain.model.EventoProducto;
+
+import java.util.List;
+
+/**
+ * Puerto de salida hacia el destino al que se entregan los eventos de productos
+ * (un fichero, un bróker de mensajería, etc.).
+ * <p>
+ * La entrega es al menos una vez: si la publicación falla, o si el proceso se detiene después de
+ * publicar y antes de retirar los eventos de la bandeja de salida, el lote se vuelve a publicar.
+ * Los consumidores deben descartar los eventos cuyo ID ya procesaron.
+ * </p>
+ */
+public interface ProductEventPublisher {
+
+    /**
+     * Publica un lote de eventos. Solo debe volver cuando el destino los haya aceptado todos.
+     *
+     * @param eventos Los eventos, ordenados por su posición en el flujo de cambios.
+     * @throws RuntimeException Si el destino no aceptó el lote; se reintentará completo.
+     */
+    void publish(List<EventoProducto> eventos);
+}
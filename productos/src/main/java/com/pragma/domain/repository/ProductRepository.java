@@ -3,6 +3,7 @@ package com.pragma.domain.repository;
 import com.pragma.domain.model.Producto;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interfaz que define el contrato para las operaciones de persistencia
@@ -30,6 +31,40 @@ public interface ProductRepository {
      */
     List<Producto> findAll();
 
+    /**
+     * Recupera los productos con los identificadores indicados.
+     *
+     * @param ids Los identificadores de los productos a recuperar.
+     * @return Una {@link List} con los productos encontrados, sin un orden determinado.
+     *         Los identificadores que no existen se omiten.
+     */
+    List<Producto> findAllById(List<Long> ids);
+
+    /**
+     * Recupera, en orden ascendente de ID, hasta {@code limit} productos cuyo ID sea
+     * estrictamente mayor que {@code afterId} (paginación por cursor / keyset).
+     * La consulta recorre un rango del índice de la clave primaria, por lo que su coste
+     * no depende de la profundidad de la página solicitada.
+     *
+     * @param afterId El ID a partir del cual buscar (exclusivo). Si es {@code null} se empieza desde el principio.
+     * @param limit El número máximo de productos a devolver. Debe ser mayor que cero.
+     * @return Una {@link List} de objetos {@link Producto} ordenada por ID ascendente.
+     */
+    List<Producto> findNextPage(Long afterId, int limit);
+
+    /**
+     * Recorre todos los productos en orden ascendente de ID sin cargarlos en memoria a la vez.
+     * Las filas se leen del cursor de la base de datos por bloques de tamaño fijo y cada
+     * producto se libera tras ser mapeado, por lo que el consumo de memoria es constante.
+     * <p>
+     * El {@link Stream} devuelto debe consumirse dentro de una transacción y cerrarse al terminar
+     * (por ejemplo, con un bloque try-with-resources) para liberar el cursor y la conexión.
+     * </p>
+     *
+     * @return Un {@link Stream} de objetos {@link Producto} ordenado por ID.
+     */
+    Stream<Producto> streamAll();
+
     /**
      * Guarda un nuevo producto o actualiza uno existente en el sistema de persistencia.
      * Si el producto tiene un ID nulo, se considera una nueva entidad y se creará.
@@ -41,6 +76,48 @@ public interface ProductRepository {
      */
     Producto save(Producto producto);
 
+    /**
+     * Guarda un conjunto de productos nuevos agrupando las inserciones en lotes.
+     * Los productos se devuelven en el mismo orden recibido, con su ID asignado.
+     *
+     * @param productos La lista de productos a guardar. No debe ser nula.
+     * @return La lista de productos guardados, en el mismo orden de entrada.
+     */
+    List<Producto> saveAll(List<Producto> productos);
+
+    /**
+     * Suma {@code delta} al stock de un producto en una única operación atómica, solo si el
+     * stock resultante no es negativo. No hay lectura previa: la condición y la actualización
+     * se resuelven en la base de datos, por lo que no se pierden actualizaciones concurrentes.
+     *
+     * @param id El identificador único del producto.
+     * @param delta La cantidad a sumar (positiva) o restar (negativa) del stock.
+     * @return Un {@link Optional} con el producto actualizado, o {@link Optional#empty()} si no
+     *         existe un producto con ese ID o si el stock resultante sería negativo.
+     */
+    Optional<Producto> adjustStock(Long id, int delta);
+
+    /**
+     * Sustituye los datos de un producto existente en una única operación, sin lectura previa,
+     * y avanza su versión.
+     *
+     * @param producto El producto con su ID y los nuevos datos.
+     * @return Un {@link Optional} con el producto tal como quedó guardado, o {@link Optional#empty()}
+     *         si no existe un producto con ese ID.
+     */
+    Optional<Producto> update(Producto producto);
+
+    /**
+     * Sustituye los datos de un producto existente solo si su versión actual es la de
+     * {@link Producto#getVersion()}, en una única operación atómica y sin lectura previa.
+     * Cada actualización avanza la versión del producto.
+     *
+     * @param producto El producto con su ID, los nuevos datos y la versión esperada.
+     * @return Un {@link Optional} con el producto actualizado y su nueva versión, o {@link Optional#empty()}
+     *         si no existe un producto con ese ID o si su versión ya no es la esperada.
+     */
+    Optional<Producto> updateIfVersion(Producto producto);
+
     /**
      * Elimina un producto del sistema de persistencia basado en su identificador único.
      * Si no existe un producto con el ID proporcionado, la operación no tendrá efecto
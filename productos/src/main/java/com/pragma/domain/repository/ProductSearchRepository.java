@@ -0,0 +1,40 @@
+package com.pragma.domain.repository;
+
+import com.pragma.domain.model.Producto;
+
+import java.util.List;
+
+/**
+ * Interfaz del índice de búsqueda de texto completo sobre el nombre y la descripción de los productos.
+ * Actúa como un puerto de salida en la arquitectura hexagonal; las implementaciones pueden apoyarse en
+ * la propia base de datos o en un índice mantenido por la aplicación.
+ */
+public interface ProductSearchRepository {
+
+    /**
+     * Busca los productos cuyo nombre o descripción contienen todos los términos de la consulta,
+     * ordenados por relevancia descendente y, a igual relevancia, por ID ascendente.
+     *
+     * @param consulta El texto de búsqueda. No debe ser nulo ni vacío.
+     * @param limite El número máximo de resultados a devolver.
+     * @param desplazamiento El número de resultados a omitir desde el principio.
+     * @return Los IDs de los productos encontrados, por orden de relevancia.
+     */
+    List<Long> search(String consulta, int limite, int desplazamiento);
+
+    /**
+     * Incorpora o actualiza un producto en el índice. Las implementaciones que indexan
+     * directamente en la base de datos pueden ignorar esta llamada.
+     *
+     * @param producto El producto guardado, con su ID asignado.
+     */
+    void index(Producto producto);
+
+    /**
+     * Retira un producto del índice. Las implementaciones que indexan directamente en la
+     * base de datos pueden ignorar esta llamada.
+     *
+     * @param id El ID del producto eliminado.
+     */
+    void remove(Long id);
+}
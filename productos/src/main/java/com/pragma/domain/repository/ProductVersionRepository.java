@@ -0,0 +1,30 @@
+package com.pragma.domain.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Interfaz del registro de versiones del catálogo de productos.
+ * Actúa como un puerto de salida en la arquitectura hexagonal; la versión se consulta en cada
+ * lectura condicional del catálogo, por lo que las implementaciones deben responder sin acceder a la base de datos.
+ * <p>
+ * Una versión es opaca: solo se garantiza que cambia cada vez que cambia cualquier producto y que dos
+ * contenidos distintos del catálogo nunca comparten versión. La versión de cada producto es la de su fila.
+ * </p>
+ */
+public interface ProductVersionRepository {
+
+    /**
+     * Obtiene la versión actual del catálogo completo.
+     *
+     * @return La versión del catálogo, o vacío si las versiones no están disponibles.
+     */
+    Optional<String> findCatalogVersion();
+
+    /**
+     * Registra un cambio en los productos indicados, lo que cambia la versión del catálogo.
+     *
+     * @param ids Los IDs de los productos creados, modificados o eliminados.
+     */
+    void increment(Collection<Long> ids);
+}
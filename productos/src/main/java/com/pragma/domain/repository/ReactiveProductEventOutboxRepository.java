@@ -0,0 +1,24 @@
+package com.pragma.domain.repository;
+
+import com.pragma.domain.model.EventoProducto;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Contrato no bloqueante para registrar eventos en la bandeja de salida (outbox) de productos.
+ * Es el equivalente reactivo de {@link ProductEventOutboxRepository#append(List)} para el perfil
+ * {@code reactivo}; la lectura y el borrado de los eventos publicados siguen a cargo del relay,
+ * sobre {@link ProductEventOutboxRepository}.
+ */
+public interface ReactiveProductEventOutboxRepository {
+
+    /**
+     * Registra eventos en la bandeja de salida, asignándoles su posición en el flujo de cambios.
+     * Debe suscribirse dentro de la transacción reactiva del cambio y después de haberlo aplicado.
+     *
+     * @param eventos Los eventos a registrar, en orden.
+     * @return Un {@link Mono} que termina cuando los eventos se han registrado.
+     */
+    Mono<Void> append(List<EventoProducto> eventos);
+}
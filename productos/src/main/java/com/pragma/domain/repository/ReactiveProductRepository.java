@@ -0,0 +1,90 @@
+package com.pragma.domain.repository;
+
+import com.pragma.domain.model.Producto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contrato no bloqueante para las operaciones de persistencia de la entidad {@link Producto}.
+ * Es el equivalente reactivo de {@link ProductRepository} para el perfil {@code reactivo}:
+ * ninguna operación bloquea el hilo que la invoca y los resultados se emiten cuando la base
+ * de datos responde.
+ */
+public interface ReactiveProductRepository {
+
+    /**
+     * Busca un producto por su identificador único.
+     *
+     * @param id El identificador del producto.
+     * @return Un {@link Mono} con el producto, o vacío si no existe.
+     */
+    Mono<Producto> findById(Long id);
+
+    /**
+     * Recupera todos los productos ordenados por ID.
+     *
+     * @return Un {@link Flux} con los productos.
+     */
+    Flux<Producto> findAll();
+
+    /**
+     * Recupera los productos con ID mayor que {@code afterId}, ordenados por ID.
+     *
+     * @param afterId El ID a partir del cual se recupera, o {@code null} para empezar por el primero.
+     * @param limit El número máximo de productos.
+     * @return Un {@link Flux} con los productos.
+     */
+    Flux<Producto> findNextPage(Long afterId, int limit);
+
+    /**
+     * Inserta un producto nuevo.
+     *
+     * @param producto El producto a insertar, sin ID.
+     * @return Un {@link Mono} con el producto insertado y su ID asignado.
+     */
+    Mono<Producto> insert(Producto producto);
+
+    /**
+     * Sustituye los datos de un producto existente.
+     *
+     * @param producto El producto con su ID y los datos nuevos.
+     * @return Un {@link Mono} con el producto actualizado y su nueva versión, o vacío si no existe.
+     */
+    Mono<Producto> update(Producto producto);
+
+    /**
+     * Sustituye los datos de un producto existente solo si su versión actual es la de
+     * {@link Producto#getVersion()}, en una única sentencia y sin lectura previa.
+     *
+     * @param producto El producto con su ID, los datos nuevos y la versión esperada.
+     * @return Un {@link Mono} con el producto actualizado y su nueva versión, o vacío si no existe
+     *         o si su versión ya no es la esperada.
+     */
+    Mono<Producto> updateIfVersion(Producto producto);
+
+    /**
+     * Suma {@code delta} al stock de un producto en una sola sentencia condicional,
+     * solo si el stock resultante no es negativo.
+     *
+     * @param id El ID del producto.
+     * @param delta La cantidad a sumar (negativa para restar).
+     * @return Un {@link Mono} con el producto actualizado, o vacío si no existe o el stock quedaría negativo.
+     */
+    Mono<Producto> adjustStock(Long id, int delta);
+
+    /**
+     * Elimina un producto.
+     *
+     * @param id El ID del producto.
+     * @return Un {@link Mono} con {@code true} si se eliminó, o {@code false} si no existía.
+     */
+    Mono<Boolean> deleteById(Long id);
+
+    /**
+     * Comprueba si existe un producto sin cargarlo.
+     *
+     * @param id El ID del producto.
+     * @return Un {@link Mono} con {@code true} si existe.
+     */
+    Mono<Boolean> existsById(Long id);
+}
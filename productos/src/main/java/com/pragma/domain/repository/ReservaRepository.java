@@ -0,0 +1,54 @@
+package com.pragma.domain.repository;
+
+import com.pragma.domain.model.EstadoReserva;
+import com.pragma.domain.model.Reserva;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para la persistencia de reservas de stock.
+ * Define las operaciones que la capa de aplicación necesita para gestionar las reservas.
+ */
+public interface ReservaRepository {
+
+    /**
+     * Guarda una reserva nueva.
+     *
+     * @param reserva La reserva a guardar.
+     * @return La reserva guardada, con su ID asignado.
+     */
+    Reserva save(Reserva reserva);
+
+    /**
+     * Busca una reserva por su ID.
+     *
+     * @param id El ID de la reserva.
+     * @return Un {@link Optional} con la reserva, o vacío si no existe.
+     */
+    Optional<Reserva> findById(UUID id);
+
+    /**
+     * Cambia el estado de una reserva solo si su estado actual es {@code actual}.
+     * La comprobación y el cambio se hacen en una única sentencia, de modo que entre una
+     * confirmación, una cancelación y el vencimiento concurrentes solo una tiene efecto.
+     *
+     * @param id El ID de la reserva.
+     * @param actual El estado que debe tener la reserva.
+     * @param nuevo El estado a asignar.
+     * @return {@code true} si la reserva cambió de estado, {@code false} en caso contrario.
+     */
+    boolean updateEstado(UUID id, EstadoReserva actual, EstadoReserva nuevo);
+
+    /**
+     * Obtiene los IDs de las reservas pendientes que vencieron antes de {@code ahora},
+     * empezando por las más antiguas.
+     *
+     * @param ahora El instante de referencia.
+     * @param limite El número máximo de IDs a devolver.
+     * @return Los IDs de las reservas vencidas.
+     */
+    List<UUID> findExpiredIds(Instant ahora, int limite);
+}
@@ -0,0 +1,24 @@
+package com.pragma.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuración de la caché en memoria de productos.
+ * <p>
+ * El {@code CacheManager} (Caffeine) lo autoconfigura Spring Boot a partir de las propiedades
+ * {@code spring.cache.*}, que definen el tamaño máximo, el TTL y el registro de estadísticas
+ * publicadas en Actuator ({@code cache.gets}, {@code cache.evictions}, ...).
+ * </p>
+ * <p>
+ * El interceptor de caché se registra justo después del de métricas ({@link MetricasConfig}) para que envuelva al
+ * interceptor transaccional: un acierto en caché no abre transacción ni pide conexión al pool,
+ * y las operaciones {@code @CacheEvict} se aplican solo después de que la
+ * transacción del caso de uso haya hecho commit.
+ * </p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE + 1)
+public class CacheConfig {
+}
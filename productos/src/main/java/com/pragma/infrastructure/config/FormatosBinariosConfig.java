@@ -0,0 +1,47 @@
+package com.pragma.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Convertidores de los formatos binarios de la API REST ({@code FormatoBinario}): Smile
+ * ({@code application/x-jackson-smile}) y CBOR ({@code application/cbor}).
+ * <p>
+ * Se construyen con el {@link Jackson2ObjectMapperBuilder} de Spring Boot, el mismo que el del
+ * {@code ObjectMapper} JSON, para que los tres formatos serialicen los DTOs con la misma configuración
+ * ({@code spring.jackson.*}, módulos registrados). Spring Boot los añade a los convertidores de Spring MVC
+ * detrás del de JSON: sin {@code Accept} o con {@code *}{@code /*} se sigue respondiendo JSON.
+ * </p>
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class FormatosBinariosConfig {
+
+    /**
+     * Convertidor de Smile.
+     *
+     * @param jackson2ObjectMapperBuilder El constructor de {@code ObjectMapper} de Spring Boot (uno nuevo por inyección).
+     * @return El convertidor.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter conversorSmile(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(jackson2ObjectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Convertidor de CBOR.
+     *
+     * @param jackson2ObjectMapperBuilder El constructor de {@code ObjectMapper} de Spring Boot (uno nuevo por inyección).
+     * @return El convertidor.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter conversorCbor(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(jackson2ObjectMapperBuilder.factory(new CBORFactory()).build());
+    }
+}
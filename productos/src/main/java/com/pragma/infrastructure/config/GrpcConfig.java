@@ -0,0 +1,45 @@
+package com.pragma.infrastructure.config;
+
+import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.infrastructure.input.grpc.ProductoGrpcService;
+import com.pragma.infrastructure.input.grpc.ServidorGrpc;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuración de la API interna gRPC de productos ({@code productos.grpc.*}).
+ * <p>
+ * Con {@code productos.grpc.habilitado=true} se sirve {@link ProductoGrpcService} en el puerto
+ * {@code productos.grpc.puerto}, junto a la API REST y en cualquiera de sus pilas (servlets o reactiva).
+ * Cada conexión HTTP/2 multiplexa como máximo {@code productos.grpc.max-llamadas-por-conexion} llamadas
+ * concurrentes; los clientes pueden mantenerla abierta con pings de keepalive cada
+ * {@code productos.grpc.keepalive-minimo-ms} como mínimo.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "productos.grpc.habilitado", havingValue = "true")
+public class GrpcConfig {
+
+    /**
+     * Servidor gRPC con el servicio de productos; se arranca y detiene con el contexto.
+     */
+    @Bean
+    public ServidorGrpc servidorGrpc(ProductInputPort productInputPort,
+                                     @Value("${productos.grpc.puerto}") int puerto,
+                                     @Value("${productos.grpc.max-llamadas-por-conexion:1000}") int maxLlamadasPorConexion,
+                                     @Value("${productos.grpc.keepalive-minimo-ms:10000}") long keepaliveMinimoMs,
+                                     @Value("${productos.grpc.periodo-gracia-ms:10000}") long periodoGraciaMs) {
+        NettyServerBuilder servidor = NettyServerBuilder.forPort(puerto)
+                .addService(new ProductoGrpcService(productInputPort))
+                .maxConcurrentCallsPerConnection(maxLlamadasPorConexion)
+                .permitKeepAliveTime(keepaliveMinimoMs, TimeUnit.MILLISECONDS)
+                .permitKeepAliveWithoutCalls(true);
+        return new ServidorGrpc(servidor.build(), Duration.ofMillis(periodoGraciaMs));
+    }
+}
@@ -0,0 +1,75 @@
+package com.pragma.infrastructure.config;
+
+import com.pragma.domain.repository.ProductVersionRepository;
+import com.pragma.infrastructure.output.instantanea.GestorInstantaneaProductos;
+import com.pragma.infrastructure.output.instantanea.InstantaneaProductRepository;
+import com.pragma.infrastructure.output.instantanea.InstantaneaProductos;
+import com.pragma.infrastructure.output.persistence.adapter.PostgresProductRepositoryAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Configuración del arranque en caliente desde una instantánea del catálogo ({@code productos.instantanea.*}).
+ * <p>
+ * Con {@code productos.instantanea.habilitada=true}, al arrancar se mapea en memoria el archivo
+ * {@code productos.instantanea.archivo} escrito por la ejecución anterior y las lecturas por ID se
+ * sirven desde él mientras la caché de productos se pone al día desde la base de datos en segundo plano.
+ * Requiere el inventario en base de datos ({@code productos.inventario.modo=base-datos}): con el
+ * inventario en memoria el stock vigente no está en la instantánea.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${productos.instantanea.habilitada:false} and '${productos.inventario.modo:base-datos}' == 'base-datos'")
+public class InstantaneaProductosConfig {
+
+    /**
+     * Repositorio de productos que sirve la instantánea hasta la puesta al día; sustituye al adaptador
+     * de base de datos en los casos de uso. Si el archivo no existe o no es válido, arranca sin instantánea.
+     */
+    @Bean
+    @Primary
+    public InstantaneaProductRepository instantaneaProductRepository(PostgresProductRepositoryAdapter postgresProductRepositoryAdapter,
+                                                                     @Value("${productos.instantanea.archivo}") String archivo) {
+        Path ruta = Path.of(archivo);
+        InstantaneaProductos instantanea = null;
+        if (Files.exists(ruta)) {
+            try {
+                instantanea = InstantaneaProductos.abrir(ruta);
+                log.info("Instantánea de productos {} mapeada: {} productos, escrita el {}", ruta, instantanea.tamano(),
+                        Instant.ofEpochMilli(instantanea.getCreadaEn()));
+            } catch (IOException e) {
+                log.warn("Se ignora la instantánea de productos {}: {}", ruta, e.getMessage());
+            }
+        }
+        return new InstantaneaProductRepository(postgresProductRepositoryAdapter, instantanea);
+    }
+
+    /**
+     * Gestor que pone al día la caché y reescribe el archivo de la instantánea.
+     */
+    @Bean
+    public GestorInstantaneaProductos gestorInstantaneaProductos(InstantaneaProductRepository instantaneaProductRepository,
+                                                                 PostgresProductRepositoryAdapter postgresProductRepositoryAdapter,
+                                                                 ProductVersionRepository productVersionRepository,
+                                                                 CacheManager cacheManager,
+                                                                 PlatformTransactionManager transactionManager,
+                                                                 @Value("${productos.instantanea.archivo}") String archivo) {
+        TransactionTemplate transaccionLectura = new TransactionTemplate(transactionManager);
+        transaccionLectura.setReadOnly(true);
+        return new GestorInstantaneaProductos(instantaneaProductRepository, postgresProductRepositoryAdapter,
+                productVersionRepository, cacheManager, transaccionLectura, Path.of(archivo));
+    }
+}
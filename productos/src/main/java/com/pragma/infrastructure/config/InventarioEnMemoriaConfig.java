@@ -0,0 +1,53 @@
+package com.pragma.infrastructure.config;
+
+import com.pragma.domain.repository.ProductRepository;
+import com.pragma.infrastructure.output.inventario.InventarioEnMemoria;
+import com.pragma.infrastructure.output.inventario.InventarioEnMemoriaProductRepository;
+import com.pragma.infrastructure.output.inventario.JdbcAlmacenStock;
+import com.pragma.infrastructure.output.persistence.adapter.PostgresProductRepositoryAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * Configuración del modo de inventario en memoria ({@code productos.inventario.modo=memoria}).
+ * <p>
+ * En este modo el stock se actualiza en memoria, con un WAL local en
+ * {@code productos.inventario.wal.directorio}, y se vuelca a PostgreSQL cada
+ * {@code productos.inventario.volcado.intervalo-ms}. Por defecto ({@code base-datos}) cada cambio
+ * de stock es un UPDATE condicional en la base de datos.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "productos.inventario.modo", havingValue = "memoria")
+public class InventarioEnMemoriaConfig {
+
+    /**
+     * Motor de inventario en memoria. Al crearse reaplica el WAL pendiente y, al cerrarse el
+     * contexto, vuelca los cambios pendientes.
+     */
+    @Bean(destroyMethod = "close")
+    public InventarioEnMemoria inventarioEnMemoria(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                                   @Value("${productos.inventario.wal.directorio}") String directorioWal) {
+        JdbcAlmacenStock almacen = new JdbcAlmacenStock(jdbcTemplate, new TransactionTemplate(transactionManager));
+        return new InventarioEnMemoria(almacen, Path.of(directorioWal));
+    }
+
+    /**
+     * Repositorio de productos que resuelve el stock en memoria; sustituye al adaptador de base
+     * de datos en los casos de uso.
+     */
+    @Bean
+    @Primary
+    public ProductRepository inventarioEnMemoriaProductRepository(PostgresProductRepositoryAdapter postgresProductRepositoryAdapter,
+                                                                  InventarioEnMemoria inventarioEnMemoria) {
+        return new InventarioEnMemoriaProductRepository(postgresProductRepositoryAdapter, inventarioEnMemoria);
+    }
+}
@@ -0,0 +1,48 @@
+package com.pragma.infrastructure.config;
+
+import com.pragma.infrastructure.metricas.TemporizadorInterceptor;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Configuración de las métricas de latencia de productos.
+ * <p>
+ * Los métodos anotados con {@link Timed} publican un temporizador por operación:
+ * {@code productos.operaciones} para los casos de uso y {@code productos.repositorio} para las
+ * consultas a la base de datos que hacen, con histogramas de percentiles
+ * ({@code management.metrics.distribution.percentiles-histogram.*}) expuestos en formato
+ * Prometheus en {@code /actuator/prometheus}.
+ * </p>
+ * <p>
+ * El interceptor tiene la máxima precedencia, por delante del de caché ({@link CacheConfig}) y del
+ * transaccional, de modo que mide lo mismo que percibe quien llama al caso de uso.
+ * </p>
+ */
+@Configuration
+public class MetricasConfig {
+
+    /**
+     * Advisor que aplica el {@link TemporizadorInterceptor} a los métodos anotados con {@link Timed}.
+     * El registro se resuelve en la primera llamada, para no adelantar su creación a la de los
+     * post-procesadores de beans.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor temporizadorAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Timed.class),
+                new TemporizadorInterceptor(SingletonSupplier.of(meterRegistry::getObject)));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,68 @@
+package com.pragma.infrastructure.config;
+
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import com.pragma.infrastructure.input.rest.mapper.ReservaRestMapper;
+import com.pragma.infrastructure.metricas.DataSourceInstrumentado;
+import com.pragma.infrastructure.output.persistence.entity.EventoProductoEntity;
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.entity.ReservaEntity;
+import com.pragma.infrastructure.output.persistence.mapper.ProductoPersistenceMapper;
+import com.pragma.infrastructure.output.persistence.mapper.ReservaPersistenceMapper;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Pistas para la imagen nativa de GraalVM (perfil Maven {@code native}).
+ * <p>
+ * El procesamiento AOT de Spring registra por sí mismo los beans, los controladores y los tipos
+ * gestionados por JPA, pero no todo lo que se resuelve por reflexión en tiempo de ejecución:
+ * </p>
+ * <ul>
+ *     <li>Las implementaciones de los mappers que genera MapStruct ({@code *Impl}), que solo se
+ *     conocen por su nombre.</li>
+ *     <li>Las entidades JPA, cuyos campos y constructores Hibernate lee y escribe por reflexión.</li>
+ *     <li>Los proxies JDK de conexiones y sentencias de {@link DataSourceInstrumentado}, que en una
+ *     imagen nativa deben declararse en tiempo de compilación.</li>
+ * </ul>
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Pistas.class)
+public class NativeHintsConfig {
+
+    static final List<Class<?>> MAPPERS = List.of(ProductRestMapper.class, ReservaRestMapper.class,
+            ProductoPersistenceMapper.class, ReservaPersistenceMapper.class);
+
+    static final List<Class<?>> ENTIDADES = List.of(ProductoEntity.class, ReservaEntity.class,
+            EventoProductoEntity.class);
+
+    /**
+     * Registra las pistas de reflexión y de proxies de la aplicación.
+     */
+    static class Pistas implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            MAPPERS.forEach(mapper -> hints.reflection().registerType(
+                    TypeReference.of(mapper.getName() + "Impl"),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            ENTIDADES.forEach(entidad -> hints.reflection().registerType(entidad,
+                    MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS));
+            hints.proxies()
+                    .registerJdkProxy(Connection.class)
+                    .registerJdkProxy(Statement.class)
+                    .registerJdkProxy(PreparedStatement.class)
+                    .registerJdkProxy(CallableStatement.class);
+        }
+    }
+}
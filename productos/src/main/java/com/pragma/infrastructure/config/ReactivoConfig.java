@@ -0,0 +1,138 @@
+package com.pragma.infrastructure.config;
+
+import com.pragma.application.port.input.ReactiveProductInputPort;
+import com.pragma.application.usecase.ReactiveProductUseCase;
+import com.pragma.application.usecase.RegistroCambiosProductos;
+import com.pragma.domain.repository.ProductAutocompleteRepository;
+import com.pragma.domain.repository.ProductSearchRepository;
+import com.pragma.domain.repository.ProductVersionRepository;
+import com.pragma.domain.repository.ReactiveProductEventOutboxRepository;
+import com.pragma.domain.repository.ReactiveProductRepository;
+import com.pragma.infrastructure.input.reactive.ProductHandler;
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import com.pragma.infrastructure.output.persistence.adapter.R2dbcProductEventOutboxAdapter;
+import com.pragma.infrastructure.output.persistence.adapter.R2dbcProductRepositoryAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.DELETE;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.HEAD;
+import static org.springframework.web.reactive.function.server.RequestPredicates.PATCH;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.PUT;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Configuración del perfil {@code reactivo}, en el que la API de productos se sirve con WebFlux
+ * sobre R2DBC en lugar de Spring MVC sobre JDBC.
+ * <p>
+ * Solo se activa cuando la aplicación arranca como aplicación web reactiva
+ * ({@code spring.main.web-application-type=reactive}, fijado por el perfil). Las versiones de los
+ * ETag, la caché y los índices de búsqueda y autocompletado son los mismos beans que usa la pila de
+ * servlets. La creación por lotes, la búsqueda, el autocompletado, la exportación y las reservas
+ * no se exponen en este perfil.
+ * </p>
+ * <p>
+ * El resto de la aplicación (JPA, la carga inicial de los índices en memoria, la expiración de reservas)
+ * sigue usando JDBC, pero Spring Boot no crea el {@link javax.sql.DataSource} cuando hay una
+ * {@link ConnectionFactory} de R2DBC, por lo que aquí se declara explícitamente a partir de
+ * {@code spring.datasource.*}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactivoConfig {
+
+    /**
+     * Pool JDBC de la base de datos de productos, configurado con {@code spring.datasource.*}.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Cliente R2DBC sobre la {@link ConnectionFactory} configurada en {@code spring.r2dbc.*}.
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Repositorio de productos no bloqueante.
+     */
+    @Bean
+    public ReactiveProductRepository reactiveProductRepository(DatabaseClient databaseClient) {
+        return new R2dbcProductRepositoryAdapter(databaseClient);
+    }
+
+    /**
+     * Registro no bloqueante de eventos en la bandeja de salida.
+     */
+    @Bean
+    public ReactiveProductEventOutboxRepository reactiveProductEventOutboxRepository(DatabaseClient databaseClient) {
+        return new R2dbcProductEventOutboxAdapter(databaseClient);
+    }
+
+    /**
+     * Casos de uso de productos no bloqueantes.
+     * <p>
+     * Cada escritura y su evento se confirman en una transacción R2DBC. Su gestor no se declara como bean:
+     * {@code transactionManager} sigue siendo el de JPA, que usan los {@code @Transactional} del resto de
+     * la aplicación.
+     * </p>
+     */
+    @Bean
+    public ReactiveProductInputPort reactiveProductInputPort(ReactiveProductRepository reactiveProductRepository,
+                                                             ProductSearchRepository productSearchRepository,
+                                                             ProductAutocompleteRepository productAutocompleteRepository,
+                                                             ProductVersionRepository productVersionRepository,
+                                                             RegistroCambiosProductos registroCambiosProductos,
+                                                             ReactiveProductEventOutboxRepository reactiveProductEventOutboxRepository,
+                                                             ConnectionFactory connectionFactory) {
+        return new ReactiveProductUseCase(reactiveProductRepository, productSearchRepository, productAutocompleteRepository,
+                productVersionRepository, registroCambiosProductos, reactiveProductEventOutboxRepository,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)));
+    }
+
+    /**
+     * Handlers de la API de productos.
+     */
+    @Bean
+    public ProductHandler productHandler(ReactiveProductInputPort reactiveProductInputPort, ProductRestMapper productRestMapper,
+                                         Validator validator) {
+        return new ProductHandler(reactiveProductInputPort, productRestMapper, validator);
+    }
+
+    /**
+     * Rutas de la API de productos, con los mismos paths que el controlador REST.
+     */
+    @Bean
+    public RouterFunction<ServerResponse> productRoutes(ProductHandler productHandler) {
+        return route(POST("/productos"), productHandler::crearProducto)
+                .andRoute(GET("/productos"), productHandler::obtenerProductos)
+                .andRoute(GET("/productos/{id}/existe"), productHandler::existeProducto)
+                // HEAD antes que GET: el predicado GET también acepta HEAD y cargaría el producto completo.
+                .andRoute(HEAD("/productos/{id}"), productHandler::existeProductoHead)
+                .andRoute(GET("/productos/{id}"), productHandler::obtenerProductoPorId)
+                .andRoute(PUT("/productos/{id}"), productHandler::actualizarProducto)
+                .andRoute(DELETE("/productos/{id}"), productHandler::eliminarProducto)
+                .andRoute(PATCH("/productos/{id}/stock"), productHandler::actualizarStockProducto);
+    }
+}
@@ -0,0 +1,17 @@
+package com.pragma.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas, como el barrido de reservas de stock vencidas.
+ * <p>
+ * Las tareas comparten el planificador de Spring Boot, con {@code spring.task.scheduling.pool.size} hilos:
+ * con uno solo, una reconstrucción lenta de las instantáneas del catálogo retrasaría el volcado del WAL de
+ * inventario y el relay de eventos.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
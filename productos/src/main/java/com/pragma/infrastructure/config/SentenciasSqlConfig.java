@@ -0,0 +1,71 @@
+package com.pragma.infrastructure.config;
+
+import com.pragma.infrastructure.metricas.DataSourceInstrumentado;
+import com.pragma.infrastructure.metricas.EstadisticasSentencias;
+import com.pragma.infrastructure.metricas.SentenciasEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuración de la instrumentación de las sentencias SQL ({@code productos.sql.*}).
+ * <p>
+ * Sustituye a {@code spring.jpa.show-sql}: en lugar de escribir cada sentencia en la salida
+ * estándar, el {@link DataSource} de la aplicación se envuelve en un {@link DataSourceInstrumentado}
+ * que solo registra en el log las sentencias que tardan al menos
+ * {@code productos.sql.lentas.umbral-ms}, sin los valores de sus parámetros, y acumula por forma
+ * de sentencia el número de ejecuciones y su latencia, consultables en {@code /actuator/sentencias}.
+ * Se desactiva con {@code productos.sql.instrumentacion.habilitada=false}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "productos.sql.instrumentacion.habilitada", havingValue = "true", matchIfMissing = true)
+public class SentenciasSqlConfig {
+
+    /**
+     * Acumulador de estadísticas por forma de sentencia.
+     */
+    @Bean
+    public EstadisticasSentencias estadisticasSentencias(
+            @Value("${productos.sql.estadisticas.maximo-sentencias:500}") int maximoSentencias) {
+        return new EstadisticasSentencias(maximoSentencias);
+    }
+
+    /**
+     * Endpoint de Actuator con las estadísticas por forma de sentencia.
+     */
+    @Bean
+    public SentenciasEndpoint sentenciasEndpoint(EstadisticasSentencias estadisticasSentencias) {
+        return new SentenciasEndpoint(estadisticasSentencias);
+    }
+
+    /**
+     * Post-procesador que envuelve cada {@link DataSource} JDBC en un {@link DataSourceInstrumentado}.
+     * El acumulador se resuelve al envolver el primero, para no adelantar su creación a la de los
+     * post-procesadores de beans.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static BeanPostProcessor dataSourceInstrumentadoPostProcessor(
+            ObjectProvider<EstadisticasSentencias> estadisticasSentencias,
+            @Value("${productos.sql.lentas.umbral-ms:200}") long umbralLentasMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceInstrumentado)) {
+                    return new DataSourceInstrumentado(dataSource, estadisticasSentencias.getObject(),
+                            Duration.ofMillis(umbralLentasMs));
+                }
+                return bean;
+            }
+        };
+    }
+}
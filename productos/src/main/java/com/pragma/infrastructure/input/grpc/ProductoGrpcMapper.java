@@ -0,0 +1,37 @@
+package com.pragma.infrastructure.input.grpc;
+
+import com.pragma.domain.model.Producto;
+
+/**
+ * Convierte los productos del dominio en los mensajes de la API gRPC ({@code productos.proto}).
+ * <p>
+ * Los campos opcionales del mensaje (descripción y versión) se dejan sin fijar cuando el producto
+ * no los tiene: protobuf no admite valores nulos.
+ * </p>
+ */
+public final class ProductoGrpcMapper {
+
+    private ProductoGrpcMapper() {
+    }
+
+    /**
+     * Convierte un producto del dominio en su mensaje.
+     *
+     * @param producto El producto. No debe ser nulo.
+     * @return El mensaje {@code Producto} de la API gRPC.
+     */
+    public static com.pragma.productos.grpc.v1.Producto toMensaje(Producto producto) {
+        com.pragma.productos.grpc.v1.Producto.Builder mensaje = com.pragma.productos.grpc.v1.Producto.newBuilder()
+                .setId(producto.getId())
+                .setNombre(producto.getNombre())
+                .setPrecio(producto.getPrecio())
+                .setStock(producto.getStock());
+        if (producto.getDescripcion() != null) {
+            mensaje.setDescripcion(producto.getDescripcion());
+        }
+        if (producto.getVersion() != null) {
+            mensaje.setVersion(producto.getVersion());
+        }
+        return mensaje.build();
+    }
+}
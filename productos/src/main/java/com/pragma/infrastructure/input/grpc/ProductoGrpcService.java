@@ -0,0 +1,160 @@
+package com.pragma.infrastructure.input.grpc;
+
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.ValidationException;
+import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.application.usecase.ProductUseCase;
+import com.pragma.domain.model.Producto;
+import com.pragma.productos.grpc.v1.AjusteStockRequest;
+import com.pragma.productos.grpc.v1.ExisteReply;
+import com.pragma.productos.grpc.v1.ProductoIdRequest;
+import com.pragma.productos.grpc.v1.ProductoIdsRequest;
+import com.pragma.productos.grpc.v1.ProductoLeido;
+import com.pragma.productos.grpc.v1.ProductosServiceGrpc;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de la API interna gRPC de productos ({@code productos.proto}) sobre {@link ProductInputPort}.
+ * <p>
+ * Ofrece a otros servicios (por ejemplo, ventas) las consultas por ID, de existencia y los ajustes de stock
+ * sin el coste de HTTP/1.1 y JSON: las llamadas comparten una conexión HTTP/2 y los mensajes son protobuf.
+ * Usa los mismos casos de uso que el controlador REST, con su caché, validaciones y eventos.
+ * </p>
+ * <p>
+ * Las excepciones de la aplicación se devuelven como estados de gRPC: {@code INVALID_ARGUMENT} si los
+ * datos no son válidos, {@code NOT_FOUND} si el producto no existe y {@code FAILED_PRECONDITION} si el
+ * stock quedaría negativo.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ProductoGrpcService extends ProductosServiceGrpc.ProductosServiceImplBase {
+
+    private final ProductInputPort productInputPort;
+
+    /**
+     * Obtiene un producto por su ID.
+     *
+     * @param request El ID del producto.
+     * @param respuesta El observador al que se entrega el producto.
+     */
+    @Override
+    public void getProduct(ProductoIdRequest request, StreamObserver<com.pragma.productos.grpc.v1.Producto> respuesta) {
+        responder(respuesta, () -> ProductoGrpcMapper.toMensaje(productInputPort.obtenerProductoPorId(request.getId())));
+    }
+
+    /**
+     * Obtiene varios productos con una única consulta y los entrega como un {@link ProductoLeido} por ID,
+     * en el orden recibido. Los IDs que no existen se responden sin producto.
+     * <p>
+     * El envío respeta el control de flujo de HTTP/2: solo se escriben mensajes mientras la llamada está
+     * lista ({@code isReady()}) y se continúa desde su {@code onReadyHandler}, de modo que un cliente lento
+     * no hace crecer sin límite el búfer de salida. Si el cliente cancela la llamada, se deja de enviar.
+     * </p>
+     *
+     * @param request Los IDs de los productos, como máximo {@value ProductUseCase#LIMITE_MAXIMO_LOTE}.
+     * @param respuesta El observador al que se entregan los productos.
+     */
+    @Override
+    public void batchGetProducts(ProductoIdsRequest request, StreamObserver<ProductoLeido> respuesta) {
+        Map<Long, Producto> porId;
+        try {
+            porId = productInputPort.obtenerProductosPorIds(request.getIdsList()).stream()
+                    .collect(Collectors.toMap(Producto::getId, Function.identity(), (a, b) -> a));
+        } catch (RuntimeException e) {
+            respuesta.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+        ServerCallStreamObserver<ProductoLeido> llamada = (ServerCallStreamObserver<ProductoLeido>) respuesta;
+        Iterator<Long> pendientes = request.getIdsList().iterator();
+        Runnable enviar = new Runnable() {
+            private boolean terminado;
+
+            @Override
+            public void run() {
+                while (!terminado && llamada.isReady() && pendientes.hasNext()) {
+                    long id = pendientes.next();
+                    ProductoLeido.Builder leido = ProductoLeido.newBuilder().setId(id);
+                    Producto producto = porId.get(id);
+                    if (producto != null) {
+                        leido.setProducto(ProductoGrpcMapper.toMensaje(producto));
+                    }
+                    llamada.onNext(leido.build());
+                }
+                if (!terminado && !pendientes.hasNext()) {
+                    terminado = true;
+                    llamada.onCompleted();
+                }
+            }
+        };
+        llamada.setOnCancelHandler(() -> log.debug("Llamada BatchGetProducts cancelada por el cliente"));
+        llamada.setOnReadyHandler(enviar);
+        // La llamada puede estar ya lista: su primer aviso pudo llegar antes de registrar el manejador.
+        enviar.run();
+    }
+
+    /**
+     * Indica si existe un producto, sin cargarlo.
+     *
+     * @param request El ID del producto.
+     * @param respuesta El observador al que se entrega el resultado.
+     */
+    @Override
+    public void exists(ProductoIdRequest request, StreamObserver<ExisteReply> respuesta) {
+        responder(respuesta, () -> ExisteReply.newBuilder().setExiste(productInputPort.existeProducto(request.getId())).build());
+    }
+
+    /**
+     * Suma o resta una cantidad al stock de un producto en una sola operación atómica.
+     *
+     * @param request El ID del producto y la cantidad a sumar (positiva) o restar (negativa).
+     * @param respuesta El observador al que se entrega el producto con el stock actualizado.
+     */
+    @Override
+    public void adjustStock(AjusteStockRequest request, StreamObserver<com.pragma.productos.grpc.v1.Producto> respuesta) {
+        responder(respuesta, () -> {
+            Producto actualizado = productInputPort.actualizarStockProducto(request.getId(), request.getCantidad());
+            return ProductoGrpcMapper.toMensaje(actualizado);
+        });
+    }
+
+    private static <T> void responder(StreamObserver<T> respuesta, Supplier<T> operacion) {
+        T resultado;
+        try {
+            resultado = operacion.get();
+        } catch (RuntimeException e) {
+            respuesta.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+        respuesta.onNext(resultado);
+        respuesta.onCompleted();
+    }
+
+    /**
+     * Traduce una excepción de la aplicación al estado de gRPC equivalente a su código HTTP en la API REST.
+     */
+    static Status toStatus(RuntimeException e) {
+        if (e instanceof ValidationException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        if (e instanceof ProductoNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage());
+        }
+        if (e instanceof StockUpdateException) {
+            return Status.FAILED_PRECONDITION.withDescription(e.getMessage());
+        }
+        log.error("Error no controlado en la API gRPC de productos", e);
+        return Status.INTERNAL.withDescription("Error interno del servicio de productos");
+    }
+}
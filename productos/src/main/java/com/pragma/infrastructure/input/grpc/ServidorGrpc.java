@@ -0,0 +1,87 @@
+package com.pragma.infrastructure.input.grpc;
+
+import io.grpc.Server;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arranca y detiene el servidor gRPC de productos con el contexto de Spring.
+ * <p>
+ * Escucha en su propio puerto, independiente del de la API REST. Al detenerse deja de aceptar llamadas
+ * nuevas y espera a que terminen las que están en curso durante {@code periodoGracia}; pasado ese tiempo
+ * las cancela.
+ * </p>
+ */
+@Slf4j
+public class ServidorGrpc implements SmartLifecycle {
+
+    private final Server servidor;
+    private final Duration periodoGracia;
+    private volatile boolean enEjecucion;
+
+    /**
+     * Crea el ciclo de vida de un servidor gRPC aún no arrancado.
+     *
+     * @param servidor El servidor con sus servicios registrados.
+     * @param periodoGracia El tiempo máximo de espera de las llamadas en curso al detenerse.
+     */
+    public ServidorGrpc(Server servidor, Duration periodoGracia) {
+        this.servidor = servidor;
+        this.periodoGracia = periodoGracia;
+    }
+
+    /**
+     * Arranca el servidor.
+     *
+     * @throws UncheckedIOException Si no se puede abrir el puerto.
+     */
+    @Override
+    public void start() {
+        try {
+            servidor.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo arrancar el servidor gRPC de productos", e);
+        }
+        enEjecucion = true;
+        log.info("Servidor gRPC de productos escuchando en el puerto {}", servidor.getPort());
+    }
+
+    /**
+     * Detiene el servidor, esperando a las llamadas en curso como máximo el periodo de gracia.
+     */
+    @Override
+    public void stop() {
+        servidor.shutdown();
+        try {
+            if (!servidor.awaitTermination(periodoGracia.toMillis(), TimeUnit.MILLISECONDS)) {
+                servidor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            servidor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        enEjecucion = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return enEjecucion;
+    }
+
+    /**
+     * Obtiene el puerto en que escucha el servidor; útil cuando se configura el puerto 0.
+     *
+     * @return El puerto, o -1 si el servidor no está arrancado.
+     */
+    public int getPuerto() {
+        return servidor.getPort();
+    }
+}
@@ -0,0 +1,258 @@
+package com.pragma.infrastructure.input.reactive;
+
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.ValidationException;
+import com.pragma.application.exception.VersionConflictoException;
+import com.pragma.application.port.input.ReactiveProductInputPort;
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.input.rest.dto.ProductPageResponseDto;
+import com.pragma.infrastructure.input.rest.dto.ProductRequestDto;
+import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.input.rest.mapper.ProductCursorMapper;
+import com.pragma.infrastructure.input.rest.mapper.ProductEtagMapper;
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Handlers funcionales de WebFlux para la API de productos del perfil {@code reactivo}.
+ * <p>
+ * Exponen los mismos endpoints, DTOs, ETags y códigos de estado que
+ * {@link com.pragma.infrastructure.input.rest.controller.ProductController} para las operaciones
+ * individuales y de listado, sobre {@link ReactiveProductInputPort}. Ningún handler bloquea el hilo
+ * del bucle de eventos: las respuestas se escriben cuando la base de datos devuelve los datos.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ProductHandler {
+
+    private final ReactiveProductInputPort reactiveProductInputPort;
+    private final ProductRestMapper productRestMapper;
+    private final Validator validator;
+
+    /**
+     * Crea un nuevo producto: 201 (Created) con el producto creado, o 400 si no es válido.
+     *
+     * @param request La solicitud con un {@link ProductRequestDto} en el cuerpo.
+     * @return La respuesta.
+     */
+    public Mono<ServerResponse> crearProducto(ServerRequest request) {
+        return leerProducto(request)
+                .flatMap(dto -> reactiveProductInputPort.crearProducto(productRestMapper.toProducto(dto)))
+                .onErrorMap(ProductHandler::aEstadoHttp)
+                .flatMap(creado -> ServerResponse.status(HttpStatus.CREATED)
+                        .bodyValue(productRestMapper.toProductResponseDto(creado)));
+    }
+
+    /**
+     * Obtiene un producto por su ID, con el mismo ETag que el controlador REST ({@code "<versión>-<stock>"});
+     * 304 (Not Modified) sin serializarlo si la copia del cliente está vigente, o 404 si no existe.
+     *
+     * @param request La solicitud con el ID en la ruta.
+     * @return La respuesta.
+     */
+    public Mono<ServerResponse> obtenerProductoPorId(ServerRequest request) {
+        return Mono.defer(() -> reactiveProductInputPort.obtenerProductoPorId(idDeRuta(request)))
+                .onErrorMap(ProductHandler::aEstadoHttp)
+                .flatMap(producto -> {
+                    String etag = ProductEtagMapper.toEtag(producto);
+                    if (ProductEtagMapper.coincide(request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                        return noModificado(etag);
+                    }
+                    return conEtag(ServerResponse.ok(), etag).bodyValue(productRestMapper.toProductResponseDto(producto));
+                });
+    }
+
+    /**
+     * Obtiene todos los productos o, si la solicitud incluye {@code limit}, una página de productos
+     * con paginación por cursor; en ambos casos con el ETag del catálogo.
+     *
+     * @param request La solicitud, con {@code limit} y {@code after} opcionales.
+     * @return La respuesta.
+     */
+    public Mono<ServerResponse> obtenerProductos(ServerRequest request) {
+        return Mono.defer(() -> {
+            Optional<String> limit = request.queryParam("limit");
+            Long despuesDeId = limit.isPresent() ? cursor(request) : null;
+            String etag = ProductEtagMapper.toEtag(reactiveProductInputPort.obtenerVersionCatalogo());
+            if (ProductEtagMapper.coincide(request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                return noModificado(etag);
+            }
+            if (limit.isEmpty()) {
+                return conEtag(ServerResponse.ok(), etag).body(
+                        reactiveProductInputPort.obtenerTodosLosProductos().map(productRestMapper::toProductResponseDto),
+                        ProductResponseDto.class);
+            }
+            return reactiveProductInputPort.obtenerProductosPaginados(despuesDeId, entero(limit.get(), "limit"))
+                    .flatMap(pagina -> {
+                        ProductPageResponseDto respuesta = new ProductPageResponseDto();
+                        respuesta.setItems(productRestMapper.toProductResponseDtoList(pagina.getProductos()));
+                        respuesta.setNextCursor(ProductCursorMapper.toCursor(pagina.getSiguienteCursor()));
+                        return conEtag(ServerResponse.ok(), etag).bodyValue(respuesta);
+                    });
+        }).onErrorMap(ProductHandler::aEstadoHttp);
+    }
+
+    /**
+     * Actualiza un producto existente: 200 con el producto actualizado y su nuevo ETag, 400 si los datos
+     * no son válidos o 404 si no existe. Con {@code If-Match}, como en el controlador REST, solo se
+     * actualiza si el producto sigue en la versión de ese ETag; si no, o si la cabecera no contiene un
+     * único ETag fuerte de producto, 412 (Precondition Failed).
+     *
+     * @param request La solicitud con el ID en la ruta, un {@link ProductRequestDto} en el cuerpo y,
+     *                opcionalmente, {@code If-Match}.
+     * @return La respuesta.
+     */
+    public Mono<ServerResponse> actualizarProducto(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long id = idDeRuta(request);
+            Long version = versionDeIfMatch(request);
+            return leerProducto(request).flatMap(dto -> {
+                Producto producto = productRestMapper.toProducto(dto);
+                producto.setVersion(version);
+                return reactiveProductInputPort.actualizarProducto(id, producto);
+            });
+        }).onErrorMap(ProductHandler::aEstadoHttp)
+                .flatMap(actualizado -> conEtag(ServerResponse.ok(), ProductEtagMapper.toEtag(actualizado))
+                        .bodyValue(productRestMapper.toProductResponseDto(actualizado)));
+    }
+
+    /**
+     * Elimina un producto: 204 (No Content), o 404 si no existe.
+     *
+     * @param request La solicitud con el ID en la ruta.
+     * @return La respuesta.
+     */
+    public Mono<ServerResponse> eliminarProducto(ServerRequest request) {
+        return Mono.defer(() -> reactiveProductInputPort.eliminarProductoPorId(idDeRuta(request)))
+                .onErrorMap(ProductHandler::aEstadoHttp)
+                .then(ServerResponse.noContent().build());
+    }
+
+    /**
+     * Suma o resta {@code cantidad} al stock de un producto: 200 con el producto actualizado,
+     * 400 si el stock resultante sería negativo o 404 si no existe.
+     *
+     * @param request La solicitud con el ID en la ruta y el parámetro {@code cantidad}.
+     * @return La respuesta.
+     */
+    public Mono<ServerResponse> actualizarStockProducto(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long id = idDeRuta(request);
+            Integer cantidad = entero(request.queryParam("cantidad")
+                    .orElseThrow(() -> new ValidationException("El parámetro 'cantidad' es obligatorio.")), "cantidad");
+            return reactiveProductInputPort.actualizarStockProducto(id, cantidad);
+        }).onErrorMap(ProductHandler::aEstadoHttp)
+                .flatMap(actualizado -> ServerResponse.ok().bodyValue(productRestMapper.toProductResponseDto(actualizado)));
+    }
+
+    /**
+     * Indica si un producto existe, con {@code true} o {@code false} en el cuerpo.
+     *
+     * @param request La solicitud con el ID en la ruta.
+     * @return La respuesta.
+     */
+    public Mono<ServerResponse> existeProducto(ServerRequest request) {
+        return Mono.defer(() -> reactiveProductInputPort.existeProducto(idDeRuta(request)))
+                .onErrorMap(ProductHandler::aEstadoHttp)
+                .flatMap(existe -> ServerResponse.ok().bodyValue(existe));
+    }
+
+    /**
+     * Indica si un producto existe sin devolver cuerpo: 200 si existe o 404 si no.
+     *
+     * @param request La solicitud con el ID en la ruta.
+     * @return La respuesta.
+     */
+    public Mono<ServerResponse> existeProductoHead(ServerRequest request) {
+        return Mono.defer(() -> reactiveProductInputPort.existeProducto(idDeRuta(request)))
+                .onErrorMap(ProductHandler::aEstadoHttp)
+                .flatMap(existe -> existe ? ServerResponse.ok().build() : ServerResponse.notFound().build());
+    }
+
+    private Mono<ProductRequestDto> leerProducto(ServerRequest request) {
+        return request.bodyToMono(ProductRequestDto.class)
+                .switchIfEmpty(Mono.error(() -> new ValidationException("El producto no puede ser nulo.")))
+                .doOnNext(dto -> {
+                    Set<ConstraintViolation<ProductRequestDto>> violaciones = validator.validate(dto);
+                    if (!violaciones.isEmpty()) {
+                        throw new ValidationException(violaciones.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining(" ")));
+                    }
+                });
+    }
+
+    private static Mono<ServerResponse> noModificado(String etag) {
+        return conEtag(ServerResponse.status(HttpStatus.NOT_MODIFIED), etag).build();
+    }
+
+    private static ServerResponse.BodyBuilder conEtag(ServerResponse.BodyBuilder respuesta, String etag) {
+        return etag == null ? respuesta : respuesta.eTag(etag);
+    }
+
+    /**
+     * Obtiene la versión exigida por {@code If-Match}, o {@code null} si no se envía o es {@code *}.
+     */
+    private static Long versionDeIfMatch(ServerRequest request) {
+        String ifMatch = request.headers().firstHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        return ProductEtagMapper.toVersion(ifMatch).orElseThrow(() -> new ResponseStatusException(
+                HttpStatus.PRECONDITION_FAILED, "If-Match debe contener un único ETag fuerte de producto."));
+    }
+
+    private static Long idDeRuta(ServerRequest request) {
+        try {
+            return Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            throw new ValidationException("El ID del producto no es válido.");
+        }
+    }
+
+    private static Long cursor(ServerRequest request) {
+        try {
+            return ProductCursorMapper.toId(request.queryParam("after").orElse(null));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage());
+        }
+    }
+
+    private static int entero(String valor, String parametro) {
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("El parámetro '" + parametro + "' debe ser un número entero.");
+        }
+    }
+
+    /**
+     * Traduce las excepciones de la aplicación a los mismos códigos de estado que el controlador REST.
+     */
+    private static Throwable aEstadoHttp(Throwable error) {
+        if (error instanceof ValidationException || error instanceof StockUpdateException) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, error.getMessage(), error);
+        }
+        if (error instanceof ProductoNotFoundException) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, error.getMessage(), error);
+        }
+        if (error instanceof VersionConflictoException) {
+            return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, error.getMessage(), error);
+        }
+        return error;
+    }
+}
@@ -0,0 +1,136 @@
+package com.pragma.infrastructure.input.rest.catalogo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.input.rest.mapper.ProductEtagMapper;
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mantiene la {@link InstantaneaCatalogo} que sirve {@code GET /productos}.
+ * <p>
+ * La instantánea se construye una vez por versión del catálogo: se leen los productos, se mapean a
+ * {@code ProductResponseDto}, se serializan con el {@link ObjectMapper} de la aplicación y se comprimen.
+ * Cada escritura de productos cambia la versión del catálogo y {@code CatalogoPrecomprimidoScheduler}
+ * reconstruye la instantánea en segundo plano; solo esa tarea reconstruye. Las solicitudes sirven la
+ * última instantánea construida aunque la versión ya haya cambiado (stale-while-revalidate), con el
+ * ETag de la versión con la que se construyó, y nunca esperan a una reconstrucción salvo en el arranque,
+ * cuando aún no hay ninguna.
+ * </p>
+ * <p>
+ * Como también los movimientos de stock cambian la versión, la tarea no reconstruye más de una vez cada
+ * {@code productos.catalogo.instantanea.intervalo-minimo-ms}: con escrituras continuas el catálogo servido
+ * se retrasa como mucho ese intervalo más lo que dure una reconstrucción.
+ * </p>
+ * <p>
+ * Con las versiones desactivadas ({@code productos.etag.habilitado=false}) no se puede saber si la
+ * instantánea sigue vigente: cada solicitud lee y serializa el catálogo, sin comprimirlo. Como el
+ * controlador REST, solo se registra en la pila de servlets.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CatalogoPrecomprimido {
+
+    private final ProductInputPort productInputPort;
+    private final ProductRestMapper productRestMapper;
+    private final ObjectMapper objectMapper;
+    private final long intervaloMinimoNanos;
+    private volatile InstantaneaCatalogo instantanea;
+    private volatile long construidaEn;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param productInputPort El puerto de entrada con el que se lee el catálogo y su versión.
+     * @param productRestMapper El mapper de productos a DTOs de respuesta.
+     * @param objectMapper El serializador JSON de la aplicación.
+     * @param intervaloMinimoMs El tiempo mínimo entre dos reconstrucciones, en milisegundos.
+     */
+    public CatalogoPrecomprimido(ProductInputPort productInputPort, ProductRestMapper productRestMapper,
+                                 ObjectMapper objectMapper,
+                                 @Value("${productos.catalogo.instantanea.intervalo-minimo-ms:2000}") long intervaloMinimoMs) {
+        this.productInputPort = productInputPort;
+        this.productRestMapper = productRestMapper;
+        this.objectMapper = objectMapper;
+        this.intervaloMinimoNanos = intervaloMinimoMs * 1_000_000;
+    }
+
+    /**
+     * Obtiene la última instantánea del catálogo, que puede ser de una versión anterior a la vigente mientras
+     * la tarea periódica la reconstruye. Solo si aún no existe ninguna se construye en la solicitud.
+     *
+     * @return La última instantánea construida.
+     */
+    public InstantaneaCatalogo vigente() {
+        InstantaneaCatalogo actual = instantanea;
+        if (actual != null) {
+            return actual;
+        }
+        if (productInputPort.obtenerVersionCatalogo().isEmpty()) {
+            return construir(null, false);
+        }
+        return reconstruir();
+    }
+
+    /**
+     * Reconstruye la instantánea si la versión del catálogo cambió desde la última construcción y ya pasó el
+     * intervalo mínimo desde ella. Sin versiones disponibles no hace nada.
+     *
+     * @return {@code true} si se construyó una instantánea nueva.
+     */
+    public boolean actualizar() {
+        Optional<String> version = productInputPort.obtenerVersionCatalogo();
+        InstantaneaCatalogo actual = instantanea;
+        if (version.isEmpty() || actual != null && version.get().equals(actual.getVersion())) {
+            return false;
+        }
+        if (actual != null && System.nanoTime() - construidaEn < intervaloMinimoNanos) {
+            return false;
+        }
+        return reconstruir() != actual;
+    }
+
+    /**
+     * La tarea periódica y las solicitudes del arranque que llegan a la vez comparten una única
+     * reconstrucción: las que esperan el monitor encuentran ya la instantánea de la versión vigente.
+     */
+    private synchronized InstantaneaCatalogo reconstruir() {
+        // La versión se lee antes que los productos: el contenido es al menos tan reciente como ella.
+        Optional<String> version = productInputPort.obtenerVersionCatalogo();
+        if (version.isEmpty()) {
+            return construir(null, false);
+        }
+        InstantaneaCatalogo actual = instantanea;
+        if (actual != null && version.get().equals(actual.getVersion())) {
+            return actual;
+        }
+        InstantaneaCatalogo nueva = construir(version.get(), true);
+        construidaEn = System.nanoTime();
+        instantanea = nueva;
+        log.debug("Instantánea del catálogo reconstruida: versión {}, {} productos", nueva.getVersion(), nueva.getProductos());
+        return nueva;
+    }
+
+    private InstantaneaCatalogo construir(String version, boolean comprimir) {
+        List<Producto> productos = productInputPort.obtenerTodosLosProductos();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(productRestMapper.toProductResponseDtoList(productos));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return InstantaneaCatalogo.de(version, ProductEtagMapper.toEtag(Optional.ofNullable(version)),
+                productos.size(), json, comprimir);
+    }
+}
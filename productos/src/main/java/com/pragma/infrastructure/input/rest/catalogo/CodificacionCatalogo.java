@@ -0,0 +1,103 @@
+package com.pragma.infrastructure.input.rest.catalogo;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Codificaciones de contenido con las que se guarda y se sirve la instantánea del catálogo.
+ * El orden de declaración es la preferencia del servidor cuando el cliente acepta varias con la misma calidad.
+ */
+public enum CodificacionCatalogo {
+
+    /**
+     * gzip (RFC 1952).
+     */
+    GZIP("gzip"),
+
+    /**
+     * deflate: flujo zlib (RFC 1950).
+     */
+    DEFLATE("deflate"),
+
+    /**
+     * Sin comprimir.
+     */
+    IDENTIDAD("identity");
+
+    private final String token;
+
+    CodificacionCatalogo(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Obtiene el valor de la codificación en las cabeceras {@code Accept-Encoding} y {@code Content-Encoding}.
+     *
+     * @return El token de la codificación.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Elige la codificación de la respuesta según la cabecera {@code Accept-Encoding} del cliente.
+     * Gana la de mayor calidad ({@code q}); {@code *} se aplica a las codificaciones no nombradas y
+     * {@code identity} es aceptable salvo que se excluya expresamente. Si el cliente no acepta
+     * ninguna, se responde sin comprimir.
+     *
+     * @param acceptEncoding El valor de la cabecera, o {@code null} si no viene.
+     * @return La codificación con la que responder.
+     */
+    public static CodificacionCatalogo negociar(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTIDAD;
+        }
+        Map<CodificacionCatalogo, Double> calidades = new EnumMap<>(CodificacionCatalogo.class);
+        Double comodin = null;
+        for (String elemento : acceptEncoding.split(",")) {
+            String[] partes = elemento.split(";");
+            String nombre = partes[0].trim().toLowerCase(Locale.ROOT);
+            double calidad = calidad(partes);
+            if (nombre.equals("*")) {
+                comodin = calidad;
+            } else if (nombre.equals("x-gzip")) {
+                calidades.put(GZIP, calidad);
+            } else {
+                for (CodificacionCatalogo codificacion : values()) {
+                    if (codificacion.token.equals(nombre)) {
+                        calidades.put(codificacion, calidad);
+                    }
+                }
+            }
+        }
+        CodificacionCatalogo elegida = IDENTIDAD;
+        double mejor = 0;
+        for (CodificacionCatalogo codificacion : values()) {
+            Double calidad = calidades.get(codificacion);
+            if (calidad == null) {
+                calidad = comodin != null ? comodin : codificacion == IDENTIDAD ? 0.001 : 0;
+            }
+            if (calidad > mejor) {
+                mejor = calidad;
+                elegida = codificacion;
+            }
+        }
+        return elegida;
+    }
+
+    private static double calidad(String[] partes) {
+        for (int i = 1; i < partes.length; i++) {
+            String parametro = partes[i].trim();
+            if (parametro.length() > 2 && (parametro.charAt(0) == 'q' || parametro.charAt(0) == 'Q')
+                    && parametro.charAt(1) == '=') {
+                try {
+                    return Math.max(0, Math.min(1, Double.parseDouble(parametro.substring(2).trim())));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
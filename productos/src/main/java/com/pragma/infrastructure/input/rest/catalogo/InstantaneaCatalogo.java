@@ -0,0 +1,119 @@
+package com.pragma.infrastructure.input.rest.catalogo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Catálogo completo ya serializado como JSON, sin comprimir y en cada {@link CodificacionCatalogo},
+ * tal como se envía en la respuesta de {@code GET /productos}.
+ * <p>
+ * Es inmutable: los arreglos de bytes se comparten entre todas las respuestas que la sirven y
+ * nunca se modifican. Una codificación solo se guarda si reduce el tamaño del JSON; si no, se sirve
+ * el JSON sin comprimir.
+ * </p>
+ */
+public final class InstantaneaCatalogo {
+
+    private final String version;
+    private final String etag;
+    private final int productos;
+    private final Map<CodificacionCatalogo, byte[]> cuerpos;
+
+    private InstantaneaCatalogo(String version, String etag, int productos, Map<CodificacionCatalogo, byte[]> cuerpos) {
+        this.version = version;
+        this.etag = etag;
+        this.productos = productos;
+        this.cuerpos = cuerpos;
+    }
+
+    /**
+     * Crea una instantánea a partir del JSON del catálogo.
+     *
+     * @param version La versión del catálogo con la que se leyó, o {@code null} si no hay versiones.
+     * @param etag El ETag de esa versión, o {@code null}.
+     * @param productos El número de productos del catálogo.
+     * @param json El catálogo serializado.
+     * @param comprimir Si se preparan además las variantes comprimidas.
+     * @return La instantánea.
+     */
+    static InstantaneaCatalogo de(String version, String etag, int productos, byte[] json, boolean comprimir) {
+        Map<CodificacionCatalogo, byte[]> cuerpos = new EnumMap<>(CodificacionCatalogo.class);
+        cuerpos.put(CodificacionCatalogo.IDENTIDAD, json);
+        if (comprimir) {
+            for (CodificacionCatalogo codificacion : CodificacionCatalogo.values()) {
+                if (codificacion != CodificacionCatalogo.IDENTIDAD) {
+                    byte[] comprimido = comprimir(json, codificacion);
+                    if (comprimido.length < json.length) {
+                        cuerpos.put(codificacion, comprimido);
+                    }
+                }
+            }
+        }
+        return new InstantaneaCatalogo(version, etag, productos, cuerpos);
+    }
+
+    private static byte[] comprimir(byte[] json, CodificacionCatalogo codificacion) {
+        ByteArrayOutputStream destino = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (OutputStream salida = codificacion == CodificacionCatalogo.GZIP
+                ? new GZIPOutputStream(destino, 8192)
+                : new DeflaterOutputStream(destino)) {
+            salida.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return destino.toByteArray();
+    }
+
+    /**
+     * Obtiene la versión del catálogo con la que se construyó.
+     *
+     * @return La versión, o {@code null} si no hay versiones disponibles.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Obtiene el ETag del catálogo que se envía con la instantánea.
+     *
+     * @return El ETag entre comillas, o {@code null} si no hay versión.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Obtiene el número de productos del catálogo.
+     *
+     * @return El número de productos.
+     */
+    public int getProductos() {
+        return productos;
+    }
+
+    /**
+     * Resuelve la codificación con la que se sirve la instantánea a partir de la que pide el cliente.
+     *
+     * @param solicitada La codificación negociada con {@code Accept-Encoding}.
+     * @return La codificación solicitada si la instantánea la tiene, o {@link CodificacionCatalogo#IDENTIDAD}.
+     */
+    public CodificacionCatalogo disponible(CodificacionCatalogo solicitada) {
+        return cuerpos.containsKey(solicitada) ? solicitada : CodificacionCatalogo.IDENTIDAD;
+    }
+
+    /**
+     * Obtiene el cuerpo de la respuesta en una codificación. El arreglo es compartido y no debe modificarse.
+     *
+     * @param codificacion Una codificación devuelta por {@link #disponible(CodificacionCatalogo)}.
+     * @return Los bytes del catálogo en esa codificación.
+     */
+    public byte[] cuerpo(CodificacionCatalogo codificacion) {
+        return cuerpos.get(disponible(codificacion));
+    }
+}
@@ -1,23 +1,52 @@
 package com.pragma.infrastructure.input.rest.controller;
 
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.ValidationException;
+import com.pragma.application.exception.VersionConflictoException;
 import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.PaginaProductos;
 import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.ResultadoBusqueda;
+import com.pragma.infrastructure.input.rest.catalogo.CatalogoPrecomprimido;
+import com.pragma.infrastructure.input.rest.catalogo.CodificacionCatalogo;
+import com.pragma.infrastructure.input.rest.catalogo.InstantaneaCatalogo;
+import com.pragma.infrastructure.input.rest.dto.ProductBatchItemResultDto;
+import com.pragma.infrastructure.input.rest.dto.ProductBatchResponseDto;
+import com.pragma.infrastructure.input.rest.dto.ProductPageResponseDto;
+import com.pragma.infrastructure.input.rest.dto.ProductSearchResponseDto;
+import com.pragma.infrastructure.input.rest.dto.ProductSuggestionDto;
+import com.pragma.infrastructure.input.rest.export.ProductExportFormat;
+import com.pragma.infrastructure.input.rest.export.ProductExportWriter;
+import com.pragma.infrastructure.input.rest.formato.FormatoBinario;
 import com.pragma.infrastructure.input.rest.dto.ProductRequestDto;
 import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.input.rest.mapper.ProductCursorMapper;
+import com.pragma.infrastructure.input.rest.mapper.ProductEtagMapper;
 import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
 import com.pragma.application.exception.ProductoNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Controlador REST para la gestión de productos.
@@ -26,15 +55,32 @@ import java.util.List;
  * sobre los productos, así como para actualizar su stock.
  * Utiliza {@link ProductInputPort} para interactuar con la lógica de negocio
  * y {@link ProductRestMapper} para el mapeo entre DTOs y el modelo de dominio.
+ * <p>
+ * Las lecturas de un producto y del catálogo devuelven un ETag fuerte con la versión del producto o del
+ * catálogo. Si la solicitud trae en {@code If-None-Match} la versión vigente, se responde 304 (Not Modified)
+ * comprobando solo la versión, sin cargar ni serializar los productos.
+ * </p>
+ * <p>
+ * Además de JSON, las solicitudes y respuestas se pueden enviar en Smile o CBOR ({@link FormatoBinario}),
+ * elegidos por negociación de contenido con {@code Accept} y {@code Content-Type}.
+ * </p>
+ * <p>
+ * Solo se registra en la pila de servlets; con el perfil {@code reactivo} la API la sirven los
+ * handlers de {@code com.pragma.infrastructure.input.reactive}.
+ * </p>
  */
 @RestController
 @RequestMapping("/productos")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Tag(name = "Productos", description = "API para la gestión de productos")
 public class ProductController {
 
     private final ProductInputPort productInputPort;
     private final ProductRestMapper productRestMapper;
+    private final ProductExportWriter productExportWriter;
+    private final CatalogoPrecomprimido catalogoPrecomprimido;
+    private final Validator validator;
 
     /**
      * Crea un nuevo producto.
@@ -56,11 +102,72 @@ public class ProductController {
         return new ResponseEntity<>(productRestMapper.toProductResponseDto(productoCreado), HttpStatus.CREATED);
     }
 
+    /**
+     * Crea un conjunto de productos en una única solicitud.
+     * Todos los elementos se validan antes de insertar ninguno: si alguno no es válido
+     * no se crea ningún producto y la respuesta indica los errores de cada elemento rechazado.
+     * Si todos son válidos se insertan en lotes JDBC dentro de una misma transacción.
+     *
+     * @param productRequestDtos Lista de DTOs con la información de los productos a crear.
+     * @return ResponseEntity con el resultado de cada elemento y estado HTTP 201 (Created),
+     * o estado HTTP 400 (Bad Request) si algún elemento no es válido.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Crear productos por lotes",
+            description = "Crea varios productos en una sola solicitud. Si algún producto no es válido no se crea ninguno.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Productos creados exitosamente",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductBatchResponseDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Algún producto del lote es inválido",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductBatchResponseDto.class)))
+            })
+    public ResponseEntity<ProductBatchResponseDto> crearProductos(@RequestBody List<ProductRequestDto> productRequestDtos) {
+        if (productRequestDtos == null || productRequestDtos.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "La lista de productos no puede estar vacía.");
+        }
+        List<ProductBatchItemResultDto> resultados = new ArrayList<>(productRequestDtos.size());
+        boolean hayRechazados = false;
+        for (int i = 0; i < productRequestDtos.size(); i++) {
+            List<String> errores = validar(productRequestDtos.get(i));
+            ProductBatchItemResultDto.Estado estado = errores.isEmpty()
+                    ? ProductBatchItemResultDto.Estado.NO_PROCESADO : ProductBatchItemResultDto.Estado.RECHAZADO;
+            hayRechazados |= !errores.isEmpty();
+            resultados.add(new ProductBatchItemResultDto(i, estado, null, errores));
+        }
+        if (hayRechazados) {
+            return ResponseEntity.badRequest().body(new ProductBatchResponseDto(resultados));
+        }
+
+        List<Producto> creados = productInputPort.crearProductos(productRestMapper.toProductoList(productRequestDtos));
+        for (int i = 0; i < creados.size(); i++) {
+            ProductBatchItemResultDto resultado = resultados.get(i);
+            resultado.setEstado(ProductBatchItemResultDto.Estado.CREADO);
+            resultado.setProducto(productRestMapper.toProductResponseDto(creados.get(i)));
+        }
+        return new ResponseEntity<>(new ProductBatchResponseDto(resultados), HttpStatus.CREATED);
+    }
+
+    private List<String> validar(ProductRequestDto productRequestDto) {
+        if (productRequestDto == null) {
+            return List.of("El producto no puede ser nulo.");
+        }
+        Set<ConstraintViolation<ProductRequestDto>> violaciones = validator.validate(productRequestDto);
+        List<String> errores = new ArrayList<>(violaciones.size());
+        for (ConstraintViolation<ProductRequestDto> violacion : violaciones) {
+            errores.add(violacion.getMessage());
+        }
+        return errores;
+    }
+
     /**
      * Obtiene un producto por su ID.
+     * El ETag se obtiene del propio producto, que se sirve desde la caché, por lo que una copia
+     * vigente se confirma sin acceder a la base de datos ni serializar el producto.
      *
      * @param id El ID del producto a obtener.
-     * @return ResponseEntity con el producto encontrado y estado HTTP 200 (OK),
+     * @param ifNoneMatch ETags de la copia que ya tiene el cliente, si la tiene.
+     * @return ResponseEntity con el producto encontrado, su ETag y estado HTTP 200 (OK),
+     * estado HTTP 304 (Not Modified) si la copia del cliente está vigente,
      * o estado HTTP 404 (Not Found) si el producto no existe.
      */
     @GetMapping("/{id}")
@@ -69,54 +176,258 @@ public class ProductController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Producto encontrado",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDto.class))),
+                    @ApiResponse(responseCode = "304", description = "El producto no ha cambiado"),
                     @ApiResponse(responseCode = "404", description = "Producto no encontrado")
             })
-    public ResponseEntity<ProductResponseDto> obtenerProductoPorId(@PathVariable Long id) {
+    public ResponseEntity<ProductResponseDto> obtenerProductoPorId(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Producto producto = productInputPort.obtenerProductoPorId(id);
-        return ResponseEntity.ok(productRestMapper.toProductResponseDto(producto));
+        String etag = ProductEtagMapper.toEtag(producto);
+        if (ProductEtagMapper.coincide(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(productRestMapper.toProductResponseDto(producto));
     }
 
     /**
      * Obtiene todos los productos.
+     * <p>
+     * El catálogo se sirve desde su instantánea ya serializada y comprimida ({@link CatalogoPrecomprimido}),
+     * en la codificación que pida {@code Accept-Encoding} (gzip, deflate o sin comprimir): la solicitud
+     * no mapea, no serializa ni comprime nada mientras el catálogo no cambie.
+     * </p>
+     * <p>
+     * Si {@code Accept} prefiere un {@link FormatoBinario} (Smile o CBOR), la lista se lee y se serializa en
+     * ese formato en cada solicitud, sin instantánea ni compresión.
+     * </p>
      *
-     * @return ResponseEntity con la lista de productos y estado HTTP 200 (OK).
+     * @param ifNoneMatch ETags de la copia que ya tiene el cliente, si la tiene.
+     * @param accept Los tipos de contenido que acepta el cliente, si los indica.
+     * @param acceptEncoding Las codificaciones de contenido que acepta el cliente, si las indica.
+     * @return ResponseEntity con la lista de productos (JSON ya serializado o DTOs para el formato binario),
+     * el ETag del catálogo y estado HTTP 200 (OK), o estado HTTP 304 (Not Modified) si la copia del cliente está vigente.
      */
     @GetMapping
     @Operation(summary = "Obtener todos los productos",
-            description = "Recupera una lista de todos los productos disponibles.",
+            description = "Recupera una lista de todos los productos disponibles, comprimida con gzip o deflate si el cliente lo acepta.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Lista de productos recuperada",
-                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDto.class)))
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDto.class))),
+                    @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado")
+            })
+    public ResponseEntity<Object> obtenerTodosLosProductos(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = ProductEtagMapper.toEtag(productInputPort.obtenerVersionCatalogo());
+        if (ProductEtagMapper.coincide(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        Optional<FormatoBinario> binario = FormatoBinario.negociar(accept);
+        if (binario.isPresent()) {
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .contentType(binario.get().getMediaType())
+                    .body(productRestMapper.toProductResponseDtoList(productInputPort.obtenerTodosLosProductos()));
+        }
+        InstantaneaCatalogo instantanea = catalogoPrecomprimido.vigente();
+        CodificacionCatalogo codificacion = instantanea.disponible(CodificacionCatalogo.negociar(acceptEncoding));
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .eTag(instantanea.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (codificacion != CodificacionCatalogo.IDENTIDAD) {
+            respuesta.header(HttpHeaders.CONTENT_ENCODING, codificacion.getToken());
+        }
+        return respuesta.body(instantanea.cuerpo(codificacion));
+    }
+
+    /**
+     * Obtiene una página de productos usando paginación por cursor.
+     * Se activa al incluir el parámetro {@code limit}; el cursor de la respuesta
+     * se envía en {@code after} para obtener la página siguiente.
+     *
+     * @param after Cursor opaco devuelto en la página anterior, o ausente para la primera página.
+     * @param limit Número máximo de productos de la página.
+     * @param ifNoneMatch ETags de la copia que ya tiene el cliente, si la tiene.
+     * @return ResponseEntity con la página de productos, el ETag del catálogo y estado HTTP 200 (OK),
+     * estado HTTP 304 (Not Modified) si la copia del cliente está vigente,
+     * o estado HTTP 400 (Bad Request) si el cursor o el límite no son válidos.
+     */
+    @GetMapping(params = "limit")
+    @Operation(summary = "Obtener una página de productos",
+            description = "Recupera productos ordenados por ID a partir de un cursor opaco. El coste de cada página es constante sin importar su profundidad.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página de productos recuperada",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductPageResponseDto.class))),
+                    @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado"),
+                    @ApiResponse(responseCode = "400", description = "Cursor o límite inválidos")
             })
-    public ResponseEntity<List<ProductResponseDto>> obtenerTodosLosProductos() {
-        List<Producto> productos = productInputPort.obtenerTodosLosProductos();
-        return ResponseEntity.ok(productRestMapper.toProductResponseDtoList(productos));
+    public ResponseEntity<ProductPageResponseDto> obtenerPaginaDeProductos(
+            @Parameter(description = "Cursor opaco de la página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Tamaño de página") @RequestParam int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long despuesDeId;
+        try {
+            despuesDeId = ProductCursorMapper.toId(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        String etag = ProductEtagMapper.toEtag(productInputPort.obtenerVersionCatalogo());
+        if (ProductEtagMapper.coincide(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        PaginaProductos pagina;
+        try {
+            pagina = productInputPort.obtenerProductosPaginados(despuesDeId, limit);
+        } catch (ValidationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        ProductPageResponseDto respuesta = new ProductPageResponseDto();
+        respuesta.setItems(productRestMapper.toProductResponseDtoList(pagina.getProductos()));
+        respuesta.setNextCursor(ProductCursorMapper.toCursor(pagina.getSiguienteCursor()));
+        return ResponseEntity.ok().eTag(etag).body(respuesta);
+    }
+
+    /**
+     * Busca productos por texto en su nombre y descripción.
+     * Los resultados se ordenan por relevancia, con más peso para las coincidencias en el nombre.
+     *
+     * @param q El texto de búsqueda.
+     * @param page El número de página, empezando en 0.
+     * @param size El tamaño de página.
+     * @return ResponseEntity con la página de resultados y estado HTTP 200 (OK),
+     * o estado HTTP 400 (Bad Request) si la consulta o la paginación no son válidas.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Buscar productos por texto",
+            description = "Busca productos que contengan todos los términos en su nombre o descripción, ordenados por relevancia.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Resultados de la búsqueda",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductSearchResponseDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Consulta o paginación inválidas")
+            })
+    public ResponseEntity<ProductSearchResponseDto> buscarProductos(
+            @Parameter(description = "Texto de búsqueda") @RequestParam String q,
+            @Parameter(description = "Número de página, empezando en 0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "20") int size) {
+        ResultadoBusqueda resultado;
+        try {
+            resultado = productInputPort.buscarProductos(q, page, size);
+        } catch (ValidationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        ProductSearchResponseDto respuesta = new ProductSearchResponseDto();
+        respuesta.setItems(productRestMapper.toProductResponseDtoList(resultado.getProductos()));
+        respuesta.setPage(resultado.getPagina());
+        respuesta.setSize(resultado.getTamano());
+        respuesta.setHasNext(resultado.tieneSiguiente());
+        return ResponseEntity.ok(respuesta);
+    }
+
+    /**
+     * Sugiere productos cuyo nombre empieza por el texto escrito, para el autocompletado.
+     * Se resuelve en memoria, sin acceder a la base de datos.
+     *
+     * @param prefix El texto escrito; no distingue mayúsculas ni tildes.
+     * @param limit El número máximo de sugerencias.
+     * @return ResponseEntity con las sugerencias y estado HTTP 200 (OK),
+     * o estado HTTP 400 (Bad Request) si el prefijo o el límite no son válidos.
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocompletar nombres de productos",
+            description = "Devuelve el ID y el nombre de los productos cuyo nombre empieza por el prefijo, en orden alfabético.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sugerencias encontradas",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductSuggestionDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Prefijo o límite inválidos")
+            })
+    public ResponseEntity<List<ProductSuggestionDto>> autocompletarProductos(
+            @Parameter(description = "Texto escrito") @RequestParam String prefix,
+            @Parameter(description = "Número máximo de sugerencias") @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(productRestMapper.toProductSuggestionDtoList(productInputPort.autocompletarProductos(prefix, limit)));
+        } catch (ValidationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Exporta todo el catálogo de productos en streaming.
+     * Las filas se escriben en la respuesta a medida que se leen de la base de datos,
+     * con memoria constante; si el cliente se desconecta la exportación se cancela.
+     *
+     * @param format El formato de salida: {@code ndjson} (por defecto) o {@code csv}.
+     * @return ResponseEntity con el cuerpo en streaming y estado HTTP 200 (OK),
+     * o estado HTTP 400 (Bad Request) si el formato no está soportado.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exportar el catálogo de productos",
+            description = "Descarga todos los productos en streaming como NDJSON o CSV, sin cargar el catálogo en memoria.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exportación en curso",
+                            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+                    @ApiResponse(responseCode = "400", description = "Formato no soportado")
+            })
+    public ResponseEntity<StreamingResponseBody> exportarProductos(
+            @Parameter(description = "Formato de salida: ndjson o csv") @RequestParam(defaultValue = "ndjson") String format) {
+        ProductExportFormat formato;
+        try {
+            formato = ProductExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        StreamingResponseBody cuerpo = salida -> productExportWriter.write(formato, salida);
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"productos." + formato.getExtension() + "\"")
+                .body(cuerpo);
     }
 
     /**
      * Actualiza un producto existente.
+     * Con {@code If-Match} la actualización solo se aplica si el producto sigue en la versión del ETag
+     * indicado, de modo que dos ediciones concurrentes no se sobrescriben: la segunda recibe 412.
      *
      * @param id                El ID del producto a actualizar.
      * @param productRequestDto DTO con la información actualizada del producto.
-     * @return ResponseEntity con el producto actualizado y estado HTTP 200 (OK),
-     * o estado HTTP 404 (Not Found) si el producto no existe.
+     * @param ifMatch           ETag de la versión del producto sobre la que se hicieron los cambios, o {@code *}.
+     * @return ResponseEntity con el producto actualizado, su nuevo ETag y estado HTTP 200 (OK),
+     * estado HTTP 404 (Not Found) si el producto no existe,
+     * o estado HTTP 412 (Precondition Failed) si el producto ya no está en la versión de {@code If-Match}.
      */
     @PutMapping("/{id}")
     @Operation(summary = "Actualizar un producto existente",
-            description = "Actualiza los detalles de un producto existente utilizando su ID.",
+            description = "Actualiza los detalles de un producto existente utilizando su ID. Con If-Match, solo si no ha cambiado desde ese ETag.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Producto actualizado exitosamente",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDto.class))),
                     @ApiResponse(responseCode = "400", description = "Solicitud inválida"),
-                    @ApiResponse(responseCode = "404", description = "Producto no encontrado")
+                    @ApiResponse(responseCode = "404", description = "Producto no encontrado"),
+                    @ApiResponse(responseCode = "412", description = "El producto ha cambiado desde el ETag de If-Match")
             })
-    public ResponseEntity<ProductResponseDto> actualizarProducto(@PathVariable Long id, @Valid @RequestBody ProductRequestDto productRequestDto) {
+    public ResponseEntity<ProductResponseDto> actualizarProducto(
+            @PathVariable Long id,
+            @Valid @RequestBody ProductRequestDto productRequestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Producto producto = productRestMapper.toProducto(productRequestDto);
-        // Es importante asegurar que el ID del path se use para la actualización
-        // y no se sobrescriba por un ID en el DTO si este fuera diferente.
-        // El ProductUseCase debería manejar la lógica de si el ID en el path y el DTO deben coincidir.
-        Producto productoActualizado = productInputPort.actualizarProducto(id, producto);
-        return ResponseEntity.ok(productRestMapper.toProductResponseDto(productoActualizado));
+        if (ifMatch != null && !ifMatch.trim().equals("*")) {
+            producto.setVersion(ProductEtagMapper.toVersion(ifMatch).orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.PRECONDITION_FAILED, "If-Match debe contener un único ETag fuerte de producto.")));
+        }
+        Producto productoActualizado;
+        try {
+            productoActualizado = productInputPort.actualizarProducto(id, producto);
+        } catch (VersionConflictoException e) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, e.getMessage(), e);
+        } catch (ProductoNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+        return ResponseEntity.ok()
+                .eTag(ProductEtagMapper.toEtag(productoActualizado))
+                .body(productRestMapper.toProductResponseDto(productoActualizado));
     }
 
     /**
@@ -157,7 +468,14 @@ public class ProductController {
                     @ApiResponse(responseCode = "404", description = "Producto no encontrado")
             })
     public ResponseEntity<ProductResponseDto> actualizarStockProducto(@PathVariable Long id, @RequestParam Integer cantidad) {
-        Producto productoActualizado = productInputPort.actualizarStockProducto(id, cantidad);
+        Producto productoActualizado;
+        try {
+            productoActualizado = productInputPort.actualizarStockProducto(id, cantidad);
+        } catch (StockUpdateException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (ProductoNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
         return ResponseEntity.ok(productRestMapper.toProductResponseDto(productoActualizado));
     }
 
@@ -175,11 +493,27 @@ public class ProductController {
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = Boolean.class)))
             })
     public ResponseEntity<Boolean> existeProducto(@PathVariable Long id) {
-        try {
-            productInputPort.obtenerProductoPorId(id);
-            return ResponseEntity.ok(true);
-        } catch (ProductoNotFoundException e) {
-            return ResponseEntity.ok(false);
-        }
+        return ResponseEntity.ok(productInputPort.existeProducto(id));
+    }
+
+    /**
+     * Verifica si un producto existe por su ID sin devolver cuerpo.
+     * Sustituye al HEAD implícito de {@code GET /{id}}, que cargaría el producto completo.
+     *
+     * @param id El ID del producto a verificar.
+     * @return ResponseEntity vacío con estado HTTP 200 (OK) si el producto existe,
+     * o estado HTTP 404 (Not Found) si no existe.
+     */
+    @RequestMapping(path = "/{id}", method = RequestMethod.HEAD)
+    @Operation(summary = "Verificar existencia de un producto (HEAD)",
+            description = "Responde 200 si el producto existe y 404 si no, sin cuerpo.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "El producto existe"),
+                    @ApiResponse(responseCode = "404", description = "Producto no encontrado")
+            })
+    public ResponseEntity<Void> existeProductoHead(@PathVariable Long id) {
+        return productInputPort.existeProducto(id)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
     }
 }
@@ -0,0 +1,142 @@
+package com.pragma.infrastructure.input.rest.controller;
+
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.ReservaEstadoException;
+import com.pragma.application.exception.ReservaNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.ValidationException;
+import com.pragma.application.port.input.ReservaInputPort;
+import com.pragma.domain.model.Reserva;
+import com.pragma.infrastructure.input.rest.dto.ReservaRequestDto;
+import com.pragma.infrastructure.input.rest.dto.ReservaResponseDto;
+import com.pragma.infrastructure.input.rest.mapper.ReservaRestMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Controlador REST para las reservas de stock.
+ * <p>
+ * Permite a otros servicios (por ejemplo, ventas) retener en una sola llamada el stock de todos
+ * los productos de un pedido, y confirmar o liberar después esa retención. Las reservas que no se
+ * confirman antes de su vencimiento se liberan automáticamente.
+ * </p>
+ */
+@RestController
+@RequestMapping("/productos/reservas")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@Tag(name = "Reservas", description = "API para la reserva temporal de stock de productos")
+public class ReservaController {
+
+    private final ReservaInputPort reservaInputPort;
+    private final ReservaRestMapper reservaRestMapper;
+
+    /**
+     * Reserva stock de varios productos. O se reservan todos o ninguno.
+     *
+     * @param reservaRequestDto DTO con los productos, cantidades y duración de la reserva.
+     * @return ResponseEntity con la reserva creada y estado HTTP 201 (Created).
+     */
+    @PostMapping
+    @Operation(summary = "Reservar stock de varios productos",
+            description = "Retiene el stock de todos los productos indicados durante un tiempo limitado. Si algún producto no existe o no tiene stock suficiente no se reserva ninguno.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Reserva creada exitosamente",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservaResponseDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Solicitud inválida"),
+                    @ApiResponse(responseCode = "404", description = "Algún producto no existe"),
+                    @ApiResponse(responseCode = "409", description = "Stock insuficiente en algún producto")
+            })
+    public ResponseEntity<ReservaResponseDto> crearReserva(@Valid @RequestBody ReservaRequestDto reservaRequestDto) {
+        Duration ttl = reservaRequestDto.getTtlSegundos() != null ? Duration.ofSeconds(reservaRequestDto.getTtlSegundos()) : null;
+        Reserva reserva = reservaInputPort.crearReserva(reservaRestMapper.toReservaItemList(reservaRequestDto.getItems()), ttl);
+        return new ResponseEntity<>(reservaRestMapper.toReservaResponseDto(reserva), HttpStatus.CREATED);
+    }
+
+    /**
+     * Obtiene una reserva por su ID.
+     *
+     * @param id El ID de la reserva.
+     * @return ResponseEntity con la reserva y estado HTTP 200 (OK).
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Obtener una reserva por su ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Reserva encontrada",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservaResponseDto.class))),
+                    @ApiResponse(responseCode = "404", description = "Reserva no encontrada")
+            })
+    public ResponseEntity<ReservaResponseDto> obtenerReserva(@PathVariable UUID id) {
+        return ResponseEntity.ok(reservaRestMapper.toReservaResponseDto(reservaInputPort.obtenerReserva(id)));
+    }
+
+    /**
+     * Confirma una reserva pendiente; el stock retenido queda vendido.
+     *
+     * @param id El ID de la reserva.
+     * @return ResponseEntity con la reserva confirmada y estado HTTP 200 (OK).
+     */
+    @PostMapping("/{id}/confirmar")
+    @Operation(summary = "Confirmar una reserva",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Reserva confirmada",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservaResponseDto.class))),
+                    @ApiResponse(responseCode = "404", description = "Reserva no encontrada"),
+                    @ApiResponse(responseCode = "409", description = "La reserva ya no está pendiente o ha vencido")
+            })
+    public ResponseEntity<ReservaResponseDto> confirmarReserva(@PathVariable UUID id) {
+        return ResponseEntity.ok(reservaRestMapper.toReservaResponseDto(reservaInputPort.confirmarReserva(id)));
+    }
+
+    /**
+     * Cancela una reserva pendiente y devuelve su stock.
+     *
+     * @param id El ID de la reserva.
+     * @return ResponseEntity con la reserva cancelada y estado HTTP 200 (OK).
+     */
+    @PostMapping("/{id}/cancelar")
+    @Operation(summary = "Cancelar una reserva",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Reserva cancelada",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservaResponseDto.class))),
+                    @ApiResponse(responseCode = "404", description = "Reserva no encontrada"),
+                    @ApiResponse(responseCode = "409", description = "La reserva ya no está pendiente")
+            })
+    public ResponseEntity<ReservaResponseDto> cancelarReserva(@PathVariable UUID id) {
+        return ResponseEntity.ok(reservaRestMapper.toReservaResponseDto(reservaInputPort.cancelarReserva(id)));
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    ProblemDetail manejarValidacion(ValidationException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler({ProductoNotFoundException.class, ReservaNotFoundException.class})
+    ProblemDetail manejarNoEncontrado(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler({StockUpdateException.class, ReservaEstadoException.class})
+    ProblemDetail manejarConflicto(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+}
@@ -0,0 +1,115 @@
+package com.pragma.infrastructure.input.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) con el resultado de un elemento de una creación de productos por lotes.
+ * Identifica el elemento por su posición en la solicitud e incluye el producto creado
+ * o los errores de validación que impidieron crearlo.
+ */
+public class ProductBatchItemResultDto {
+
+    /**
+     * Estado de un elemento del lote.
+     */
+    public enum Estado {
+        /** El producto se creó correctamente. */
+        CREADO,
+        /** El producto no superó la validación. */
+        RECHAZADO,
+        /** El producto era válido pero no se creó porque otro elemento del lote fue rechazado. */
+        NO_PROCESADO
+    }
+
+    private int indice;
+    private Estado estado;
+    private ProductResponseDto producto;
+    private List<String> errores;
+
+    /**
+     * Constructor por defecto.
+     */
+    public ProductBatchItemResultDto() {
+    }
+
+    /**
+     * Constructor completo.
+     *
+     * @param indice La posición del elemento en la solicitud.
+     * @param estado El estado del elemento.
+     * @param producto El producto creado, o {@code null} si no se creó.
+     * @param errores Los errores de validación, o una lista vacía si no los hay.
+     */
+    public ProductBatchItemResultDto(int indice, Estado estado, ProductResponseDto producto, List<String> errores) {
+        this.indice = indice;
+        this.estado = estado;
+        this.producto = producto;
+        this.errores = errores;
+    }
+
+    // Getters y Setters
+
+    /**
+     * Obtiene la posición del elemento en la solicitud.
+     * @return La posición, empezando en cero.
+     */
+    public int getIndice() {
+        return indice;
+    }
+
+    /**
+     * Establece la posición del elemento en la solicitud.
+     * @param indice La posición, empezando en cero.
+     */
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+
+    /**
+     * Obtiene el estado del elemento.
+     * @return El estado.
+     */
+    public Estado getEstado() {
+        return estado;
+    }
+
+    /**
+     * Establece el estado del elemento.
+     * @param estado El estado.
+     */
+    public void setEstado(Estado estado) {
+        this.estado = estado;
+    }
+
+    /**
+     * Obtiene el producto creado.
+     * @return El producto, o {@code null} si no se creó.
+     */
+    public ProductResponseDto getProducto() {
+        return producto;
+    }
+
+    /**
+     * Establece el producto creado.
+     * @param producto El producto creado.
+     */
+    public void setProducto(ProductResponseDto producto) {
+        this.producto = producto;
+    }
+
+    /**
+     * Obtiene los errores de validación del elemento.
+     * @return La lista de errores.
+     */
+    public List<String> getErrores() {
+        return errores;
+    }
+
+    /**
+     * Establece los errores de validación del elemento.
+     * @param errores La lista de errores.
+     */
+    public void setErrores(List<String> errores) {
+        this.errores = errores;
+    }
+}
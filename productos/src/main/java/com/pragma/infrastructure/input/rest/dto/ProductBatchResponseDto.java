@@ -0,0 +1,104 @@
+package com.pragma.infrastructure.input.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para la respuesta de la creación de productos por lotes.
+ * Resume el resultado del lote e incluye el detalle de cada elemento en el orden de la solicitud.
+ */
+public class ProductBatchResponseDto {
+
+    private int total;
+    private int creados;
+    private int rechazados;
+    private List<ProductBatchItemResultDto> resultados;
+
+    /**
+     * Constructor por defecto.
+     */
+    public ProductBatchResponseDto() {
+    }
+
+    /**
+     * Construye la respuesta a partir del detalle de cada elemento, calculando los totales.
+     *
+     * @param resultados El resultado de cada elemento del lote.
+     */
+    public ProductBatchResponseDto(List<ProductBatchItemResultDto> resultados) {
+        this.resultados = resultados;
+        this.total = resultados.size();
+        for (ProductBatchItemResultDto resultado : resultados) {
+            if (resultado.getEstado() == ProductBatchItemResultDto.Estado.CREADO) {
+                creados++;
+            } else if (resultado.getEstado() == ProductBatchItemResultDto.Estado.RECHAZADO) {
+                rechazados++;
+            }
+        }
+    }
+
+    // Getters y Setters
+
+    /**
+     * Obtiene el número de elementos del lote.
+     * @return El total de elementos.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Establece el número de elementos del lote.
+     * @param total El total de elementos.
+     */
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    /**
+     * Obtiene el número de productos creados.
+     * @return Los productos creados.
+     */
+    public int getCreados() {
+        return creados;
+    }
+
+    /**
+     * Establece el número de productos creados.
+     * @param creados Los productos creados.
+     */
+    public void setCreados(int creados) {
+        this.creados = creados;
+    }
+
+    /**
+     * Obtiene el número de productos rechazados por validación.
+     * @return Los productos rechazados.
+     */
+    public int getRechazados() {
+        return rechazados;
+    }
+
+    /**
+     * Establece el número de productos rechazados por validación.
+     * @param rechazados Los productos rechazados.
+     */
+    public void setRechazados(int rechazados) {
+        this.rechazados = rechazados;
+    }
+
+    /**
+     * Obtiene el resultado de cada elemento del lote.
+     * @return La lista de resultados, en el orden de la solicitud.
+     */
+    public List<ProductBatchItemResultDto> getResultados() {
+        return resultados;
+    }
+
+    /**
+     * Establece el resultado de cada elemento del lote.
+     * @param resultados La lista de resultados.
+     */
+    public void setResultados(List<ProductBatchItemResultDto> resultados) {
+        this.resultados = resultados;
+    }
+}
@@ -0,0 +1,47 @@
+package com.pragma.infrastructure.input.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para las respuestas paginadas por cursor de productos.
+ * Contiene los productos de la página y el cursor opaco para solicitar la siguiente.
+ */
+public class ProductPageResponseDto {
+
+    private List<ProductResponseDto> items;
+    private String nextCursor;
+
+    // Getters y Setters
+
+    /**
+     * Obtiene los productos de la página.
+     * @return La lista de productos.
+     */
+    public List<ProductResponseDto> getItems() {
+        return items;
+    }
+
+    /**
+     * Establece los productos de la página.
+     * @param items La lista de productos.
+     */
+    public void setItems(List<ProductResponseDto> items) {
+        this.items = items;
+    }
+
+    /**
+     * Obtiene el cursor opaco de la siguiente página.
+     * @return El cursor, o {@code null} si no hay más páginas.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Establece el cursor opaco de la siguiente página.
+     * @param nextCursor El cursor, o {@code null} si no hay más páginas.
+     */
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,81 @@
+package com.pragma.infrastructure.input.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para las respuestas de la búsqueda de productos por texto.
+ * Contiene los productos de la página, ordenados por relevancia, y los datos de paginación.
+ */
+public class ProductSearchResponseDto {
+
+    private List<ProductResponseDto> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    // Getters y Setters
+
+    /**
+     * Obtiene los productos de la página.
+     * @return La lista de productos, ordenada por relevancia.
+     */
+    public List<ProductResponseDto> getItems() {
+        return items;
+    }
+
+    /**
+     * Establece los productos de la página.
+     * @param items La lista de productos, ordenada por relevancia.
+     */
+    public void setItems(List<ProductResponseDto> items) {
+        this.items = items;
+    }
+
+    /**
+     * Obtiene el número de la página.
+     * @return El número de la página, empezando en 0.
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Establece el número de la página.
+     * @param page El número de la página, empezando en 0.
+     */
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    /**
+     * Obtiene el tamaño de página solicitado.
+     * @return El tamaño de página.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Establece el tamaño de página solicitado.
+     * @param size El tamaño de página.
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Indica si existe una página siguiente.
+     * @return {@code true} si hay más resultados.
+     */
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Establece si existe una página siguiente.
+     * @param hasNext {@code true} si hay más resultados.
+     */
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
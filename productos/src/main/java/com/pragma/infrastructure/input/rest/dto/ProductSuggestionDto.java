@@ -0,0 +1,45 @@
+package com.pragma.infrastructure.input.rest.dto;
+
+/**
+ * DTO (Data Transfer Object) para las sugerencias de autocompletado de productos.
+ * Contiene solo el ID y el nombre del producto sugerido.
+ */
+public class ProductSuggestionDto {
+
+    private Long id;
+    private String nombre;
+
+    // Getters y Setters
+
+    /**
+     * Obtiene el ID del producto sugerido.
+     * @return El ID del producto.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Establece el ID del producto sugerido.
+     * @param id El ID del producto.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Obtiene el nombre del producto sugerido.
+     * @return El nombre del producto.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Establece el nombre del producto sugerido.
+     * @param nombre El nombre del producto.
+     */
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+}
@@ -0,0 +1,57 @@
+package com.pragma.infrastructure.input.rest.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO (Data Transfer Object) de una línea de reserva de stock: producto y cantidad.
+ */
+public class ReservaItemDto {
+
+    /**
+     * ID del producto a reservar.
+     */
+    @NotNull(message = "El ID del producto no puede ser nulo.")
+    private Long productoId;
+
+    /**
+     * Número de unidades a reservar.
+     */
+    @NotNull(message = "La cantidad no puede ser nula.")
+    @Positive(message = "La cantidad debe ser un valor positivo.")
+    private Integer cantidad;
+
+    // Getters y Setters
+
+    /**
+     * Obtiene el ID del producto.
+     * @return El ID del producto.
+     */
+    public Long getProductoId() {
+        return productoId;
+    }
+
+    /**
+     * Establece el ID del producto.
+     * @param productoId El ID del producto.
+     */
+    public void setProductoId(Long productoId) {
+        this.productoId = productoId;
+    }
+
+    /**
+     * Obtiene el número de unidades.
+     * @return La cantidad.
+     */
+    public Integer getCantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Establece el número de unidades.
+     * @param cantidad La cantidad.
+     */
+    public void setCantidad(Integer cantidad) {
+        this.cantidad = cantidad;
+    }
+}
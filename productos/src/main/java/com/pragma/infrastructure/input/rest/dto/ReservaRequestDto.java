@@ -0,0 +1,59 @@
+package com.pragma.infrastructure.input.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para las solicitudes de reserva de stock de varios productos.
+ */
+public class ReservaRequestDto {
+
+    /**
+     * Productos y cantidades a reservar.
+     */
+    @NotEmpty(message = "La reserva debe incluir al menos un producto.")
+    private List<@Valid ReservaItemDto> items;
+
+    /**
+     * Segundos que se mantiene la reserva sin confirmar. Si es nulo se usa el valor por defecto.
+     */
+    @Positive(message = "La duración de la reserva debe ser un valor positivo.")
+    private Long ttlSegundos;
+
+    // Getters y Setters
+
+    /**
+     * Obtiene los productos y cantidades a reservar.
+     * @return Las líneas de la reserva.
+     */
+    public List<ReservaItemDto> getItems() {
+        return items;
+    }
+
+    /**
+     * Establece los productos y cantidades a reservar.
+     * @param items Las líneas de la reserva.
+     */
+    public void setItems(List<ReservaItemDto> items) {
+        this.items = items;
+    }
+
+    /**
+     * Obtiene la duración de la reserva en segundos.
+     * @return La duración, o {@code null} para usar el valor por defecto.
+     */
+    public Long getTtlSegundos() {
+        return ttlSegundos;
+    }
+
+    /**
+     * Establece la duración de la reserva en segundos.
+     * @param ttlSegundos La duración, o {@code null} para usar el valor por defecto.
+     */
+    public void setTtlSegundos(Long ttlSegundos) {
+        this.ttlSegundos = ttlSegundos;
+    }
+}
@@ -0,0 +1,82 @@
+package com.pragma.infrastructure.input.rest.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) para las respuestas con los datos de una reserva de stock.
+ */
+public class ReservaResponseDto {
+
+    private UUID id;
+    private String estado;
+    private Instant expiraEn;
+    private List<ReservaItemDto> items;
+
+    // Getters y Setters
+
+    /**
+     * Obtiene el ID de la reserva.
+     * @return El ID de la reserva.
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Establece el ID de la reserva.
+     * @param id El ID de la reserva.
+     */
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    /**
+     * Obtiene el estado de la reserva.
+     * @return El estado (PENDIENTE, CONFIRMADA, CANCELADA o EXPIRADA).
+     */
+    public String getEstado() {
+        return estado;
+    }
+
+    /**
+     * Establece el estado de la reserva.
+     * @param estado El estado de la reserva.
+     */
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    /**
+     * Obtiene el instante de vencimiento de la reserva.
+     * @return El instante de vencimiento.
+     */
+    public Instant getExpiraEn() {
+        return expiraEn;
+    }
+
+    /**
+     * Establece el instante de vencimiento de la reserva.
+     * @param expiraEn El instante de vencimiento.
+     */
+    public void setExpiraEn(Instant expiraEn) {
+        this.expiraEn = expiraEn;
+    }
+
+    /**
+     * Obtiene los productos y cantidades retenidas.
+     * @return Las líneas de la reserva.
+     */
+    public List<ReservaItemDto> getItems() {
+        return items;
+    }
+
+    /**
+     * Establece los productos y cantidades retenidas.
+     * @param items Las líneas de la reserva.
+     */
+    public void setItems(List<ReservaItemDto> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,65 @@
+package com.pragma.infrastructure.input.rest.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Formatos soportados por la exportación en streaming del catálogo de productos.
+ */
+public enum ProductExportFormat {
+
+    /**
+     * JSON delimitado por saltos de línea: un {@code ProductResponseDto} por línea.
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /**
+     * Valores separados por comas (RFC 4180) con fila de cabecera.
+     */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ProductExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Obtiene el tipo de contenido de la respuesta para este formato.
+     *
+     * @return El {@link MediaType} del formato.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Obtiene la extensión de archivo sugerida para este formato.
+     *
+     * @return La extensión sin punto.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resuelve un formato a partir de su nombre, sin distinguir mayúsculas.
+     *
+     * @param nombre El nombre del formato ({@code ndjson} o {@code csv}).
+     * @return El {@link ProductExportFormat} correspondiente.
+     * @throws IllegalArgumentException Si el formato no está soportado.
+     */
+    public static ProductExportFormat from(String nombre) {
+        if (nombre == null) {
+            throw new IllegalArgumentException("El formato de exportación es obligatorio.");
+        }
+        try {
+            return valueOf(nombre.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato de exportación no soportado: " + nombre, e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.pragma.infrastructure.input.rest.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escribe el catálogo de productos en un {@link OutputStream} a medida que se lee de la base de datos.
+ * <p>
+ * Cada producto se serializa y se escribe en un búfer de tamaño fijo en cuanto llega, por lo que la
+ * memoria usada no depende del tamaño del catálogo. Si el cliente se desconecta, la escritura falla,
+ * la excepción interrumpe el recorrido y se liberan el cursor y la conexión a la base de datos.
+ * </p>
+ */
+@Component
+public class ProductExportWriter {
+
+    private static final String CABECERA_CSV = "id,nombre,descripcion,precio,stock";
+
+    private final ProductInputPort productInputPort;
+    private final ProductRestMapper productRestMapper;
+    private final ObjectWriter jsonWriter;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param productInputPort El puerto de entrada que recorre el catálogo.
+     * @param productRestMapper El mapper para convertir productos en DTOs de respuesta.
+     * @param objectMapper El {@link ObjectMapper} de la aplicación, usado para el formato NDJSON.
+     */
+    public ProductExportWriter(ProductInputPort productInputPort, ProductRestMapper productRestMapper, ObjectMapper objectMapper) {
+        this.productInputPort = productInputPort;
+        this.productRestMapper = productRestMapper;
+        this.objectMapper = objectMapper;
+        // Se evita el flush tras cada valor: el búfer se vacía cuando se llena o al terminar.
+        this.jsonWriter = objectMapper.writerFor(ProductResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Escribe todo el catálogo en el formato indicado.
+     *
+     * @param formato El formato de salida.
+     * @param salida El flujo de salida de la respuesta HTTP. No se cierra.
+     * @throws IOException Si ocurre un error de escritura, por ejemplo porque el cliente se desconectó.
+     */
+    public void write(ProductExportFormat formato, OutputStream salida) throws IOException {
+        try {
+            if (formato == ProductExportFormat.CSV) {
+                writeCsv(salida);
+            } else {
+                writeNdjson(salida);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(OutputStream salida) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(salida);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        productInputPort.exportarProductos(producto -> {
+            try {
+                jsonWriter.writeValue(generator, productRestMapper.toProductResponseDto(producto));
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+    }
+
+    private void writeCsv(OutputStream salida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+        writer.write(CABECERA_CSV);
+        writer.write("\r\n");
+        productInputPort.exportarProductos(producto -> {
+            try {
+                writeCsvRow(writer, producto);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, Producto producto) throws IOException {
+        writer.write(valor(producto.getId()));
+        writer.write(',');
+        writer.write(escaparCsv(producto.getNombre()));
+        writer.write(',');
+        writer.write(escaparCsv(producto.getDescripcion()));
+        writer.write(',');
+        writer.write(valor(producto.getPrecio()));
+        writer.write(',');
+        writer.write(valor(producto.getStock()));
+        writer.write("\r\n");
+    }
+
+    private static String valor(Object valor) {
+        return valor != null ? valor.toString() : "";
+    }
+
+    /**
+     * Escapa un campo de texto según RFC 4180: se encierra entre comillas si contiene
+     * comas, comillas o saltos de línea, duplicando las comillas internas.
+     */
+    static String escaparCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
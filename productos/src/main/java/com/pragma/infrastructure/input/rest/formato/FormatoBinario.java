@@ -0,0 +1,78 @@
+package com.pragma.infrastructure.input.rest.formato;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Formatos binarios de Jackson que la API REST ofrece, además de JSON, para las llamadas entre servicios.
+ * <p>
+ * Se eligen por negociación de contenido: el cliente los pide en {@code Accept} y los envía con su
+ * {@code Content-Type}. Los convertidores que los serializan se registran en {@code FormatosBinariosConfig}.
+ * </p>
+ */
+public enum FormatoBinario {
+
+    /**
+     * Smile: JSON binario de Jackson; repite los nombres de campo como referencias a los ya escritos.
+     */
+    SMILE(new MediaType("application", "x-jackson-smile")),
+
+    /**
+     * CBOR (RFC 8949).
+     */
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    FormatoBinario(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Obtiene el tipo de contenido del formato.
+     *
+     * @return El {@link MediaType} del formato.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Elige el formato binario que prefiere el cliente según su cabecera {@code Accept}: el tipo con mayor
+     * calidad ({@code q}) y, a igual calidad, el primero. Los comodines ({@code *}{@code /*}) no eligen un
+     * formato binario.
+     *
+     * @param accept El valor de la cabecera {@code Accept}, o {@code null} si no se envió.
+     * @return El formato binario preferido, o vacío si el cliente prefiere otro formato, no indica ninguno
+     * o la cabecera no es válida.
+     */
+    public static Optional<FormatoBinario> negociar(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Optional.empty();
+        }
+        List<MediaType> aceptados;
+        try {
+            aceptados = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return Optional.empty();
+        }
+        MediaType preferido = null;
+        for (MediaType aceptado : aceptados) {
+            if (preferido == null || aceptado.getQualityValue() > preferido.getQualityValue()) {
+                preferido = aceptado;
+            }
+        }
+        if (preferido == null || preferido.getQualityValue() == 0) {
+            return Optional.empty();
+        }
+        for (FormatoBinario formato : values()) {
+            if (formato.mediaType.equalsTypeAndSubtype(preferido)) {
+                return Optional.of(formato);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,52 @@
+package com.pragma.infrastructure.input.rest.formato;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Añade {@code Vary: Accept} a las respuestas que Jackson serializa en el formato negociado (JSON o
+ * un {@link FormatoBinario}).
+ * <p>
+ * El ETag de un producto o del catálogo depende de su versión y no del formato; con {@code Vary} una
+ * caché intermedia guarda cada representación por separado y no entrega Smile a un cliente que pidió JSON.
+ * </p>
+ */
+@ControllerAdvice(basePackages = "com.pragma.infrastructure.input.rest")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class VaryAcceptAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders cabeceras = response.getHeaders();
+        if (!cabeceras.getVary().contains(HttpHeaders.ACCEPT)) {
+            List<String> vary = new ArrayList<>(cabeceras.getVary());
+            vary.add(HttpHeaders.ACCEPT);
+            cabeceras.setVary(vary);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,55 @@
+package com.pragma.infrastructure.input.rest.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Convierte entre el ID usado internamente como cursor de paginación y el cursor
+ * opaco que se expone a los clientes de la API REST.
+ * <p>
+ * El cursor es el ID codificado en Base64 URL-safe con un prefijo de versión, de modo que
+ * los clientes no dependan de su formato y este pueda cambiar sin romper el contrato.
+ */
+public final class ProductCursorMapper {
+
+    private static final String PREFIJO = "p1:";
+
+    private ProductCursorMapper() {
+    }
+
+    /**
+     * Codifica un ID como cursor opaco.
+     *
+     * @param id El ID del último producto de la página, puede ser nulo.
+     * @return El cursor opaco, o {@code null} si el ID es nulo.
+     */
+    public static String toCursor(Long id) {
+        if (id == null) {
+            return null;
+        }
+        byte[] bytes = (PREFIJO + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Decodifica un cursor opaco al ID que representa.
+     *
+     * @param cursor El cursor recibido del cliente, puede ser nulo o vacío.
+     * @return El ID representado por el cursor, o {@code null} si el cursor es nulo o vacío.
+     * @throws IllegalArgumentException Si el cursor no tiene un formato válido.
+     */
+    public static Long toId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!valor.startsWith(PREFIJO)) {
+            throw new IllegalArgumentException("Cursor de paginación inválido: " + cursor);
+        }
+        try {
+            return Long.valueOf(valor.substring(PREFIJO.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.pragma.infrastructure.input.rest.mapper;
+
+import com.pragma.domain.model.Producto;
+
+import java.util.Optional;
+
+/**
+ * Convierte las versiones de productos y del catálogo en ETags y compara los ETags
+ * de {@code If-None-Match} con el actual. Lo comparten el controlador REST y los
+ * handlers del perfil reactivo.
+ * <p>
+ * El ETag de un producto del controlador REST y del perfil reactivo se forma con su versión en la
+ * base de datos y su stock ({@code "<version>-<stock>"}): con el inventario en memoria los cambios de stock no avanzan
+ * la versión, y así el ETag cambia igualmente. En {@code If-Match} solo se usa la versión.
+ * </p>
+ */
+public final class ProductEtagMapper {
+
+    private ProductEtagMapper() {
+    }
+
+    /**
+     * Convierte una versión en un ETag fuerte.
+     *
+     * @param version La versión, o vacío si no hay versiones disponibles.
+     * @return El ETag entre comillas, o {@code null} si no hay versión.
+     */
+    public static String toEtag(Optional<String> version) {
+        return version.map(v -> "\"" + v + "\"").orElse(null);
+    }
+
+    /**
+     * Construye el ETag fuerte de un producto a partir de su versión y su stock.
+     *
+     * @param producto El producto leído o recién actualizado.
+     * @return El ETag entre comillas, o {@code null} si el producto no tiene versión.
+     */
+    public static String toEtag(Producto producto) {
+        if (producto.getVersion() == null) {
+            return null;
+        }
+        return "\"" + producto.getVersion() + "-" + producto.getStock() + "\"";
+    }
+
+    /**
+     * Obtiene la versión de producto que exige una cabecera {@code If-Match} con un único ETag fuerte.
+     * Los ETags débiles nunca cumplen {@code If-Match}, y tampoco los que no son de un producto.
+     *
+     * @param ifMatch El valor de la cabecera {@code If-Match}, distinto de {@code *}.
+     * @return La versión esperada, o vacío si la cabecera no contiene un único ETag de producto válido.
+     */
+    public static Optional<Long> toVersion(String ifMatch) {
+        String valor = ifMatch.trim();
+        if (valor.length() < 2 || !valor.startsWith("\"") || !valor.endsWith("\"")) {
+            return Optional.empty();
+        }
+        String etag = valor.substring(1, valor.length() - 1);
+        if (etag.indexOf('"') >= 0) {
+            return Optional.empty();
+        }
+        int separador = etag.indexOf('-');
+        try {
+            return Optional.of(Long.parseLong(separador < 0 ? etag : etag.substring(0, separador)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Indica si alguno de los ETags de {@code If-None-Match} coincide con el actual, con la
+     * comparación débil que exige esa cabecera.
+     *
+     * @param ifNoneMatch El valor de la cabecera {@code If-None-Match}, o {@code null}.
+     * @param etag El ETag actual, o {@code null} si no hay versión.
+     * @return {@code true} si la copia del cliente está vigente.
+     */
+    public static boolean coincide(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
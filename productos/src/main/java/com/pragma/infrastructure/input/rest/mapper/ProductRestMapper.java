@@ -1,8 +1,10 @@
 package com.pragma.infrastructure.input.rest.mapper;
 
 import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.SugerenciaProducto;
 import com.pragma.infrastructure.input.rest.dto.ProductRequestDto;
 import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.input.rest.dto.ProductSuggestionDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
@@ -31,6 +33,14 @@ public interface ProductRestMapper {
     @Mapping(target = "id", ignore = true)
     Producto toProducto(ProductRequestDto productRequestDto);
 
+    /**
+     * Convierte una lista de {@link ProductRequestDto} a una lista de objetos de dominio {@link Producto}.
+     *
+     * @param productRequestDtos La lista de DTOs de solicitud de producto.
+     * @return Una lista de objetos de dominio {@link Producto}, en el mismo orden.
+     */
+    List<Producto> toProductoList(List<ProductRequestDto> productRequestDtos);
+
     /**
      * Convierte un objeto de dominio {@link Producto} a un {@link ProductResponseDto}.
      *
@@ -46,4 +56,12 @@ public interface ProductRestMapper {
      * @return Una lista de DTOs de respuesta de producto {@link ProductResponseDto}.
      */
     List<ProductResponseDto> toProductResponseDtoList(List<Producto> productos);
+
+    /**
+     * Convierte una lista de {@link SugerenciaProducto} a una lista de {@link ProductSuggestionDto}.
+     *
+     * @param sugerencias La lista de sugerencias de autocompletado.
+     * @return Una lista de DTOs de sugerencia, en el mismo orden.
+     */
+    List<ProductSuggestionDto> toProductSuggestionDtoList(List<SugerenciaProducto> sugerencias);
 }
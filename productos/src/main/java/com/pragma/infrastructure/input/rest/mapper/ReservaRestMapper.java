@@ -0,0 +1,33 @@
+package com.pragma.infrastructure.input.rest.mapper;
+
+import com.pragma.domain.model.Reserva;
+import com.pragma.domain.model.ReservaItem;
+import com.pragma.infrastructure.input.rest.dto.ReservaItemDto;
+import com.pragma.infrastructure.input.rest.dto.ReservaResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Mapper MapStruct entre los DTOs REST de reservas y el modelo de dominio {@link Reserva}.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ReservaRestMapper {
+
+    /**
+     * Convierte las líneas de una solicitud de reserva a su modelo de dominio.
+     *
+     * @param items Las líneas recibidas.
+     * @return Las líneas de dominio, en el mismo orden.
+     */
+    List<ReservaItem> toReservaItemList(List<ReservaItemDto> items);
+
+    /**
+     * Convierte una reserva de dominio a su DTO de respuesta.
+     *
+     * @param reserva La reserva de dominio.
+     * @return El DTO de respuesta.
+     */
+    ReservaResponseDto toReservaResponseDto(Reserva reserva);
+}
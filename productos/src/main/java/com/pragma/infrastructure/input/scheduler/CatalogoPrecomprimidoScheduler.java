@@ -0,0 +1,35 @@
+package com.pragma.infrastructure.input.scheduler;
+
+import com.pragma.infrastructure.input.rest.catalogo.CatalogoPrecomprimido;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea periódica que reconstruye la instantánea precomprimida del catálogo cuando cambia su versión;
+ * las solicitudes de {@code GET /productos} sirven la anterior mientras tanto y nunca la reconstruyen.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class CatalogoPrecomprimidoScheduler {
+
+    private final CatalogoPrecomprimido catalogoPrecomprimido;
+
+    /**
+     * Reconstruye la instantánea si el catálogo cambió. El intervalo entre ejecuciones se configura con
+     * {@code productos.catalogo.instantanea.intervalo-ms} y el mínimo entre reconstrucciones con
+     * {@code productos.catalogo.instantanea.intervalo-minimo-ms}.
+     */
+    @Scheduled(fixedDelayString = "${productos.catalogo.instantanea.intervalo-ms:250}")
+    public void actualizarInstantanea() {
+        try {
+            catalogoPrecomprimido.actualizar();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo reconstruir la instantánea del catálogo; se reintentará: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.pragma.infrastructure.input.scheduler;
+
+import com.pragma.application.port.input.EventoProductoInputPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea periódica que publica los eventos de cambio de productos pendientes en la bandeja de salida.
+ * <p>
+ * Cada ejecución publica lotes hasta vaciar la bandeja. Si el destino falla, la ejecución se
+ * detiene y el lote se reintenta en la siguiente.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventoProductoRelayScheduler {
+
+    private final EventoProductoInputPort eventoProductoInputPort;
+
+    /**
+     * Publica los eventos pendientes. El intervalo entre ejecuciones se configura con
+     * {@code productos.eventos.relay.intervalo-ms}.
+     */
+    @Scheduled(fixedDelayString = "${productos.eventos.relay.intervalo-ms:1000}")
+    public void publicarEventosPendientes() {
+        int publicados;
+        do {
+            try {
+                publicados = eventoProductoInputPort.publicarEventosPendientes();
+            } catch (RuntimeException e) {
+                log.warn("No se pudieron publicar los eventos de productos; se reintentará: {}", e.getMessage());
+                return;
+            }
+            if (publicados > 0) {
+                log.debug("Eventos de productos publicados: {}", publicados);
+            }
+        } while (publicados > 0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.pragma.infrastructure.input.scheduler;
+
+import com.pragma.infrastructure.output.instantanea.GestorInstantaneaProductos;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea periódica de la instantánea del catálogo. La primera ejecución, al arrancar, pone al día la caché
+ * de productos desde la base de datos y deja de servir la instantánea; las siguientes reescriben el archivo
+ * si el catálogo cambió. Solo existe con {@code productos.instantanea.habilitada=true}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${productos.instantanea.habilitada:false} and '${productos.inventario.modo:base-datos}' == 'base-datos'")
+public class InstantaneaProductosScheduler {
+
+    private final GestorInstantaneaProductos gestorInstantaneaProductos;
+
+    /**
+     * Ejecuta el gestor. El intervalo entre ejecuciones se configura con
+     * {@code productos.instantanea.escritura.intervalo-ms}; si falla, se reintenta en la siguiente.
+     */
+    @Scheduled(fixedDelayString = "${productos.instantanea.escritura.intervalo-ms:300000}")
+    public void ejecutar() {
+        try {
+            gestorInstantaneaProductos.ejecutar();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo actualizar la instantánea de productos; se reintentará: {}", e.getMessage());
+        }
+    }
+}
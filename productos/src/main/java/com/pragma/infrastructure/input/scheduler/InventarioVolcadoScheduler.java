@@ -0,0 +1,34 @@
+package com.pragma.infrastructure.input.scheduler;
+
+import com.pragma.infrastructure.output.inventario.InventarioEnMemoria;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea periódica que vuelca a la base de datos los cambios de stock acumulados por el
+ * inventario en memoria. Solo existe con {@code productos.inventario.modo=memoria}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "productos.inventario.modo", havingValue = "memoria")
+public class InventarioVolcadoScheduler {
+
+    private final InventarioEnMemoria inventarioEnMemoria;
+
+    /**
+     * Vuelca los cambios pendientes. Si la base de datos falla, los cambios se conservan en memoria
+     * y en el WAL y se reintentan en la siguiente ejecución.
+     */
+    @Scheduled(fixedDelayString = "${productos.inventario.volcado.intervalo-ms:200}")
+    public void volcar() {
+        try {
+            inventarioEnMemoria.volcar();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo volcar el stock en memoria a la base de datos; se reintentará", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.pragma.infrastructure.input.scheduler;
+
+import com.pragma.application.port.input.ReservaInputPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea periódica que libera el stock de las reservas vencidas sin confirmar.
+ * <p>
+ * Cada ejecución procesa lotes de reservas vencidas hasta que no queda ninguna, de modo que un
+ * pico de vencimientos no tenga que esperar varios intervalos.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservaExpiracionScheduler {
+
+    private final ReservaInputPort reservaInputPort;
+
+    /**
+     * Expira las reservas vencidas. El intervalo entre ejecuciones se configura con
+     * {@code productos.reservas.expiracion.intervalo-ms}.
+     */
+    @Scheduled(fixedDelayString = "${productos.reservas.expiracion.intervalo-ms:5000}")
+    public void expirarReservasVencidas() {
+        int expiradas;
+        do {
+            expiradas = reservaInputPort.expirarReservasVencidas();
+            if (expiradas > 0) {
+                log.info("Reservas de stock expiradas: {}", expiradas);
+            }
+        } while (expiradas > 0);
+    }
+}
@@ -0,0 +1,207 @@
+package com.pragma.infrastructure.metricas;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * {@link DataSource} que mide cada sentencia ejecutada a través de sus conexiones.
+ * <p>
+ * Las conexiones y sentencias que entrega son proxies de las del {@link DataSource} original: cada
+ * ejecución ({@code execute*}, incluidos los lotes) se acumula por forma en las
+ * {@link EstadisticasSentencias}, y las que tardan al menos {@code umbralLentas} se registran en el log
+ * con nivel WARN. El log de sentencias lentas muestra la forma de la sentencia y, de los parámetros,
+ * solo su posición y su tipo: los valores nunca se escriben.
+ * </p>
+ * <p>
+ * {@link #unwrap(Class)} e {@link #isWrapperFor(Class)} delegan en el original, de modo que el pool
+ * de conexiones sigue siendo accesible para sus métricas.
+ * </p>
+ */
+@Slf4j
+public class DataSourceInstrumentado extends DelegatingDataSource {
+
+    private static final Set<String> EJECUCIONES = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final EstadisticasSentencias estadisticas;
+    private final long umbralLentasNanos;
+
+    /**
+     * Crea el {@link DataSource} instrumentado.
+     *
+     * @param destino El {@link DataSource} cuyas conexiones se instrumentan.
+     * @param estadisticas El acumulador de estadísticas por forma de sentencia.
+     * @param umbralLentas La duración a partir de la cual una sentencia se registra en el log.
+     */
+    public DataSourceInstrumentado(DataSource destino, EstadisticasSentencias estadisticas, Duration umbralLentas) {
+        super(destino);
+        this.estadisticas = estadisticas;
+        this.umbralLentasNanos = umbralLentas.toNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrumentar(super.getConnection());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrumentar(super.getConnection(username, password));
+    }
+
+    private Connection instrumentar(Connection conexion) {
+        return (Connection) Proxy.newProxyInstance(DataSourceInstrumentado.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConexionInstrumentada(conexion));
+    }
+
+    private void registrar(String sql, long nanos, boolean error, Map<Integer, Class<?>> parametros, int lote) {
+        estadisticas.registrar(sql, nanos, error);
+        if (nanos >= umbralLentasNanos && log.isWarnEnabled()) {
+            log.warn("Sentencia lenta ({} ms{}): {} parámetros {}", nanos / 1_000_000,
+                    lote > 0 ? ", lote de " + lote : "", EstadisticasSentencias.forma(sql), redactar(parametros));
+        }
+    }
+
+    private static String redactar(Map<Integer, Class<?>> parametros) {
+        StringJoiner tipos = new StringJoiner(", ", "[", "]");
+        parametros.forEach((posicion, tipo) -> tipos.add(posicion + ":" + (tipo == null ? "null" : tipo.getSimpleName())));
+        return tipos.toString();
+    }
+
+    private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destino, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Proxy de una conexión: instrumenta las sentencias que crea.
+     */
+    private final class ConexionInstrumentada implements InvocationHandler {
+
+        private final Connection destino;
+
+        ConexionInstrumentada(Connection destino) {
+            this.destino = destino;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            switch (metodo.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object resultado = invocar(destino, metodo, args);
+            if (resultado instanceof Statement sentencia) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                Class<?> tipo = sentencia instanceof CallableStatement ? CallableStatement.class
+                        : sentencia instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(DataSourceInstrumentado.class.getClassLoader(), new Class<?>[]{tipo},
+                        new SentenciaInstrumentada(sentencia, sql, (Connection) proxy));
+            }
+            return resultado;
+        }
+    }
+
+    /**
+     * Proxy de una sentencia: mide sus ejecuciones y recuerda los tipos, nunca los valores, de sus parámetros.
+     */
+    private final class SentenciaInstrumentada implements InvocationHandler {
+
+        private final Statement destino;
+        private final String sql;
+        private final Connection conexion;
+        private final Map<Integer, Class<?>> parametros = new TreeMap<>();
+        private final List<String> lote = new ArrayList<>();
+        private int elementosLote;
+
+        SentenciaInstrumentada(Statement destino, String sql, Connection conexion) {
+            this.destino = destino;
+            this.sql = sql;
+            this.conexion = conexion;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            String nombre = metodo.getName();
+            switch (nombre) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return conexion;
+                case "clearParameters":
+                    parametros.clear();
+                    break;
+                case "addBatch":
+                    if (args != null && args.length == 1 && args[0] instanceof String texto) {
+                        lote.add(texto);
+                    }
+                    elementosLote++;
+                    break;
+                case "clearBatch":
+                    lote.clear();
+                    elementosLote = 0;
+                    break;
+                default:
+                    if (nombre.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer posicion) {
+                        parametros.put(posicion, nombre.equals("setNull") || args[1] == null ? null : args[1].getClass());
+                    }
+                    break;
+            }
+            if (!EJECUCIONES.contains(nombre)) {
+                return invocar(destino, metodo, args);
+            }
+            boolean esLote = nombre.endsWith("Batch");
+            String ejecutada = args != null && args.length > 0 && args[0] instanceof String texto ? texto
+                    : esLote && sql == null ? String.join("; ", lote)
+                    : sql;
+            int elementos = esLote ? elementosLote : 0;
+            if (esLote) {
+                lote.clear();
+                elementosLote = 0;
+            }
+            long inicio = System.nanoTime();
+            boolean error = true;
+            try {
+                Object resultado = invocar(destino, metodo, args);
+                error = false;
+                return resultado;
+            } finally {
+                registrar(ejecutada, System.nanoTime() - inicio, error, parametros, elementos);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.pragma.infrastructure.metricas;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Acumula el número de ejecuciones y la latencia de las sentencias SQL agrupadas por forma.
+ * <p>
+ * La forma de una sentencia es su texto con los espacios normalizados, los literales de cadena y
+ * numéricos sustituidos por {@code ?} y las listas de parámetros de {@code IN (...)} reducidas a una,
+ * de modo que las ejecuciones de la misma consulta con distintos valores se acumulan juntas y los
+ * valores no se conservan. Se guardan como máximo {@code maximoFormas} formas; las ejecuciones de las
+ * formas que no caben se acumulan en {@value #OTRAS}.
+ * </p>
+ */
+public class EstadisticasSentencias {
+
+    /**
+     * Forma bajo la que se acumulan las sentencias cuando ya se alcanzó el máximo de formas.
+     */
+    public static final String OTRAS = "(otras)";
+
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+    private static final Pattern CADENAS = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMEROS = Pattern.compile("(?<![\\w$.])\\d+(?:\\.\\d+)?(?![\\w$])");
+    private static final Pattern LISTAS = Pattern.compile("\\b(IN)\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final int maximoFormas;
+    private final Map<String, Acumulado> porForma = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el acumulador.
+     *
+     * @param maximoFormas El número máximo de formas distintas que se acumulan por separado.
+     */
+    public EstadisticasSentencias(int maximoFormas) {
+        this.maximoFormas = maximoFormas;
+    }
+
+    /**
+     * Registra una ejecución de una sentencia.
+     *
+     * @param sql El texto de la sentencia, tal como se envió al driver.
+     * @param nanos La duración de la ejecución, en nanosegundos.
+     * @param error Si la ejecución terminó con una excepción.
+     */
+    public void registrar(String sql, long nanos, boolean error) {
+        String forma = forma(sql);
+        Acumulado acumulado = porForma.get(forma);
+        if (acumulado == null) {
+            acumulado = porForma.size() < maximoFormas
+                    ? porForma.computeIfAbsent(forma, f -> new Acumulado())
+                    : porForma.computeIfAbsent(OTRAS, f -> new Acumulado());
+        }
+        acumulado.registrar(nanos, error);
+    }
+
+    /**
+     * Obtiene las estadísticas acumuladas por forma.
+     *
+     * @return Una instantánea de cada forma, de mayor a menor tiempo total.
+     */
+    public List<Resumen> resumen() {
+        return porForma.entrySet().stream()
+                .map(entrada -> entrada.getValue().resumen(entrada.getKey()))
+                .sorted(Comparator.comparingDouble(Resumen::totalMs).reversed())
+                .toList();
+    }
+
+    /**
+     * Descarta las estadísticas acumuladas hasta ahora.
+     */
+    public void reiniciar() {
+        porForma.clear();
+    }
+
+    /**
+     * Calcula la forma de una sentencia.
+     *
+     * @param sql El texto de la sentencia.
+     * @return El texto normalizado, sin literales.
+     */
+    public static String forma(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String forma = CADENAS.matcher(sql).replaceAll("?");
+        forma = NUMEROS.matcher(forma).replaceAll("?");
+        forma = ESPACIOS.matcher(forma).replaceAll(" ").trim();
+        return LISTAS.matcher(forma).replaceAll("$1 (?)");
+    }
+
+    /**
+     * Estadísticas de una forma de sentencia.
+     *
+     * @param sentencia La forma de la sentencia.
+     * @param ejecuciones El número de ejecuciones.
+     * @param errores Cuántas de ellas terminaron con una excepción.
+     * @param totalMs El tiempo total de ejecución, en milisegundos.
+     * @param mediaMs El tiempo medio por ejecución, en milisegundos.
+     * @param maximoMs La ejecución más lenta, en milisegundos.
+     */
+    public record Resumen(String sentencia, long ejecuciones, long errores, double totalMs, double mediaMs,
+                          double maximoMs) {
+    }
+
+    private static final class Acumulado {
+
+        private final LongAdder ejecuciones = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maximoNanos = new LongAccumulator(Math::max, 0);
+
+        void registrar(long nanos, boolean error) {
+            ejecuciones.increment();
+            if (error) {
+                errores.increment();
+            }
+            totalNanos.add(nanos);
+            maximoNanos.accumulate(nanos);
+        }
+
+        Resumen resumen(String sentencia) {
+            long total = ejecuciones.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new Resumen(sentencia, total, errores.sum(), totalMs, total == 0 ? 0 : totalMs / total,
+                    maximoNanos.get() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.pragma.infrastructure.metricas;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Endpoint de Actuator ({@code /actuator/sentencias}) con las estadísticas de las sentencias SQL
+ * por forma: {@code GET} las consulta, de mayor a menor tiempo total, y {@code DELETE} las reinicia.
+ */
+@Endpoint(id = "sentencias")
+public class SentenciasEndpoint {
+
+    private final EstadisticasSentencias estadisticas;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param estadisticas El acumulador de estadísticas que se expone.
+     */
+    public SentenciasEndpoint(EstadisticasSentencias estadisticas) {
+        this.estadisticas = estadisticas;
+    }
+
+    /**
+     * Obtiene las estadísticas acumuladas.
+     *
+     * @return Las estadísticas de cada forma de sentencia, de mayor a menor tiempo total.
+     */
+    @ReadOperation
+    public List<EstadisticasSentencias.Resumen> sentencias() {
+        return estadisticas.resumen();
+    }
+
+    /**
+     * Descarta las estadísticas acumuladas.
+     */
+    @DeleteOperation
+    public void reiniciar() {
+        estadisticas.reiniciar();
+    }
+}
@@ -0,0 +1,188 @@
+package com.pragma.infrastructure.output.busqueda;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductRepository;
+import com.pragma.domain.repository.ProductSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProductSearchRepository} sobre un índice invertido en memoria, para las bases de datos sin
+ * búsqueda de texto completo (H2 en las pruebas).
+ * <p>
+ * Los textos se normalizan a minúsculas y sin tildes y se dividen en palabras. Un producto coincide si
+ * contiene todas las palabras de la consulta, y la relevancia suma, por palabra, sus apariciones
+ * (con peso {@value #PESO_NOMBRE} en el nombre y {@value #PESO_DESCRIPCION} en la descripción)
+ * multiplicadas por su rareza en el catálogo (IDF). No hay lematización: a diferencia de PostgreSQL,
+ * "zapato" no coincide con "zapatos".
+ * </p>
+ * <p>
+ * El índice se construye al arrancar a partir del catálogo y se actualiza cuando se confirma cada alta,
+ * modificación o baja. Es local a la instancia. Se activa con {@code productos.busqueda.motor=memoria}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "productos.busqueda.motor", havingValue = "memoria")
+public class IndiceInvertidoProductSearchRepository implements ProductSearchRepository, SmartInitializingSingleton {
+
+    static final float PESO_NOMBRE = 2.0f;
+    static final float PESO_DESCRIPCION = 1.0f;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Para cada palabra, el peso de la palabra en cada producto que la contiene.
+     */
+    private final Map<String, Map<Long, Float>> indice = new HashMap<>();
+
+    /**
+     * Para cada producto indexado, sus palabras; permite retirarlo del índice.
+     */
+    private final Map<Long, Set<String>> palabrasPorProducto = new HashMap<>();
+
+    private final ReentrantReadWriteLock bloqueo = new ReentrantReadWriteLock();
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param productRepository El repositorio del que se lee el catálogo al arrancar.
+     * @param transactionManager El gestor de transacciones, para recorrer el catálogo en una transacción de solo lectura.
+     */
+    public IndiceInvertidoProductSearchRepository(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Indexa todo el catálogo una vez creados todos los beans.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Producto> productos = productRepository.streamAll()) {
+                productos.forEach(this::indexar);
+            }
+        });
+        log.info("Índice de búsqueda en memoria construido con {} productos", palabrasPorProducto.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> search(String consulta, int limite, int desplazamiento) {
+        Set<String> palabras = new LinkedHashSet<>(NormalizadorTexto.palabras(consulta));
+        if (palabras.isEmpty()) {
+            return List.of();
+        }
+        bloqueo.readLock().lock();
+        try {
+            List<Map<Long, Float>> listas = new ArrayList<>(palabras.size());
+            for (String palabra : palabras) {
+                Map<Long, Float> lista = indice.get(palabra);
+                if (lista == null) {
+                    return List.of();
+                }
+                listas.add(lista);
+            }
+            // Se recorre la lista más corta y se comprueba la presencia en las demás.
+            listas.sort(Comparator.comparingInt(Map::size));
+            double totalProductos = palabrasPorProducto.size();
+            List<Map.Entry<Long, Double>> coincidencias = new ArrayList<>();
+            for (Long id : listas.get(0).keySet()) {
+                double puntuacion = 0;
+                for (Map<Long, Float> lista : listas) {
+                    Float peso = lista.get(id);
+                    if (peso == null) {
+                        puntuacion = -1;
+                        break;
+                    }
+                    puntuacion += peso * Math.log(1 + totalProductos / lista.size());
+                }
+                if (puntuacion >= 0) {
+                    coincidencias.add(Map.entry(id, puntuacion));
+                }
+            }
+            return coincidencias.stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .skip(desplazamiento)
+                    .limit(limite)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si hay una transacción activa, el cambio se aplica cuando esta se confirma.
+     * </p>
+     */
+    @Override
+    public void index(Producto producto) {
+        TrasConfirmacion.ejecutar(() -> indexar(producto));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si hay una transacción activa, el cambio se aplica cuando esta se confirma.
+     * </p>
+     */
+    @Override
+    public void remove(Long id) {
+        TrasConfirmacion.ejecutar(() -> retirar(id));
+    }
+
+    private void indexar(Producto producto) {
+        Map<String, Float> pesos = new HashMap<>();
+        NormalizadorTexto.palabras(producto.getNombre()).forEach(palabra -> pesos.merge(palabra, PESO_NOMBRE, Float::sum));
+        NormalizadorTexto.palabras(producto.getDescripcion()).forEach(palabra -> pesos.merge(palabra, PESO_DESCRIPCION, Float::sum));
+        bloqueo.writeLock().lock();
+        try {
+            retirar(producto.getId());
+            pesos.forEach((palabra, peso) -> indice.computeIfAbsent(palabra, p -> new HashMap<>()).put(producto.getId(), peso));
+            palabrasPorProducto.put(producto.getId(), pesos.keySet());
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+    }
+
+    private void retirar(Long id) {
+        bloqueo.writeLock().lock();
+        try {
+            Set<String> palabras = palabrasPorProducto.remove(id);
+            if (palabras == null) {
+                return;
+            }
+            for (String palabra : palabras) {
+                Map<Long, Float> lista = indice.get(palabra);
+                lista.remove(id);
+                if (lista.isEmpty()) {
+                    indice.remove(palabra);
+                }
+            }
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+    }
+}
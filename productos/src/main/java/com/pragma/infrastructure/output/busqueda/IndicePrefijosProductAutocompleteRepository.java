@@ -0,0 +1,141 @@
+package com.pragma.infrastructure.output.busqueda;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.SugerenciaProducto;
+import com.pragma.domain.repository.ProductAutocompleteRepository;
+import com.pragma.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProductAutocompleteRepository} sobre un mapa ordenado en memoria de los nombres normalizados
+ * (minúsculas, sin tildes) de los productos.
+ * <p>
+ * Los productos cuyo nombre empieza por un prefijo ocupan un rango contiguo del mapa, que se localiza
+ * en tiempo logarítmico y se recorre solo hasta el límite pedido. Las lecturas no bloquean y no acceden
+ * a la base de datos.
+ * </p>
+ * <p>
+ * El índice se construye al arrancar a partir del catálogo y se actualiza cuando se confirma cada alta,
+ * modificación o baja hecha por esta instancia; los productos creados por otras instancias aparecen tras
+ * el siguiente arranque.
+ * </p>
+ */
+@Slf4j
+@Component
+public class IndicePrefijosProductAutocompleteRepository implements ProductAutocompleteRepository, SmartInitializingSingleton {
+
+    /**
+     * Clave del mapa ordenado: nombre normalizado y, para desempatar nombres iguales, ID del producto.
+     */
+    private record Clave(String nombre, long id) {
+    }
+
+    private static final Comparator<Clave> ORDEN = Comparator.comparing(Clave::nombre).thenComparingLong(Clave::id);
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentSkipListMap<Clave, SugerenciaProducto> nombres = new ConcurrentSkipListMap<>(ORDEN);
+
+    /**
+     * Clave actual de cada producto indexado, para localizarla al renombrarlo o eliminarlo.
+     */
+    private final Map<Long, Clave> clavesPorProducto = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param productRepository El repositorio del que se lee el catálogo al arrancar.
+     * @param transactionManager El gestor de transacciones, para recorrer el catálogo en una transacción de solo lectura.
+     */
+    public IndicePrefijosProductAutocompleteRepository(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Indexa todo el catálogo una vez creados todos los beans.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Producto> productos = productRepository.streamAll()) {
+                productos.forEach(this::indexar);
+            }
+        });
+        log.info("Índice de autocompletado construido con {} productos", clavesPorProducto.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SugerenciaProducto> findByPrefix(String prefijo, int limite) {
+        String normalizado = NormalizadorTexto.normalizar(prefijo);
+        if (normalizado.isEmpty()) {
+            return List.of();
+        }
+        ConcurrentNavigableMap<Clave, SugerenciaProducto> desde = nombres.tailMap(new Clave(normalizado, Long.MIN_VALUE));
+        List<SugerenciaProducto> sugerencias = new ArrayList<>(Math.min(limite, 64));
+        for (Map.Entry<Clave, SugerenciaProducto> entrada : desde.entrySet()) {
+            if (sugerencias.size() >= limite || !entrada.getKey().nombre().startsWith(normalizado)) {
+                break;
+            }
+            sugerencias.add(entrada.getValue());
+        }
+        return sugerencias;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si hay una transacción activa, el cambio se aplica cuando esta se confirma.
+     * </p>
+     */
+    @Override
+    public void index(Producto producto) {
+        TrasConfirmacion.ejecutar(() -> indexar(producto));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si hay una transacción activa, el cambio se aplica cuando esta se confirma.
+     * </p>
+     */
+    @Override
+    public void remove(Long id) {
+        TrasConfirmacion.ejecutar(() -> retirar(id));
+    }
+
+    // Las escrituras se serializan para mantener coherentes los dos mapas; las lecturas no bloquean.
+    private synchronized void indexar(Producto producto) {
+        Clave nueva = new Clave(NormalizadorTexto.normalizar(producto.getNombre()), producto.getId());
+        Clave anterior = clavesPorProducto.put(producto.getId(), nueva);
+        nombres.put(nueva, new SugerenciaProducto(producto.getId(), producto.getNombre()));
+        if (anterior != null && !anterior.equals(nueva)) {
+            nombres.remove(anterior);
+        }
+    }
+
+    private synchronized void retirar(Long id) {
+        Clave anterior = clavesPorProducto.remove(id);
+        if (anterior != null) {
+            nombres.remove(anterior);
+        }
+    }
+}
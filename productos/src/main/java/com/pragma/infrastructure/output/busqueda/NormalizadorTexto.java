@@ -0,0 +1,45 @@
+package com.pragma.infrastructure.output.busqueda;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de textos para los índices en memoria: minúsculas, sin tildes ni otras marcas
+ * diacríticas y con los separadores reducidos a un espacio.
+ */
+final class NormalizadorTexto {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private NormalizadorTexto() {
+    }
+
+    /**
+     * Normaliza un texto conservando su orden de palabras.
+     *
+     * @param texto El texto a normalizar; puede ser nulo.
+     * @return Las palabras del texto en minúsculas y sin tildes, separadas por un espacio, o una cadena vacía.
+     */
+    static String normalizar(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return "";
+        }
+        String sinMarcas = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(sinMarcas.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Divide un texto en palabras normalizadas.
+     *
+     * @param texto El texto a dividir; puede ser nulo.
+     * @return Las palabras del texto, en orden y con repeticiones.
+     */
+    static List<String> palabras(String texto) {
+        String normalizado = normalizar(texto);
+        return normalizado.isEmpty() ? List.of() : Arrays.asList(normalizado.split(" "));
+    }
+}
@@ -0,0 +1,32 @@
+package com.pragma.infrastructure.output.busqueda;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aplazamiento de los cambios de los índices en memoria hasta que se confirma la transacción en
+ * curso, para que nunca reflejen escrituras que se acaban revirtiendo.
+ */
+final class TrasConfirmacion {
+
+    private TrasConfirmacion() {
+    }
+
+    /**
+     * Ejecuta el cambio cuando se confirme la transacción activa, o inmediatamente si no hay ninguna.
+     *
+     * @param cambio El cambio a aplicar.
+     */
+    static void ejecutar(Runnable cambio) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cambio.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cambio.run();
+            }
+        });
+    }
+}
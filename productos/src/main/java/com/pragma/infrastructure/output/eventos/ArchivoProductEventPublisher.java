@@ -0,0 +1,78 @@
+package com.pragma.infrastructure.output.eventos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.repository.ProductEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link ProductEventPublisher} que añade los eventos a un fichero NDJSON (un objeto JSON por línea).
+ * <p>
+ * Cada lote se escribe con una sola escritura y se sincroniza con el disco antes de dar el lote por
+ * publicado. Tras un fallo entre la escritura y la retirada de la bandeja de salida, el lote puede
+ * aparecer repetido en el fichero. Se activa con {@code productos.eventos.destino=archivo}, el valor
+ * por defecto, y el fichero se configura con {@code productos.eventos.archivo}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "productos.eventos.destino", havingValue = "archivo", matchIfMissing = true)
+public class ArchivoProductEventPublisher implements ProductEventPublisher {
+
+    private final Path archivo;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param archivo La ruta del fichero de eventos; su directorio se crea si no existe.
+     * @param objectMapper El ObjectMapper con el que se serializan los eventos.
+     */
+    public ArchivoProductEventPublisher(@Value("${productos.eventos.archivo}") Path archivo, ObjectMapper objectMapper) {
+        this.archivo = archivo;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void publish(List<EventoProducto> eventos) {
+        StringBuilder lineas = new StringBuilder(eventos.size() * 128);
+        try {
+            for (EventoProducto evento : eventos) {
+                lineas.append(objectMapper.writeValueAsString(evento)).append('\n');
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar un evento de producto.", e);
+        }
+        ByteBuffer contenido = ByteBuffer.wrap(lineas.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            Path directorio = archivo.toAbsolutePath().getParent();
+            if (directorio != null) {
+                Files.createDirectories(directorio);
+            }
+            try (FileChannel canal = FileChannel.open(archivo,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                while (contenido.hasRemaining()) {
+                    canal.write(contenido);
+                }
+                canal.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron escribir los eventos de productos en " + archivo, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.pragma.infrastructure.output.eventos;
+
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.repository.ProductEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ProductEventPublisher} que conserva los eventos publicados en memoria, para las pruebas y
+ * el desarrollo local. Se activa con {@code productos.eventos.destino=memoria}.
+ */
+@Component
+@ConditionalOnProperty(name = "productos.eventos.destino", havingValue = "memoria")
+public class MemoriaProductEventPublisher implements ProductEventPublisher {
+
+    private final List<EventoProducto> publicados = new ArrayList<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void publish(List<EventoProducto> eventos) {
+        publicados.addAll(eventos);
+    }
+
+    /**
+     * Obtiene los eventos publicados hasta ahora.
+     *
+     * @return Una copia de los eventos, en el orden en que se publicaron.
+     */
+    public synchronized List<EventoProducto> eventos() {
+        return List.copyOf(publicados);
+    }
+
+    /**
+     * Descarta los eventos publicados hasta ahora.
+     */
+    public synchronized void limpiar() {
+        publicados.clear();
+    }
+}
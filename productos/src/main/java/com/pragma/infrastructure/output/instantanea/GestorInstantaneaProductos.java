@@ -0,0 +1,121 @@
+package com.pragma.infrastructure.output.instantanea;
+
+import com.pragma.application.usecase.ProductUseCase;
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductRepository;
+import com.pragma.domain.repository.ProductVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Pone al día la caché de productos tras un arranque servido desde la {@link InstantaneaProductos} y
+ * mantiene actualizado el archivo de la instantánea para el siguiente arranque.
+ * <p>
+ * La primera ejecución recorre el catálogo en la base de datos con un cursor, carga cada producto en la
+ * caché {@value ProductUseCase#CACHE_PRODUCTOS} y, con esos mismos productos, escribe la instantánea nueva.
+ * Después retira la instantánea del {@link InstantaneaProductRepository} e invalida en la caché los
+ * productos que la instancia modificó durante el recorrido, que pudieron cargarse con su valor anterior.
+ * Las ejecuciones siguientes solo reescriben el archivo si la versión del catálogo cambió desde la última escritura.
+ * </p>
+ * <p>
+ * No es segura para uso concurrente: la invoca una única tarea periódica.
+ * </p>
+ */
+@Slf4j
+public class GestorInstantaneaProductos {
+
+    private final InstantaneaProductRepository repositorio;
+    private final ProductRepository baseDatos;
+    private final ProductVersionRepository productVersionRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transaccionLectura;
+    private final Path archivo;
+    private boolean puestaAlDia;
+    private String versionEscrita;
+
+    /**
+     * Crea el gestor.
+     *
+     * @param repositorio El repositorio que sirve la instantánea al arrancar.
+     * @param baseDatos El repositorio de base de datos con el que se pone al día.
+     * @param productVersionRepository Las versiones del catálogo, para no reescribir una instantánea sin cambios.
+     * @param cacheManager El gestor de la caché de productos que se pone al día.
+     * @param transaccionLectura Plantilla de transacciones de solo lectura para recorrer el catálogo.
+     * @param archivo El archivo de la instantánea.
+     */
+    public GestorInstantaneaProductos(InstantaneaProductRepository repositorio, ProductRepository baseDatos,
+                                      ProductVersionRepository productVersionRepository, CacheManager cacheManager,
+                                      TransactionTemplate transaccionLectura, Path archivo) {
+        this.repositorio = repositorio;
+        this.baseDatos = baseDatos;
+        this.productVersionRepository = productVersionRepository;
+        this.cacheManager = cacheManager;
+        this.transaccionLectura = transaccionLectura;
+        this.archivo = archivo;
+    }
+
+    /**
+     * Pone al día la caché si aún no se ha hecho y, si no, reescribe la instantánea si el catálogo cambió.
+     *
+     * @return {@code true} si se escribió el archivo de la instantánea.
+     */
+    public boolean ejecutar() {
+        if (!puestaAlDia) {
+            return ponerAlDia();
+        }
+        Optional<String> version = productVersionRepository.findCatalogVersion();
+        if (version.isPresent() && version.get().equals(versionEscrita)) {
+            return false;
+        }
+        int productos = escribir(null);
+        versionEscrita = version.orElse(null);
+        log.debug("Instantánea de productos escrita en {}: {} productos", archivo, productos);
+        return true;
+    }
+
+    private boolean ponerAlDia() {
+        long inicio = System.nanoTime();
+        Cache cache = cacheManager.getCache(ProductUseCase.CACHE_PRODUCTOS);
+        // La versión se lee antes que los productos: el contenido es al menos tan reciente como ella.
+        Optional<String> version = productVersionRepository.findCatalogVersion();
+        boolean escrita = false;
+        try {
+            escribir(cache);
+            versionEscrita = version.orElse(null);
+            escrita = true;
+        } catch (UncheckedIOException e) {
+            // La caché ya está al día aunque no se haya podido guardar el archivo: se reintenta en la siguiente ejecución.
+            log.warn("No se pudo escribir la instantánea de productos; se reintentará: {}", e.getMessage());
+        }
+        Set<Long> modificados = repositorio.retirarInstantanea();
+        if (cache != null) {
+            modificados.forEach(cache::evict);
+        }
+        puestaAlDia = true;
+        log.info("Caché de productos puesta al día desde la base de datos en {} ms; la instantánea deja de servirse",
+                (System.nanoTime() - inicio) / 1_000_000);
+        return escrita;
+    }
+
+    private int escribir(Cache cacheAPoner) {
+        Integer productos = transaccionLectura.execute(estado -> {
+            try (Stream<Producto> recorrido = baseDatos.streamAll()) {
+                Stream<Producto> aEscribir = cacheAPoner == null ? recorrido
+                        : recorrido.peek(producto -> cacheAPoner.put(producto.getId(), producto));
+                return InstantaneaProductos.escribir(archivo, aEscribir.iterator(), System.currentTimeMillis());
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo escribir la instantánea de productos en " + archivo, e);
+            }
+        });
+        return productos == null ? 0 : productos;
+    }
+}
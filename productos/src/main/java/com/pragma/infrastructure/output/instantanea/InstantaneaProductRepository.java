@@ -0,0 +1,198 @@
+package com.pragma.infrastructure.output.instantanea;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProductRepository} que, tras un arranque, responde las lecturas por ID desde una
+ * {@link InstantaneaProductos} mapeada en memoria hasta que la caché de productos se ha puesto al día
+ * desde la base de datos.
+ * <p>
+ * Decora al adaptador de base de datos. Mientras hay instantánea, {@link #findById(Long)},
+ * {@link #findAllById(List)} y {@link #existsById(Long)} la consultan primero y solo van a la base de
+ * datos para los IDs que no contiene; el resto de lecturas y todas las escrituras van siempre a la base
+ * de datos. Cada escritura marca antes su producto como modificado y, desde ese momento, ese producto
+ * deja de leerse de la instantánea: la instancia nunca sirve un dato anterior a sus propias escrituras.
+ * </p>
+ * <p>
+ * Los cambios hechos por otras instancias (o directamente en la base de datos) después de escribir la
+ * instantánea no se ven hasta que {@link #retirarInstantanea()} la retira, al terminar la puesta al día.
+ * </p>
+ */
+public class InstantaneaProductRepository implements ProductRepository {
+
+    private final ProductRepository delegado;
+    private final Set<Long> modificados = ConcurrentHashMap.newKeySet();
+    private volatile InstantaneaProductos instantanea;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param delegado El repositorio de base de datos.
+     * @param instantanea La instantánea con la que se sirven las lecturas al arrancar, o {@code null} si no hay.
+     */
+    public InstantaneaProductRepository(ProductRepository delegado, InstantaneaProductos instantanea) {
+        this.delegado = delegado;
+        this.instantanea = instantanea;
+    }
+
+    /**
+     * Indica si las lecturas por ID se siguen sirviendo desde la instantánea.
+     *
+     * @return {@code true} hasta que se retira la instantánea.
+     */
+    public boolean sirveInstantanea() {
+        return instantanea != null;
+    }
+
+    /**
+     * Deja de servir lecturas desde la instantánea; a partir de aquí todas van a la base de datos.
+     *
+     * @return Los IDs de los productos modificados mientras se servía la instantánea.
+     */
+    public Set<Long> retirarInstantanea() {
+        instantanea = null;
+        Set<Long> retirados = Set.copyOf(modificados);
+        modificados.clear();
+        return retirados;
+    }
+
+    private Optional<Producto> deInstantanea(Long id) {
+        InstantaneaProductos actual = instantanea;
+        if (actual == null || id == null || modificados.contains(id)) {
+            return Optional.empty();
+        }
+        return actual.buscar(id);
+    }
+
+    private void modificar(Long id) {
+        if (id != null && instantanea != null) {
+            modificados.add(id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Producto> findById(Long id) {
+        Optional<Producto> producto = deInstantanea(id);
+        return producto.isPresent() ? producto : delegado.findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Producto> findAll() {
+        return delegado.findAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Producto> findAllById(List<Long> ids) {
+        if (instantanea == null) {
+            return delegado.findAllById(ids);
+        }
+        List<Producto> productos = new ArrayList<>(ids.size());
+        List<Long> pendientes = new ArrayList<>();
+        for (Long id : ids) {
+            deInstantanea(id).ifPresentOrElse(productos::add, () -> pendientes.add(id));
+        }
+        if (!pendientes.isEmpty()) {
+            productos.addAll(delegado.findAllById(pendientes));
+        }
+        return productos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Producto> findNextPage(Long afterId, int limit) {
+        return delegado.findNextPage(afterId, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Producto> streamAll() {
+        return delegado.streamAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Producto save(Producto producto) {
+        modificar(producto.getId());
+        return delegado.save(producto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Producto> saveAll(List<Producto> productos) {
+        productos.forEach(producto -> modificar(producto.getId()));
+        return delegado.saveAll(productos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Producto> adjustStock(Long id, int delta) {
+        modificar(id);
+        return delegado.adjustStock(id, delta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Producto> update(Producto producto) {
+        modificar(producto.getId());
+        return delegado.update(producto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Producto> updateIfVersion(Producto producto) {
+        modificar(producto.getId());
+        return delegado.updateIfVersion(producto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteById(Long id) {
+        modificar(id);
+        delegado.deleteById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsById(Long id) {
+        InstantaneaProductos actual = instantanea;
+        if (actual != null && id != null && !modificados.contains(id) && actual.contiene(id)) {
+            return true;
+        }
+        return delegado.existsById(id);
+    }
+}
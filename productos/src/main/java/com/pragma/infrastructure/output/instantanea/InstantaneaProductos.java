@@ -0,0 +1,255 @@
+package com.pragma.infrastructure.output.instantanea;
+
+import com.pragma.domain.model.Producto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Instantánea binaria del catálogo de productos en un archivo, leída mediante un mapeo en memoria.
+ * <p>
+ * Formato (big-endian):
+ * </p>
+ * <ul>
+ *     <li>Cabecera de {@value #TAMANO_CABECERA} bytes: {@code magia:int, formato:int, registros:int,
+ *     tamanoTextos:int, creadaEn:long, crc32:int, reservado:int}. El CRC cubre los registros y los textos.</li>
+ *     <li>Registros de tamaño fijo ({@value #TAMANO_REGISTRO} bytes) ordenados por ID: {@code id:long,
+ *     version:long, precio:double, stock:int, nulos:int, nombreInicio:int, nombreLongitud:int,
+ *     descripcionInicio:int, descripcionLongitud:int}. Al ser de tamaño fijo y estar ordenados, la propia
+ *     tabla es el índice de IDs: el registro de un ID se localiza por búsqueda binaria sobre su desplazamiento.</li>
+ *     <li>Los textos en UTF-8, uno tras otro, referenciados desde los registros.</li>
+ * </ul>
+ * <p>
+ * Los productos no se copian al heap: cada búsqueda lee sus campos directamente de las páginas
+ * mapeadas. Al abrirla, el archivo se recorre una vez de forma secuencial para comprobar su CRC, lo
+ * que además deja sus páginas en la caché del sistema operativo. Las lecturas son absolutas sobre un
+ * buffer de solo lectura y se pueden hacer desde varios hilos a la vez.
+ * </p>
+ * <p>
+ * El archivo se escribe en uno temporal del mismo directorio que después lo sustituye con un
+ * movimiento atómico: una instantánea abierta (o un arranque a mitad de escritura) nunca ve un
+ * archivo a medio escribir.
+ * </p>
+ */
+public final class InstantaneaProductos {
+
+    static final int MAGIA = 0x50524F44; // "PROD"
+    static final int FORMATO = 1;
+    static final int TAMANO_CABECERA = 32;
+    static final int TAMANO_REGISTRO = 48;
+
+    private static final int NULO_VERSION = 1;
+    private static final int NULO_PRECIO = 1 << 1;
+    private static final int NULO_STOCK = 1 << 2;
+    private static final int NULO_NOMBRE = 1 << 3;
+    private static final int NULO_DESCRIPCION = 1 << 4;
+
+    private final ByteBuffer buffer;
+    private final int registros;
+    private final int inicioTextos;
+    private final long creadaEn;
+
+    private InstantaneaProductos(ByteBuffer buffer, int registros, long creadaEn) {
+        this.buffer = buffer;
+        this.registros = registros;
+        this.inicioTextos = TAMANO_CABECERA + registros * TAMANO_REGISTRO;
+        this.creadaEn = creadaEn;
+    }
+
+    /**
+     * Mapea en memoria una instantánea escrita con {@link #escribir(Path, Iterator, long)} y comprueba su integridad.
+     *
+     * @param archivo El archivo de la instantánea.
+     * @return La instantánea abierta.
+     * @throws IOException Si el archivo no se puede leer o no es una instantánea válida (formato desconocido,
+     *                     tamaño inconsistente o CRC incorrecto).
+     */
+    public static InstantaneaProductos abrir(Path archivo) throws IOException {
+        MappedByteBuffer mapeo;
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long tamano = canal.size();
+            if (tamano < TAMANO_CABECERA || tamano > Integer.MAX_VALUE) {
+                throw new IOException("Tamaño de instantánea no válido: " + tamano + " bytes.");
+            }
+            mapeo = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamano);
+        }
+        if (mapeo.getInt(0) != MAGIA || mapeo.getInt(4) != FORMATO) {
+            throw new IOException("El archivo " + archivo + " no es una instantánea de productos de formato " + FORMATO + ".");
+        }
+        int registros = mapeo.getInt(8);
+        int tamanoTextos = mapeo.getInt(12);
+        if (registros < 0 || tamanoTextos < 0
+                || (long) TAMANO_CABECERA + (long) registros * TAMANO_REGISTRO + tamanoTextos != mapeo.capacity()) {
+            throw new IOException("La instantánea " + archivo + " está truncada o tiene un tamaño inconsistente.");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(mapeo.slice(TAMANO_CABECERA, mapeo.capacity() - TAMANO_CABECERA));
+        if ((int) crc.getValue() != mapeo.getInt(24)) {
+            throw new IOException("CRC incorrecto en la instantánea " + archivo + ".");
+        }
+        return new InstantaneaProductos(mapeo.asReadOnlyBuffer(), registros, mapeo.getLong(16));
+    }
+
+    /**
+     * Escribe una instantánea con los productos indicados, sustituyendo de forma atómica la existente.
+     *
+     * @param archivo El archivo de la instantánea.
+     * @param productos Los productos, en orden estrictamente creciente de ID.
+     * @param creadaEn El instante de la instantánea, en milisegundos desde la época.
+     * @return El número de productos escritos.
+     * @throws IOException Si no se puede escribir el archivo.
+     * @throws IllegalArgumentException Si los productos no están ordenados por ID o alguno no tiene ID.
+     */
+    public static int escribir(Path archivo, Iterator<Producto> productos, long creadaEn) throws IOException {
+        ByteArrayOutputStream tabla = new ByteArrayOutputStream();
+        ByteArrayOutputStream textos = new ByteArrayOutputStream();
+        ByteBuffer registro = ByteBuffer.allocate(TAMANO_REGISTRO);
+        int registros = 0;
+        long anterior = Long.MIN_VALUE;
+        while (productos.hasNext()) {
+            Producto producto = productos.next();
+            if (producto.getId() == null || producto.getId() <= anterior) {
+                throw new IllegalArgumentException("Los productos de la instantánea deben tener ID y estar ordenados por ID.");
+            }
+            anterior = producto.getId();
+            int nulos = (producto.getVersion() == null ? NULO_VERSION : 0)
+                    | (producto.getPrecio() == null ? NULO_PRECIO : 0)
+                    | (producto.getStock() == null ? NULO_STOCK : 0)
+                    | (producto.getNombre() == null ? NULO_NOMBRE : 0)
+                    | (producto.getDescripcion() == null ? NULO_DESCRIPCION : 0);
+            registro.clear();
+            registro.putLong(producto.getId())
+                    .putLong(producto.getVersion() == null ? 0 : producto.getVersion())
+                    .putDouble(producto.getPrecio() == null ? 0 : producto.getPrecio())
+                    .putInt(producto.getStock() == null ? 0 : producto.getStock())
+                    .putInt(nulos);
+            texto(registro, textos, producto.getNombre());
+            texto(registro, textos, producto.getDescripcion());
+            tabla.write(registro.array(), 0, TAMANO_REGISTRO);
+            registros++;
+        }
+
+        byte[] bytesTabla = tabla.toByteArray();
+        byte[] bytesTextos = textos.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytesTabla);
+        crc.update(bytesTextos);
+        ByteBuffer cabecera = ByteBuffer.allocate(TAMANO_CABECERA)
+                .putInt(MAGIA).putInt(FORMATO).putInt(registros).putInt(bytesTextos.length)
+                .putLong(creadaEn).putInt((int) crc.getValue()).putInt(0)
+                .flip();
+
+        Path directorio = archivo.toAbsolutePath().getParent();
+        Files.createDirectories(directorio);
+        Path temporal = Files.createTempFile(directorio, archivo.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer[] partes = {cabecera, ByteBuffer.wrap(bytesTabla), ByteBuffer.wrap(bytesTextos)};
+                long pendiente = (long) TAMANO_CABECERA + bytesTabla.length + bytesTextos.length;
+                while (pendiente > 0) {
+                    pendiente -= canal.write(partes);
+                }
+                canal.force(true);
+            }
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+        return registros;
+    }
+
+    private static void texto(ByteBuffer registro, ByteArrayOutputStream textos, String valor) {
+        if (valor == null) {
+            registro.putInt(0).putInt(0);
+            return;
+        }
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        registro.putInt(textos.size()).putInt(bytes.length);
+        textos.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Busca un producto por su ID.
+     *
+     * @param id El ID del producto.
+     * @return El producto tal como estaba al escribir la instantánea, o vacío si no estaba en ella.
+     */
+    public Optional<Producto> buscar(long id) {
+        int posicion = posicion(id);
+        return posicion < 0 ? Optional.empty() : Optional.of(leer(posicion));
+    }
+
+    /**
+     * Indica si un producto estaba en la instantánea.
+     *
+     * @param id El ID del producto.
+     * @return {@code true} si la instantánea contiene el producto.
+     */
+    public boolean contiene(long id) {
+        return posicion(id) >= 0;
+    }
+
+    /**
+     * Obtiene el número de productos de la instantánea.
+     *
+     * @return El número de productos.
+     */
+    public int tamano() {
+        return registros;
+    }
+
+    /**
+     * Obtiene el instante en que se escribió la instantánea.
+     *
+     * @return Milisegundos desde la época.
+     */
+    public long getCreadaEn() {
+        return creadaEn;
+    }
+
+    private int posicion(long id) {
+        int desde = 0;
+        int hasta = registros - 1;
+        while (desde <= hasta) {
+            int medio = (desde + hasta) >>> 1;
+            long actual = buffer.getLong(TAMANO_CABECERA + medio * TAMANO_REGISTRO);
+            if (actual < id) {
+                desde = medio + 1;
+            } else if (actual > id) {
+                hasta = medio - 1;
+            } else {
+                return medio;
+            }
+        }
+        return -1;
+    }
+
+    private Producto leer(int posicion) {
+        int inicio = TAMANO_CABECERA + posicion * TAMANO_REGISTRO;
+        int nulos = buffer.getInt(inicio + 28);
+        return new Producto(
+                buffer.getLong(inicio),
+                (nulos & NULO_NOMBRE) != 0 ? null : texto(inicio + 32),
+                (nulos & NULO_DESCRIPCION) != 0 ? null : texto(inicio + 40),
+                (nulos & NULO_PRECIO) != 0 ? null : buffer.getDouble(inicio + 16),
+                (nulos & NULO_STOCK) != 0 ? null : buffer.getInt(inicio + 24),
+                (nulos & NULO_VERSION) != 0 ? null : buffer.getLong(inicio + 8));
+    }
+
+    private String texto(int referencia) {
+        byte[] bytes = new byte[buffer.getInt(referencia + 4)];
+        buffer.get(inicioTextos + buffer.getInt(referencia), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,34 @@
+package com.pragma.infrastructure.output.inventario;
+
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * Almacenamiento persistente del stock que respalda al {@link InventarioEnMemoria}.
+ */
+public interface AlmacenStock {
+
+    /**
+     * Lee el stock persistido de un producto.
+     *
+     * @param productoId El ID del producto.
+     * @return El stock, o vacío si el producto no existe.
+     */
+    OptionalInt leerStock(Long productoId);
+
+    /**
+     * Lee la secuencia del último cambio del WAL aplicado a la base de datos.
+     *
+     * @return La secuencia del último volcado, o 0 si nunca se ha volcado.
+     */
+    long leerCheckpoint();
+
+    /**
+     * Suma los cambios acumulados al stock persistido y registra la secuencia hasta la que
+     * están aplicados, todo en una única transacción.
+     *
+     * @param deltas Los cambios de stock por ID de producto.
+     * @param hastaSecuencia La secuencia del último cambio incluido.
+     */
+    void aplicar(Map<Long, Integer> deltas, long hastaSecuencia);
+}
@@ -0,0 +1,274 @@
+package com.pragma.infrastructure.output.inventario;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Motor de inventario que mantiene en memoria el stock de los productos.
+ * <p>
+ * Cada producto tiene su propio contador, que se actualiza con compare-and-set sin bloquear a los
+ * demás productos ni a la base de datos. Cada cambio se registra en el {@link WriteAheadLog} y la
+ * operación no se da por terminada hasta que el registro es durable en disco. Los cambios se acumulan
+ * por producto y {@link #volcar()} los aplica periódicamente a la base de datos en un lote, de modo
+ * que mil ventas de un mismo producto entre dos volcados se convierten en un único UPDATE.
+ * </p>
+ * <p>
+ * Al crear el motor se reaplican a la base de datos los cambios del WAL posteriores al último volcado.
+ * </p>
+ */
+@Slf4j
+public class InventarioEnMemoria implements AutoCloseable {
+
+    private final AlmacenStock almacen;
+    private final WriteAheadLog wal;
+    private final Map<Long, AtomicInteger> contadores = new ConcurrentHashMap<>();
+
+    /**
+     * Los cambios de stock y la rotación del WAL se excluyen mutuamente: los cambios toman el
+     * bloqueo de lectura (compartido) y el volcado el de escritura, solo mientras intercambia
+     * el mapa de cambios pendientes.
+     */
+    private final ReadWriteLock bloqueo = new ReentrantReadWriteLock();
+    private volatile Map<Long, Integer> pendientes = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el motor, reaplicando antes los cambios del WAL que no llegaron a volcarse.
+     *
+     * @param almacen El almacenamiento persistente del stock.
+     * @param directorioWal El directorio de los segmentos del WAL.
+     * @throws UncheckedIOException Si no se puede leer o crear el WAL.
+     */
+    public InventarioEnMemoria(AlmacenStock almacen, Path directorioWal) {
+        this.almacen = almacen;
+        try {
+            long checkpoint = almacen.leerCheckpoint();
+            WriteAheadLog.Recuperacion recuperacion = WriteAheadLog.recuperar(directorioWal, checkpoint);
+            if (!recuperacion.deltas().isEmpty()) {
+                log.info("Reaplicando {} cambios de stock pendientes del WAL (secuencias {}..{})",
+                        recuperacion.deltas().size(), checkpoint + 1, recuperacion.ultimaSecuencia());
+                almacen.aplicar(recuperacion.deltas(), recuperacion.ultimaSecuencia());
+            }
+            for (Path segmento : recuperacion.segmentos()) {
+                Files.deleteIfExists(segmento);
+            }
+            this.wal = new WriteAheadLog(directorioWal, recuperacion.ultimaSecuencia());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo recuperar el WAL del inventario en " + directorioWal, e);
+        }
+    }
+
+    /**
+     * Suma {@code delta} al stock del producto solo si el resultado no es negativo.
+     *
+     * @param productoId El ID del producto.
+     * @param delta El cambio de stock.
+     * @return El stock resultante, o vacío si el producto no existe o el stock quedaría negativo.
+     * @throws UncheckedIOException Si el cambio no se pudo escribir en el WAL; en ese caso no se aplica.
+     */
+    public OptionalInt ajustar(Long productoId, int delta) {
+        int nuevo;
+        AtomicInteger contador;
+        CompletableFuture<Void> durable;
+        bloqueo.readLock().lock();
+        try {
+            contador = contador(productoId);
+            if (contador == null) {
+                return OptionalInt.empty();
+            }
+            int actual;
+            do {
+                actual = contador.get();
+                nuevo = Math.addExact(actual, delta);
+                if (nuevo < 0) {
+                    return OptionalInt.empty();
+                }
+            } while (!contador.compareAndSet(actual, nuevo));
+            durable = registrar(productoId, delta);
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+        esperarODeshacer(durable, productoId, contador, delta);
+        return OptionalInt.of(nuevo);
+    }
+
+    /**
+     * Fija el stock de un producto a un valor absoluto, registrándolo como un cambio relativo
+     * respecto del stock actual.
+     *
+     * @param productoId El ID del producto.
+     * @param stock El nuevo stock. No debe ser negativo.
+     * @return El stock anterior, o vacío si el producto no existe.
+     * @throws UncheckedIOException Si el cambio no se pudo escribir en el WAL; en ese caso no se aplica.
+     */
+    public OptionalInt fijar(Long productoId, int stock) {
+        int anterior;
+        AtomicInteger contador;
+        CompletableFuture<Void> durable;
+        bloqueo.readLock().lock();
+        try {
+            contador = contador(productoId);
+            if (contador == null) {
+                return OptionalInt.empty();
+            }
+            anterior = contador.getAndSet(stock);
+            durable = registrar(productoId, stock - anterior);
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+        esperarODeshacer(durable, productoId, contador, stock - anterior);
+        return OptionalInt.of(anterior);
+    }
+
+    /**
+     * Suma {@code delta} al stock de un producto ya cargado sin comprobar el resultado.
+     * Se usa para deshacer cambios de una transacción revertida.
+     *
+     * @param productoId El ID del producto.
+     * @param delta El cambio de stock.
+     */
+    public void compensar(Long productoId, int delta) {
+        CompletableFuture<Void> durable;
+        bloqueo.readLock().lock();
+        try {
+            AtomicInteger contador = contadores.get(productoId);
+            if (contador == null) {
+                return;
+            }
+            contador.addAndGet(delta);
+            durable = registrar(productoId, delta);
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+        esperar(durable);
+    }
+
+    /**
+     * Obtiene el stock en memoria de un producto, si ya está cargado.
+     *
+     * @param productoId El ID del producto.
+     * @return El stock en memoria, o {@code null} si el producto no se ha cargado todavía.
+     */
+    public Integer stock(Long productoId) {
+        AtomicInteger contador = contadores.get(productoId);
+        return contador != null ? contador.get() : null;
+    }
+
+    /**
+     * Descarta el contador de un producto eliminado.
+     *
+     * @param productoId El ID del producto.
+     */
+    public void olvidar(Long productoId) {
+        contadores.remove(productoId);
+    }
+
+    /**
+     * Aplica a la base de datos, en una transacción, los cambios acumulados desde el último volcado
+     * y elimina los segmentos del WAL que los contenían. Si la base de datos falla, los cambios vuelven
+     * a quedar pendientes para el siguiente volcado.
+     *
+     * @return El número de productos actualizados.
+     */
+    public synchronized int volcar() {
+        Map<Long, Integer> lote;
+        WriteAheadLog.Rotacion rotacion;
+        bloqueo.writeLock().lock();
+        try {
+            if (pendientes.isEmpty()) {
+                return 0;
+            }
+            lote = pendientes;
+            pendientes = new ConcurrentHashMap<>();
+            rotacion = wal.rotar();
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+        try {
+            almacen.aplicar(lote, rotacion.hastaSecuencia());
+        } catch (RuntimeException e) {
+            lote.forEach(this::acumular);
+            throw e;
+        }
+        wal.purgar(rotacion.segmento().join());
+        return lote.size();
+    }
+
+    /**
+     * Vuelca los cambios pendientes y cierra el WAL.
+     */
+    @Override
+    public void close() {
+        try {
+            volcar();
+        } finally {
+            wal.close();
+        }
+    }
+
+    private AtomicInteger contador(Long productoId) {
+        return contadores.computeIfAbsent(productoId, id -> {
+            OptionalInt stock = almacen.leerStock(id);
+            return stock.isPresent() ? new AtomicInteger(stock.getAsInt()) : null;
+        });
+    }
+
+    private CompletableFuture<Void> registrar(Long productoId, int delta) {
+        acumular(productoId, delta);
+        return wal.append(productoId, delta);
+    }
+
+    private void acumular(Long productoId, int delta) {
+        pendientes.merge(productoId, delta, (a, b) -> {
+            int suma = a + b;
+            return suma == 0 ? null : suma;
+        });
+    }
+
+    /**
+     * Espera a que el cambio sea durable en el WAL. Si la escritura falla, resta el cambio del contador
+     * y de los pendientes antes de propagar el error, de modo que quien reintente no lo aplique dos veces.
+     * Se deshace como un cambio relativo para no pisar los cambios concurrentes del mismo producto.
+     */
+    private void esperarODeshacer(CompletableFuture<Void> durable, Long productoId, AtomicInteger contador, int delta) {
+        try {
+            esperar(durable);
+        } catch (RuntimeException e) {
+            bloqueo.readLock().lock();
+            try {
+                contador.addAndGet(-delta);
+                acumular(productoId, -delta);
+            } finally {
+                bloqueo.readLock().unlock();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Espera a que el cambio sea durable en el WAL. Si la escritura en disco falla, el error se propaga
+     * porque el cambio no sobreviviría a un reinicio.
+     */
+    private static void esperar(CompletableFuture<Void> durable) {
+        try {
+            durable.join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException io) {
+                throw new UncheckedIOException("No se pudo escribir el cambio de stock en el WAL", io);
+            }
+            throw e;
+        }
+    }
+}
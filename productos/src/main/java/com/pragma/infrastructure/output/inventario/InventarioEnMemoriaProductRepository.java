@@ -0,0 +1,233 @@
+package com.pragma.infrastructure.output.inventario;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProductRepository} para el modo de inventario en memoria.
+ * <p>
+ * Decora al adaptador de base de datos: los cambios de stock se resuelven en el {@link InventarioEnMemoria}
+ * sin tocar la base de datos, y las lecturas devuelven el stock en memoria, que puede ir por delante del
+ * persistido hasta el siguiente volcado. El resto de datos del producto se leen y escriben en la base de datos.
+ * </p>
+ * <p>
+ * Los cambios de stock hechos dentro de una transacción que se revierte se compensan en memoria,
+ * de modo que las operaciones de todo o nada (como las reservas) mantienen su semántica.
+ * </p>
+ * <p>
+ * El stock en memoria es local a la instancia: este modo requiere una única instancia del servicio
+ * escribiendo en la base de datos de productos.
+ * </p>
+ */
+public class InventarioEnMemoriaProductRepository implements ProductRepository {
+
+    private final ProductRepository delegado;
+    private final InventarioEnMemoria inventario;
+
+    /**
+     * Datos de los productos cuyo stock se ha modificado, para responder a los cambios de stock sin leer la base de datos.
+     */
+    private final Map<Long, Producto> fichas = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param delegado El repositorio de base de datos.
+     * @param inventario El motor de inventario en memoria.
+     */
+    public InventarioEnMemoriaProductRepository(ProductRepository delegado, InventarioEnMemoria inventario) {
+        this.delegado = delegado;
+        this.inventario = inventario;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Producto> findById(Long id) {
+        return delegado.findById(id).map(this::conStockEnMemoria);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Producto> findAll() {
+        return delegado.findAll().stream().map(this::conStockEnMemoria).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Producto> findAllById(List<Long> ids) {
+        return delegado.findAllById(ids).stream().map(this::conStockEnMemoria).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Producto> findNextPage(Long afterId, int limit) {
+        return delegado.findNextPage(afterId, limit).stream().map(this::conStockEnMemoria).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Producto> streamAll() {
+        return delegado.streamAll().map(this::conStockEnMemoria);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Para un producto existente, el stock se fija en memoria y el resto de campos se guarda en la
+     * base de datos sin sobrescribir el stock persistido, que solo actualizan los volcados.
+     * </p>
+     */
+    @Override
+    public Producto save(Producto producto) {
+        if (producto.getId() == null || producto.getStock() == null) {
+            return delegado.save(producto);
+        }
+        Long id = producto.getId();
+        OptionalInt anterior = inventario.fijar(id, producto.getStock());
+        if (anterior.isEmpty()) {
+            return delegado.save(producto);
+        }
+        compensarSiSeRevierte(id, anterior.getAsInt() - producto.getStock());
+        Integer stockPersistido = delegado.findById(id).map(Producto::getStock).orElse(producto.getStock());
+        Producto guardado = delegado.save(copiar(producto, stockPersistido));
+        fichas.put(id, guardado);
+        return conStockEnMemoria(guardado);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Producto> saveAll(List<Producto> productos) {
+        return delegado.saveAll(productos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Producto> adjustStock(Long id, int delta) {
+        OptionalInt stock = inventario.ajustar(id, delta);
+        if (stock.isEmpty()) {
+            return Optional.empty();
+        }
+        compensarSiSeRevierte(id, -delta);
+        Producto ficha = fichas.get(id);
+        if (ficha == null) {
+            Optional<Producto> leido = delegado.findById(id);
+            if (leido.isEmpty()) {
+                return Optional.empty();
+            }
+            ficha = leido.get();
+            fichas.put(id, ficha);
+        }
+        return Optional.of(copiar(ficha, stock.getAsInt()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los datos se guardan en la base de datos sin el stock, y el stock se fija en memoria.
+     * </p>
+     */
+    @Override
+    public Optional<Producto> update(Producto producto) {
+        return actualizarConStockEnMemoria(producto, delegado::update);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La versión se comprueba en la base de datos, donde se guardan los datos sin el stock; si coincide,
+     * el stock se fija en memoria. Los cambios de stock en memoria no avanzan la versión.
+     * </p>
+     */
+    @Override
+    public Optional<Producto> updateIfVersion(Producto producto) {
+        return actualizarConStockEnMemoria(producto, delegado::updateIfVersion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteById(Long id) {
+        delegado.deleteById(id);
+        fichas.remove(id);
+        inventario.olvidar(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsById(Long id) {
+        return delegado.existsById(id);
+    }
+
+    private Optional<Producto> actualizarConStockEnMemoria(Producto producto,
+                                                           Function<Producto, Optional<Producto>> actualizacion) {
+        if (producto.getStock() == null) {
+            return actualizacion.apply(producto);
+        }
+        Long id = producto.getId();
+        Optional<Producto> actualizado = actualizacion.apply(copiar(producto, null));
+        if (actualizado.isEmpty()) {
+            return Optional.empty();
+        }
+        OptionalInt anterior = inventario.fijar(id, producto.getStock());
+        if (anterior.isEmpty()) {
+            return Optional.empty();
+        }
+        compensarSiSeRevierte(id, anterior.getAsInt() - producto.getStock());
+        fichas.put(id, actualizado.get());
+        return Optional.of(copiar(actualizado.get(), producto.getStock()));
+    }
+
+    private Producto conStockEnMemoria(Producto producto) {
+        Integer stock = inventario.stock(producto.getId());
+        if (stock != null) {
+            producto.setStock(stock);
+        }
+        return producto;
+    }
+
+    private void compensarSiSeRevierte(Long id, int delta) {
+        if (delta == 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    inventario.compensar(id, delta);
+                }
+            }
+        });
+    }
+
+    private static Producto copiar(Producto producto, Integer stock) {
+        return new Producto(producto.getId(), producto.getNombre(), producto.getDescripcion(), producto.getPrecio(), stock,
+                producto.getVersion());
+    }
+}
@@ -0,0 +1,71 @@
+package com.pragma.infrastructure.output.inventario;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+
+/**
+ * {@link AlmacenStock} sobre la tabla {@code productos} mediante JDBC.
+ * <p>
+ * Los cambios se aplican con {@code UPDATE ... SET stock = stock + ?} en un lote JDBC, junto con la
+ * secuencia del último cambio aplicado en la tabla {@code inventario_checkpoint}, dentro de la misma
+ * transacción: tras un fallo, el WAL se reaplica exactamente desde esa secuencia.
+ * </p>
+ */
+public class JdbcAlmacenStock implements AlmacenStock {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor que además crea, si no existe, la tabla del checkpoint.
+     *
+     * @param jdbcTemplate El acceso JDBC a la base de datos de productos.
+     * @param transactionTemplate La plantilla de transacciones para los volcados.
+     */
+    public JdbcAlmacenStock(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS inventario_checkpoint ("
+                + "id INTEGER PRIMARY KEY, ultima_secuencia BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO inventario_checkpoint (id, ultima_secuencia) "
+                + "SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM inventario_checkpoint WHERE id = 1)");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalInt leerStock(Long productoId) {
+        List<Integer> stock = jdbcTemplate.queryForList("SELECT stock FROM productos WHERE id = ?", Integer.class, productoId);
+        return stock.isEmpty() ? OptionalInt.empty() : OptionalInt.of(stock.get(0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long leerCheckpoint() {
+        Long secuencia = jdbcTemplate.queryForObject("SELECT ultima_secuencia FROM inventario_checkpoint WHERE id = 1", Long.class);
+        return secuencia != null ? secuencia : 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void aplicar(Map<Long, Integer> deltas, long hastaSecuencia) {
+        // En orden de ID para bloquear las filas en el mismo orden que el resto de escrituras
+        List<Object[]> lote = new ArrayList<>(deltas.size());
+        new TreeMap<>(deltas).forEach((productoId, delta) -> lote.add(new Object[]{delta, productoId}));
+        transactionTemplate.executeWithoutResult(estado -> {
+            jdbcTemplate.batchUpdate("UPDATE productos SET stock = stock + ? WHERE id = ?", lote);
+            jdbcTemplate.update("UPDATE inventario_checkpoint SET ultima_secuencia = ? WHERE id = 1", hastaSecuencia);
+        });
+    }
+}
@@ -0,0 +1,306 @@
+package com.pragma.infrastructure.output.inventario;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Registro de escritura anticipada (WAL) de los cambios de stock del inventario en memoria.
+ * <p>
+ * Cada cambio se guarda como un registro binario de tamaño fijo
+ * ({@code secuencia:long, productoId:long, delta:int, crc32:int}) en segmentos
+ * {@code wal-<secuencia>.log}. Un único hilo escritor agrupa los registros pendientes, los escribe
+ * y hace un solo {@code fsync} por grupo (group commit): cada llamada a {@link #append(Long, int)}
+ * se completa cuando su registro es durable, y el coste del {@code fsync} se reparte entre todas
+ * las escrituras concurrentes.
+ * </p>
+ * <p>
+ * {@link #rotar()} cierra el segmento actual; una vez volcados a la base de datos los cambios
+ * de los segmentos cerrados, {@link #purgar(Path)} los elimina. Al arrancar,
+ * {@link #recuperar(Path, long)} lee los registros íntegros posteriores al último volcado;
+ * un registro final incompleto o con CRC inválido (escritura interrumpida) se descarta.
+ * </p>
+ */
+public class WriteAheadLog implements AutoCloseable {
+
+    static final int TAMANO_REGISTRO = Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int MAXIMO_REGISTROS_POR_GRUPO = 4096;
+    private static final String PREFIJO = "wal-";
+    private static final String SUFIJO = ".log";
+
+    private final Path directorio;
+    private final AtomicLong secuencia;
+    private final BlockingQueue<Entrada> cola = new LinkedBlockingQueue<>();
+    private final Deque<Path> segmentosCerrados = new ConcurrentLinkedDeque<>();
+    private final Thread escritor;
+    private volatile boolean abierto = true;
+    private FileChannel canal;
+    private Path segmentoActual;
+
+    /**
+     * Abre un WAL nuevo en el directorio indicado. Los segmentos existentes deben haberse
+     * recuperado y volcado antes con {@link #recuperar(Path, long)} y {@link Recuperacion#segmentos()}.
+     *
+     * @param directorio El directorio de los segmentos.
+     * @param ultimaSecuencia La última secuencia usada; los nuevos registros empiezan en la siguiente.
+     * @throws IOException Si no se puede crear el directorio o el primer segmento.
+     */
+    public WriteAheadLog(Path directorio, long ultimaSecuencia) throws IOException {
+        this.directorio = directorio;
+        this.secuencia = new AtomicLong(ultimaSecuencia);
+        Files.createDirectories(directorio);
+        this.canal = abrirSegmento(ultimaSecuencia + 1);
+        this.escritor = new Thread(this::escribir, "inventario-wal");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    /**
+     * Añade un cambio de stock al WAL.
+     *
+     * @param productoId El ID del producto.
+     * @param delta El cambio de stock.
+     * @return Un futuro que se completa cuando el registro es durable en disco.
+     */
+    public CompletableFuture<Void> append(Long productoId, int delta) {
+        if (!abierto) {
+            return CompletableFuture.failedFuture(new IllegalStateException("El WAL del inventario está cerrado."));
+        }
+        Entrada entrada = new Entrada(secuencia.incrementAndGet(), productoId, delta, new CompletableFuture<>());
+        cola.add(entrada);
+        return entrada.durable;
+    }
+
+    /**
+     * Cierra el segmento actual y empieza uno nuevo. Todos los registros añadidos antes de esta
+     * llamada quedan en el segmento cerrado y todos los posteriores en el nuevo, siempre que no
+     * se llame concurrentemente con {@link #append(Long, int)}.
+     *
+     * @return La última secuencia incluida en el segmento cerrado y un futuro con su ruta.
+     */
+    public Rotacion rotar() {
+        long hasta = secuencia.get();
+        CompletableFuture<Path> cerrado = new CompletableFuture<>();
+        cola.add(new Entrada(hasta, null, 0, null, cerrado));
+        return new Rotacion(hasta, cerrado);
+    }
+
+    /**
+     * Elimina los segmentos cerrados hasta el indicado, incluido, cuyos cambios ya están en la base de datos.
+     *
+     * @param hasta El último segmento a eliminar.
+     */
+    public void purgar(Path hasta) {
+        Path segmento;
+        while ((segmento = segmentosCerrados.peekFirst()) != null) {
+            try {
+                Files.deleteIfExists(segmento);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            segmentosCerrados.pollFirst();
+            if (segmento.equals(hasta)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Espera a que se escriban los registros pendientes y cierra el segmento actual.
+     */
+    @Override
+    public void close() {
+        abierto = false;
+        try {
+            escritor.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void escribir() {
+        List<Entrada> grupo = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MAXIMO_REGISTROS_POR_GRUPO * TAMANO_REGISTRO);
+        CRC32 crc = new CRC32();
+        try {
+            while (abierto || !cola.isEmpty()) {
+                Entrada primera = cola.poll(50, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                grupo.add(primera);
+                cola.drainTo(grupo, MAXIMO_REGISTROS_POR_GRUPO - 1);
+                escribirGrupo(grupo, buffer, crc);
+                grupo.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            cerrarCanal();
+        }
+    }
+
+    private void escribirGrupo(List<Entrada> grupo, ByteBuffer buffer, CRC32 crc) {
+        List<Entrada> escritas = new ArrayList<>(grupo.size());
+        try {
+            for (Entrada entrada : grupo) {
+                if (entrada.rotacion != null) {
+                    sincronizar(buffer, escritas);
+                    Path cerrado = segmentoActual;
+                    canal.close();
+                    segmentosCerrados.addLast(cerrado);
+                    canal = abrirSegmento(entrada.secuencia + 1);
+                    entrada.rotacion.complete(cerrado);
+                    continue;
+                }
+                int inicio = buffer.position();
+                buffer.putLong(entrada.secuencia).putLong(entrada.productoId).putInt(entrada.delta);
+                crc.reset();
+                crc.update(buffer.slice(inicio, TAMANO_REGISTRO - Integer.BYTES));
+                buffer.putInt((int) crc.getValue());
+                escritas.add(entrada);
+            }
+            sincronizar(buffer, escritas);
+        } catch (IOException | RuntimeException e) {
+            buffer.clear();
+            for (Entrada entrada : grupo) {
+                if (entrada.rotacion != null) {
+                    entrada.rotacion.completeExceptionally(e);
+                } else {
+                    entrada.durable.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void sincronizar(ByteBuffer buffer, List<Entrada> escritas) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+        if (!escritas.isEmpty()) {
+            canal.force(false);
+            escritas.forEach(e -> e.durable.complete(null));
+            escritas.clear();
+        }
+    }
+
+    private FileChannel abrirSegmento(long primeraSecuencia) throws IOException {
+        segmentoActual = directorio.resolve(String.format("%s%020d%s", PREFIJO, primeraSecuencia, SUFIJO));
+        return FileChannel.open(segmentoActual, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void cerrarCanal() {
+        try {
+            if (canal != null && canal.isOpen()) {
+                canal.force(false);
+                canal.close();
+            }
+        } catch (IOException ignored) {
+            // Los registros pendientes ya se informaron como fallidos a quien los añadió.
+        }
+    }
+
+    /**
+     * Lee los segmentos existentes y acumula, por producto, los cambios con secuencia posterior a
+     * {@code desdeSecuencia}. Se detiene en el primer registro incompleto o corrupto de cada segmento.
+     *
+     * @param directorio El directorio de los segmentos.
+     * @param desdeSecuencia La secuencia del último cambio ya volcado a la base de datos.
+     * @return Los cambios pendientes acumulados, la mayor secuencia leída y los segmentos leídos.
+     * @throws IOException Si no se pueden leer los segmentos.
+     */
+    public static Recuperacion recuperar(Path directorio, long desdeSecuencia) throws IOException {
+        Map<Long, Integer> deltas = new HashMap<>();
+        long maxima = desdeSecuencia;
+        List<Path> segmentos = new ArrayList<>();
+        if (!Files.isDirectory(directorio)) {
+            return new Recuperacion(deltas, maxima, segmentos);
+        }
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            archivos.filter(p -> {
+                String nombre = p.getFileName().toString();
+                return nombre.startsWith(PREFIJO) && nombre.endsWith(SUFIJO);
+            }).sorted().forEach(segmentos::add);
+        }
+        CRC32 crc = new CRC32();
+        for (Path segmento : segmentos) {
+            ByteBuffer contenido = ByteBuffer.wrap(Files.readAllBytes(segmento));
+            while (contenido.remaining() >= TAMANO_REGISTRO) {
+                int inicio = contenido.position();
+                long secuencia = contenido.getLong();
+                long productoId = contenido.getLong();
+                int delta = contenido.getInt();
+                crc.reset();
+                crc.update(contenido.array(), inicio, TAMANO_REGISTRO - Integer.BYTES);
+                if (contenido.getInt() != (int) crc.getValue()) {
+                    break;
+                }
+                if (secuencia > desdeSecuencia) {
+                    deltas.merge(productoId, delta, Integer::sum);
+                }
+                maxima = Math.max(maxima, secuencia);
+            }
+        }
+        deltas.values().removeIf(d -> d == 0);
+        return new Recuperacion(deltas, maxima, segmentos);
+    }
+
+    /**
+     * Resultado de {@link #recuperar(Path, long)}.
+     *
+     * @param deltas Los cambios de stock pendientes de volcar, acumulados por producto.
+     * @param ultimaSecuencia La mayor secuencia encontrada (o la de partida si no hay registros posteriores).
+     * @param segmentos Los segmentos leídos, que pueden eliminarse una vez volcados los cambios.
+     */
+    public record Recuperacion(Map<Long, Integer> deltas, long ultimaSecuencia, List<Path> segmentos) {
+    }
+
+    /**
+     * Resultado de {@link #rotar()}.
+     *
+     * @param hastaSecuencia La última secuencia incluida en el segmento cerrado.
+     * @param segmento Futuro que se completa con la ruta del segmento cuando queda cerrado.
+     */
+    public record Rotacion(long hastaSecuencia, CompletableFuture<Path> segmento) {
+    }
+
+    private static final class Entrada {
+        private final long secuencia;
+        private final Long productoId;
+        private final int delta;
+        private final CompletableFuture<Void> durable;
+        private final CompletableFuture<Path> rotacion;
+
+        private Entrada(long secuencia, Long productoId, int delta, CompletableFuture<Void> durable) {
+            this(secuencia, productoId, delta, durable, null);
+        }
+
+        private Entrada(long secuencia, Long productoId, int delta, CompletableFuture<Void> durable,
+                        CompletableFuture<Path> rotacion) {
+            this.secuencia = secuencia;
+            this.productoId = productoId;
+            this.delta = delta;
+            this.durable = durable;
+            this.rotacion = rotacion;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.pragma.infrastructure.output.persistence.adapter;
+
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.domain.repository.ProductEventOutboxRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adaptador que implementa {@link ProductEventOutboxRepository} con JDBC sobre la tabla
+ * {@code productos_eventos}.
+ * <p>
+ * Antes de registrar los eventos se vuelcan los cambios pendientes del contexto de persistencia: así
+ * la fila del producto ya está bloqueada cuando se toma la posición del evento de la secuencia, y una
+ * transacción concurrente sobre el mismo producto solo puede obtener una posición posterior. Los eventos
+ * se insertan en un lote JDBC, tomando cada posición con {@code nextval} en la propia sentencia.
+ * </p>
+ */
+@Repository
+public class JdbcProductEventOutboxAdapter implements ProductEventOutboxRepository {
+
+    private static final String INSERTAR = "INSERT INTO productos_eventos "
+            + "(id, tipo, producto_id, nombre, precio, stock, ocurrido_en) "
+            + "VALUES (nextval('productos_eventos_seq'), ?, ?, ?, ?, ?, ?)";
+
+    private static final String PENDIENTES = "SELECT id, tipo, producto_id, nombre, precio, stock, ocurrido_en "
+            + "FROM productos_eventos ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final RowMapper<EventoProducto> EVENTO = (rs, fila) -> new EventoProducto(
+            rs.getLong("id"),
+            TipoEventoProducto.valueOf(rs.getString("tipo")),
+            rs.getLong("producto_id"),
+            rs.getString("nombre"),
+            rs.getObject("precio", Double.class),
+            rs.getObject("stock", Integer.class),
+            rs.getTimestamp("ocurrido_en").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param jdbcTemplate El acceso JDBC a la base de datos de productos.
+     * @param entityManager El EntityManager compartido, usado para volcar los cambios pendientes.
+     */
+    public JdbcProductEventOutboxAdapter(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void append(List<EventoProducto> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        List<Object[]> lote = new ArrayList<>(eventos.size());
+        for (EventoProducto evento : eventos) {
+            lote.add(new Object[]{evento.getTipo().name(), evento.getProductoId(), evento.getNombre(),
+                    evento.getPrecio(), evento.getStock(), Timestamp.from(evento.getOcurridoEn())});
+        }
+        jdbcTemplate.batchUpdate(INSERTAR, lote);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventoProducto> findOldest(int limite) {
+        return jdbcTemplate.query(PENDIENTES, EVENTO, limite);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM productos_eventos WHERE id = ?",
+                ids.stream().map(id -> new Object[]{id}).toList());
+    }
+}
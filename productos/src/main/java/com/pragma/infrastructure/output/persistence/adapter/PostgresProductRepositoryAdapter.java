@@ -3,12 +3,19 @@ package com.pragma.infrastructure.output.persistence.adapter;
 import com.pragma.domain.model.Producto;
 import com.pragma.domain.repository.ProductRepository;
 import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.filtro.FiltroIdsProductos;
 import com.pragma.infrastructure.output.persistence.mapper.ProductoPersistenceMapper;
 import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Adaptador que implementa la interfaz {@link ProductRepository}
@@ -16,28 +23,56 @@ import java.util.Optional;
  * Esta clase se encarga de interactuar con {@link ProductoSpringDataJpaRepository}
  * y de mapear entre los objetos de dominio {@link Producto} y las entidades
  * de persistencia {@link ProductoEntity} mediante {@link ProductoPersistenceMapper}.
+ * <p>
+ * Las lecturas de varios productos no cargan entidades: seleccionan las columnas directamente en objetos
+ * {@link Producto} de solo lectura, sin seguimiento en el contexto de persistencia ni paso por el mapper.
+ * La lectura por ID sigue cargando la entidad, porque para una sola fila la búsqueda por clave primaria
+ * de Hibernate es más barata que ejecutar una consulta.
+ * </p>
+ * <p>
+ * Las comprobaciones de existencia pasan primero por el {@link FiltroIdsProductos}, que se
+ * mantiene al crear y eliminar productos.
+ * </p>
  */
 @Repository // Marca esta clase como un bean de repositorio de Spring.
 public class PostgresProductRepositoryAdapter implements ProductRepository {
 
+    /**
+     * Nombre del temporizador de las operaciones del repositorio, anidadas en las de
+     * {@code productos.operaciones}; {@link #streamAll()} mide solo la apertura del cursor.
+     */
+    public static final String METRICA_REPOSITORIO = "productos.repositorio";
+
     private final ProductoSpringDataJpaRepository jpaRepository;
     private final ProductoPersistenceMapper productoPersistenceMapper; // Corregido el nombre
+    private final EntityManager entityManager;
+    private final FiltroIdsProductos filtroIds;
+    private final int tamanoLote;
 
     /**
      * Constructor para la inyección de dependencias.
      *
      * @param jpaRepository El repositorio Spring Data JPA para las operaciones de base de datos.
      * @param productoPersistenceMapper El mapper para convertir entre entidades y objetos de dominio.
+     * @param entityManager El EntityManager compartido, usado para liberar entidades del contexto de persistencia.
+     * @param filtroIds El filtro de Bloom de los IDs de productos existentes.
+     * @param tamanoLote Número de inserciones por lote JDBC; coincide con {@code hibernate.jdbc.batch_size}.
      */
-    public PostgresProductRepositoryAdapter(ProductoSpringDataJpaRepository jpaRepository, ProductoPersistenceMapper productoPersistenceMapper) {
+    public PostgresProductRepositoryAdapter(ProductoSpringDataJpaRepository jpaRepository, ProductoPersistenceMapper productoPersistenceMapper,
+                                            EntityManager entityManager, FiltroIdsProductos filtroIds,
+                                            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int tamanoLote) {
         this.jpaRepository = jpaRepository;
         this.productoPersistenceMapper = productoPersistenceMapper; // Corregido el nombre
+        this.entityManager = entityManager;
+        this.filtroIds = filtroIds;
+        this.tamanoLote = tamanoLote;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Timed(METRICA_REPOSITORIO)
     public Optional<Producto> findById(Long id) {
         Optional<ProductoEntity> productoEntityOptional = jpaRepository.findById(id);
         return productoEntityOptional.map(productoPersistenceMapper::toProducto); // Corregido el nombre
@@ -47,34 +82,145 @@ public class PostgresProductRepositoryAdapter implements ProductRepository {
      * {@inheritDoc}
      */
     @Override
+    @Timed(METRICA_REPOSITORIO)
     public List<Producto> findAll() {
-        List<ProductoEntity> productoEntities = jpaRepository.findAll();
-        return productoPersistenceMapper.toProductoList(productoEntities); // Corregido el nombre
+        return jpaRepository.buscarVistas();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Timed(METRICA_REPOSITORIO)
+    public List<Producto> findAllById(List<Long> ids) {
+        return jpaRepository.buscarVistasPorIds(ids);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Timed(METRICA_REPOSITORIO)
+    public List<Producto> findNextPage(Long afterId, int limit) {
+        long desde = afterId != null ? afterId : 0L;
+        return jpaRepository.buscarVistasDespuesDe(desde, Limit.of(limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Timed(METRICA_REPOSITORIO)
+    public Stream<Producto> streamAll() {
+        return jpaRepository.recorrerVistas();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Las modificaciones se vuelcan de inmediato para que el producto devuelto lleve la versión que
+     * Hibernate incrementa al escribir la fila, y no la anterior al cambio.
+     * </p>
+     */
+    @Override
+    @Timed(METRICA_REPOSITORIO)
     public Producto save(Producto producto) {
         ProductoEntity productoEntity = productoPersistenceMapper.toProductoEntity(producto);
-        ProductoEntity savedEntity = jpaRepository.save(productoEntity);
+        boolean nuevo = productoEntity.getId() == null;
+        ProductoEntity savedEntity = nuevo ? jpaRepository.save(productoEntity) : jpaRepository.saveAndFlush(productoEntity);
+        if (nuevo) {
+            filtroIds.registrar(savedEntity.getId());
+        }
         return productoPersistenceMapper.toProducto(savedEntity); // Corregido el nombre
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Los productos se persisten en bloques del tamaño del lote JDBC. Tras cada bloque se hace
+     * flush (un único lote de INSERT) y se limpia el contexto de persistencia, de modo que la
+     * memoria usada no crece con el número de productos.
+     * </p>
+     */
+    @Override
+    @Timed(METRICA_REPOSITORIO)
+    public List<Producto> saveAll(List<Producto> productos) {
+        List<Producto> guardados = new ArrayList<>(productos.size());
+        for (int inicio = 0; inicio < productos.size(); inicio += tamanoLote) {
+            List<Producto> bloque = productos.subList(inicio, Math.min(inicio + tamanoLote, productos.size()));
+            List<ProductoEntity> entidades = productoPersistenceMapper.toProductoEntityList(bloque);
+            jpaRepository.saveAll(entidades);
+            entidades.forEach(entidad -> filtroIds.registrar(entidad.getId()));
+            entityManager.flush();
+            entityManager.clear();
+            guardados.addAll(productoPersistenceMapper.toProductoList(entidades));
+        }
+        return guardados;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Timed(METRICA_REPOSITORIO)
+    public Optional<Producto> adjustStock(Long id, int delta) {
+        return jpaRepository.ajustarStock(id, delta).map(productoPersistenceMapper::toProducto);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Con stock nulo solo se actualizan los demás datos; lo usa el inventario en memoria, que no
+     * escribe el stock en la fila.
+     * </p>
+     */
+    @Override
+    @Timed(METRICA_REPOSITORIO)
+    public Optional<Producto> update(Producto producto) {
+        return jpaRepository.actualizar(producto.getId(), null, producto.getNombre(), producto.getDescripcion(),
+                        producto.getPrecio(), producto.getStock())
+                .map(productoPersistenceMapper::toProducto);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Con stock nulo solo se actualizan los demás datos; lo usa el inventario en memoria, que no
+     * escribe el stock en la fila.
+     * </p>
+     */
+    @Override
+    @Timed(METRICA_REPOSITORIO)
+    public Optional<Producto> updateIfVersion(Producto producto) {
+        return jpaRepository.actualizar(producto.getId(), producto.getVersion(), producto.getNombre(),
+                        producto.getDescripcion(), producto.getPrecio(), producto.getStock())
+                .map(productoPersistenceMapper::toProducto);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El ID se retira del filtro de existencia solo si se eliminó una fila.
+     * </p>
      */
     @Override
+    @Timed(METRICA_REPOSITORIO)
     public void deleteById(Long id) {
-        jpaRepository.deleteById(id);
+        if (jpaRepository.eliminarPorId(id) > 0) {
+            filtroIds.retirar(id);
+        }
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Los IDs que el filtro de existencia descarta se responden sin consultar la base de datos;
+     * el resto se confirman con una consulta que solo usa el índice de la clave primaria.
+     * </p>
      */
     @Override
+    @Timed(METRICA_REPOSITORIO)
     public boolean existsById(Long id) {
-        return jpaRepository.existsById(id);
+        return filtroIds.puedeExistir(id) && jpaRepository.existeId(id);
     }
 }
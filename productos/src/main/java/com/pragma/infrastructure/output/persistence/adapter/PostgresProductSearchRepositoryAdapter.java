@@ -0,0 +1,94 @@
+package com.pragma.infrastructure.output.persistence.adapter;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductSearchRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Adaptador que implementa {@link ProductSearchRepository} con la búsqueda de texto completo de PostgreSQL.
+ * <p>
+ * La tabla {@code productos} tiene una columna generada {@code busqueda} de tipo {@code tsvector}
+ * (nombre con peso A, descripción con peso B, configuración {@value #CONFIGURACION_TEXTO}) con un
+ * índice GIN. PostgreSQL la mantiene al insertar y actualizar, por lo que {@link #index(Producto)}
+ * y {@link #remove(Long)} no hacen nada. Las consultas se interpretan con
+ * {@code websearch_to_tsquery} (términos, frases entre comillas y exclusiones con {@code -}) y se
+ * ordenan con {@code ts_rank_cd}.
+ * </p>
+ * <p>
+ * Se activa con {@code productos.busqueda.motor=postgres}, el valor por defecto.
+ * </p>
+ */
+@Repository
+@ConditionalOnProperty(name = "productos.busqueda.motor", havingValue = "postgres", matchIfMissing = true)
+public class PostgresProductSearchRepositoryAdapter implements ProductSearchRepository, SmartInitializingSingleton {
+
+    /**
+     * Configuración de búsqueda de texto de PostgreSQL (diccionario y reglas de lematización).
+     */
+    static final String CONFIGURACION_TEXTO = "spanish";
+
+    private static final String SQL_BUSQUEDA = "SELECT p.id FROM productos p, "
+            + "websearch_to_tsquery('" + CONFIGURACION_TEXTO + "', ?) AS consulta "
+            + "WHERE p.busqueda @@ consulta "
+            + "ORDER BY ts_rank_cd(p.busqueda, consulta) DESC, p.id "
+            + "LIMIT ? OFFSET ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param jdbcTemplate El acceso JDBC a la base de datos de productos.
+     */
+    public PostgresProductSearchRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Crea, si no existen, la columna {@code busqueda} y su índice GIN. Se ejecuta una vez creados
+     * todos los beans, cuando Hibernate ya ha creado o actualizado la tabla {@code productos}.
+     * En una tabla grande, crear la columna reescribe la tabla; conviene hacerlo en una ventana de mantenimiento.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("ALTER TABLE productos ADD COLUMN IF NOT EXISTS busqueda tsvector GENERATED ALWAYS AS ("
+                + "setweight(to_tsvector('" + CONFIGURACION_TEXTO + "', coalesce(nombre, '')), 'A') || "
+                + "setweight(to_tsvector('" + CONFIGURACION_TEXTO + "', coalesce(descripcion, '')), 'B')) STORED");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_productos_busqueda ON productos USING GIN (busqueda)");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> search(String consulta, int limite, int desplazamiento) {
+        return jdbcTemplate.queryForList(SQL_BUSQUEDA, Long.class, consulta, limite, desplazamiento);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * PostgreSQL recalcula la columna generada al guardar el producto.
+     * </p>
+     */
+    @Override
+    public void index(Producto producto) {
+        // La columna generada se mantiene sola.
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La fila eliminada desaparece del índice GIN con ella.
+     * </p>
+     */
+    @Override
+    public void remove(Long id) {
+        // La fila eliminada sale del índice junto con la tabla.
+    }
+}
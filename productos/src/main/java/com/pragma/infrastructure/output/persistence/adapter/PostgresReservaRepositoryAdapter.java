@@ -0,0 +1,68 @@
+package com.pragma.infrastructure.output.persistence.adapter;
+
+import com.pragma.domain.model.EstadoReserva;
+import com.pragma.domain.model.Reserva;
+import com.pragma.domain.repository.ReservaRepository;
+import com.pragma.infrastructure.output.persistence.mapper.ReservaPersistenceMapper;
+import com.pragma.infrastructure.output.persistence.repository.ReservaSpringDataJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adaptador que implementa {@link ReservaRepository} con Spring Data JPA sobre PostgreSQL.
+ */
+@Repository
+public class PostgresReservaRepositoryAdapter implements ReservaRepository {
+
+    private final ReservaSpringDataJpaRepository jpaRepository;
+    private final ReservaPersistenceMapper reservaPersistenceMapper;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param jpaRepository El repositorio Spring Data JPA de reservas.
+     * @param reservaPersistenceMapper El mapper entre entidades y objetos de dominio.
+     */
+    public PostgresReservaRepositoryAdapter(ReservaSpringDataJpaRepository jpaRepository,
+                                            ReservaPersistenceMapper reservaPersistenceMapper) {
+        this.jpaRepository = jpaRepository;
+        this.reservaPersistenceMapper = reservaPersistenceMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Reserva save(Reserva reserva) {
+        return reservaPersistenceMapper.toReserva(jpaRepository.save(reservaPersistenceMapper.toReservaEntity(reserva)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Reserva> findById(UUID id) {
+        return jpaRepository.findById(id).map(reservaPersistenceMapper::toReserva);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateEstado(UUID id, EstadoReserva actual, EstadoReserva nuevo) {
+        return jpaRepository.updateEstado(id, actual, nuevo) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UUID> findExpiredIds(Instant ahora, int limite) {
+        return jpaRepository.findIdsVencidas(EstadoReserva.PENDIENTE, ahora, Limit.of(limite));
+    }
+}
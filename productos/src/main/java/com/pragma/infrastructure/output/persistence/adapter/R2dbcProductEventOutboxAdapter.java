@@ -0,0 +1,68 @@
+package com.pragma.infrastructure.output.persistence.adapter;
+
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.repository.ReactiveProductEventOutboxRepository;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Adaptador que implementa {@link ReactiveProductEventOutboxRepository} sobre R2DBC con {@link DatabaseClient}.
+ * <p>
+ * Escribe en la misma tabla {@code productos_eventos} que {@link JdbcProductEventOutboxAdapter}, tomando
+ * cada posición con {@code nextval} en la propia sentencia. Las sentencias usan la conexión de la
+ * transacción reactiva en curso, en la que ya se modificó la fila del producto: una transacción
+ * concurrente sobre el mismo producto solo puede obtener una posición posterior.
+ * </p>
+ */
+public class R2dbcProductEventOutboxAdapter implements ReactiveProductEventOutboxRepository {
+
+    private static final String SQL_INSERTAR = "INSERT INTO productos_eventos "
+            + "(id, tipo, producto_id, nombre, precio, stock, ocurrido_en) "
+            + "VALUES (nextval('productos_eventos_seq'), :tipo, :productoId, :nombre, :precio, :stock, :ocurridoEn)";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param databaseClient El cliente R2DBC de la base de datos de productos.
+     */
+    public R2dbcProductEventOutboxAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los eventos se insertan uno tras otro, en el orden recibido.
+     * </p>
+     */
+    @Override
+    public Mono<Void> append(List<EventoProducto> eventos) {
+        return Flux.fromIterable(eventos)
+                .concatMap(this::insertar)
+                .then();
+    }
+
+    private Mono<Long> insertar(EventoProducto evento) {
+        DatabaseClient.GenericExecuteSpec sentencia = databaseClient.sql(SQL_INSERTAR)
+                .bind("tipo", evento.getTipo().name())
+                .bind("productoId", evento.getProductoId())
+                .bind("ocurridoEn", evento.getOcurridoEn());
+        sentencia = enlazar(sentencia, "nombre", evento.getNombre(), String.class);
+        sentencia = enlazar(sentencia, "precio", evento.getPrecio(), Double.class);
+        sentencia = enlazar(sentencia, "stock", evento.getStock(), Integer.class);
+        return sentencia.fetch().rowsUpdated();
+    }
+
+    /**
+     * Los eventos de eliminación no llevan nombre, precio ni stock.
+     */
+    private static <T> DatabaseClient.GenericExecuteSpec enlazar(DatabaseClient.GenericExecuteSpec sentencia, String nombre,
+                                                                 T valor, Class<T> tipo) {
+        return valor == null ? sentencia.bindNull(nombre, tipo) : sentencia.bind(nombre, valor);
+    }
+}
@@ -0,0 +1,204 @@
+package com.pragma.infrastructure.output.persistence.adapter;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ReactiveProductRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adaptador que implementa {@link ReactiveProductRepository} sobre R2DBC con {@link DatabaseClient}.
+ * <p>
+ * Trabaja sobre la misma tabla {@code productos} que el adaptador JPA. Cada operación es una única
+ * sentencia: las escrituras devuelven la fila resultante en la misma sentencia y los ajustes de stock
+ * son condicionales, igual que en {@link PostgresProductRepositoryAdapter}. Las sentencias se unen a la
+ * transacción reactiva en curso, si la hay, como la que agrupa cada escritura con su evento de la bandeja
+ * de salida.
+ * </p>
+ * <p>
+ * Los IDs nuevos se toman de la secuencia {@code productos_seq}. JPA la usa en bloques
+ * ({@code INCREMENT BY 50}) y asigna a cada valor obtenido el bloque que termina en él, de modo que
+ * tomar el valor directamente nunca coincide con un ID que asigne JPA.
+ * </p>
+ * <p>
+ * Las modificaciones avanzan la columna {@code version} del control de concurrencia optimista de
+ * {@link com.pragma.infrastructure.output.persistence.entity.ProductoEntity}; las altas toman su valor por defecto.
+ * Los productos se leen y se devuelven con su versión, con la que se forma su ETag.
+ * </p>
+ */
+public class R2dbcProductRepositoryAdapter implements ReactiveProductRepository {
+
+    private static final String COLUMNAS = "id, nombre, descripcion, precio, stock";
+
+    private static final String COLUMNAS_LEIDAS = COLUMNAS + ", version";
+
+    private static final String[] COLUMNAS_DEVUELTAS = {"id", "nombre", "descripcion", "precio", "stock", "version"};
+
+    private static final String SQL_POR_ID = "SELECT " + COLUMNAS_LEIDAS + " FROM productos WHERE id = :id";
+
+    private static final String SQL_TODOS = "SELECT " + COLUMNAS_LEIDAS + " FROM productos ORDER BY id";
+
+    private static final String SQL_PAGINA = "SELECT " + COLUMNAS_LEIDAS + " FROM productos WHERE id > :despuesDe ORDER BY id LIMIT :limite";
+
+    private static final String SQL_INSERTAR =
+            "INSERT INTO productos (" + COLUMNAS + ") VALUES (nextval('productos_seq'), :nombre, :descripcion, :precio, :stock)";
+
+    private static final String SQL_ACTUALIZAR =
+            "UPDATE productos SET nombre = :nombre, descripcion = :descripcion, precio = :precio, stock = :stock, version = version + 1 WHERE id = :id";
+
+    private static final String SQL_ACTUALIZAR_SI_VERSION = SQL_ACTUALIZAR + " AND version = :version";
+
+    private static final String SQL_AJUSTAR_STOCK =
+            "UPDATE productos SET stock = stock + :delta, version = version + 1 WHERE id = :id AND stock + :delta >= 0";
+
+    private static final String SQL_ELIMINAR = "DELETE FROM productos WHERE id = :id";
+
+    private static final String SQL_EXISTE = "SELECT EXISTS (SELECT 1 FROM productos WHERE id = :id)";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param databaseClient El cliente R2DBC de la base de datos de productos.
+     */
+    public R2dbcProductRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Producto> findById(Long id) {
+        return databaseClient.sql(SQL_POR_ID)
+                .bind("id", id)
+                .map(R2dbcProductRepositoryAdapter::toProducto)
+                .one();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<Producto> findAll() {
+        return databaseClient.sql(SQL_TODOS)
+                .map(R2dbcProductRepositoryAdapter::toProducto)
+                .all();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<Producto> findNextPage(Long afterId, int limit) {
+        return databaseClient.sql(SQL_PAGINA)
+                .bind("despuesDe", afterId == null ? Long.MIN_VALUE : afterId)
+                .bind("limite", limit)
+                .map(R2dbcProductRepositoryAdapter::toProducto)
+                .all();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Producto> insert(Producto producto) {
+        DatabaseClient.GenericExecuteSpec sentencia = databaseClient.sql(SQL_INSERTAR)
+                .filter(statement -> statement.returnGeneratedValues("id", "version"))
+                .bind("nombre", producto.getNombre())
+                .bind("precio", producto.getPrecio())
+                .bind("stock", producto.getStock());
+        return conDescripcion(sentencia, producto.getDescripcion())
+                .map(fila -> new Producto(fila.get("id", Long.class), producto.getNombre(), producto.getDescripcion(),
+                        producto.getPrecio(), producto.getStock(), fila.get("version", Long.class)))
+                .one();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La actualización y la lectura de la fila resultante son una sola sentencia
+     * ({@code UPDATE ... RETURNING} en PostgreSQL).
+     * </p>
+     */
+    @Override
+    public Mono<Producto> update(Producto producto) {
+        return actualizar(databaseClient.sql(SQL_ACTUALIZAR), producto);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La versión se comprueba en la misma sentencia ({@code WHERE id = :id AND version = :version}).
+     * </p>
+     */
+    @Override
+    public Mono<Producto> updateIfVersion(Producto producto) {
+        return actualizar(databaseClient.sql(SQL_ACTUALIZAR_SI_VERSION).bind("version", producto.getVersion()), producto);
+    }
+
+    private Mono<Producto> actualizar(DatabaseClient.GenericExecuteSpec sentencia, Producto producto) {
+        DatabaseClient.GenericExecuteSpec actualizacion = sentencia
+                .filter(statement -> statement.returnGeneratedValues(COLUMNAS_DEVUELTAS))
+                .bind("id", producto.getId())
+                .bind("nombre", producto.getNombre())
+                .bind("precio", producto.getPrecio())
+                .bind("stock", producto.getStock());
+        return conDescripcion(actualizacion, producto.getDescripcion())
+                .map(R2dbcProductRepositoryAdapter::toProducto)
+                .one();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La actualización y la lectura de la fila resultante son una sola sentencia
+     * ({@code UPDATE ... RETURNING} en PostgreSQL).
+     * </p>
+     */
+    @Override
+    public Mono<Producto> adjustStock(Long id, int delta) {
+        return databaseClient.sql(SQL_AJUSTAR_STOCK)
+                .filter(statement -> statement.returnGeneratedValues(COLUMNAS_DEVUELTAS))
+                .bind("id", id)
+                .bind("delta", delta)
+                .map(R2dbcProductRepositoryAdapter::toProducto)
+                .one();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Boolean> deleteById(Long id) {
+        return databaseClient.sql(SQL_ELIMINAR)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(filas -> filas > 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql(SQL_EXISTE)
+                .bind("id", id)
+                .map(fila -> fila.get(0, Boolean.class))
+                .one();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec conDescripcion(DatabaseClient.GenericExecuteSpec sentencia, String descripcion) {
+        return descripcion == null
+                ? sentencia.bindNull("descripcion", String.class)
+                : sentencia.bind("descripcion", descripcion);
+    }
+
+    private static Producto toProducto(Readable fila) {
+        return new Producto(fila.get("id", Long.class), fila.get("nombre", String.class), fila.get("descripcion", String.class),
+                fila.get("precio", Double.class), fila.get("stock", Integer.class), fila.get("version", Long.class));
+    }
+}
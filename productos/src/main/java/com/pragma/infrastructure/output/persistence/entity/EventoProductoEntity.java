@@ -0,0 +1,80 @@
+package com.pragma.infrastructure.output.persistence.entity;
+
+import com.pragma.domain.model.TipoEventoProducto;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Entidad JPA de la tabla "productos_eventos", la bandeja de salida de los eventos de productos.
+ * <p>
+ * Los eventos se insertan y se leen con JDBC desde
+ * {@link com.pragma.infrastructure.output.persistence.adapter.JdbcProductEventOutboxAdapter}; la entidad
+ * define la tabla y su secuencia para que Hibernate las cree con el resto del esquema.
+ * </p>
+ */
+@Entity
+@Table(name = "productos_eventos")
+public class EventoProductoEntity {
+
+    /**
+     * Posición del evento, tomada de la secuencia {@code productos_eventos_seq} de uno en uno en el
+     * momento del INSERT, para que los eventos de un mismo producto queden ordenados como sus cambios.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productos_eventos_seq")
+    @SequenceGenerator(name = "productos_eventos_seq", sequenceName = "productos_eventos_seq", allocationSize = 1)
+    private Long id;
+
+    /**
+     * Tipo de cambio.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, length = 20)
+    private TipoEventoProducto tipo;
+
+    /**
+     * ID del producto cambiado.
+     */
+    @Column(name = "producto_id", nullable = false)
+    private Long productoId;
+
+    /**
+     * Nombre del producto tras el cambio.
+     */
+    @Column(name = "nombre", length = 255)
+    private String nombre;
+
+    /**
+     * Precio del producto tras el cambio.
+     */
+    @Column(name = "precio")
+    private Double precio;
+
+    /**
+     * Stock del producto tras el cambio.
+     */
+    @Column(name = "stock")
+    private Integer stock;
+
+    /**
+     * Instante del cambio.
+     */
+    @Column(name = "ocurrido_en", nullable = false)
+    private Instant ocurridoEn;
+
+    /**
+     * Constructor por defecto.
+     * Requerido por JPA.
+     */
+    public EventoProductoEntity() {
+    }
+}
@@ -5,22 +5,47 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entidad JPA que representa un producto en la base de datos.
  * Esta clase se mapea a la tabla "productos" y es utilizada por Spring Data JPA
  * para las operaciones de persistencia.
+ * <p>
+ * Los UPDATE solo incluyen las columnas modificadas, para que guardar los datos de un producto no
+ * sobrescriba un stock actualizado entretanto por otra sentencia (por ejemplo, un volcado del
+ * inventario en memoria).
+ * </p>
+ * <p>
+ * La columna {@code version} implementa el control de concurrencia optimista: cada UPDATE de la entidad
+ * comprueba y avanza la versión, y las sentencias nativas que modifican la fila la avanzan explícitamente.
+ * </p>
  */
 @Entity
+@DynamicUpdate
 @Table(name = "productos") // Define el nombre de la tabla en la base de datos
 public class ProductoEntity {
 
     /**
-     * Identificador único del producto, generado automáticamente por la base de datos.
+     * Tamaño del bloque de IDs que se reserva de la secuencia en cada consulta.
+     * Debe coincidir con el {@code INCREMENT BY} de la secuencia {@code productos_seq}.
+     */
+    public static final int TAMANO_BLOQUE_IDS = 50;
+
+    /**
+     * Identificador único del producto, generado a partir de la secuencia {@code productos_seq}.
+     * <p>
+     * Se usa una secuencia con optimizador pooled en lugar de una columna IDENTITY para que
+     * Hibernate conozca los IDs antes del INSERT y pueda agrupar las inserciones en lotes JDBC;
+     * cada consulta a la secuencia reserva {@value #TAMANO_BLOQUE_IDS} IDs.
+     * </p>
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Estrategia de generación de ID (autoincremental)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productos_seq")
+    @SequenceGenerator(name = "productos_seq", sequenceName = "productos_seq", allocationSize = TAMANO_BLOQUE_IDS)
     private Long id;
 
     /**
@@ -51,6 +76,14 @@ public class ProductoEntity {
     @Column(name = "stock", nullable = false)
     private Integer stock;
 
+    /**
+     * Versión de la fila para el control de concurrencia optimista. Con valor por defecto en la columna
+     * para que la actualización del esquema pueda añadirla a una tabla con productos existentes.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     /**
      * Constructor por defecto.
      * Requerido por JPA.
@@ -166,4 +199,22 @@ public class ProductoEntity {
     public void setStock(Integer stock) {
         this.stock = stock;
     }
+
+    /**
+     * Obtiene la versión de la fila.
+     *
+     * @return La versión del producto.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Establece la versión de la fila.
+     *
+     * @param version La nueva versión del producto.
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,156 @@
+package com.pragma.infrastructure.output.persistence.entity;
+
+import com.pragma.domain.model.EstadoReserva;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entidad JPA que representa una reserva de stock en la tabla "reservas".
+ * <p>
+ * El índice sobre {@code (estado, expira_en)} permite al barrido de vencimientos localizar
+ * las reservas pendientes vencidas sin recorrer la tabla completa.
+ * </p>
+ */
+@Entity
+@Table(name = "reservas", indexes = @Index(name = "idx_reservas_estado_expira_en", columnList = "estado, expira_en"))
+public class ReservaEntity {
+
+    /**
+     * Identificador único de la reserva, generado como UUID para que no sea predecible.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Estado de la reserva.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", nullable = false, length = 20)
+    private EstadoReserva estado;
+
+    /**
+     * Instante de vencimiento de la reserva.
+     */
+    @Column(name = "expira_en", nullable = false)
+    private Instant expiraEn;
+
+    /**
+     * Productos y cantidades retenidas.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "reserva_items", joinColumns = @JoinColumn(name = "reserva_id"))
+    private List<ReservaItemEmbeddable> items = new ArrayList<>();
+
+    /**
+     * Constructor por defecto.
+     * Requerido por JPA.
+     */
+    public ReservaEntity() {
+    }
+
+    /**
+     * Constructor completo para crear una instancia de ReservaEntity.
+     *
+     * @param id El identificador de la reserva.
+     * @param estado El estado de la reserva.
+     * @param expiraEn El instante de vencimiento.
+     * @param items Los productos y cantidades retenidas.
+     */
+    public ReservaEntity(UUID id, EstadoReserva estado, Instant expiraEn, List<ReservaItemEmbeddable> items) {
+        this.id = id;
+        this.estado = estado;
+        this.expiraEn = expiraEn;
+        this.items = items;
+    }
+
+    // Getters y Setters
+
+    /**
+     * Obtiene el identificador de la reserva.
+     *
+     * @return El id de la reserva.
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Establece el identificador de la reserva.
+     *
+     * @param id El nuevo id de la reserva.
+     */
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    /**
+     * Obtiene el estado de la reserva.
+     *
+     * @return El estado de la reserva.
+     */
+    public EstadoReserva getEstado() {
+        return estado;
+    }
+
+    /**
+     * Establece el estado de la reserva.
+     *
+     * @param estado El nuevo estado de la reserva.
+     */
+    public void setEstado(EstadoReserva estado) {
+        this.estado = estado;
+    }
+
+    /**
+     * Obtiene el instante de vencimiento de la reserva.
+     *
+     * @return El instante de vencimiento.
+     */
+    public Instant getExpiraEn() {
+        return expiraEn;
+    }
+
+    /**
+     * Establece el instante de vencimiento de la reserva.
+     *
+     * @param expiraEn El nuevo instante de vencimiento.
+     */
+    public void setExpiraEn(Instant expiraEn) {
+        this.expiraEn = expiraEn;
+    }
+
+    /**
+     * Obtiene los productos y cantidades retenidas.
+     *
+     * @return Las líneas de la reserva.
+     */
+    public List<ReservaItemEmbeddable> getItems() {
+        return items;
+    }
+
+    /**
+     * Establece los productos y cantidades retenidas.
+     *
+     * @param items Las nuevas líneas de la reserva.
+     */
+    public void setItems(List<ReservaItemEmbeddable> items) {
+        this.items = items;
+    }
+}
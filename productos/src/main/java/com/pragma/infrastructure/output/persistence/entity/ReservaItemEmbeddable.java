@@ -0,0 +1,79 @@
+package com.pragma.infrastructure.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Línea de una reserva de stock, almacenada en la tabla "reserva_items".
+ */
+@Embeddable
+public class ReservaItemEmbeddable {
+
+    /**
+     * ID del producto cuyo stock se retiene.
+     */
+    @Column(name = "producto_id", nullable = false)
+    private Long productoId;
+
+    /**
+     * Número de unidades retenidas.
+     */
+    @Column(name = "cantidad", nullable = false)
+    private Integer cantidad;
+
+    /**
+     * Constructor por defecto.
+     * Requerido por JPA.
+     */
+    public ReservaItemEmbeddable() {
+    }
+
+    /**
+     * Constructor completo.
+     *
+     * @param productoId El ID del producto.
+     * @param cantidad El número de unidades retenidas.
+     */
+    public ReservaItemEmbeddable(Long productoId, Integer cantidad) {
+        this.productoId = productoId;
+        this.cantidad = cantidad;
+    }
+
+    // Getters y Setters
+
+    /**
+     * Obtiene el ID del producto.
+     *
+     * @return El ID del producto.
+     */
+    public Long getProductoId() {
+        return productoId;
+    }
+
+    /**
+     * Establece el ID del producto.
+     *
+     * @param productoId El ID del producto.
+     */
+    public void setProductoId(Long productoId) {
+        this.productoId = productoId;
+    }
+
+    /**
+     * Obtiene el número de unidades retenidas.
+     *
+     * @return La cantidad retenida.
+     */
+    public Integer getCantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Establece el número de unidades retenidas.
+     *
+     * @param cantidad La cantidad retenida.
+     */
+    public void setCantidad(Integer cantidad) {
+        this.cantidad = cantidad;
+    }
+}
@@ -0,0 +1,141 @@
+package com.pragma.infrastructure.output.persistence.filtro;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom con contadores de 4 bits, que admite tanto altas como bajas de elementos.
+ * <p>
+ * Nunca da falsos negativos mientras cada baja corresponda a un alta previa: si
+ * {@link #puedeContener(long)} devuelve {@code false}, el elemento no está. Los contadores que
+ * llegan a 15 quedan saturados y ya no se decrementan, lo que solo puede añadir falsos positivos.
+ * Es seguro para uso concurrente sin bloqueos.
+ * </p>
+ */
+class FiltroBloomContador {
+
+    private static final int BITS_POR_CONTADOR = 4;
+    private static final int CONTADORES_POR_CELDA = Long.SIZE / BITS_POR_CONTADOR;
+    private static final long CONTADOR_SATURADO = 0xFL;
+
+    private final AtomicLongArray celdas;
+    private final int numeroContadores;
+    private final int numeroHashes;
+
+    /**
+     * Dimensiona el filtro para la capacidad y la tasa de falsos positivos indicadas.
+     *
+     * @param capacidad El número de elementos previsto. Debe ser mayor que cero.
+     * @param tasaFalsosPositivos La tasa de falsos positivos objetivo, entre 0 y 1 (exclusivos).
+     */
+    FiltroBloomContador(long capacidad, double tasaFalsosPositivos) {
+        if (capacidad <= 0 || tasaFalsosPositivos <= 0 || tasaFalsosPositivos >= 1) {
+            throw new IllegalArgumentException("Capacidad o tasa de falsos positivos no válidas.");
+        }
+        double contadores = -capacidad * Math.log(tasaFalsosPositivos) / (Math.log(2) * Math.log(2));
+        this.numeroContadores = (int) Math.min(Integer.MAX_VALUE - CONTADORES_POR_CELDA, Math.ceil(contadores));
+        this.numeroHashes = Math.max(1, (int) Math.round((double) numeroContadores / capacidad * Math.log(2)));
+        this.celdas = new AtomicLongArray((numeroContadores + CONTADORES_POR_CELDA - 1) / CONTADORES_POR_CELDA);
+    }
+
+    /**
+     * Añade un elemento al filtro.
+     *
+     * @param elemento El elemento a añadir.
+     */
+    void agregar(long elemento) {
+        long hash = mezclar(elemento);
+        for (int i = 0; i < numeroHashes; i++) {
+            incrementar(posicion(hash, i));
+        }
+    }
+
+    /**
+     * Retira un elemento añadido previamente. Retirar un elemento que no se añadió puede
+     * producir falsos negativos.
+     *
+     * @param elemento El elemento a retirar.
+     */
+    void retirar(long elemento) {
+        long hash = mezclar(elemento);
+        for (int i = 0; i < numeroHashes; i++) {
+            decrementar(posicion(hash, i));
+        }
+    }
+
+    /**
+     * Indica si el elemento puede estar en el filtro.
+     *
+     * @param elemento El elemento a consultar.
+     * @return {@code false} si el elemento seguro que no está; {@code true} si puede estar.
+     */
+    boolean puedeContener(long elemento) {
+        long hash = mezclar(elemento);
+        for (int i = 0; i < numeroHashes; i++) {
+            if (leer(posicion(hash, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return El número de contadores del filtro.
+     */
+    int getNumeroContadores() {
+        return numeroContadores;
+    }
+
+    /**
+     * @return El número de funciones hash aplicadas a cada elemento.
+     */
+    int getNumeroHashes() {
+        return numeroHashes;
+    }
+
+    // Doble hashing (h1 + i * h2) sobre las dos mitades de un único hash de 64 bits.
+    private int posicion(long hash, int i) {
+        int combinado = (int) hash + i * (int) (hash >>> 32);
+        return (combinado & Integer.MAX_VALUE) % numeroContadores;
+    }
+
+    private long leer(int posicion) {
+        return (celdas.get(posicion / CONTADORES_POR_CELDA) >>> desplazamiento(posicion)) & CONTADOR_SATURADO;
+    }
+
+    private void incrementar(int posicion) {
+        int indice = posicion / CONTADORES_POR_CELDA;
+        int desplazamiento = desplazamiento(posicion);
+        while (true) {
+            long actual = celdas.get(indice);
+            if (((actual >>> desplazamiento) & CONTADOR_SATURADO) == CONTADOR_SATURADO
+                    || celdas.compareAndSet(indice, actual, actual + (1L << desplazamiento))) {
+                return;
+            }
+        }
+    }
+
+    private void decrementar(int posicion) {
+        int indice = posicion / CONTADORES_POR_CELDA;
+        int desplazamiento = desplazamiento(posicion);
+        while (true) {
+            long actual = celdas.get(indice);
+            long contador = (actual >>> desplazamiento) & CONTADOR_SATURADO;
+            if (contador == 0 || contador == CONTADOR_SATURADO
+                    || celdas.compareAndSet(indice, actual, actual - (1L << desplazamiento))) {
+                return;
+            }
+        }
+    }
+
+    private static int desplazamiento(int posicion) {
+        return (posicion % CONTADORES_POR_CELDA) * BITS_POR_CONTADOR;
+    }
+
+    // Finalizador de SplitMix64: dispersa ids consecutivos por todo el rango de 64 bits.
+    private static long mezclar(long valor) {
+        long z = valor + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
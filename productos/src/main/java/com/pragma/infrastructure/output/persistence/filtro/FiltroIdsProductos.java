@@ -0,0 +1,144 @@
+package com.pragma.infrastructure.output.persistence.filtro;
+
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Filtro de Bloom con los IDs de los productos existentes, usado para responder sin consultar la
+ * base de datos a las comprobaciones de existencia de productos que no existen.
+ * <p>
+ * Se construye al arrancar, recorriendo los IDs de la tabla {@code productos} antes de que el
+ * servidor acepte peticiones, y se mantiene al crear y eliminar productos. Se dimensiona para el
+ * doble de los productos existentes (como mínimo {@code productos.existencia.filtro.capacidad-minima});
+ * si el catálogo crece mucho más, la tasa de falsos positivos aumenta hasta el siguiente arranque.
+ * Mientras no está construido (o si su construcción falla) todas las consultas van a la base de datos.
+ * </p>
+ * <p>
+ * Solo ve los productos creados a través de esta instancia: con varias réplicas, o si se insertan
+ * productos directamente en la base de datos, respondería que no existen productos creados por otra
+ * vía. Por eso está desactivado por defecto y solo debe activarse
+ * ({@code productos.existencia.filtro.habilitado=true}) con una única instancia que haga todas las altas.
+ * </p>
+ */
+@Slf4j
+@Component
+public class FiltroIdsProductos implements SmartInitializingSingleton {
+
+    private final ProductoSpringDataJpaRepository jpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final long capacidadMinima;
+    private final double tasaFalsosPositivos;
+
+    private volatile FiltroBloomContador filtro;
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param jpaRepository El repositorio del que se leen los IDs existentes.
+     * @param transactionManager El gestor de transacciones, para recorrer los IDs en una transacción de solo lectura.
+     * @param habilitado Si el filtro se construye; desactivado, todas las consultas van a la base de datos.
+     * @param capacidadMinima El número mínimo de productos para el que se dimensiona el filtro.
+     * @param tasaFalsosPositivos La tasa de falsos positivos objetivo.
+     */
+    public FiltroIdsProductos(ProductoSpringDataJpaRepository jpaRepository, PlatformTransactionManager transactionManager,
+                              @Value("${productos.existencia.filtro.habilitado:false}") boolean habilitado,
+                              @Value("${productos.existencia.filtro.capacidad-minima:100000}") long capacidadMinima,
+                              @Value("${productos.existencia.filtro.tasa-falsos-positivos:0.01}") double tasaFalsosPositivos) {
+        this.jpaRepository = jpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.habilitado = habilitado;
+        this.capacidadMinima = capacidadMinima;
+        this.tasaFalsosPositivos = tasaFalsosPositivos;
+    }
+
+    /**
+     * Construye el filtro una vez creados todos los beans y antes de arrancar el servidor web.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!habilitado) {
+            return;
+        }
+        try {
+            reconstruir();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo construir el filtro de IDs de productos; las comprobaciones de existencia irán a la base de datos", e);
+        }
+    }
+
+    /**
+     * Construye un filtro nuevo con los IDs existentes en la base de datos y lo publica.
+     * Solo debe invocarse cuando no hay altas ni bajas de productos en curso.
+     */
+    public void reconstruir() {
+        FiltroBloomContador nuevo = transactionTemplate.execute(status -> {
+            FiltroBloomContador construido = new FiltroBloomContador(Math.max(capacidadMinima, 2 * jpaRepository.count()), tasaFalsosPositivos);
+            try (Stream<Long> ids = jpaRepository.streamIds()) {
+                ids.forEach(construido::agregar);
+            }
+            return construido;
+        });
+        this.filtro = nuevo;
+        log.info("Filtro de IDs de productos construido con {} contadores y {} funciones hash",
+                nuevo.getNumeroContadores(), nuevo.getNumeroHashes());
+    }
+
+    /**
+     * Indica si un producto puede existir.
+     *
+     * @param id El ID del producto.
+     * @return {@code false} si el producto seguro que no existe; {@code true} si hay que confirmarlo en la base de datos.
+     */
+    public boolean puedeExistir(Long id) {
+        FiltroBloomContador actual = filtro;
+        return actual == null || actual.puedeContener(id);
+    }
+
+    /**
+     * Registra un producto nuevo. Se invoca dentro de la transacción que lo inserta, antes de su
+     * confirmación, para que el producto nunca sea visible sin estar en el filtro; si la transacción
+     * se revierte, el ID queda como un falso positivo más.
+     *
+     * @param id El ID del producto creado.
+     */
+    public void registrar(Long id) {
+        FiltroBloomContador actual = filtro;
+        if (actual != null && id != null) {
+            actual.agregar(id);
+        }
+    }
+
+    /**
+     * Retira un producto eliminado. Si hay una transacción activa, se retira solo cuando esta se
+     * confirma, para no dar por inexistente un producto cuyo borrado se acaba revirtiendo.
+     *
+     * @param id El ID del producto eliminado. Debe corresponder a una fila efectivamente borrada.
+     */
+    public void retirar(Long id) {
+        FiltroBloomContador actual = filtro;
+        if (actual == null || id == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            actual.retirar(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                actual.retirar(id);
+            }
+        });
+    }
+}
@@ -29,7 +29,8 @@ public interface ProductoPersistenceMapper {
         @Mapping(source = "nombre", target = "nombre"),
         @Mapping(source = "descripcion", target = "descripcion"),
         @Mapping(source = "precio", target = "precio"),
-        @Mapping(source = "stock", target = "stock")
+        @Mapping(source = "stock", target = "stock"),
+        @Mapping(source = "version", target = "version")
     })
     Producto toProducto(ProductoEntity productoEntity);
 
@@ -44,7 +45,8 @@ public interface ProductoPersistenceMapper {
         @Mapping(source = "nombre", target = "nombre"),
         @Mapping(source = "descripcion", target = "descripcion"),
         @Mapping(source = "precio", target = "precio"),
-        @Mapping(source = "stock", target = "stock")
+        @Mapping(source = "stock", target = "stock"),
+        @Mapping(source = "version", target = "version")
     })
     ProductoEntity toProductoEntity(Producto producto);
 
@@ -0,0 +1,46 @@
+package com.pragma.infrastructure.output.persistence.mapper;
+
+import com.pragma.domain.model.Reserva;
+import com.pragma.domain.model.ReservaItem;
+import com.pragma.infrastructure.output.persistence.entity.ReservaEntity;
+import com.pragma.infrastructure.output.persistence.entity.ReservaItemEmbeddable;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper MapStruct entre el modelo de dominio {@link Reserva} y la entidad {@link ReservaEntity}.
+ */
+@Mapper(componentModel = "spring")
+public interface ReservaPersistenceMapper {
+
+    /**
+     * Convierte una entidad {@link ReservaEntity} a un objeto de dominio {@link Reserva}.
+     *
+     * @param reservaEntity La entidad de persistencia a convertir.
+     * @return El objeto de dominio correspondiente.
+     */
+    Reserva toReserva(ReservaEntity reservaEntity);
+
+    /**
+     * Convierte un objeto de dominio {@link Reserva} a una entidad {@link ReservaEntity}.
+     *
+     * @param reserva El objeto de dominio a convertir.
+     * @return La entidad de persistencia correspondiente.
+     */
+    ReservaEntity toReservaEntity(Reserva reserva);
+
+    /**
+     * Convierte una línea de reserva persistida a su modelo de dominio.
+     *
+     * @param item La línea persistida.
+     * @return La línea de dominio.
+     */
+    ReservaItem toReservaItem(ReservaItemEmbeddable item);
+
+    /**
+     * Convierte una línea de reserva de dominio a su representación persistida.
+     *
+     * @param item La línea de dominio.
+     * @return La línea persistida.
+     */
+    ReservaItemEmbeddable toReservaItemEmbeddable(ReservaItem item);
+}
@@ -0,0 +1,88 @@
+package com.pragma.infrastructure.output.persistence.pool;
+
+import java.time.Duration;
+
+/**
+ * Decide el tamaño máximo del pool de conexiones a partir de una muestra de su uso.
+ * <p>
+ * El pool crece en {@code paso} conexiones cuando hay hilos esperando una conexión o la espera media
+ * para obtenerla supera {@code esperaObjetivo}, salvo que el tiempo medio de uso de las conexiones
+ * supere {@code latenciaMaxima}: entonces la base de datos es el cuello de botella y más conexiones
+ * solo añadirían contención. Decrece de una en una cuando durante {@code periodosParaReducir}
+ * muestras seguidas no hay esperas y sobran al menos {@code paso} conexiones. El tamaño siempre
+ * queda entre {@code minimo} y {@code maximo}.
+ * </p>
+ * <p>
+ * No es segura para uso concurrente: la consulta una única tarea periódica.
+ * </p>
+ */
+public class PoliticaPoolConexiones {
+
+    private final int minimo;
+    private final int maximo;
+    private final int paso;
+    private final double esperaObjetivoMs;
+    private final double latenciaMaximaMs;
+    private final int periodosParaReducir;
+    private int periodosHolgados;
+
+    /**
+     * Crea la política.
+     *
+     * @param minimo El tamaño máximo más pequeño que se puede fijar.
+     * @param maximo El tamaño máximo más grande que se puede fijar.
+     * @param paso Las conexiones que se añaden en cada crecimiento.
+     * @param esperaObjetivo La espera media para obtener una conexión a partir de la cual el pool crece.
+     * @param latenciaMaxima El tiempo medio de uso de una conexión a partir del cual el pool deja de crecer.
+     * @param periodosParaReducir Las muestras holgadas seguidas necesarias para reducir el pool.
+     */
+    public PoliticaPoolConexiones(int minimo, int maximo, int paso, Duration esperaObjetivo, Duration latenciaMaxima,
+                                  int periodosParaReducir) {
+        if (minimo < 1 || maximo < minimo || paso < 1 || periodosParaReducir < 1) {
+            throw new IllegalArgumentException("Límites del pool de conexiones no válidos: mínimo " + minimo
+                    + ", máximo " + maximo + ", paso " + paso + ", periodos para reducir " + periodosParaReducir + ".");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.paso = paso;
+        this.esperaObjetivoMs = esperaObjetivo.toNanos() / 1_000_000.0;
+        this.latenciaMaximaMs = latenciaMaxima.toNanos() / 1_000_000.0;
+        this.periodosParaReducir = periodosParaReducir;
+    }
+
+    /**
+     * Calcula el nuevo tamaño máximo del pool.
+     *
+     * @param actual El tamaño máximo actual.
+     * @param muestra El uso del pool desde la muestra anterior.
+     * @return El tamaño máximo que debe tener el pool.
+     */
+    public int siguienteTamano(int actual, Muestra muestra) {
+        int tamano = Math.max(minimo, Math.min(maximo, actual));
+        boolean saturado = muestra.pendientes() > 0 || muestra.esperaMediaMs() > esperaObjetivoMs;
+        if (saturado) {
+            periodosHolgados = 0;
+            return muestra.usoMedioMs() > latenciaMaximaMs ? tamano : Math.min(maximo, tamano + paso);
+        }
+        if (muestra.activas() + paso > tamano) {
+            periodosHolgados = 0;
+            return tamano;
+        }
+        if (++periodosHolgados < periodosParaReducir) {
+            return tamano;
+        }
+        periodosHolgados = 0;
+        return Math.max(minimo, tamano - 1);
+    }
+
+    /**
+     * Uso del pool de conexiones en un periodo.
+     *
+     * @param activas Las conexiones en uso al tomar la muestra.
+     * @param pendientes Los hilos que esperaban una conexión al tomar la muestra.
+     * @param esperaMediaMs La espera media para obtener una conexión durante el periodo, en milisegundos.
+     * @param usoMedioMs El tiempo medio que se retuvo cada conexión durante el periodo, en milisegundos.
+     */
+    public record Muestra(int activas, int pendientes, double esperaMediaMs, double usoMedioMs) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.pragma.infrastructure.output.persistence.repository;
+
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+
+import java.util.Optional;
+
+/**
+ * Fragmento de repositorio con operaciones de escritura que modifican una fila y devuelven
+ * su estado final en una única sentencia SQL ({@code UPDATE ... RETURNING}), sin lectura previa.
+ *
+ * <p>Spring Data JPA combina este fragmento con {@link ProductoSpringDataJpaRepository}
+ * usando la implementación {@link ProductoReturningRepositoryImpl}.</p>
+ */
+public interface ProductoReturningRepository {
+
+    /**
+     * Suma {@code delta} al stock del producto de forma atómica, solo si el stock resultante
+     * no es negativo. La condición se evalúa en la propia sentencia UPDATE, por lo que las
+     * actualizaciones concurrentes sobre el mismo producto se serializan en la base de datos
+     * sin pérdidas.
+     *
+     * @param id El ID del producto.
+     * @param delta La cantidad a sumar (positiva) o restar (negativa).
+     * @return La entidad con el stock actualizado, o {@link Optional#empty()} si el producto
+     *         no existe o el stock resultante sería negativo.
+     */
+    Optional<ProductoEntity> ajustarStock(Long id, int delta);
+
+    /**
+     * Sustituye los datos de un producto y avanza su versión en una sola sentencia UPDATE que
+     * devuelve la fila resultante, sin leerla antes.
+     *
+     * @param id El ID del producto.
+     * @param version La versión que debe tener el producto para aplicar el cambio, o {@code null}
+     *                para aplicarlo sin comprobarla.
+     * @param nombre El nuevo nombre.
+     * @param descripcion La nueva descripción.
+     * @param precio El nuevo precio.
+     * @param stock El nuevo stock, o {@code null} para conservar el actual.
+     * @return La entidad actualizada, o {@link Optional#empty()} si el producto no existe o su
+     *         versión no es la indicada.
+     */
+    Optional<ProductoEntity> actualizar(Long id, Long version, String nombre, String descripcion, Double precio,
+                                        Integer stock);
+}
@@ -0,0 +1,91 @@
+package com.pragma.infrastructure.output.persistence.repository;
+
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación de {@link ProductoReturningRepository} mediante consultas nativas.
+ * <p>
+ * En PostgreSQL se usa {@code UPDATE ... RETURNING}. H2, usado en las pruebas, no admite
+ * {@code RETURNING}; su equivalente es la tabla delta {@code SELECT ... FROM FINAL TABLE (UPDATE ...)},
+ * que tiene la misma semántica: una sola sentencia que actualiza y devuelve la fila. Solo se devuelven
+ * las columnas de {@link ProductoEntity}, no la columna {@code busqueda} de la búsqueda de texto.
+ * </p>
+ */
+public class ProductoReturningRepositoryImpl implements ProductoReturningRepository {
+
+    private static final String AJUSTAR_STOCK =
+            "UPDATE productos SET stock = stock + :delta, version = version + 1 WHERE id = :id AND stock + :delta >= 0";
+
+    private static final String COLUMNAS = "id, nombre, descripcion, precio, stock, version";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Boolean usaTablaDelta;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ProductoEntity> ajustarStock(Long id, int delta) {
+        List<?> filas = entityManager.createNativeQuery(conRetorno(AJUSTAR_STOCK), ProductoEntity.class)
+                .setParameter("id", id)
+                .setParameter("delta", delta)
+                .getResultList();
+        return filas.stream().map(ProductoEntity.class::cast).findFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ProductoEntity> actualizar(Long id, Long version, String nombre, String descripcion,
+                                               Double precio, Integer stock) {
+        StringBuilder update = new StringBuilder(
+                "UPDATE productos SET nombre = :nombre, descripcion = :descripcion, precio = :precio");
+        if (stock != null) {
+            update.append(", stock = :stock");
+        }
+        update.append(", version = version + 1 WHERE id = :id");
+        if (version != null) {
+            update.append(" AND version = :version");
+        }
+        Query consulta = entityManager.createNativeQuery(conRetorno(update.toString()), ProductoEntity.class)
+                .setParameter("id", id)
+                .setParameter("nombre", nombre)
+                .setParameter("descripcion", descripcion)
+                .setParameter("precio", precio);
+        if (stock != null) {
+            consulta.setParameter("stock", stock);
+        }
+        if (version != null) {
+            consulta.setParameter("version", version);
+        }
+        return consulta.getResultList().stream().map(ProductoEntity.class::cast).findFirst();
+    }
+
+    /**
+     * Completa una sentencia UPDATE para que devuelva la fila modificada según el dialecto en uso.
+     */
+    private String conRetorno(String update) {
+        if (usaTablaDelta == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect();
+            usaTablaDelta = dialect instanceof H2Dialect;
+        }
+        return usaTablaDelta
+                ? "SELECT " + COLUMNAS + " FROM FINAL TABLE (" + update + ")"
+                : update + " RETURNING " + COLUMNAS;
+    }
+}
@@ -1,9 +1,21 @@
 package com.pragma.infrastructure.output.persistence.repository;
 
+import com.pragma.domain.model.Producto;
 import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repositorio de Spring Data JPA para la entidad {@link ProductoEntity}.
  * Extiende {@link JpaRepository}, lo que proporciona automáticamente métodos CRUD
@@ -14,9 +26,16 @@ import org.springframework.stereotype.Repository;
  *
  * <p>Esta interfaz será utilizada por el adaptador {@code PostgresProductRepositoryAdapter}
  * para interactuar con la base de datos PostgreSQL a través de JPA.</p>
+ *
+ * <p>Las escrituras atómicas con {@code RETURNING} se definen en el fragmento
+ * {@link ProductoReturningRepository}.</p>
+ *
+ * <p>Las lecturas de varios productos usan los métodos {@code buscarVistas*} y {@code recorrerVistas}, que
+ * seleccionan las columnas directamente en objetos {@link Producto} mediante una expresión constructora:
+ * no se crean entidades gestionadas ni instantáneas para el dirty checking, y no hace falta mapearlas.</p>
  */
 @Repository // Indica a Spring que esta interfaz es un bean de repositorio.
-public interface ProductoSpringDataJpaRepository extends JpaRepository<ProductoEntity, Long> {
+public interface ProductoSpringDataJpaRepository extends JpaRepository<ProductoEntity, Long>, ProductoReturningRepository {
     // Spring Data JPA proporciona automáticamente los métodos CRUD básicos:
     // - save(S entity)
     // - findById(ID id)
@@ -29,4 +48,84 @@ public interface ProductoSpringDataJpaRepository extends JpaRepository<ProductoE
     // Se pueden añadir métodos de consulta personalizados aquí si son necesarios,
     // siguiendo las convenciones de nomenclatura de Spring Data JPA (query methods)
     // Por ejemplo: List<ProductoEntity> findByNombre(String nombre);
+
+    /**
+     * Número de filas que se traen de la base de datos en cada ida y vuelta al recorrer el catálogo.
+     */
+    int TAMANO_BLOQUE_EXPORTACION = 500;
+
+    /**
+     * Expresión constructora común a las lecturas proyectadas en {@link Producto}.
+     */
+    String SELECT_VISTA = "select new com.pragma.domain.model.Producto(p.id, p.nombre, p.descripcion, p.precio, p.stock, p.version)"
+            + " from ProductoEntity p";
+
+    /**
+     * Recupera los productos indicados como proyecciones de solo lectura, en cualquier orden.
+     *
+     * @param ids Los IDs de los productos.
+     * @return Los productos encontrados.
+     */
+    @Query(SELECT_VISTA + " where p.id in :ids")
+    List<Producto> buscarVistasPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recupera todos los productos, ordenados por ID, como proyecciones de solo lectura.
+     *
+     * @return La lista de productos.
+     */
+    @Query(SELECT_VISTA + " order by p.id")
+    List<Producto> buscarVistas();
+
+    /**
+     * Recupera los productos con ID mayor que el indicado, ordenados por ID ascendente, como
+     * proyecciones de solo lectura. Se traduce en {@code WHERE id > ? ORDER BY id LIMIT ?},
+     * un recorrido de rango sobre el índice de la clave primaria.
+     *
+     * @param id El ID a partir del cual buscar (exclusivo).
+     * @param limit El número máximo de filas a devolver.
+     * @return La lista de productos encontrados.
+     */
+    @Query(SELECT_VISTA + " where p.id > :id order by p.id")
+    List<Producto> buscarVistasDespuesDe(@Param("id") Long id, Limit limit);
+
+    /**
+     * Recorre todos los productos ordenados por ID mediante un cursor del servidor, como proyecciones
+     * de solo lectura. El driver JDBC trae las filas por bloques de {@value #TAMANO_BLOQUE_EXPORTACION}
+     * y, al no cargarse entidades, el contexto de persistencia no crece con las filas recorridas.
+     *
+     * @return Un {@link Stream} de productos que debe cerrarse tras su consumo.
+     */
+    @Query(SELECT_VISTA + " order by p.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TAMANO_BLOQUE_EXPORTACION))
+    Stream<Producto> recorrerVistas();
+
+    /**
+     * Recorre los IDs de todos los productos, sin cargar las entidades.
+     *
+     * @return Un {@link Stream} de IDs que debe cerrarse tras su consumo.
+     */
+    @Query("select p.id from ProductoEntity p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TAMANO_BLOQUE_EXPORTACION))
+    Stream<Long> streamIds();
+
+    /**
+     * Comprueba si existe un producto con {@code SELECT EXISTS (SELECT 1 ... WHERE id = ?)}, que se
+     * resuelve con el índice de la clave primaria sin leer ni mapear la fila.
+     *
+     * @param id El ID del producto.
+     * @return {@code true} si el producto existe.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM productos WHERE id = :id)", nativeQuery = true)
+    boolean existeId(@Param("id") Long id);
+
+    /**
+     * Elimina un producto con una única sentencia {@code DELETE}, sin cargarlo previamente.
+     *
+     * @param id El ID del producto.
+     * @return El número de filas eliminadas (0 o 1).
+     */
+    @Modifying
+    @Query("delete from ProductoEntity p where p.id = :id")
+    int eliminarPorId(@Param("id") Long id);
 }
@@ -0,0 +1,45 @@
+package com.pragma.infrastructure.output.persistence.repository;
+
+import com.pragma.domain.model.EstadoReserva;
+import com.pragma.infrastructure.output.persistence.entity.ReservaEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositorio de Spring Data JPA para la entidad {@link ReservaEntity}.
+ */
+@Repository
+public interface ReservaSpringDataJpaRepository extends JpaRepository<ReservaEntity, UUID> {
+
+    /**
+     * Obtiene los IDs de las reservas en el estado indicado que vencieron antes de {@code ahora},
+     * ordenados por vencimiento. La consulta se resuelve con el índice {@code (estado, expira_en)}.
+     *
+     * @param estado El estado de las reservas a buscar.
+     * @param ahora El instante de referencia.
+     * @param limit El número máximo de IDs a devolver.
+     * @return Los IDs de las reservas vencidas.
+     */
+    @Query("select r.id from ReservaEntity r where r.estado = :estado and r.expiraEn <= :ahora order by r.expiraEn")
+    List<UUID> findIdsVencidas(@Param("estado") EstadoReserva estado, @Param("ahora") Instant ahora, Limit limit);
+
+    /**
+     * Cambia el estado de una reserva solo si su estado actual es {@code actual}.
+     *
+     * @param id El ID de la reserva.
+     * @param actual El estado que debe tener la reserva.
+     * @param nuevo El estado a asignar.
+     * @return El número de filas actualizadas (0 o 1).
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update ReservaEntity r set r.estado = :nuevo where r.id = :id and r.estado = :actual")
+    int updateEstado(@Param("id") UUID id, @Param("actual") EstadoReserva actual, @Param("nuevo") EstadoReserva nuevo);
+}
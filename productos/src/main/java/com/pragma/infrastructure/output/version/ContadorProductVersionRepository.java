@@ -0,0 +1,59 @@
+package com.pragma.infrastructure.output.version;
+
+import com.pragma.domain.repository.ProductVersionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ProductVersionRepository} sobre un contador en memoria.
+ * <p>
+ * Cada cambio toma el siguiente valor de un contador global, que pasa a ser la versión del catálogo;
+ * no se guarda nada por producto. Todas las versiones llevan un prefijo aleatorio elegido al arrancar,
+ * para que las emitidas por otro arranque (o por otra instancia) nunca coincidan con las actuales.
+ * </p>
+ * <p>
+ * Las versiones solo reflejan los cambios hechos por esta instancia: con varias réplicas, o con cambios
+ * directos en la base de datos, deben desactivarse ({@code productos.etag.habilitado=false}).
+ * </p>
+ */
+@Component
+public class ContadorProductVersionRepository implements ProductVersionRepository {
+
+    private final boolean habilitado;
+    private final String epoca = Long.toUnsignedString(new SecureRandom().nextLong(), 36);
+    private final AtomicLong contador = new AtomicLong();
+
+    /**
+     * Constructor para la inyección de dependencias.
+     *
+     * @param habilitado Si se publican versiones; con {@code false} no se ofrece ninguna.
+     */
+    public ContadorProductVersionRepository(@Value("${productos.etag.habilitado:true}") boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> findCatalogVersion() {
+        return habilitado ? Optional.of(formatear(contador.get())) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void increment(Collection<Long> ids) {
+        contador.incrementAndGet();
+    }
+
+    private String formatear(long version) {
+        return epoca + "-" + version;
+    }
+}
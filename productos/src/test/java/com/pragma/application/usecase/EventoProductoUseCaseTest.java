@@ -0,0 +1,65 @@
+package com.pragma.application.usecase;
+
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.domain.repository.ProductEventOutboxRepository;
+import com.pragma.domain.repository.ProductEventPublisher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventoProductoUseCaseTest {
+
+    @Mock
+    private ProductEventOutboxRepository productEventOutboxRepository;
+
+    @Mock
+    private ProductEventPublisher productEventPublisher;
+
+    @InjectMocks
+    private EventoProductoUseCase eventoProductoUseCase;
+
+    private EventoProducto evento(long id) {
+        return new EventoProducto(id, TipoEventoProducto.STOCK, 1L, "Taza", 10.0, (int) id, Instant.now());
+    }
+
+    @Test
+    void publicarEventosPendientes_ShouldPublishBatchThenRemoveIt() {
+        List<EventoProducto> eventos = List.of(evento(7L), evento(8L));
+        when(productEventOutboxRepository.findOldest(EventoProductoUseCase.TAMANO_LOTE_PUBLICACION)).thenReturn(eventos);
+
+        assertEquals(2, eventoProductoUseCase.publicarEventosPendientes());
+
+        InOrder orden = inOrder(productEventPublisher, productEventOutboxRepository);
+        orden.verify(productEventPublisher).publish(eventos);
+        orden.verify(productEventOutboxRepository).deleteByIds(List.of(7L, 8L));
+    }
+
+    @Test
+    void publicarEventosPendientes_SinEventos_ShouldNotCallPublisher() {
+        when(productEventOutboxRepository.findOldest(anyInt())).thenReturn(List.of());
+
+        assertEquals(0, eventoProductoUseCase.publicarEventosPendientes());
+        verifyNoInteractions(productEventPublisher);
+    }
+
+    @Test
+    void publicarEventosPendientes_PublicacionFallida_ShouldKeepEventsInOutbox() {
+        when(productEventOutboxRepository.findOldest(anyInt())).thenReturn(List.of(evento(7L)));
+        doThrow(new IllegalStateException("destino caído")).when(productEventPublisher).publish(any());
+
+        assertThrows(IllegalStateException.class, () -> eventoProductoUseCase.publicarEventosPendientes());
+        verify(productEventOutboxRepository, never()).deleteByIds(any());
+    }
+}
@@ -0,0 +1,150 @@
+package com.pragma.application.usecase;
+
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductAutocompleteRepository;
+import com.pragma.domain.repository.ProductEventOutboxRepository;
+import com.pragma.domain.repository.ProductRepository;
+import com.pragma.domain.repository.ProductSearchRepository;
+import com.pragma.domain.repository.ProductVersionRepository;
+import com.pragma.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class ProductUseCaseCacheTest {
+
+    @Configuration
+    @Import({CacheConfig.class, ProductUseCase.class, RegistroCambiosProductos.class})
+    static class TestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(ProductUseCase.CACHE_PRODUCTOS);
+        }
+    }
+
+    @MockBean
+    private ProductRepository productRepository;
+
+    @MockBean
+    private ProductSearchRepository productSearchRepository;
+
+    @MockBean
+    private ProductAutocompleteRepository productAutocompleteRepository;
+
+    @MockBean
+    private ProductVersionRepository productVersionRepository;
+
+    @MockBean
+    private ProductEventOutboxRepository productEventOutboxRepository;
+
+    @Autowired
+    private ProductInputPort productUseCase;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Producto producto;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(ProductUseCase.CACHE_PRODUCTOS).clear();
+        producto = new Producto(1L, "Test Product", "Test Description", 100.0, 10);
+    }
+
+    @Test
+    void obtenerProductoPorId_SegundaLectura_ShouldNotHitRepository() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
+
+        productUseCase.obtenerProductoPorId(1L);
+        Producto result = productUseCase.obtenerProductoPorId(1L);
+
+        assertEquals(1L, result.getId());
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void actualizarStockProducto_ShouldEvictCachedProduct() {
+        Producto actualizado = new Producto(1L, "Test Product", "Test Description", 100.0, 15);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(producto), Optional.of(actualizado));
+        when(productRepository.adjustStock(1L, 5)).thenReturn(Optional.of(actualizado));
+
+        productUseCase.obtenerProductoPorId(1L);
+        productUseCase.actualizarStockProducto(1L, 5);
+        Producto result = productUseCase.obtenerProductoPorId(1L);
+
+        assertEquals(15, result.getStock());
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void actualizarStockProducto_EscriturasConcurrentesDesordenadas_ShouldNotCacheOlderStock() throws Exception {
+        // La primera escritura confirma stock 15, pero termina después de la segunda, que confirma stock 20.
+        CountDownLatch primeraConfirmada = new CountDownLatch(1);
+        CountDownLatch segundaTerminada = new CountDownLatch(1);
+        when(productRepository.adjustStock(1L, 5)).thenAnswer(invocacion -> {
+            primeraConfirmada.countDown();
+            segundaTerminada.await(5, TimeUnit.SECONDS);
+            return Optional.of(new Producto(1L, "Test Product", "Test Description", 100.0, 15));
+        });
+        when(productRepository.adjustStock(1L, 10))
+                .thenReturn(Optional.of(new Producto(1L, "Test Product", "Test Description", 100.0, 20)));
+        when(productRepository.findById(1L))
+                .thenReturn(Optional.of(new Producto(1L, "Test Product", "Test Description", 100.0, 20)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Producto> primera = executor.submit(() -> productUseCase.actualizarStockProducto(1L, 5));
+            assertTrue(primeraConfirmada.await(5, TimeUnit.SECONDS));
+            productUseCase.actualizarStockProducto(1L, 10);
+            segundaTerminada.countDown();
+            assertEquals(15, primera.get(5, TimeUnit.SECONDS).getStock());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(20, productUseCase.obtenerProductoPorId(1L).getStock());
+    }
+
+    @Test
+    void actualizarStockProducto_Fallido_ShouldKeepCachedProduct() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
+        when(productRepository.adjustStock(1L, -20)).thenReturn(Optional.empty());
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        productUseCase.obtenerProductoPorId(1L);
+        assertThrows(StockUpdateException.class, () -> productUseCase.actualizarStockProducto(1L, -20));
+
+        assertNotNull(cacheManager.getCache(ProductUseCase.CACHE_PRODUCTOS).get(1L));
+    }
+
+    @Test
+    void eliminarProductoPorId_ShouldEvictCachedProduct() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        productUseCase.obtenerProductoPorId(1L);
+        productUseCase.eliminarProductoPorId(1L);
+
+        assertNull(cacheManager.getCache(ProductUseCase.CACHE_PRODUCTOS).get(1L));
+    }
+}
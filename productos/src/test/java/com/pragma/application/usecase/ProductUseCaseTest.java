@@ -3,18 +3,31 @@ package com.pragma.application.usecase;
 import com.pragma.application.exception.ProductoNotFoundException;
 import com.pragma.application.exception.StockUpdateException;
 import com.pragma.application.exception.ValidationException;
+import com.pragma.application.exception.VersionConflictoException;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.PaginaProductos;
 import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.ResultadoBusqueda;
+import com.pragma.domain.model.SugerenciaProducto;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.domain.repository.ProductAutocompleteRepository;
+import com.pragma.domain.repository.ProductEventOutboxRepository;
 import com.pragma.domain.repository.ProductRepository;
+import com.pragma.domain.repository.ProductSearchRepository;
+import com.pragma.domain.repository.ProductVersionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +39,21 @@ class ProductUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductSearchRepository productSearchRepository;
+
+    @Mock
+    private ProductAutocompleteRepository productAutocompleteRepository;
+
+    @Mock
+    private ProductVersionRepository productVersionRepository;
+
+    @Mock
+    private RegistroCambiosProductos registroCambiosProductos;
+
+    @Mock
+    private ProductEventOutboxRepository productEventOutboxRepository;
+
     @InjectMocks
     private ProductUseCase productUseCase;
 
@@ -50,6 +78,12 @@ class ProductUseCaseTest {
         assertNotNull(result);
         assertEquals(producto.getNombre(), result.getNombre());
         verify(productRepository).save(any(Producto.class));
+        verify(productSearchRepository).index(producto);
+        verify(productAutocompleteRepository).index(producto);
+        EventoProducto evento = eventoRegistrado();
+        assertEquals(TipoEventoProducto.CREADO, evento.getTipo());
+        assertEquals(1L, evento.getProductoId());
+        assertEquals("Test Product", evento.getNombre());
     }
 
     @Test
@@ -124,22 +158,75 @@ class ProductUseCaseTest {
     }
 
     @Test
-    void actualizarProducto_ValidProduct_ShouldUpdateSuccessfully() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
-        when(productRepository.save(any(Producto.class))).thenReturn(producto);
+    void actualizarProducto_ValidProduct_ShouldUpdateWithoutLoadingProduct() {
+        when(productRepository.update(any(Producto.class))).thenReturn(Optional.of(producto));
 
         Producto result = productUseCase.actualizarProducto(1L, producto);
 
         assertNotNull(result);
         assertEquals(producto.getId(), result.getId());
-        verify(productRepository).save(any(Producto.class));
+        verify(productRepository).update(any(Producto.class));
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).save(any());
+        verify(productSearchRepository).index(producto);
+        verify(productAutocompleteRepository).index(producto);
+        verify(registroCambiosProductos).registrar(List.of(1L));
+        assertEquals(TipoEventoProducto.ACTUALIZADO, eventoRegistrado().getTipo());
     }
 
     @Test
     void actualizarProducto_NonExistingProduct_ShouldThrowProductoNotFoundException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+        when(productRepository.update(any(Producto.class))).thenReturn(Optional.empty());
 
         assertThrows(ProductoNotFoundException.class, () -> productUseCase.actualizarProducto(1L, producto));
+        verifyNoInteractions(productEventOutboxRepository);
+    }
+
+    @Test
+    void actualizarProducto_ConVersion_ShouldUpdateWithoutLoadingProduct() {
+        producto.setVersion(3L);
+        Producto guardado = new Producto(1L, "Test Product", "Test Description", 100.0, 10, 4L);
+        when(productRepository.updateIfVersion(any(Producto.class))).thenReturn(Optional.of(guardado));
+
+        Producto result = productUseCase.actualizarProducto(1L, producto);
+
+        assertEquals(4L, result.getVersion());
+        ArgumentCaptor<Producto> cambios = ArgumentCaptor.forClass(Producto.class);
+        verify(productRepository).updateIfVersion(cambios.capture());
+        assertEquals(3L, cambios.getValue().getVersion());
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).save(any());
+        verify(registroCambiosProductos).registrar(List.of(1L));
+        assertEquals(TipoEventoProducto.ACTUALIZADO, eventoRegistrado().getTipo());
+    }
+
+    @Test
+    void actualizarProducto_VersionObsoleta_ShouldThrowVersionConflictoException() {
+        producto.setVersion(3L);
+        when(productRepository.updateIfVersion(any(Producto.class))).thenReturn(Optional.empty());
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(VersionConflictoException.class, () -> productUseCase.actualizarProducto(1L, producto));
+        verifyNoInteractions(registroCambiosProductos);
+        verifyNoInteractions(productEventOutboxRepository);
+    }
+
+    @Test
+    void actualizarProducto_ConVersionNonExistingProduct_ShouldThrowProductoNotFoundException() {
+        producto.setVersion(3L);
+        when(productRepository.updateIfVersion(any(Producto.class))).thenReturn(Optional.empty());
+        when(productRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ProductoNotFoundException.class, () -> productUseCase.actualizarProducto(1L, producto));
+    }
+
+    @Test
+    void actualizarProducto_ConVersionPrecioInvalido_ShouldThrowValidationException() {
+        producto.setVersion(3L);
+        producto.setPrecio(0.0);
+
+        assertThrows(ValidationException.class, () -> productUseCase.actualizarProducto(1L, producto));
+        verify(productRepository, never()).updateIfVersion(any());
     }
 
     @Test
@@ -149,28 +236,24 @@ class ProductUseCaseTest {
 
     @Test
     void actualizarProducto_NombreNulo_ShouldThrowValidationException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
         producto.setNombre(null);
         assertThrows(ValidationException.class, () -> productUseCase.actualizarProducto(1L, producto));
     }
 
     @Test
     void actualizarProducto_NombreVacio_ShouldThrowValidationException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
         producto.setNombre("   ");
         assertThrows(ValidationException.class, () -> productUseCase.actualizarProducto(1L, producto));
     }
 
     @Test
     void actualizarProducto_PrecioNulo_ShouldThrowValidationException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
         producto.setPrecio(null);
         assertThrows(ValidationException.class, () -> productUseCase.actualizarProducto(1L, producto));
     }
 
     @Test
     void actualizarProducto_PrecioMenorOIgualACero_ShouldThrowValidationException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
         producto.setPrecio(0.0);
         assertThrows(ValidationException.class, () -> productUseCase.actualizarProducto(1L, producto));
         producto.setPrecio(-10.0);
@@ -179,18 +262,119 @@ class ProductUseCaseTest {
 
     @Test
     void actualizarProducto_StockNulo_ShouldThrowValidationException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
         producto.setStock(null);
         assertThrows(ValidationException.class, () -> productUseCase.actualizarProducto(1L, producto));
     }
 
     @Test
     void actualizarProducto_StockNegativo_ShouldThrowValidationException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
         producto.setStock(-1);
         assertThrows(ValidationException.class, () -> productUseCase.actualizarProducto(1L, producto));
     }
 
+    @Test
+    void buscarProductos_ShouldKeepRelevanceOrderAndDetectNextPage() {
+        Producto tercero = new Producto(3L, "Más", null, 5.0, 1);
+        when(productSearchRepository.search("camisa", 3, 2)).thenReturn(List.of(3L, 1L, 2L));
+        when(productRepository.findAllById(List.of(3L, 1L))).thenReturn(List.of(producto, tercero));
+
+        ResultadoBusqueda result = productUseCase.buscarProductos(" camisa ", 1, 2);
+
+        assertEquals(List.of(3L, 1L), result.getProductos().stream().map(Producto::getId).toList());
+        assertTrue(result.tieneSiguiente());
+        assertEquals(1, result.getPagina());
+    }
+
+    @Test
+    void buscarProductos_UltimaPagina_ShouldSkipProductsDeletedMeanwhile() {
+        when(productSearchRepository.search("camisa", 21, 0)).thenReturn(List.of(1L, 9L));
+        when(productRepository.findAllById(List.of(1L, 9L))).thenReturn(List.of(producto));
+
+        ResultadoBusqueda result = productUseCase.buscarProductos("camisa", 0, 20);
+
+        assertEquals(1, result.getProductos().size());
+        assertFalse(result.tieneSiguiente());
+    }
+
+    @Test
+    void buscarProductos_SinResultados_ShouldNotLoadProducts() {
+        when(productSearchRepository.search("nada", 21, 0)).thenReturn(List.of());
+
+        ResultadoBusqueda result = productUseCase.buscarProductos("nada", 0, 20);
+
+        assertTrue(result.getProductos().isEmpty());
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void buscarProductos_ParametrosInvalidos_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> productUseCase.buscarProductos(" ", 0, 20));
+        assertThrows(ValidationException.class, () -> productUseCase.buscarProductos("x".repeat(201), 0, 20));
+        assertThrows(ValidationException.class, () -> productUseCase.buscarProductos("camisa", 0, 0));
+        assertThrows(ValidationException.class, () -> productUseCase.buscarProductos("camisa", 0, 101));
+        assertThrows(ValidationException.class, () -> productUseCase.buscarProductos("camisa", -1, 20));
+        assertThrows(ValidationException.class, () -> productUseCase.buscarProductos("camisa", 500, 20));
+        verifyNoInteractions(productSearchRepository);
+    }
+
+    @Test
+    void autocompletarProductos_ShouldQueryIndexWithoutRepository() {
+        List<SugerenciaProducto> sugerencias = List.of(new SugerenciaProducto(1L, "Test Product"));
+        when(productAutocompleteRepository.findByPrefix("tes", 10)).thenReturn(sugerencias);
+
+        assertEquals(sugerencias, productUseCase.autocompletarProductos("tes", 10));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void autocompletarProductos_ParametrosInvalidos_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> productUseCase.autocompletarProductos(" ", 10));
+        assertThrows(ValidationException.class, () -> productUseCase.autocompletarProductos("x".repeat(201), 10));
+        assertThrows(ValidationException.class, () -> productUseCase.autocompletarProductos("tes", 0));
+        assertThrows(ValidationException.class, () -> productUseCase.autocompletarProductos("tes", 51));
+        verifyNoInteractions(productAutocompleteRepository);
+    }
+
+    @Test
+    void obtenerProductosPorIds_ShouldQueryOnceAndKeepRequestOrder() {
+        Producto otro = new Producto(2L, "Mouse", "Inalámbrico", 25.0, 40);
+        when(productRepository.findAllById(List.of(2L, 9L, 1L))).thenReturn(List.of(producto, otro));
+
+        List<Producto> resultado = productUseCase.obtenerProductosPorIds(List.of(2L, 9L, 1L));
+
+        assertEquals(List.of(otro, producto), resultado);
+        verify(productRepository, times(1)).findAllById(any());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    void obtenerProductosPorIds_TooManyIds_ShouldThrowValidationException() {
+        List<Long> ids = java.util.stream.LongStream.rangeClosed(1, ProductUseCase.LIMITE_MAXIMO_LOTE + 1).boxed().toList();
+
+        assertThrows(ValidationException.class, () -> productUseCase.obtenerProductosPorIds(ids));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void existeProducto_ExistingProduct_ShouldReturnTrueWithoutLoadingIt() {
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(productUseCase.existeProducto(1L));
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    void existeProducto_NonExistingProduct_ShouldReturnFalse() {
+        when(productRepository.existsById(1L)).thenReturn(false);
+
+        assertFalse(productUseCase.existeProducto(1L));
+    }
+
+    @Test
+    void existeProducto_NullId_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> productUseCase.existeProducto(null));
+    }
+
     @Test
     void eliminarProductoPorId_ExistingProduct_ShouldDeleteSuccessfully() {
         when(productRepository.existsById(1L)).thenReturn(true);
@@ -199,6 +383,13 @@ class ProductUseCaseTest {
         productUseCase.eliminarProductoPorId(1L);
 
         verify(productRepository).deleteById(1L);
+        verify(productSearchRepository).remove(1L);
+        verify(productAutocompleteRepository).remove(1L);
+        verify(registroCambiosProductos).registrar(List.of(1L));
+        EventoProducto evento = eventoRegistrado();
+        assertEquals(TipoEventoProducto.ELIMINADO, evento.getTipo());
+        assertEquals(1L, evento.getProductoId());
+        assertNull(evento.getStock());
     }
 
     @Test
@@ -206,6 +397,8 @@ class ProductUseCaseTest {
         when(productRepository.existsById(1L)).thenReturn(false);
 
         assertThrows(ProductoNotFoundException.class, () -> productUseCase.eliminarProductoPorId(1L));
+        verifyNoInteractions(registroCambiosProductos);
+        verifyNoInteractions(productEventOutboxRepository);
     }
 
     @Test
@@ -215,19 +408,25 @@ class ProductUseCaseTest {
 
     @Test
     void actualizarStockProducto_ValidUpdate_ShouldUpdateSuccessfully() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
-        when(productRepository.save(any(Producto.class))).thenReturn(producto);
+        producto.setStock(15); // 10 (initial) + 5 (update), calculado por la base de datos
+        when(productRepository.adjustStock(1L, 5)).thenReturn(Optional.of(producto));
 
         Producto result = productUseCase.actualizarStockProducto(1L, 5);
 
         assertNotNull(result);
-        assertEquals(15, result.getStock()); // 10 (initial) + 5 (update)
-        verify(productRepository).save(any(Producto.class));
+        assertEquals(15, result.getStock());
+        verify(productRepository, never()).findById(anyLong());
+        verify(productRepository, never()).save(any(Producto.class));
+        verify(registroCambiosProductos).registrar(List.of(1L));
+        EventoProducto evento = eventoRegistrado();
+        assertEquals(TipoEventoProducto.STOCK, evento.getTipo());
+        assertEquals(15, evento.getStock());
     }
 
     @Test
     void actualizarStockProducto_NonExistingProduct_ShouldThrowProductoNotFoundException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+        when(productRepository.adjustStock(1L, 5)).thenReturn(Optional.empty());
+        when(productRepository.existsById(1L)).thenReturn(false);
 
         assertThrows(ProductoNotFoundException.class, () -> productUseCase.actualizarStockProducto(1L, 5));
     }
@@ -244,7 +443,8 @@ class ProductUseCaseTest {
 
     @Test
     void actualizarStockProducto_NegativeResult_ShouldThrowStockUpdateException() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(producto));
+        when(productRepository.adjustStock(1L, -20)).thenReturn(Optional.empty());
+        when(productRepository.existsById(1L)).thenReturn(true);
 
         assertThrows(StockUpdateException.class, () -> productUseCase.actualizarStockProducto(1L, -20));
     }
@@ -271,4 +471,94 @@ class ProductUseCaseTest {
         assertNull(result.getPrecio());
         assertNull(result.getStock());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void obtenerProductosPaginados_MasResultados_ShouldReturnNextCursor() {
+        Producto producto2 = new Producto(2L, "Product 2", null, 50.0, 1);
+        Producto producto3 = new Producto(3L, "Product 3", null, 50.0, 1);
+        when(productRepository.findNextPage(null, 3)).thenReturn(Arrays.asList(producto, producto2, producto3));
+
+        PaginaProductos result = productUseCase.obtenerProductosPaginados(null, 2);
+
+        assertEquals(2, result.getProductos().size());
+        assertEquals(2L, result.getSiguienteCursor());
+        assertTrue(result.tieneSiguiente());
+    }
+
+    @Test
+    void obtenerProductosPaginados_UltimaPagina_ShouldReturnNullCursor() {
+        when(productRepository.findNextPage(1L, 3)).thenReturn(List.of(producto));
+
+        PaginaProductos result = productUseCase.obtenerProductosPaginados(1L, 2);
+
+        assertEquals(1, result.getProductos().size());
+        assertNull(result.getSiguienteCursor());
+        assertFalse(result.tieneSiguiente());
+    }
+
+    @Test
+    void obtenerProductosPaginados_LimiteInvalido_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> productUseCase.obtenerProductosPaginados(null, 0));
+        assertThrows(ValidationException.class,
+                () -> productUseCase.obtenerProductosPaginados(null, ProductUseCase.LIMITE_MAXIMO_PAGINA + 1));
+    }
+
+    @Test
+    void exportarProductos_ShouldDeliverEachProductToConsumer() {
+        Producto producto2 = new Producto(2L, "Product 2", null, 50.0, 1);
+        when(productRepository.streamAll()).thenReturn(Stream.of(producto, producto2));
+        List<Producto> recibidos = new ArrayList<>();
+
+        productUseCase.exportarProductos(recibidos::add);
+
+        assertEquals(2, recibidos.size());
+        assertEquals(2L, recibidos.get(1).getId());
+    }
+
+    @Test
+    void exportarProductos_NullConsumer_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> productUseCase.exportarProductos(null));
+    }
+
+    @Test
+    void crearProductos_ValidProducts_ShouldSaveAllInOneCall() {
+        List<Producto> productos = Arrays.asList(producto, new Producto(null, "Product 2", null, 5.0, 0));
+        when(productRepository.saveAll(productos)).thenReturn(productos);
+
+        List<Producto> result = productUseCase.crearProductos(productos);
+
+        assertEquals(2, result.size());
+        verify(productRepository).saveAll(productos);
+        verify(productRepository, never()).save(any(Producto.class));
+        verify(productSearchRepository, times(2)).index(any(Producto.class));
+        verify(productAutocompleteRepository, times(2)).index(any(Producto.class));
+        verify(productEventOutboxRepository).append(argThat(eventos -> eventos.size() == 2));
+    }
+
+    @Test
+    void crearProductos_InvalidProduct_ShouldRejectWholeBatch() {
+        Producto invalido = new Producto(null, " ", null, 5.0, 0);
+        List<Producto> productos = Arrays.asList(producto, invalido);
+
+        ValidationException ex = assertThrows(ValidationException.class, () -> productUseCase.crearProductos(productos));
+
+        assertTrue(ex.getMessage().contains("Producto [1]"));
+        verify(productRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void crearProductos_EmptyOrTooLarge_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> productUseCase.crearProductos(null));
+        assertThrows(ValidationException.class, () -> productUseCase.crearProductos(List.of()));
+        List<Producto> demasiados = java.util.Collections.nCopies(ProductUseCase.LIMITE_MAXIMO_LOTE + 1, producto);
+        assertThrows(ValidationException.class, () -> productUseCase.crearProductos(demasiados));
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventoProducto eventoRegistrado() {
+        ArgumentCaptor<List<EventoProducto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productEventOutboxRepository).append(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        return captor.getValue().get(0);
+    }
+}
@@ -0,0 +1,218 @@
+package com.pragma.application.usecase;
+
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.ValidationException;
+import com.pragma.application.exception.VersionConflictoException;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.PaginaProductos;
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.domain.repository.ProductAutocompleteRepository;
+import com.pragma.domain.repository.ProductSearchRepository;
+import com.pragma.domain.repository.ProductVersionRepository;
+import com.pragma.domain.repository.ReactiveProductEventOutboxRepository;
+import com.pragma.domain.repository.ReactiveProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductUseCaseTest {
+
+    @Mock
+    private ReactiveProductRepository reactiveProductRepository;
+
+    @Mock
+    private ProductSearchRepository productSearchRepository;
+
+    @Mock
+    private ProductAutocompleteRepository productAutocompleteRepository;
+
+    @Mock
+    private ProductVersionRepository productVersionRepository;
+
+    @Mock
+    private RegistroCambiosProductos registroCambiosProductos;
+
+    @Mock
+    private ReactiveProductEventOutboxRepository reactiveProductEventOutboxRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private ReactiveProductUseCase reactiveProductUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocacion -> invocacion.getArgument(0));
+        lenient().when(reactiveProductEventOutboxRepository.append(any())).thenReturn(Mono.empty());
+    }
+
+    private EventoProducto eventoRegistrado() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EventoProducto>> eventos = ArgumentCaptor.forClass(List.class);
+        verify(reactiveProductEventOutboxRepository).append(eventos.capture());
+        assertEquals(1, eventos.getValue().size());
+        return eventos.getValue().get(0);
+    }
+
+    @Test
+    void crearProducto_ShouldInsertAndRegisterChange() {
+        Producto nuevo = new Producto(null, "Teclado", null, 50.0, 10);
+        Producto creado = new Producto(7L, "Teclado", null, 50.0, 10);
+        when(reactiveProductRepository.insert(nuevo)).thenReturn(Mono.just(creado));
+
+        assertEquals(creado, reactiveProductUseCase.crearProducto(nuevo).block());
+
+        EventoProducto evento = eventoRegistrado();
+        assertEquals(TipoEventoProducto.CREADO, evento.getTipo());
+        assertEquals(7L, evento.getProductoId());
+        verify(transactionalOperator).transactional(any(Mono.class));
+        verify(productSearchRepository).index(creado);
+        verify(productAutocompleteRepository).index(creado);
+        verify(registroCambiosProductos).registrar(List.of(7L));
+    }
+
+    @Test
+    void crearProducto_WhenInvalid_ShouldErrorWithoutTouchingRepository() {
+        Producto invalido = new Producto(null, "Teclado", null, 0.0, 10);
+
+        Mono<Producto> resultado = reactiveProductUseCase.crearProducto(invalido);
+
+        assertThrows(ValidationException.class, resultado::block);
+        verifyNoInteractions(reactiveProductRepository, reactiveProductEventOutboxRepository, registroCambiosProductos);
+    }
+
+    @Test
+    void crearProducto_WhenOutboxFails_ShouldErrorWithoutRegisteringChange() {
+        Producto nuevo = new Producto(null, "Teclado", null, 50.0, 10);
+        when(reactiveProductRepository.insert(nuevo)).thenReturn(Mono.just(new Producto(7L, "Teclado", null, 50.0, 10)));
+        when(reactiveProductEventOutboxRepository.append(any())).thenReturn(Mono.error(new IllegalStateException("outbox")));
+
+        assertThrows(IllegalStateException.class, () -> reactiveProductUseCase.crearProducto(nuevo).block());
+        verifyNoInteractions(productSearchRepository, registroCambiosProductos);
+    }
+
+    @Test
+    void actualizarStockProducto_ShouldRegisterStockEvent() {
+        when(reactiveProductRepository.adjustStock(1L, -2)).thenReturn(Mono.just(new Producto(1L, "Teclado", null, 50.0, 8)));
+
+        assertEquals(8, reactiveProductUseCase.actualizarStockProducto(1L, -2).block().getStock());
+
+        EventoProducto evento = eventoRegistrado();
+        assertEquals(TipoEventoProducto.STOCK, evento.getTipo());
+        assertEquals(8, evento.getStock());
+        verify(registroCambiosProductos).registrar(List.of(1L));
+    }
+
+    @Test
+    void obtenerProductoPorId_WhenMissing_ShouldErrorWithNotFound() {
+        when(reactiveProductRepository.findById(1L)).thenReturn(Mono.empty());
+
+        assertThrows(ProductoNotFoundException.class, () -> reactiveProductUseCase.obtenerProductoPorId(1L).block());
+    }
+
+    @Test
+    void obtenerProductosPaginados_ShouldReadOneExtraRowToDetectNextPage() {
+        when(reactiveProductRepository.findNextPage(null, 3)).thenReturn(Flux.just(
+                new Producto(1L, "A", null, 1.0, 1), new Producto(2L, "B", null, 1.0, 1), new Producto(3L, "C", null, 1.0, 1)));
+
+        PaginaProductos pagina = reactiveProductUseCase.obtenerProductosPaginados(null, 2).block();
+
+        assertEquals(2, pagina.getProductos().size());
+        assertEquals(2L, pagina.getSiguienteCursor());
+    }
+
+    @Test
+    void obtenerProductosPaginados_WhenLimitOutOfRange_ShouldError() {
+        assertThrows(ValidationException.class, () -> reactiveProductUseCase.obtenerProductosPaginados(null, 0).block());
+        verifyNoInteractions(reactiveProductRepository);
+    }
+
+    @Test
+    void actualizarProducto_WhenMissing_ShouldErrorWithNotFound() {
+        when(reactiveProductRepository.update(any(Producto.class))).thenReturn(Mono.empty());
+
+        Mono<Producto> resultado = reactiveProductUseCase.actualizarProducto(1L, new Producto(null, "Nombre", null, 1.0, 1));
+
+        assertThrows(ProductoNotFoundException.class, resultado::block);
+        verifyNoInteractions(reactiveProductEventOutboxRepository, registroCambiosProductos);
+    }
+
+    @Test
+    void actualizarProducto_WithVersion_ShouldUpdateOnlyIfVersionMatches() {
+        Producto guardado = new Producto(1L, "Nombre", null, 1.0, 1, 4L);
+        when(reactiveProductRepository.updateIfVersion(argThat(p -> p.getVersion() == 3L))).thenReturn(Mono.just(guardado));
+
+        assertEquals(4L, reactiveProductUseCase.actualizarProducto(1L, new Producto(null, "Nombre", null, 1.0, 1, 3L))
+                .block().getVersion());
+
+        verify(reactiveProductRepository, never()).update(any());
+        verify(registroCambiosProductos).registrar(List.of(1L));
+    }
+
+    @Test
+    void actualizarProducto_WithStaleVersion_ShouldErrorWithVersionConflict() {
+        when(reactiveProductRepository.updateIfVersion(any(Producto.class))).thenReturn(Mono.empty());
+        when(reactiveProductRepository.existsById(1L)).thenReturn(Mono.just(true));
+
+        Mono<Producto> resultado = reactiveProductUseCase.actualizarProducto(1L, new Producto(null, "Nombre", null, 1.0, 1, 3L));
+
+        assertThrows(VersionConflictoException.class, resultado::block);
+        verifyNoInteractions(reactiveProductEventOutboxRepository, registroCambiosProductos);
+    }
+
+    @Test
+    void actualizarStockProducto_WhenStockWouldBeNegative_ShouldErrorWithStockUpdate() {
+        when(reactiveProductRepository.adjustStock(1L, -5)).thenReturn(Mono.empty());
+        when(reactiveProductRepository.existsById(1L)).thenReturn(Mono.just(true));
+
+        assertThrows(StockUpdateException.class, () -> reactiveProductUseCase.actualizarStockProducto(1L, -5).block());
+        verifyNoInteractions(registroCambiosProductos);
+    }
+
+    @Test
+    void actualizarStockProducto_WhenMissing_ShouldErrorWithNotFound() {
+        when(reactiveProductRepository.adjustStock(1L, 5)).thenReturn(Mono.empty());
+        when(reactiveProductRepository.existsById(1L)).thenReturn(Mono.just(false));
+
+        assertThrows(ProductoNotFoundException.class, () -> reactiveProductUseCase.actualizarStockProducto(1L, 5).block());
+    }
+
+    @Test
+    void eliminarProductoPorId_ShouldRemoveFromIndexesAndRegisterChange() {
+        when(reactiveProductRepository.deleteById(1L)).thenReturn(Mono.just(true));
+
+        reactiveProductUseCase.eliminarProductoPorId(1L).block();
+
+        EventoProducto evento = eventoRegistrado();
+        assertEquals(TipoEventoProducto.ELIMINADO, evento.getTipo());
+        assertEquals(1L, evento.getProductoId());
+        verify(productSearchRepository).remove(1L);
+        verify(productAutocompleteRepository).remove(1L);
+        verify(registroCambiosProductos).registrar(List.of(1L));
+    }
+
+    @Test
+    void eliminarProductoPorId_WhenMissing_ShouldErrorWithNotFound() {
+        when(reactiveProductRepository.deleteById(1L)).thenReturn(Mono.just(false));
+
+        assertThrows(ProductoNotFoundException.class, () -> reactiveProductUseCase.eliminarProductoPorId(1L).block());
+        verifyNoInteractions(productSearchRepository, reactiveProductEventOutboxRepository, registroCambiosProductos);
+    }
+}
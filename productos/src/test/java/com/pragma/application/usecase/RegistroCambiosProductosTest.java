@@ -0,0 +1,85 @@
+package com.pragma.application.usecase;
+
+import com.pragma.domain.repository.ProductVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegistroCambiosProductosTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ProductVersionRepository productVersionRepository;
+
+    private RegistroCambiosProductos registro;
+
+    @BeforeEach
+    void setUp() {
+        registro = new RegistroCambiosProductos(cacheManager, productVersionRepository);
+        lenient().when(cacheManager.getCache(ProductUseCase.CACHE_PRODUCTOS)).thenReturn(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(registro);
+    }
+
+    @Test
+    void registrar_SinTransaccion_ShouldEvictBeforeIncrementingVersion() {
+        registro.registrar(List.of(1L));
+
+        InOrder orden = inOrder(cache, productVersionRepository);
+        orden.verify(cache).evict(1L);
+        orden.verify(productVersionRepository).increment(List.of(1L));
+    }
+
+    @Test
+    void registrar_EnTransaccion_ShouldPropagateOnceAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        registro.registrar(List.of(1L, 2L));
+        registro.registrar(List.of(2L, 3L));
+
+        verifyNoInteractions(cache, productVersionRepository);
+        List<TransactionSynchronization> sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, sincronizaciones.size());
+
+        sincronizaciones.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verify(cache).evict(3L);
+        verify(productVersionRepository).increment(Set.of(1L, 2L, 3L));
+        assertFalse(TransactionSynchronizationManager.hasResource(registro));
+    }
+
+    @Test
+    void registrar_SinProductos_ShouldDoNothing() {
+        registro.registrar(List.of());
+
+        verifyNoInteractions(cacheManager, productVersionRepository);
+    }
+}
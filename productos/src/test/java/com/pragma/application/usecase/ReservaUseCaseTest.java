@@ -0,0 +1,274 @@
+package com.pragma.application.usecase;
+
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.ReservaEstadoException;
+import com.pragma.application.exception.ReservaNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.ValidationException;
+import com.pragma.domain.model.EstadoReserva;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.Reserva;
+import com.pragma.domain.model.ReservaItem;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.domain.repository.ProductEventOutboxRepository;
+import com.pragma.domain.repository.ProductRepository;
+import com.pragma.domain.repository.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservaUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private RegistroCambiosProductos registroCambiosProductos;
+
+    @Mock
+    private ProductEventOutboxRepository productEventOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReservaUseCase reservaUseCase;
+
+    private final UUID reservaId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        reservaUseCase = new ReservaUseCase(productRepository, reservaRepository, registroCambiosProductos,
+                productEventOutboxRepository, transactionManager);
+        lenient().when(reservaRepository.save(any(Reserva.class)))
+                .thenAnswer(inv -> {
+                    Reserva r = inv.getArgument(0);
+                    return new Reserva(reservaId, r.getEstado(), r.getExpiraEn(), r.getItems());
+                });
+    }
+
+    private Producto producto(Long id, int stock) {
+        return new Producto(id, "Producto " + id, null, 10.0, stock);
+    }
+
+    private Reserva reservaPendiente(Instant expiraEn) {
+        return new Reserva(reservaId, EstadoReserva.PENDIENTE, expiraEn,
+                List.of(new ReservaItem(1L, 2), new ReservaItem(2L, 3)));
+    }
+
+    @Test
+    void crearReserva_StockSuficiente_ShouldDecrementAllProductsAndSavePendingReservation() {
+        when(productRepository.adjustStock(1L, -2)).thenReturn(Optional.of(producto(1L, 8)));
+        when(productRepository.adjustStock(2L, -3)).thenReturn(Optional.of(producto(2L, 7)));
+
+        Instant antes = Instant.now();
+        Reserva result = reservaUseCase.crearReserva(
+                List.of(new ReservaItem(2L, 3), new ReservaItem(1L, 2)), Duration.ofMinutes(2));
+
+        assertEquals(reservaId, result.getId());
+        assertEquals(EstadoReserva.PENDIENTE, result.getEstado());
+        assertFalse(result.getExpiraEn().isBefore(antes.plus(Duration.ofMinutes(2))));
+        assertEquals(2, result.getItems().size());
+        InOrder orden = inOrder(productRepository);
+        orden.verify(productRepository).adjustStock(1L, -2);
+        orden.verify(productRepository).adjustStock(2L, -3);
+        verify(registroCambiosProductos).registrar(List.of(1L, 2L));
+        List<EventoProducto> eventos = eventosRegistrados();
+        assertEquals(List.of(1L, 2L), eventos.stream().map(EventoProducto::getProductoId).toList());
+        assertEquals(List.of(8, 7), eventos.stream().map(EventoProducto::getStock).toList());
+        assertTrue(eventos.stream().allMatch(e -> e.getTipo() == TipoEventoProducto.STOCK));
+    }
+
+    @Test
+    void crearReserva_ProductoRepetido_ShouldMergeQuantities() {
+        when(productRepository.adjustStock(1L, -5)).thenReturn(Optional.of(producto(1L, 5)));
+
+        Reserva result = reservaUseCase.crearReserva(
+                List.of(new ReservaItem(1L, 2), new ReservaItem(1L, 3)), null);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(5, result.getItems().get(0).getCantidad());
+        verify(productRepository).adjustStock(1L, -5);
+    }
+
+    @Test
+    void crearReserva_SinTtl_ShouldUseDefaultTtl() {
+        when(productRepository.adjustStock(1L, -1)).thenReturn(Optional.of(producto(1L, 9)));
+        ArgumentCaptor<Reserva> captor = ArgumentCaptor.forClass(Reserva.class);
+
+        Instant antes = Instant.now();
+        reservaUseCase.crearReserva(List.of(new ReservaItem(1L, 1)), null);
+
+        verify(reservaRepository).save(captor.capture());
+        Instant expiraEn = captor.getValue().getExpiraEn();
+        assertFalse(expiraEn.isBefore(antes.plus(ReservaUseCase.TTL_POR_DEFECTO)));
+        assertFalse(expiraEn.isAfter(Instant.now().plus(ReservaUseCase.TTL_POR_DEFECTO)));
+    }
+
+    @Test
+    void crearReserva_StockInsuficiente_ShouldThrowStockUpdateExceptionAndNotSave() {
+        when(productRepository.adjustStock(1L, -2)).thenReturn(Optional.of(producto(1L, 8)));
+        when(productRepository.adjustStock(2L, -30)).thenReturn(Optional.empty());
+        when(productRepository.existsById(2L)).thenReturn(true);
+
+        assertThrows(StockUpdateException.class, () -> reservaUseCase.crearReserva(
+                List.of(new ReservaItem(1L, 2), new ReservaItem(2L, 30)), null));
+        verify(reservaRepository, never()).save(any(Reserva.class));
+    }
+
+    @Test
+    void crearReserva_ProductoInexistente_ShouldThrowProductoNotFoundException() {
+        when(productRepository.adjustStock(9L, -1)).thenReturn(Optional.empty());
+        when(productRepository.existsById(9L)).thenReturn(false);
+
+        assertThrows(ProductoNotFoundException.class,
+                () -> reservaUseCase.crearReserva(List.of(new ReservaItem(9L, 1)), null));
+        verify(reservaRepository, never()).save(any(Reserva.class));
+    }
+
+    @Test
+    void crearReserva_ListaVacia_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> reservaUseCase.crearReserva(List.of(), null));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void crearReserva_CantidadNoPositiva_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class,
+                () -> reservaUseCase.crearReserva(List.of(new ReservaItem(1L, 0)), null));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void crearReserva_TtlExcesivo_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> reservaUseCase.crearReserva(
+                List.of(new ReservaItem(1L, 1)), ReservaUseCase.TTL_MAXIMO.plusSeconds(1)));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void confirmarReserva_Pendiente_ShouldConfirmWithoutTouchingStock() {
+        when(reservaRepository.findById(reservaId)).thenReturn(Optional.of(reservaPendiente(Instant.now().plusSeconds(60))));
+        when(reservaRepository.updateEstado(reservaId, EstadoReserva.PENDIENTE, EstadoReserva.CONFIRMADA)).thenReturn(true);
+
+        Reserva result = reservaUseCase.confirmarReserva(reservaId);
+
+        assertEquals(EstadoReserva.CONFIRMADA, result.getEstado());
+        verify(productRepository, never()).adjustStock(anyLong(), anyInt());
+    }
+
+    @Test
+    void confirmarReserva_Vencida_ShouldThrowReservaEstadoException() {
+        when(reservaRepository.findById(reservaId)).thenReturn(Optional.of(reservaPendiente(Instant.now().minusSeconds(1))));
+
+        assertThrows(ReservaEstadoException.class, () -> reservaUseCase.confirmarReserva(reservaId));
+        verify(reservaRepository, never()).updateEstado(any(), any(), any());
+    }
+
+    @Test
+    void confirmarReserva_YaCancelada_ShouldThrowReservaEstadoException() {
+        when(reservaRepository.findById(reservaId)).thenReturn(Optional.of(reservaPendiente(Instant.now().plusSeconds(60))));
+        when(reservaRepository.updateEstado(reservaId, EstadoReserva.PENDIENTE, EstadoReserva.CONFIRMADA)).thenReturn(false);
+
+        assertThrows(ReservaEstadoException.class, () -> reservaUseCase.confirmarReserva(reservaId));
+    }
+
+    @Test
+    void confirmarReserva_Inexistente_ShouldThrowReservaNotFoundException() {
+        when(reservaRepository.findById(reservaId)).thenReturn(Optional.empty());
+
+        assertThrows(ReservaNotFoundException.class, () -> reservaUseCase.confirmarReserva(reservaId));
+    }
+
+    @Test
+    void cancelarReserva_Pendiente_ShouldReleaseStock() {
+        when(reservaRepository.findById(reservaId)).thenReturn(Optional.of(reservaPendiente(Instant.now().plusSeconds(60))));
+        when(reservaRepository.updateEstado(reservaId, EstadoReserva.PENDIENTE, EstadoReserva.CANCELADA)).thenReturn(true);
+        when(productRepository.adjustStock(1L, 2)).thenReturn(Optional.of(producto(1L, 12)));
+        when(productRepository.adjustStock(2L, 3)).thenReturn(Optional.empty());
+
+        Reserva result = reservaUseCase.cancelarReserva(reservaId);
+
+        assertEquals(EstadoReserva.CANCELADA, result.getEstado());
+        verify(productRepository).adjustStock(1L, 2);
+        verify(productRepository).adjustStock(2L, 3);
+        verify(registroCambiosProductos).registrar(List.of(1L, 2L));
+        // El producto 2 ya no existe: solo se registra el nuevo stock del producto 1
+        List<EventoProducto> eventos = eventosRegistrados();
+        assertEquals(1, eventos.size());
+        assertEquals(1L, eventos.get(0).getProductoId());
+        assertEquals(12, eventos.get(0).getStock());
+    }
+
+    @Test
+    void cancelarReserva_YaConfirmada_ShouldNotReleaseStock() {
+        when(reservaRepository.findById(reservaId)).thenReturn(Optional.of(reservaPendiente(Instant.now().plusSeconds(60))));
+        when(reservaRepository.updateEstado(reservaId, EstadoReserva.PENDIENTE, EstadoReserva.CANCELADA)).thenReturn(false);
+
+        assertThrows(ReservaEstadoException.class, () -> reservaUseCase.cancelarReserva(reservaId));
+        verify(productRepository, never()).adjustStock(anyLong(), anyInt());
+        verify(productEventOutboxRepository, never()).append(any());
+    }
+
+    @Test
+    void expirarReservasVencidas_ShouldReleaseOnlyReservationsStillPending() {
+        UUID otraId = UUID.randomUUID();
+        when(reservaRepository.findExpiredIds(any(Instant.class), eq(ReservaUseCase.TAMANO_LOTE_EXPIRACION)))
+                .thenReturn(List.of(reservaId, otraId));
+        when(reservaRepository.updateEstado(reservaId, EstadoReserva.PENDIENTE, EstadoReserva.EXPIRADA)).thenReturn(true);
+        when(reservaRepository.updateEstado(otraId, EstadoReserva.PENDIENTE, EstadoReserva.EXPIRADA)).thenReturn(false);
+        when(reservaRepository.findById(reservaId)).thenReturn(Optional.of(reservaPendiente(Instant.now().minusSeconds(1))));
+
+        int expiradas = reservaUseCase.expirarReservasVencidas();
+
+        assertEquals(1, expiradas);
+        verify(productRepository).adjustStock(1L, 2);
+        verify(productRepository).adjustStock(2L, 3);
+        verify(reservaRepository, never()).findById(otraId);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void expirarReservasVencidas_FalloEnUnaReserva_ShouldExpireTheRestAndRethrow() {
+        UUID otraId = UUID.randomUUID();
+        when(reservaRepository.findExpiredIds(any(Instant.class), eq(ReservaUseCase.TAMANO_LOTE_EXPIRACION)))
+                .thenReturn(List.of(otraId, reservaId));
+        when(reservaRepository.updateEstado(otraId, EstadoReserva.PENDIENTE, EstadoReserva.EXPIRADA))
+                .thenThrow(new IllegalStateException("Bloqueo no disponible"));
+        when(reservaRepository.updateEstado(reservaId, EstadoReserva.PENDIENTE, EstadoReserva.EXPIRADA)).thenReturn(true);
+        when(reservaRepository.findById(reservaId)).thenReturn(Optional.of(reservaPendiente(Instant.now().minusSeconds(1))));
+
+        assertThrows(IllegalStateException.class, () -> reservaUseCase.expirarReservasVencidas());
+
+        verify(productRepository).adjustStock(1L, 2);
+        verify(productRepository).adjustStock(2L, 3);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<EventoProducto> eventosRegistrados() {
+        ArgumentCaptor<List<EventoProducto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productEventOutboxRepository).append(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.infrastructure.config;
+
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_ShouldRegisterGeneratedMapperImplementations() throws ClassNotFoundException {
+        new NativeHintsConfig.Pistas().registerHints(hints, getClass().getClassLoader());
+
+        for (Class<?> mapper : NativeHintsConfig.MAPPERS) {
+            Class<?> implementacion = Class.forName(mapper.getName() + "Impl");
+            assertTrue(RuntimeHintsPredicates.reflection().onType(implementacion).test(hints), implementacion.getName());
+        }
+    }
+
+    @Test
+    void registerHints_ShouldRegisterEntitiesAndJdbcProxies() throws NoSuchFieldException {
+        new NativeHintsConfig.Pistas().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onField(ProductoEntity.class.getDeclaredField("version")).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+    }
+}
@@ -0,0 +1,158 @@
+package com.pragma.infrastructure.input.grpc;
+
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.ValidationException;
+import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.Producto;
+import com.pragma.productos.grpc.v1.AjusteStockRequest;
+import com.pragma.productos.grpc.v1.ProductoIdRequest;
+import com.pragma.productos.grpc.v1.ProductoIdsRequest;
+import com.pragma.productos.grpc.v1.ProductoLeido;
+import com.pragma.productos.grpc.v1.ProductosServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductoGrpcServiceTest {
+
+    private ProductInputPort productInputPort;
+    private Server servidor;
+    private ManagedChannel canal;
+    private ProductosServiceGrpc.ProductosServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        productInputPort = mock(ProductInputPort.class);
+        String nombre = InProcessServerBuilder.generateName();
+        servidor = InProcessServerBuilder.forName(nombre)
+                .directExecutor()
+                .addService(new ProductoGrpcService(productInputPort))
+                .build()
+                .start();
+        canal = InProcessChannelBuilder.forName(nombre).directExecutor().build();
+        stub = ProductosServiceGrpc.newBlockingStub(canal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        canal.shutdownNow();
+        servidor.shutdownNow();
+    }
+
+    @Test
+    void getProduct_ShouldReturnProductMessage() {
+        when(productInputPort.obtenerProductoPorId(1L)).thenReturn(new Producto(1L, "Laptop", null, 1200.0, 5, 3L));
+
+        com.pragma.productos.grpc.v1.Producto producto = stub.getProduct(ProductoIdRequest.newBuilder().setId(1L).build());
+
+        assertEquals(1L, producto.getId());
+        assertEquals("Laptop", producto.getNombre());
+        assertEquals(1200.0, producto.getPrecio());
+        assertEquals(5, producto.getStock());
+        assertFalse(producto.hasDescripcion());
+        assertEquals(3L, producto.getVersion());
+    }
+
+    @Test
+    void getProduct_WhenNotFound_ShouldReturnNotFoundStatus() {
+        when(productInputPort.obtenerProductoPorId(9L)).thenThrow(new ProductoNotFoundException("Producto no encontrado con ID: 9"));
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub.getProduct(ProductoIdRequest.newBuilder().setId(9L).build()));
+
+        assertEquals(Status.Code.NOT_FOUND, e.getStatus().getCode());
+        assertEquals("Producto no encontrado con ID: 9", e.getStatus().getDescription());
+    }
+
+    @Test
+    void batchGetProducts_ShouldReadOnceAndStreamOneResultPerIdInOrder() {
+        when(productInputPort.obtenerProductosPorIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new Producto(1L, "Laptop", "Portátil", 1200.0, 5),
+                new Producto(3L, "Mouse", "Inalámbrico", 25.0, 40)));
+
+        List<ProductoLeido> leidos = new ArrayList<>();
+        stub.batchGetProducts(ProductoIdsRequest.newBuilder().addAllIds(List.of(1L, 2L, 3L)).build())
+                .forEachRemaining(leidos::add);
+
+        assertEquals(3, leidos.size());
+        assertEquals("Laptop", leidos.get(0).getProducto().getNombre());
+        assertEquals(2L, leidos.get(1).getId());
+        assertFalse(leidos.get(1).hasProducto());
+        assertEquals("Mouse", leidos.get(2).getProducto().getNombre());
+        verify(productInputPort).obtenerProductosPorIds(List.of(1L, 2L, 3L));
+        verify(productInputPort, never()).obtenerProductoPorId(any());
+    }
+
+    @Test
+    void batchGetProducts_ManyIds_ShouldStreamAllUnderFlowControl() {
+        List<Long> ids = LongStream.rangeClosed(1, 5_000).boxed().toList();
+        when(productInputPort.obtenerProductosPorIds(ids))
+                .thenReturn(ids.stream().map(id -> new Producto(id, "Producto " + id, null, 1.0, 1)).toList());
+
+        List<ProductoLeido> leidos = new ArrayList<>();
+        stub.batchGetProducts(ProductoIdsRequest.newBuilder().addAllIds(ids).build()).forEachRemaining(leidos::add);
+
+        assertEquals(5_000, leidos.size());
+        assertEquals(5_000L, leidos.get(4_999).getProducto().getId());
+    }
+
+    @Test
+    void batchGetProducts_InvalidRequest_ShouldReturnInvalidArgument() {
+        when(productInputPort.obtenerProductosPorIds(any()))
+                .thenThrow(new ValidationException("No se pueden consultar más de 10000 productos por lote."));
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub.batchGetProducts(ProductoIdsRequest.newBuilder().addIds(1L).build()).hasNext());
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+    }
+
+    @Test
+    void exists_ShouldReturnWhetherProductExists() {
+        when(productInputPort.existeProducto(1L)).thenReturn(true);
+
+        assertTrue(stub.exists(ProductoIdRequest.newBuilder().setId(1L).build()).getExiste());
+        assertFalse(stub.exists(ProductoIdRequest.newBuilder().setId(2L).build()).getExiste());
+    }
+
+    @Test
+    void adjustStock_ShouldApplyDeltaAndReturnUpdatedProduct() {
+        when(productInputPort.actualizarStockProducto(1L, -2)).thenReturn(new Producto(1L, "Laptop", null, 1200.0, 3, 4L));
+
+        com.pragma.productos.grpc.v1.Producto producto = stub.adjustStock(AjusteStockRequest.newBuilder().setId(1L).setCantidad(-2).build());
+
+        assertEquals(3, producto.getStock());
+        assertEquals(4L, producto.getVersion());
+    }
+
+    @Test
+    void adjustStock_WhenStockWouldBeNegative_ShouldReturnFailedPrecondition() {
+        when(productInputPort.actualizarStockProducto(1L, -100)).thenThrow(new StockUpdateException("El stock resultante no puede ser negativo."));
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub.adjustStock(AjusteStockRequest.newBuilder().setId(1L).setCantidad(-100).build()));
+
+        assertEquals(Status.Code.FAILED_PRECONDITION, e.getStatus().getCode());
+    }
+
+    @Test
+    void toStatus_ShouldMapApplicationExceptions() {
+        assertEquals(Status.Code.INVALID_ARGUMENT, ProductoGrpcService.toStatus(new ValidationException("inválido")).getCode());
+        assertEquals(Status.Code.INTERNAL, ProductoGrpcService.toStatus(new IllegalStateException("fallo")).getCode());
+    }
+}
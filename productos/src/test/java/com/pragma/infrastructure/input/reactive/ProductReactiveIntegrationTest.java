@@ -0,0 +1,242 @@
+package com.pragma.infrastructure.input.reactive;
+
+import com.pragma.infrastructure.input.rest.dto.ProductPageResponseDto;
+import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles({"reactivo", "test"})
+class ProductReactiveIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    void crearYObtenerProducto_ShouldReturnCreatedProductWithEtag() {
+        ProductResponseDto creado = crear("Teclado", 50.0, 10);
+        assertNotNull(creado.getId());
+
+        String etag = webTestClient.get().uri("/productos/{id}", creado.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.nombre").isEqualTo("Teclado")
+                .jsonPath("$.stock").isEqualTo(10)
+                .returnResult()
+                .getResponseHeaders().getETag();
+        assertNotNull(etag);
+
+        webTestClient.get().uri("/productos/{id}", creado.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void crearProducto_WhenInvalid_ShouldReturnBadRequest() {
+        webTestClient.post().uri("/productos")
+                .bodyValue(Map.of("nombre", "", "precio", -1.0, "stock", 1))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void crearProducto_ShouldNotCollideWithIdsAssignedByJpa() {
+        ProductoEntity entidad = new ProductoEntity();
+        entidad.setNombre("Desde JPA");
+        entidad.setPrecio(1.0);
+        entidad.setStock(1);
+        Long idJpa = jpaRepository.save(entidad).getId();
+
+        ProductResponseDto creado = crear("Desde R2DBC", 2.0, 2);
+
+        assertNotEquals(idJpa, creado.getId());
+        assertEquals(2, jpaRepository.count());
+    }
+
+    @Test
+    void obtenerProductoPorId_WhenMissing_ShouldReturnNotFound() {
+        webTestClient.get().uri("/productos/{id}", 999_999L)
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.head().uri("/productos/{id}", 999_999L)
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.get().uri("/productos/{id}/existe", 999_999L)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    void obtenerProductos_WithLimit_ShouldPageByCursor() {
+        crear("Producto A", 1.0, 1);
+        crear("Producto B", 2.0, 2);
+        crear("Producto C", 3.0, 3);
+
+        ProductPageResponseDto primera = webTestClient.get().uri("/productos?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ProductPageResponseDto.class)
+                .returnResult().getResponseBody();
+        assertEquals(2, primera.getItems().size());
+        assertNotNull(primera.getNextCursor());
+
+        ProductPageResponseDto segunda = webTestClient.get().uri("/productos?limit=2&after={cursor}", primera.getNextCursor())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ProductPageResponseDto.class)
+                .returnResult().getResponseBody();
+        assertEquals(1, segunda.getItems().size());
+        assertEquals("Producto C", segunda.getItems().get(0).getNombre());
+        assertNull(segunda.getNextCursor());
+
+        webTestClient.get().uri("/productos")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ProductResponseDto.class).hasSize(3);
+    }
+
+    @Test
+    void actualizarStockProducto_ShouldApplyDeltaAndRejectNegativeStock() {
+        ProductResponseDto creado = crear("Monitor", 200.0, 5);
+
+        webTestClient.patch().uri("/productos/{id}/stock?cantidad=-3", creado.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.stock").isEqualTo(2);
+        webTestClient.patch().uri("/productos/{id}/stock?cantidad=-3", creado.getId())
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.patch().uri("/productos/{id}/stock?cantidad=1", 999_999L)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        assertEquals(2, jpaRepository.findById(creado.getId()).orElseThrow().getStock());
+    }
+
+    @Test
+    void actualizarYEliminarProducto_ShouldChangeEtagAndRemoveProduct() {
+        ProductResponseDto creado = crear("Ratón", 20.0, 4);
+        String etagInicial = webTestClient.get().uri("/productos/{id}", creado.getId())
+                .exchange()
+                .returnResult(ProductResponseDto.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.put().uri("/productos/{id}", creado.getId())
+                .bodyValue(Map.of("nombre", "Ratón inalámbrico", "precio", 25.0, "stock", 4))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.nombre").isEqualTo("Ratón inalámbrico");
+        webTestClient.get().uri("/productos/{id}", creado.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etagInicial)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.precio").isEqualTo(25.0);
+
+        webTestClient.delete().uri("/productos/{id}", creado.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete().uri("/productos/{id}", creado.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.head().uri("/productos/{id}", creado.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void actualizarProducto_WithIfMatch_ShouldRejectStaleVersion() {
+        ProductResponseDto creado = crear("Lámpara", 15.0, 3);
+        String etag = webTestClient.get().uri("/productos/{id}", creado.getId())
+                .exchange()
+                .returnResult(ProductResponseDto.class)
+                .getResponseHeaders().getETag();
+
+        String nuevo = webTestClient.put().uri("/productos/{id}", creado.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bodyValue(Map.of("nombre", "Lámpara LED", "precio", 18.0, "stock", 3))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ProductResponseDto.class)
+                .getResponseHeaders().getETag();
+        assertNotEquals(etag, nuevo);
+
+        webTestClient.put().uri("/productos/{id}", creado.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bodyValue(Map.of("nombre", "Lámpara antigua", "precio", 10.0, "stock", 3))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        webTestClient.put().uri("/productos/{id}", creado.getId())
+                .header(HttpHeaders.IF_MATCH, "W/" + nuevo)
+                .bodyValue(Map.of("nombre", "Lámpara antigua", "precio", 10.0, "stock", 3))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        webTestClient.get().uri("/productos/{id}", creado.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, nuevo)
+                .exchange()
+                .expectStatus().isNotModified();
+        assertEquals("Lámpara LED", jpaRepository.findById(creado.getId()).orElseThrow().getNombre());
+    }
+
+    @Test
+    void escrituras_ShouldAppendEventsToOutbox() {
+        ProductResponseDto creado = crear("Auriculares", 30.0, 6);
+
+        webTestClient.patch().uri("/productos/{id}/stock?cantidad=-1", creado.getId())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.patch().uri("/productos/{id}/stock?cantidad=-10", creado.getId())
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.delete().uri("/productos/{id}", creado.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        List<String> tipos = jdbcTemplate.queryForList(
+                "SELECT tipo FROM productos_eventos WHERE producto_id = ? ORDER BY id", String.class, creado.getId());
+        assertEquals(List.of("CREADO", "STOCK", "ELIMINADO"), tipos);
+        assertEquals(5, jdbcTemplate.queryForObject(
+                "SELECT stock FROM productos_eventos WHERE producto_id = ? AND tipo = 'STOCK'", Integer.class, creado.getId()));
+    }
+
+    private ProductResponseDto crear(String nombre, double precio, int stock) {
+        return webTestClient.post().uri("/productos")
+                .bodyValue(Map.of("nombre", nombre, "precio", precio, "stock", stock))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ProductResponseDto.class)
+                .returnResult().getResponseBody();
+    }
+}
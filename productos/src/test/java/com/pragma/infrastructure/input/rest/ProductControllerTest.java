@@ -1,29 +1,57 @@
 package com.pragma.infrastructure.input.rest;
 
+import com.pragma.application.exception.ProductoNotFoundException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.exception.ValidationException;
+import com.pragma.application.exception.VersionConflictoException;
 import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.PaginaProductos;
 import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.ResultadoBusqueda;
+import com.pragma.domain.model.SugerenciaProducto;
+import com.pragma.infrastructure.config.FormatosBinariosConfig;
+import com.pragma.infrastructure.input.rest.catalogo.CatalogoPrecomprimido;
 import com.pragma.infrastructure.input.rest.controller.ProductController;
 import com.pragma.infrastructure.input.rest.dto.ProductRequestDto;
 import com.pragma.infrastructure.input.rest.dto.ProductResponseDto;
+import com.pragma.infrastructure.input.rest.dto.ProductSuggestionDto;
+import com.pragma.infrastructure.input.rest.export.ProductExportFormat;
+import com.pragma.infrastructure.input.rest.export.ProductExportWriter;
+import com.pragma.infrastructure.input.rest.formato.VaryAcceptAdvice;
+import com.pragma.infrastructure.input.rest.mapper.ProductCursorMapper;
 import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProductController.class)
+@Import({CatalogoPrecomprimido.class, FormatosBinariosConfig.class, VaryAcceptAdvice.class})
 class ProductControllerTest {
 
     @Autowired
@@ -35,6 +63,9 @@ class ProductControllerTest {
     @MockBean
     private ProductRestMapper productRestMapper;
 
+    @MockBean
+    private ProductExportWriter productExportWriter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -130,6 +161,26 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.stock").value(10));
     }
 
+    @Test
+    void updateStock_StockInsuficiente_ShouldReturnBadRequest() throws Exception {
+        when(productInputPort.actualizarStockProducto(1L, -20))
+                .thenThrow(new StockUpdateException("El stock resultante no puede ser negativo."));
+
+        mockMvc.perform(patch("/productos/1/stock")
+                .param("cantidad", "-20"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void updateStock_NonExistingId_ShouldReturnNotFound() throws Exception {
+        when(productInputPort.actualizarStockProducto(99L, 5))
+                .thenThrow(new ProductoNotFoundException("Producto no encontrado con ID: 99 para actualizar stock."));
+
+        mockMvc.perform(patch("/productos/99/stock")
+                .param("cantidad", "5"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void deleteProduct_ExistingId_ShouldReturnNoContent() throws Exception {
         doNothing().when(productInputPort).eliminarProductoPorId(1L);
@@ -137,4 +188,379 @@ class ProductControllerTest {
         mockMvc.perform(delete("/productos/1"))
                 .andExpect(status().isNoContent());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getProductPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        PaginaProductos pagina = new PaginaProductos(Arrays.asList(producto), 1L);
+        when(productInputPort.obtenerProductosPaginados(null, 1)).thenReturn(pagina);
+        when(productRestMapper.toProductResponseDtoList(any())).thenReturn(Arrays.asList(responseDto));
+
+        mockMvc.perform(get("/productos").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value(ProductCursorMapper.toCursor(1L)));
+    }
+
+    @Test
+    void getProductPage_WithCursor_ShouldContinueAfterDecodedId() throws Exception {
+        when(productInputPort.obtenerProductosPaginados(1L, 10)).thenReturn(new PaginaProductos(List.of(), null));
+        when(productRestMapper.toProductResponseDtoList(any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/productos")
+                .param("after", ProductCursorMapper.toCursor(1L))
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getProductPage_InvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/productos")
+                .param("after", "bm9wZQ")
+                .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getProductPage_LimitZero_ShouldReturnBadRequest() throws Exception {
+        when(productInputPort.obtenerProductosPaginados(null, 0))
+                .thenThrow(new ValidationException("El límite de la página debe estar entre 1 y 500."));
+
+        mockMvc.perform(get("/productos").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getProductPage_LimitAboveMaximum_ShouldReturnBadRequest() throws Exception {
+        when(productInputPort.obtenerProductosPaginados(null, 501))
+                .thenThrow(new ValidationException("El límite de la página debe estar entre 1 y 500."));
+
+        mockMvc.perform(get("/productos").param("limit", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportProducts_Csv_ShouldStreamWriterOutput() throws Exception {
+        doAnswer(inv -> {
+            OutputStream salida = inv.getArgument(1);
+            salida.write("id,nombre\r\n1,Test Product\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(productExportWriter).write(eq(ProductExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/productos/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(content().string("id,nombre\r\n1,Test Product\r\n"));
+    }
+
+    @Test
+    void exportProducts_UnsupportedFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/productos/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createProductsBatch_AllValid_ShouldReturnCreatedWithPerItemResults() throws Exception {
+        when(productRestMapper.toProductoList(any())).thenReturn(Arrays.asList(producto, producto));
+        when(productInputPort.crearProductos(any())).thenReturn(Arrays.asList(producto, producto));
+        when(productRestMapper.toProductResponseDto(any(Producto.class))).thenReturn(responseDto);
+
+        mockMvc.perform(post("/productos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(requestDto, requestDto))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.creados").value(2))
+                .andExpect(jsonPath("$.resultados[1].indice").value(1))
+                .andExpect(jsonPath("$.resultados[1].estado").value("CREADO"))
+                .andExpect(jsonPath("$.resultados[1].producto.id").value(1L));
+    }
+
+    @Test
+    void createProductsBatch_InvalidItem_ShouldReturnBadRequestWithoutCreating() throws Exception {
+        ProductRequestDto invalido = new ProductRequestDto();
+        invalido.setNombre("X");
+        invalido.setPrecio(-1.0);
+        invalido.setStock(1);
+
+        mockMvc.perform(post("/productos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(requestDto, invalido))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.rechazados").value(1))
+                .andExpect(jsonPath("$.resultados[0].estado").value("NO_PROCESADO"))
+                .andExpect(jsonPath("$.resultados[1].estado").value("RECHAZADO"))
+                .andExpect(jsonPath("$.resultados[1].errores.length()").value(2));
+
+        verify(productInputPort, never()).crearProductos(any());
+    }
+
+    @Test
+    void createProductsBatch_EmptyList_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/productos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void existeProducto_ShouldUseExistenceCheckWithoutLoadingProduct() throws Exception {
+        when(productInputPort.existeProducto(1L)).thenReturn(true);
+        when(productInputPort.existeProducto(2L)).thenReturn(false);
+
+        mockMvc.perform(get("/productos/1/existe"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+        mockMvc.perform(get("/productos/2/existe"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("false"));
+
+        verify(productInputPort, never()).obtenerProductoPorId(any());
+    }
+
+    @Test
+    void existeProductoHead_ShouldReturnStatusWithoutBody() throws Exception {
+        when(productInputPort.existeProducto(1L)).thenReturn(true);
+        when(productInputPort.existeProducto(2L)).thenReturn(false);
+
+        mockMvc.perform(head("/productos/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+        mockMvc.perform(head("/productos/2"))
+                .andExpect(status().isNotFound());
+
+        verify(productInputPort, never()).obtenerProductoPorId(any());
+    }
+
+    @Test
+    void buscarProductos_ShouldReturnRankedPage() throws Exception {
+        when(productInputPort.buscarProductos("test", 0, 20))
+                .thenReturn(new ResultadoBusqueda(List.of(producto), 0, 20, true));
+        when(productRestMapper.toProductResponseDtoList(List.of(producto))).thenReturn(List.of(responseDto));
+
+        mockMvc.perform(get("/productos/search").param("q", "test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(20))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void buscarProductos_InvalidQuery_ShouldReturnBadRequest() throws Exception {
+        when(productInputPort.buscarProductos(" ", 0, 20))
+                .thenThrow(new ValidationException("El texto de búsqueda es obligatorio."));
+
+        mockMvc.perform(get("/productos/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void autocompletarProductos_ShouldReturnSuggestions() throws Exception {
+        List<SugerenciaProducto> sugerencias = List.of(new SugerenciaProducto(1L, "Test Product"));
+        ProductSuggestionDto sugerencia = new ProductSuggestionDto();
+        sugerencia.setId(1L);
+        sugerencia.setNombre("Test Product");
+        when(productInputPort.autocompletarProductos("tes", 5)).thenReturn(sugerencias);
+        when(productRestMapper.toProductSuggestionDtoList(sugerencias)).thenReturn(List.of(sugerencia));
+
+        mockMvc.perform(get("/productos/autocomplete").param("prefix", "tes").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].nombre").value("Test Product"));
+    }
+
+    @Test
+    void autocompletarProductos_InvalidLimit_ShouldReturnBadRequest() throws Exception {
+        when(productInputPort.autocompletarProductos("tes", 500))
+                .thenThrow(new ValidationException("El límite de sugerencias debe estar entre 1 y 50."));
+
+        mockMvc.perform(get("/productos/autocomplete").param("prefix", "tes").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getProduct_IfNoneMatchVigente_ShouldReturnNotModifiedWithoutSerializingProduct() throws Exception {
+        producto.setVersion(7L);
+        when(productInputPort.obtenerProductoPorId(1L)).thenReturn(producto);
+
+        mockMvc.perform(get("/productos/1").header("If-None-Match", "\"6-10\", W/\"7-10\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"7-10\""))
+                .andExpect(content().string(""));
+
+        verify(productRestMapper, never()).toProductResponseDto(any());
+    }
+
+    @Test
+    void getProduct_IfNoneMatchObsoleto_ShouldReturnProductWithCurrentEtag() throws Exception {
+        producto.setVersion(8L);
+        when(productInputPort.obtenerProductoPorId(1L)).thenReturn(producto);
+        when(productRestMapper.toProductResponseDto(any(Producto.class))).thenReturn(responseDto);
+
+        mockMvc.perform(get("/productos/1").header("If-None-Match", "\"7-10\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8-10\""))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
+    @Test
+    void getProduct_SinVersion_ShouldReturnProductWithoutEtag() throws Exception {
+        when(productInputPort.obtenerProductoPorId(1L)).thenReturn(producto);
+        when(productRestMapper.toProductResponseDto(any(Producto.class))).thenReturn(responseDto);
+
+        mockMvc.perform(get("/productos/1").header("If-None-Match", "\"7-10\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void updateProduct_IfMatch_ShouldPassVersionAndReturnNewEtag() throws Exception {
+        Producto actualizado = new Producto(1L, "Test Product", null, 100.0, 10, 4L);
+        when(productRestMapper.toProducto(any(ProductRequestDto.class))).thenReturn(producto);
+        when(productInputPort.actualizarProducto(eq(1L), argThat(p -> Long.valueOf(3L).equals(p.getVersion()))))
+                .thenReturn(actualizado);
+        when(productRestMapper.toProductResponseDto(any(Producto.class))).thenReturn(responseDto);
+
+        mockMvc.perform(put("/productos/1")
+                        .header("If-Match", "\"3-10\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4-10\""));
+    }
+
+    @Test
+    void updateProduct_VersionObsoleta_ShouldReturnPreconditionFailed() throws Exception {
+        when(productRestMapper.toProducto(any(ProductRequestDto.class))).thenReturn(producto);
+        when(productInputPort.actualizarProducto(eq(1L), any(Producto.class)))
+                .thenThrow(new VersionConflictoException("El producto con ID: 1 ha cambiado desde la versión 3."));
+
+        mockMvc.perform(put("/productos/1")
+                        .header("If-Match", "\"3-10\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateProduct_IfMatchDebil_ShouldReturnPreconditionFailedWithoutUpdating() throws Exception {
+        when(productRestMapper.toProducto(any(ProductRequestDto.class))).thenReturn(producto);
+
+        mockMvc.perform(put("/productos/1")
+                        .header("If-Match", "W/\"3-10\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(productInputPort, never()).actualizarProducto(any(), any());
+    }
+
+    @Test
+    void getAllProducts_AcceptEncodingGzip_ShouldServePrecompressedSnapshot() throws Exception {
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-7"));
+        when(productInputPort.obtenerTodosLosProductos()).thenReturn(List.of(producto, producto, producto));
+        when(productRestMapper.toProductResponseDtoList(any()))
+                .thenReturn(List.of(responseDto, responseDto, responseDto));
+
+        MvcResult comprimido = mockMvc.perform(get("/productos").header("Accept-Encoding", "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept, Accept-Encoding"))
+                .andExpect(header().string("ETag", "\"abc-7\""))
+                .andReturn();
+        MvcResult plano = mockMvc.perform(get("/productos"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[2].nombre").value("Test Product"))
+                .andReturn();
+
+        byte[] descomprimido = new GZIPInputStream(
+                new ByteArrayInputStream(comprimido.getResponse().getContentAsByteArray())).readAllBytes();
+        assertArrayEquals(plano.getResponse().getContentAsByteArray(), descomprimido);
+        verify(productInputPort, times(1)).obtenerTodosLosProductos();
+        verify(productRestMapper, times(1)).toProductResponseDtoList(any());
+    }
+
+    @Test
+    void getAllProducts_IfNoneMatchVigente_ShouldReturnNotModifiedWithoutLoadingCatalog() throws Exception {
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-42"));
+
+        mockMvc.perform(get("/productos").header("If-None-Match", "\"abc-42\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/productos").param("limit", "10").header("If-None-Match", "\"abc-42\""))
+                .andExpect(status().isNotModified());
+
+        verify(productInputPort, never()).obtenerTodosLosProductos();
+        verify(productInputPort, never()).obtenerProductosPaginados(any(), anyInt());
+    }
+
+    @Test
+    void getProductPage_ShouldReturnCatalogEtag() throws Exception {
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-42"));
+        when(productInputPort.obtenerProductosPaginados(null, 10)).thenReturn(new PaginaProductos(List.of(producto), null));
+        when(productRestMapper.toProductResponseDtoList(any())).thenReturn(List.of(responseDto));
+
+        mockMvc.perform(get("/productos").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-42\""))
+                .andExpect(jsonPath("$.items[0].id").value(1L));
+    }
+
+    @Test
+    void getProduct_AcceptSmile_ShouldReturnSmileBody() throws Exception {
+        when(productInputPort.obtenerProductoPorId(1L)).thenReturn(producto);
+        when(productRestMapper.toProductResponseDto(any(Producto.class))).thenReturn(responseDto);
+
+        MvcResult resultado = mockMvc.perform(get("/productos/1").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn();
+
+        ProductResponseDto leido = new SmileMapper().readValue(resultado.getResponse().getContentAsByteArray(), ProductResponseDto.class);
+        assertEquals("Test Product", leido.getNombre());
+        assertEquals(10, leido.getStock());
+    }
+
+    @Test
+    void createProduct_ContentTypeCbor_ShouldReadCborRequest() throws Exception {
+        when(productRestMapper.toProducto(any(ProductRequestDto.class))).thenReturn(producto);
+        when(productInputPort.crearProducto(any(Producto.class))).thenReturn(producto);
+        when(productRestMapper.toProductResponseDto(any(Producto.class))).thenReturn(responseDto);
+
+        mockMvc.perform(post("/productos")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(new CBORMapper().writeValueAsBytes(requestDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1L));
+
+        verify(productRestMapper).toProducto(argThat((ProductRequestDto dto) -> "Test Product".equals(dto.getNombre())));
+    }
+
+    @Test
+    void getAllProducts_AcceptCbor_ShouldBypassJsonSnapshot() throws Exception {
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-7"));
+        when(productInputPort.obtenerTodosLosProductos()).thenReturn(List.of(producto));
+        when(productRestMapper.toProductResponseDtoList(any())).thenReturn(List.of(responseDto));
+
+        MvcResult resultado = mockMvc.perform(get("/productos")
+                        .header("Accept", "application/cbor, application/json;q=0.5")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"abc-7\""))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andReturn();
+
+        List<ProductResponseDto> leidos = new CBORMapper().readValue(resultado.getResponse().getContentAsByteArray(),
+                new TypeReference<List<ProductResponseDto>>() { });
+        assertEquals(1L, leidos.get(0).getId());
+    }
+}
@@ -0,0 +1,179 @@
+package com.pragma.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.infrastructure.input.rest.catalogo.CatalogoPrecomprimido;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import com.pragma.infrastructure.output.persistence.repository.ReservaSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductEtagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @Autowired
+    private ReservaSpringDataJpaRepository reservaRepository;
+
+    @Autowired
+    private CatalogoPrecomprimido catalogoPrecomprimido;
+
+    @AfterEach
+    void tearDown() {
+        reservaRepository.deleteAll();
+        jpaRepository.deleteAll();
+    }
+
+    private long crear() throws Exception {
+        String cuerpo = mockMvc.perform(post("/productos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("nombre", "Taza", "precio", 10.0, "stock", 5))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(cuerpo).get("id").asLong();
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+
+    @Test
+    void obtenerProducto_ShouldRevalidateUntilStockChanges() throws Exception {
+        long id = crear();
+        String url = "/productos/" + id;
+        String inicial = etag(url);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, inicial))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch(url + "/stock").param("cantidad", "-2")).andExpect(status().isOk());
+
+        String actual = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, inicial))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stock").value(3))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(inicial, actual);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, actual))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void obtenerCatalogo_ShouldChangeEtagWhenAnyProductChanges() throws Exception {
+        long id = crear();
+        catalogoPrecomprimido.actualizar();
+        String inicial = etag("/productos");
+
+        mockMvc.perform(get("/productos").header(HttpHeaders.IF_NONE_MATCH, inicial))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/productos/reservas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"productoId\":" + id + ",\"cantidad\":1}]}"))
+                .andExpect(status().isCreated());
+
+        // Hasta que la tarea reconstruye la instantánea se sirve la anterior, con su propio ETag
+        mockMvc.perform(get("/productos"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, inicial))
+                .andExpect(jsonPath("$[0].stock").value(5));
+        mockMvc.perform(get("/productos").header(HttpHeaders.IF_NONE_MATCH, inicial))
+                .andExpect(status().isNotModified());
+
+        catalogoPrecomprimido.actualizar();
+        mockMvc.perform(get("/productos").header(HttpHeaders.IF_NONE_MATCH, inicial))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].stock").value(4));
+    }
+
+    private String actualizar(long id, String ifMatch, String nombre, int expectedStatus) throws Exception {
+        var peticion = put("/productos/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("nombre", nombre, "precio", 12.0, "stock", 5)));
+        if (ifMatch != null) {
+            peticion.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(peticion).andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    void actualizarProducto_IfMatch_ShouldRejectStaleVersions() throws Exception {
+        long id = crear();
+        String url = "/productos/" + id;
+        String inicial = etag(url);
+
+        String actualizado = actualizar(id, inicial, "Taza grande", 200);
+        assertNotEquals(inicial, actualizado);
+        assertEquals(actualizado, etag(url));
+
+        actualizar(id, inicial, "Taza pequeña", 412);
+        mockMvc.perform(get(url)).andExpect(jsonPath("$.nombre").value("Taza grande"));
+
+        mockMvc.perform(patch(url + "/stock").param("cantidad", "-1")).andExpect(status().isOk());
+        actualizar(id, actualizado, "Taza mediana", 412);
+
+        actualizar(id, etag(url), "Taza mediana", 200);
+        mockMvc.perform(get(url)).andExpect(jsonPath("$.nombre").value("Taza mediana"));
+    }
+
+    @Test
+    void actualizarProducto_SinIfMatch_ShouldUpdateAndReturnEtag() throws Exception {
+        long id = crear();
+        String inicial = etag("/productos/" + id);
+
+        String actualizado = actualizar(id, null, "Taza grande", 200);
+
+        assertNotNull(actualizado);
+        assertNotEquals(inicial, actualizado);
+        actualizar(id, "*", "Taza mediana", 200);
+    }
+
+    @Test
+    void actualizarProducto_IfMatchProductoInexistente_ShouldReturnNotFound() throws Exception {
+        actualizar(999_999L, "\"0-5\"", "Taza", 404);
+    }
+
+    @Test
+    void actualizarProducto_IfMatchMalFormado_ShouldReturnPreconditionFailed() throws Exception {
+        long id = crear();
+
+        mockMvc.perform(put("/productos/" + id)
+                        .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("nombre", "Taza", "precio", 12.0, "stock", 5))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
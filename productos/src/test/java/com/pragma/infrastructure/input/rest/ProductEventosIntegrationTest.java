@@ -0,0 +1,128 @@
+package com.pragma.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.application.port.input.EventoProductoInputPort;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.TipoEventoProducto;
+import com.pragma.infrastructure.output.eventos.MemoriaProductEventPublisher;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductEventosIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventoProductoInputPort eventoProductoInputPort;
+
+    @Autowired
+    private MemoriaProductEventPublisher publicador;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM productos_eventos");
+        publicador.limpiar();
+        jpaRepository.deleteAll();
+    }
+
+    private long crear(String nombre, int stock) throws Exception {
+        String cuerpo = mockMvc.perform(post("/productos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("nombre", nombre, "precio", 10.0, "stock", stock))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(cuerpo).get("id").asLong();
+    }
+
+    private int pendientes() {
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM productos_eventos", Integer.class);
+        return total != null ? total : 0;
+    }
+
+    @Test
+    void cambiosDeProducto_ShouldBePublishedInOrderAndLeaveOutbox() throws Exception {
+        long id = crear("Taza", 5);
+        mockMvc.perform(put("/productos/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("nombre", "Taza grande", "precio", 12.5, "stock", 5))))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/productos/" + id + "/stock").param("cantidad", "-2")).andExpect(status().isOk());
+        mockMvc.perform(delete("/productos/" + id)).andExpect(status().isNoContent());
+
+        assertEquals(4, pendientes());
+        assertTrue(publicador.eventos().isEmpty());
+
+        assertEquals(4, eventoProductoInputPort.publicarEventosPendientes());
+        assertEquals(0, eventoProductoInputPort.publicarEventosPendientes());
+
+        List<EventoProducto> eventos = publicador.eventos();
+        assertEquals(List.of(TipoEventoProducto.CREADO, TipoEventoProducto.ACTUALIZADO, TipoEventoProducto.STOCK,
+                TipoEventoProducto.ELIMINADO), eventos.stream().map(EventoProducto::getTipo).toList());
+        assertTrue(eventos.stream().allMatch(e -> e.getProductoId() == id));
+        for (int i = 1; i < eventos.size(); i++) {
+            assertTrue(eventos.get(i - 1).getId() < eventos.get(i).getId());
+        }
+        assertEquals("Taza grande", eventos.get(1).getNombre());
+        assertEquals(12.5, eventos.get(1).getPrecio());
+        assertEquals(3, eventos.get(2).getStock());
+        assertNull(eventos.get(3).getNombre());
+        assertEquals(0, pendientes());
+    }
+
+    @Test
+    void cambioRechazado_ShouldNotRegisterEvent() throws Exception {
+        long id = crear("Lámpara", 1);
+        jdbcTemplate.update("DELETE FROM productos_eventos");
+
+        mockMvc.perform(patch("/productos/" + id + "/stock").param("cantidad", "-5")).andExpect(status().isBadRequest());
+
+        assertEquals(0, pendientes());
+    }
+
+    @Test
+    void crearProductosPorLotes_ShouldRegisterOneEventPerProduct() throws Exception {
+        mockMvc.perform(post("/productos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                Map.of("nombre", "Plato", "precio", 3.0, "stock", 10),
+                                Map.of("nombre", "Vaso", "precio", 2.0, "stock", 20)))))
+                .andExpect(status().isCreated());
+
+        eventoProductoInputPort.publicarEventosPendientes();
+
+        assertEquals(List.of("Plato", "Vaso"), publicador.eventos().stream().map(EventoProducto::getNombre).toList());
+    }
+}
@@ -0,0 +1,142 @@
+package com.pragma.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.infrastructure.output.persistence.pool.ControladorPoolConexiones;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"productos.pool.adaptativo.habilitado=true", "productos.pool.adaptativo.intervalo-ms=3600000"})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class ProductMetricasIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @Autowired
+    private ControladorPoolConexiones controladorPoolConexiones;
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    private long crear() throws Exception {
+        String cuerpo = mockMvc.perform(post("/productos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("nombre", "Taza", "precio", 10.0, "stock", 5))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(cuerpo).get("id").asLong();
+    }
+
+    private long mediciones(String metrica, String... etiquetas) {
+        Timer timer = meterRegistry.find(metrica).tags(etiquetas).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    void obtenerProducto_ShouldTimeCacheHitsAndOnlyQueryRepositoryOnMiss() throws Exception {
+        long id = crear();
+        long operaciones = mediciones("productos.operaciones", "operacion", "obtenerProductoPorId", "resultado", "exito");
+        long consultas = mediciones("productos.repositorio", "operacion", "findById", "resultado", "exito");
+
+        mockMvc.perform(get("/productos/" + id)).andExpect(status().isOk());
+        mockMvc.perform(get("/productos/" + id)).andExpect(status().isOk());
+
+        assertEquals(operaciones + 2, mediciones("productos.operaciones", "operacion", "obtenerProductoPorId", "resultado", "exito"));
+        assertEquals(consultas + 1, mediciones("productos.repositorio", "operacion", "findById", "resultado", "exito"));
+    }
+
+    @Test
+    void actualizarStock_WhenRejected_ShouldTagErrorAndException() throws Exception {
+        long id = crear();
+        long errores = mediciones("productos.operaciones",
+                "operacion", "actualizarStockProducto", "resultado", "error", "excepcion", "StockUpdateException");
+
+        mockMvc.perform(patch("/productos/" + id + "/stock").param("cantidad", "-10"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(errores + 1, mediciones("productos.operaciones",
+                "operacion", "actualizarStockProducto", "resultado", "error", "excepcion", "StockUpdateException"));
+        assertEquals(1, mediciones("productos.repositorio", "operacion", "adjustStock", "resultado", "exito"));
+    }
+
+    @Test
+    void prometheus_ShouldExposeOperationHistograms() throws Exception {
+        crear();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "productos_operaciones_seconds_bucket{excepcion=\"none\",operacion=\"crearProducto\",resultado=\"exito\"")))
+                .andExpect(content().string(containsString(
+                        "productos_repositorio_seconds_bucket{excepcion=\"none\",operacion=\"save\",resultado=\"exito\"")));
+    }
+
+    @Test
+    void sentencias_ShouldExposeStatementShapesWithoutValues() throws Exception {
+        mockMvc.perform(delete("/actuator/sentencias")).andExpect(status().isNoContent());
+
+        long id = crear();
+        mockMvc.perform(get("/productos/" + id)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/sentencias"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("insert into productos")))
+                .andExpect(content().string(containsString("\"ejecuciones\":1")))
+                .andExpect(content().string(not(containsString("Taza"))));
+    }
+
+    @Test
+    void prometheus_ShouldExposeConnectionPoolMetrics() throws Exception {
+        crear();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hikaricp_connections_active{pool=\"productos\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_idle{pool=\"productos\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_pending{pool=\"productos\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket{pool=\"productos\"")));
+    }
+
+    @Test
+    void controladorPool_ShouldAdjustApplicationPoolWithinBounds() {
+        int tamano = controladorPoolConexiones.ajustar();
+
+        assertTrue(tamano >= 5 && tamano <= 30);
+    }
+}
@@ -0,0 +1,111 @@
+package com.pragma.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    private long crear(String nombre, String descripcion) throws Exception {
+        String cuerpo = mockMvc.perform(post("/productos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "nombre", nombre, "descripcion", descripcion, "precio", 10.0, "stock", 5))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode creado = objectMapper.readTree(cuerpo);
+        return creado.get("id").asLong();
+    }
+
+    @Test
+    void buscar_ShouldFollowCreateUpdateAndDelete() throws Exception {
+        long lampara = crear("Lámpara de escritorio", "Luz cálida regulable");
+        long mesa = crear("Mesa de escritorio", "Incluye lámpara");
+        crear("Silla", "Ergonómica");
+
+        mockMvc.perform(get("/productos/search").param("q", "lampara escritorio"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(lampara))
+                .andExpect(jsonPath("$.items[1].id").value(mesa))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/productos/search").param("q", "escritorio").param("size", "1"))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(put("/productos/{id}", mesa)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Mesa de comedor\",\"precio\":10.0,\"stock\":5}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/productos/{id}", lampara)).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/productos/search").param("q", "escritorio"))
+                .andExpect(jsonPath("$.items.length()").value(0));
+        mockMvc.perform(get("/productos/search").param("q", "comedor"))
+                .andExpect(jsonPath("$.items[0].id").value(mesa));
+    }
+
+    @Test
+    void autocompletar_ShouldFollowCreateUpdateAndDelete() throws Exception {
+        long cafe = crear("Café molido", "Tueste natural");
+        long cafetera = crear("Cafetera italiana", "Acero");
+
+        mockMvc.perform(get("/productos/autocomplete").param("prefix", "cafe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(cafe))
+                .andExpect(jsonPath("$[0].nombre").value("Café molido"));
+
+        mockMvc.perform(put("/productos/{id}", cafetera)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Molinillo\",\"precio\":10.0,\"stock\":5}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/productos/{id}", cafe)).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/productos/autocomplete").param("prefix", "cafe"))
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/productos/autocomplete").param("prefix", "mol"))
+                .andExpect(jsonPath("$[0].id").value(cafetera));
+    }
+
+    @Test
+    void buscar_ConsultaVacia_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/productos/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,108 @@
+package com.pragma.infrastructure.input.rest;
+
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductStockConcurrencyTest {
+
+    private static final int STOCK_INICIAL = 100;
+    private static final int SOLICITUDES = 150;
+    private static final int HILOS = 16;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    void actualizarStock_SolicitudesConcurrentes_ShouldNotLoseUpdatesNorGoNegative() throws Exception {
+        Long id = jpaRepository.save(new ProductoEntity(null, "Concurrente", "Stock disputado", 10.0, STOCK_INICIAL)).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<Integer>> respuestas = new ArrayList<>();
+        try {
+            for (int i = 0; i < SOLICITUDES; i++) {
+                Callable<Integer> venta = () -> {
+                    salida.await();
+                    return mockMvc.perform(patch("/productos/{id}/stock", id).param("cantidad", "-1"))
+                            .andReturn().getResponse().getStatus();
+                };
+                respuestas.add(executor.submit(venta));
+            }
+            salida.countDown();
+
+            int aceptadas = 0;
+            int rechazadas = 0;
+            for (Future<Integer> respuesta : respuestas) {
+                int status = respuesta.get();
+                if (status == 200) {
+                    aceptadas++;
+                } else if (status == 400) {
+                    rechazadas++;
+                }
+            }
+
+            assertEquals(STOCK_INICIAL, aceptadas);
+            assertEquals(SOLICITUDES - STOCK_INICIAL, rechazadas);
+            assertEquals(0, jpaRepository.findById(id).orElseThrow().getStock());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void actualizarStock_IncrementosYDecrementosConcurrentes_ShouldKeepExactTotal() throws Exception {
+        Long id = jpaRepository.save(new ProductoEntity(null, "Concurrente", "Stock mixto", 10.0, STOCK_INICIAL)).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<Integer>> respuestas = new ArrayList<>();
+        try {
+            for (int i = 0; i < SOLICITUDES; i++) {
+                String cantidad = i % 2 == 0 ? "3" : "-2";
+                respuestas.add(executor.submit(() -> {
+                    salida.await();
+                    return mockMvc.perform(patch("/productos/{id}/stock", id).param("cantidad", cantidad))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            salida.countDown();
+            for (Future<Integer> respuesta : respuestas) {
+                assertEquals(200, respuesta.get());
+            }
+
+            int esperado = STOCK_INICIAL + (SOLICITUDES / 2) * 3 - (SOLICITUDES / 2) * 2;
+            assertEquals(esperado, jpaRepository.findById(id).orElseThrow().getStock());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.pragma.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.application.exception.ReservaEstadoException;
+import com.pragma.application.exception.StockUpdateException;
+import com.pragma.application.port.input.ReservaInputPort;
+import com.pragma.domain.model.EstadoReserva;
+import com.pragma.domain.model.Reserva;
+import com.pragma.domain.model.ReservaItem;
+import com.pragma.infrastructure.input.rest.controller.ReservaController;
+import com.pragma.infrastructure.input.rest.dto.ReservaItemDto;
+import com.pragma.infrastructure.input.rest.dto.ReservaRequestDto;
+import com.pragma.infrastructure.input.rest.mapper.ReservaRestMapperImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReservaController.class)
+@Import(ReservaRestMapperImpl.class)
+class ReservaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReservaInputPort reservaInputPort;
+
+    private final UUID id = UUID.randomUUID();
+
+    private ReservaRequestDto solicitud(Long ttlSegundos, ReservaItemDto... items) {
+        ReservaRequestDto dto = new ReservaRequestDto();
+        dto.setItems(List.of(items));
+        dto.setTtlSegundos(ttlSegundos);
+        return dto;
+    }
+
+    private ReservaItemDto item(Long productoId, Integer cantidad) {
+        ReservaItemDto dto = new ReservaItemDto();
+        dto.setProductoId(productoId);
+        dto.setCantidad(cantidad);
+        return dto;
+    }
+
+    private Reserva reserva(EstadoReserva estado) {
+        return new Reserva(id, estado, Instant.parse("2030-01-01T00:00:00Z"), List.of(new ReservaItem(1L, 2)));
+    }
+
+    @Test
+    void crearReserva_ValidRequest_ShouldReturnCreated() throws Exception {
+        when(reservaInputPort.crearReserva(anyList(), eq(Duration.ofSeconds(120)))).thenReturn(reserva(EstadoReserva.PENDIENTE));
+
+        mockMvc.perform(post("/productos/reservas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(solicitud(120L, item(1L, 2)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(id.toString()))
+                .andExpect(jsonPath("$.estado").value("PENDIENTE"))
+                .andExpect(jsonPath("$.items[0].productoId").value(1))
+                .andExpect(jsonPath("$.items[0].cantidad").value(2));
+    }
+
+    @Test
+    void crearReserva_CantidadInvalida_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/productos/reservas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(solicitud(null, item(1L, 0)))))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reservaInputPort);
+    }
+
+    @Test
+    void crearReserva_StockInsuficiente_ShouldReturnConflict() throws Exception {
+        when(reservaInputPort.crearReserva(anyList(), any()))
+                .thenThrow(new StockUpdateException("Stock insuficiente para el producto con ID: 1"));
+
+        mockMvc.perform(post("/productos/reservas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(solicitud(null, item(1L, 200)))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("Stock insuficiente para el producto con ID: 1"));
+    }
+
+    @Test
+    void confirmarReserva_Pendiente_ShouldReturnOk() throws Exception {
+        when(reservaInputPort.confirmarReserva(id)).thenReturn(reserva(EstadoReserva.CONFIRMADA));
+
+        mockMvc.perform(post("/productos/reservas/{id}/confirmar", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estado").value("CONFIRMADA"));
+    }
+
+    @Test
+    void cancelarReserva_YaConfirmada_ShouldReturnConflict() throws Exception {
+        when(reservaInputPort.cancelarReserva(id)).thenThrow(new ReservaEstadoException("La reserva ya no está pendiente."));
+
+        mockMvc.perform(post("/productos/reservas/{id}/cancelar", id))
+                .andExpect(status().isConflict());
+    }
+}
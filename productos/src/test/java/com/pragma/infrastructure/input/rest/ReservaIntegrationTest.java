@@ -0,0 +1,142 @@
+package com.pragma.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.application.port.input.ReservaInputPort;
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.entity.ReservaEntity;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import com.pragma.infrastructure.output.persistence.repository.ReservaSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReservaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository productoRepository;
+
+    @Autowired
+    private ReservaSpringDataJpaRepository reservaRepository;
+
+    @Autowired
+    private ReservaInputPort reservaInputPort;
+
+    private Long teclado;
+    private Long raton;
+
+    @BeforeEach
+    void setUp() {
+        teclado = productoRepository.save(new ProductoEntity(null, "Teclado", null, 50.0, 10)).getId();
+        raton = productoRepository.save(new ProductoEntity(null, "Raton", null, 20.0, 3)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservaRepository.deleteAll();
+        productoRepository.deleteAll();
+    }
+
+    private String cesta(int cantidadTeclado, int cantidadRaton) {
+        return "{\"items\":[{\"productoId\":" + teclado + ",\"cantidad\":" + cantidadTeclado + "},"
+                + "{\"productoId\":" + raton + ",\"cantidad\":" + cantidadRaton + "}]}";
+    }
+
+    private UUID reservar(int cantidadTeclado, int cantidadRaton) throws Exception {
+        String respuesta = mockMvc.perform(post("/productos/reservas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cesta(cantidadTeclado, cantidadRaton)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(respuesta);
+        return UUID.fromString(json.get("id").asText());
+    }
+
+    private int stock(Long id) {
+        return productoRepository.findById(id).orElseThrow().getStock();
+    }
+
+    @Test
+    void reservar_StockSuficiente_ShouldHoldStockOfWholeBasket() throws Exception {
+        reservar(4, 2);
+
+        assertEquals(6, stock(teclado));
+        assertEquals(1, stock(raton));
+    }
+
+    @Test
+    void reservar_UnProductoSinStock_ShouldHoldNothing() throws Exception {
+        mockMvc.perform(post("/productos/reservas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cesta(4, 5)))
+                .andExpect(status().isConflict());
+
+        assertEquals(10, stock(teclado));
+        assertEquals(3, stock(raton));
+        assertEquals(0, reservaRepository.count());
+    }
+
+    @Test
+    void cancelar_ShouldReleaseStock() throws Exception {
+        UUID id = reservar(4, 2);
+
+        mockMvc.perform(post("/productos/reservas/{id}/cancelar", id)).andExpect(status().isOk());
+        mockMvc.perform(post("/productos/reservas/{id}/confirmar", id)).andExpect(status().isConflict());
+
+        assertEquals(10, stock(teclado));
+        assertEquals(3, stock(raton));
+    }
+
+    @Test
+    void confirmar_ShouldKeepStockSoldAndIgnoreExpiry() throws Exception {
+        UUID id = reservar(4, 2);
+
+        mockMvc.perform(post("/productos/reservas/{id}/confirmar", id)).andExpect(status().isOk());
+        vencer(id);
+        assertEquals(0, reservaInputPort.expirarReservasVencidas());
+
+        assertEquals(6, stock(teclado));
+        assertEquals(1, stock(raton));
+    }
+
+    @Test
+    void expirar_ReservaVencida_ShouldReleaseStockOnce() throws Exception {
+        UUID id = reservar(4, 2);
+        vencer(id);
+
+        assertEquals(1, reservaInputPort.expirarReservasVencidas());
+        assertEquals(0, reservaInputPort.expirarReservasVencidas());
+        mockMvc.perform(post("/productos/reservas/{id}/confirmar", id)).andExpect(status().isConflict());
+
+        assertEquals(10, stock(teclado));
+        assertEquals(3, stock(raton));
+    }
+
+    private void vencer(UUID id) {
+        ReservaEntity reserva = reservaRepository.findById(id).orElseThrow();
+        reserva.setExpiraEn(Instant.now().minusSeconds(1));
+        reservaRepository.save(reserva);
+    }
+}
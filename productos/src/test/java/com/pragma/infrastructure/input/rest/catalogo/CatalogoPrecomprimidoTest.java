@@ -0,0 +1,125 @@
+package com.pragma.infrastructure.input.rest.catalogo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CatalogoPrecomprimidoTest {
+
+    private ProductInputPort productInputPort;
+    private CatalogoPrecomprimido catalogo;
+
+    @BeforeEach
+    void setUp() {
+        productInputPort = mock(ProductInputPort.class);
+        catalogo = new CatalogoPrecomprimido(productInputPort, Mappers.getMapper(ProductRestMapper.class), new ObjectMapper(), 0);
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            productos.add(new Producto(id, "Producto " + id, "Descripción del producto " + id, 10.0 * id, (int) id));
+        }
+        when(productInputPort.obtenerTodosLosProductos()).thenReturn(productos);
+    }
+
+    private static String texto(InputStream entrada) throws IOException {
+        try (entrada) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void vigente_ShouldBuildOncePerCatalogVersionWithCompressedVariants() throws IOException {
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-1"));
+
+        InstantaneaCatalogo instantanea = catalogo.vigente();
+
+        assertSame(instantanea, catalogo.vigente());
+        verify(productInputPort, times(1)).obtenerTodosLosProductos();
+        assertEquals("\"abc-1\"", instantanea.getEtag());
+        assertEquals(50, instantanea.getProductos());
+        String json = new String(instantanea.cuerpo(CodificacionCatalogo.IDENTIDAD), StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("[{\"id\":1,\"nombre\":\"Producto 1\""));
+        assertEquals(json, texto(new GZIPInputStream(
+                new ByteArrayInputStream(instantanea.cuerpo(CodificacionCatalogo.GZIP)))));
+        assertEquals(json, texto(new InflaterInputStream(
+                new ByteArrayInputStream(instantanea.cuerpo(CodificacionCatalogo.DEFLATE)))));
+        assertTrue(instantanea.cuerpo(CodificacionCatalogo.GZIP).length < json.length());
+    }
+
+    @Test
+    void actualizar_CambioDeVersion_ShouldRebuildInBackgroundOnlyWhenStale() {
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-1"));
+        assertTrue(catalogo.actualizar());
+        assertFalse(catalogo.actualizar());
+
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-2"));
+        assertTrue(catalogo.actualizar());
+
+        assertEquals("abc-2", catalogo.vigente().getVersion());
+        verify(productInputPort, times(2)).obtenerTodosLosProductos();
+    }
+
+    @Test
+    void vigente_CambioDeVersion_ShouldServeStaleSnapshotWithoutRebuilding() {
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-1"));
+        InstantaneaCatalogo anterior = catalogo.vigente();
+
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-2"));
+
+        assertSame(anterior, catalogo.vigente());
+        assertEquals("\"abc-1\"", catalogo.vigente().getEtag());
+        verify(productInputPort, times(1)).obtenerTodosLosProductos();
+    }
+
+    @Test
+    void actualizar_DentroDelIntervaloMinimo_ShouldNotRebuild() {
+        CatalogoPrecomprimido conIntervalo = new CatalogoPrecomprimido(productInputPort,
+                Mappers.getMapper(ProductRestMapper.class), new ObjectMapper(), 60_000);
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-1"));
+        assertTrue(conIntervalo.actualizar());
+
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.of("abc-2"));
+
+        assertFalse(conIntervalo.actualizar());
+        assertEquals("abc-1", conIntervalo.vigente().getVersion());
+        verify(productInputPort, times(1)).obtenerTodosLosProductos();
+    }
+
+    @Test
+    void vigente_SinVersiones_ShouldBuildUncompressedOnEveryCall() {
+        when(productInputPort.obtenerVersionCatalogo()).thenReturn(Optional.empty());
+
+        InstantaneaCatalogo instantanea = catalogo.vigente();
+        catalogo.vigente();
+
+        assertFalse(catalogo.actualizar());
+        assertNull(instantanea.getEtag());
+        assertEquals(CodificacionCatalogo.IDENTIDAD, instantanea.disponible(CodificacionCatalogo.GZIP));
+        verify(productInputPort, times(2)).obtenerTodosLosProductos();
+    }
+
+    @Test
+    void de_CompresionSinAhorro_ShouldServeIdentity() {
+        InstantaneaCatalogo instantanea = InstantaneaCatalogo.de("v", "\"v\"", 0,
+                "[]".getBytes(StandardCharsets.UTF_8), true);
+
+        assertEquals(CodificacionCatalogo.IDENTIDAD, instantanea.disponible(CodificacionCatalogo.GZIP));
+        assertArrayEquals("[]".getBytes(StandardCharsets.UTF_8), instantanea.cuerpo(CodificacionCatalogo.DEFLATE));
+    }
+}
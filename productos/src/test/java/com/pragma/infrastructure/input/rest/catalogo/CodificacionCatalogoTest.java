@@ -0,0 +1,32 @@
+package com.pragma.infrastructure.input.rest.catalogo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodificacionCatalogoTest {
+
+    @Test
+    void negociar_SinCabecera_ShouldReturnIdentity() {
+        assertEquals(CodificacionCatalogo.IDENTIDAD, CodificacionCatalogo.negociar(null));
+        assertEquals(CodificacionCatalogo.IDENTIDAD, CodificacionCatalogo.negociar(" "));
+        assertEquals(CodificacionCatalogo.IDENTIDAD, CodificacionCatalogo.negociar("br"));
+    }
+
+    @Test
+    void negociar_ShouldPreferHighestQualityThenServerOrder() {
+        assertEquals(CodificacionCatalogo.GZIP, CodificacionCatalogo.negociar("gzip, deflate, br"));
+        assertEquals(CodificacionCatalogo.GZIP, CodificacionCatalogo.negociar("deflate, GZIP"));
+        assertEquals(CodificacionCatalogo.DEFLATE, CodificacionCatalogo.negociar("gzip;q=0.5, deflate"));
+        assertEquals(CodificacionCatalogo.GZIP, CodificacionCatalogo.negociar("x-gzip"));
+        assertEquals(CodificacionCatalogo.GZIP, CodificacionCatalogo.negociar("*"));
+    }
+
+    @Test
+    void negociar_CalidadCero_ShouldExcludeEncoding() {
+        assertEquals(CodificacionCatalogo.IDENTIDAD, CodificacionCatalogo.negociar("gzip;q=0, deflate;q=0"));
+        assertEquals(CodificacionCatalogo.DEFLATE, CodificacionCatalogo.negociar("deflate;q=0.1, identity;q=0"));
+        assertEquals(CodificacionCatalogo.IDENTIDAD, CodificacionCatalogo.negociar("identity, *;q=0"));
+        assertEquals(CodificacionCatalogo.IDENTIDAD, CodificacionCatalogo.negociar("gzip;q=abc"));
+    }
+}
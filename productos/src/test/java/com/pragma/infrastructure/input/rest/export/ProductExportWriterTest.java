@@ -0,0 +1,81 @@
+package com.pragma.infrastructure.input.rest.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.application.port.input.ProductInputPort;
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.input.rest.mapper.ProductRestMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProductExportWriterTest {
+
+    private ProductInputPort productInputPort;
+    private ProductExportWriter exportWriter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        productInputPort = mock(ProductInputPort.class);
+        exportWriter = new ProductExportWriter(productInputPort, Mappers.getMapper(ProductRestMapper.class), new ObjectMapper());
+        doAnswer(inv -> {
+            Consumer<Producto> consumidor = inv.getArgument(0);
+            consumidor.accept(new Producto(1L, "Teclado", "Mecánico, \"RGB\"", 100.0, 10));
+            consumidor.accept(new Producto(2L, "Mouse", null, 50.5, 0));
+            return null;
+        }).when(productInputPort).exportarProductos(any(Consumer.class));
+    }
+
+    @Test
+    void write_Ndjson_ShouldWriteOneJsonObjectPerLine() throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        exportWriter.write(ProductExportFormat.NDJSON, salida);
+
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lineas.length);
+        assertTrue(lineas[0].startsWith("{\"id\":1,\"nombre\":\"Teclado\""));
+        assertTrue(lineas[1].contains("\"precio\":50.5"));
+    }
+
+    @Test
+    void write_Csv_ShouldWriteHeaderAndEscapedRows() throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        exportWriter.write(ProductExportFormat.CSV, salida);
+
+        assertEquals("id,nombre,descripcion,precio,stock\r\n"
+                        + "1,Teclado,\"Mecánico, \"\"RGB\"\"\",100.0,10\r\n"
+                        + "2,Mouse,,50.5,0\r\n",
+                salida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void write_ClientDisconnected_ShouldPropagateIOException() {
+        OutputStream cerrado = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> exportWriter.write(ProductExportFormat.NDJSON, cerrado));
+    }
+
+    @Test
+    void from_ShouldResolveFormatIgnoringCase() {
+        assertEquals(ProductExportFormat.CSV, ProductExportFormat.from(" CsV "));
+        assertThrows(IllegalArgumentException.class, () -> ProductExportFormat.from("xml"));
+        assertThrows(IllegalArgumentException.class, () -> ProductExportFormat.from(null));
+    }
+}
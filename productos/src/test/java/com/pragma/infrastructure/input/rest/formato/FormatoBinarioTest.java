@@ -0,0 +1,34 @@
+package com.pragma.infrastructure.input.rest.formato;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormatoBinarioTest {
+
+    @Test
+    void negociar_SinFormatoBinario_ShouldReturnEmpty() {
+        assertEquals(Optional.empty(), FormatoBinario.negociar(null));
+        assertEquals(Optional.empty(), FormatoBinario.negociar(" "));
+        assertEquals(Optional.empty(), FormatoBinario.negociar("*/*"));
+        assertEquals(Optional.empty(), FormatoBinario.negociar("application/json"));
+        assertEquals(Optional.empty(), FormatoBinario.negociar("application/*"));
+        assertEquals(Optional.empty(), FormatoBinario.negociar("no es un tipo"));
+    }
+
+    @Test
+    void negociar_ShouldPreferHighestQualityThenClientOrder() {
+        assertEquals(Optional.of(FormatoBinario.SMILE), FormatoBinario.negociar("application/x-jackson-smile"));
+        assertEquals(Optional.of(FormatoBinario.CBOR), FormatoBinario.negociar("application/cbor, application/json;q=0.5"));
+        assertEquals(Optional.of(FormatoBinario.CBOR), FormatoBinario.negociar("application/cbor, application/x-jackson-smile"));
+        assertEquals(Optional.empty(), FormatoBinario.negociar("application/x-jackson-smile;q=0.5, application/json"));
+        assertEquals(Optional.of(FormatoBinario.SMILE), FormatoBinario.negociar("application/json;q=0.9, application/x-jackson-smile"));
+    }
+
+    @Test
+    void negociar_CalidadCero_ShouldReturnEmpty() {
+        assertEquals(Optional.empty(), FormatoBinario.negociar("application/x-jackson-smile;q=0"));
+    }
+}
@@ -0,0 +1,35 @@
+package com.pragma.infrastructure.input.rest.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCursorMapperTest {
+
+    @Test
+    void toCursor_ThenToId_ShouldRoundTrip() {
+        String cursor = ProductCursorMapper.toCursor(123456789L);
+
+        assertNotNull(cursor);
+        assertEquals(123456789L, ProductCursorMapper.toId(cursor));
+    }
+
+    @Test
+    void toCursor_NullId_ShouldReturnNull() {
+        assertNull(ProductCursorMapper.toCursor(null));
+    }
+
+    @Test
+    void toId_NullOrBlankCursor_ShouldReturnNull() {
+        assertNull(ProductCursorMapper.toId(null));
+        assertNull(ProductCursorMapper.toId(" "));
+    }
+
+    @Test
+    void toId_InvalidCursor_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ProductCursorMapper.toId("bm9wZQ"));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursorMapper.toId("%%%"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProductCursorMapper.toId(java.util.Base64.getUrlEncoder().encodeToString("p1:abc".getBytes())));
+    }
+}
@@ -98,4 +98,23 @@ class ProductRestMapperTest {
         assertEquals(producto2.getPrecio(), dto2.getPrecio());
         assertEquals(producto2.getStock(), dto2.getStock());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void toProductoList_ShouldMapRequestDtoListInOrder() {
+        ProductRequestDto dto1 = new ProductRequestDto();
+        dto1.setNombre("Product 1");
+        dto1.setPrecio(100.0);
+        dto1.setStock(10);
+        ProductRequestDto dto2 = new ProductRequestDto();
+        dto2.setNombre("Product 2");
+        dto2.setPrecio(200.0);
+        dto2.setStock(20);
+
+        List<Producto> productos = mapper.toProductoList(Arrays.asList(dto1, dto2));
+
+        assertEquals(2, productos.size());
+        assertNull(productos.get(0).getId());
+        assertEquals("Product 1", productos.get(0).getNombre());
+        assertEquals("Product 2", productos.get(1).getNombre());
+    }
+}
@@ -0,0 +1,104 @@
+package com.pragma.infrastructure.metricas;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class DataSourceInstrumentadoTest {
+
+    private JdbcDataSource h2;
+    private EstadisticasSentencias estadisticas;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:instrumentado;DB_CLOSE_DELAY=-1");
+        try (Connection conexion = h2.getConnection(); Statement sentencia = conexion.createStatement()) {
+            sentencia.execute("DROP TABLE IF EXISTS clientes");
+            sentencia.execute("CREATE TABLE clientes (id BIGINT PRIMARY KEY, email VARCHAR(100))");
+        }
+        estadisticas = new EstadisticasSentencias(100);
+    }
+
+    private Map<String, EstadisticasSentencias.Resumen> porSentencia() {
+        return estadisticas.resumen().stream()
+                .collect(Collectors.toMap(EstadisticasSentencias.Resumen::sentencia, Function.identity()));
+    }
+
+    @Test
+    void sentenciasPreparadasYLotes_ShouldBeAggregatedByShape() throws SQLException {
+        DataSource dataSource = new DataSourceInstrumentado(h2, estadisticas, Duration.ofHours(1));
+
+        try (Connection conexion = dataSource.getConnection();
+             PreparedStatement insercion = conexion.prepareStatement("INSERT INTO clientes (id, email) VALUES (?, ?)")) {
+            for (long id = 1; id <= 3; id++) {
+                insercion.setLong(1, id);
+                insercion.setString(2, "cliente" + id + "@example.com");
+                insercion.addBatch();
+            }
+            assertEquals(3, insercion.executeBatch().length);
+            assertSame(conexion, insercion.getConnection());
+            try (PreparedStatement consulta = conexion.prepareStatement("SELECT email FROM clientes WHERE id = ?")) {
+                consulta.setLong(1, 2);
+                consulta.executeQuery().close();
+                consulta.setLong(1, 3);
+                consulta.executeQuery().close();
+            }
+        }
+
+        Map<String, EstadisticasSentencias.Resumen> resumen = porSentencia();
+        assertEquals(1, resumen.get("INSERT INTO clientes (id, email) VALUES (?, ?)").ejecuciones());
+        assertEquals(2, resumen.get("SELECT email FROM clientes WHERE id = ?").ejecuciones());
+    }
+
+    @Test
+    void sentenciaFallida_ShouldCountErrorAndRethrow() throws SQLException {
+        DataSource dataSource = new DataSourceInstrumentado(h2, estadisticas, Duration.ofHours(1));
+
+        try (Connection conexion = dataSource.getConnection(); Statement sentencia = conexion.createStatement()) {
+            assertThrows(SQLException.class, () -> sentencia.executeQuery("SELECT * FROM inexistente"));
+        }
+
+        assertEquals(1, porSentencia().get("SELECT * FROM inexistente").errores());
+    }
+
+    @Test
+    void sentenciaLenta_ShouldBeLoggedWithoutParameterValues(CapturedOutput salida) throws SQLException {
+        DataSource dataSource = new DataSourceInstrumentado(h2, estadisticas, Duration.ZERO);
+
+        try (Connection conexion = dataSource.getConnection();
+             PreparedStatement insercion = conexion.prepareStatement("INSERT INTO clientes (id, email) VALUES (?, ?)")) {
+            insercion.setLong(1, 42);
+            insercion.setString(2, "secreto@example.com");
+            insercion.executeUpdate();
+        }
+
+        assertTrue(salida.getOut().contains("Sentencia lenta"));
+        assertTrue(salida.getOut().contains("[1:Long, 2:String]"));
+        assertFalse(salida.getOut().contains("secreto@example.com"));
+    }
+
+    @Test
+    void unwrap_ShouldReachOriginalDataSource() throws SQLException {
+        DataSource dataSource = new DataSourceInstrumentado(h2, estadisticas, Duration.ofHours(1));
+
+        assertTrue(dataSource.isWrapperFor(JdbcDataSource.class));
+        assertSame(h2, dataSource.unwrap(JdbcDataSource.class));
+    }
+}
@@ -0,0 +1,60 @@
+package com.pragma.infrastructure.metricas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EstadisticasSentenciasTest {
+
+    @Test
+    void forma_ShouldReplaceLiteralsAndCollapseInLists() {
+        assertEquals("select p1_0.id from productos p1_0 where p1_0.nombre = ? and p1_0.id in (?) limit ?",
+                EstadisticasSentencias.forma("select p1_0.id\n  from productos p1_0 where p1_0.nombre = 'O''Brien'"
+                        + " and p1_0.id in (?, ?, ?) limit 10"));
+        assertEquals("UPDATE productos SET stock = stock + ?, version = version + ? WHERE id = ?",
+                EstadisticasSentencias.forma("UPDATE productos SET stock = stock + 2, version = version + 1 WHERE id = 7"));
+    }
+
+    @Test
+    void forma_ShouldKeepParameterListsOutsideIn() {
+        assertEquals("insert into productos (nombre, precio, stock, version) values (?, ?, ?, ?)",
+                EstadisticasSentencias.forma("insert into productos (nombre, precio, stock, version) values (?, ?, ?, ?)"));
+        assertEquals("select coalesce(?, ?) from productos where id IN (?)",
+                EstadisticasSentencias.forma("select coalesce(?, ?) from productos where id IN(?,?)"));
+    }
+
+    @Test
+    void registrar_ShouldAggregateByShapeSortedByTotalTime() {
+        EstadisticasSentencias estadisticas = new EstadisticasSentencias(10);
+
+        estadisticas.registrar("select * from productos where id = 1", 2_000_000, false);
+        estadisticas.registrar("select * from productos where id = 2", 6_000_000, true);
+        estadisticas.registrar("delete from reservas", 1_000_000, false);
+
+        List<EstadisticasSentencias.Resumen> resumen = estadisticas.resumen();
+        assertEquals(2, resumen.size());
+        EstadisticasSentencias.Resumen consulta = resumen.get(0);
+        assertEquals("select * from productos where id = ?", consulta.sentencia());
+        assertEquals(2, consulta.ejecuciones());
+        assertEquals(1, consulta.errores());
+        assertEquals(8.0, consulta.totalMs());
+        assertEquals(4.0, consulta.mediaMs());
+        assertEquals(6.0, consulta.maximoMs());
+    }
+
+    @Test
+    void registrar_MaximoAlcanzado_ShouldAggregateNewShapesAsOthers() {
+        EstadisticasSentencias estadisticas = new EstadisticasSentencias(1);
+
+        estadisticas.registrar("select 1 from productos", 1, false);
+        estadisticas.registrar("select 1 from reservas", 1, false);
+        estadisticas.registrar("select 1 from productos_eventos", 1, false);
+
+        assertEquals(List.of(EstadisticasSentencias.OTRAS, "select ? from productos"),
+                estadisticas.resumen().stream().map(EstadisticasSentencias.Resumen::sentencia).sorted().toList());
+        estadisticas.reiniciar();
+        assertTrue(estadisticas.resumen().isEmpty());
+    }
+}
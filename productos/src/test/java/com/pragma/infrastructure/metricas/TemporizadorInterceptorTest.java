@@ -0,0 +1,73 @@
+package com.pragma.infrastructure.metricas;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemporizadorInterceptorTest {
+
+    static class Servicio {
+
+        @Timed(value = "prueba.operaciones", extraTags = {"capa", "aplicacion"})
+        public String saludar(String nombre) {
+            return "Hola " + nombre;
+        }
+
+        @Timed("prueba.operaciones")
+        public void fallar() {
+            throw new IllegalStateException("fallo");
+        }
+
+        public String sinMedir() {
+            return "sin medir";
+        }
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+    private Servicio servicio;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ProxyFactory proxyFactory = new ProxyFactory(new Servicio());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Timed.class),
+                new TemporizadorInterceptor(() -> meterRegistry)));
+        servicio = (Servicio) proxyFactory.getProxy();
+    }
+
+    @Test
+    void invoke_WhenMethodSucceeds_ShouldRecordSuccessWithOperationAndExtraTags() {
+        assertEquals("Hola Ana", servicio.saludar("Ana"));
+
+        Timer timer = meterRegistry.get("prueba.operaciones")
+                .tags("operacion", "saludar", "resultado", "exito", "excepcion", "none", "capa", "aplicacion")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void invoke_WhenMethodThrows_ShouldRecordErrorAndRethrow() {
+        assertThrows(IllegalStateException.class, () -> servicio.fallar());
+
+        Timer timer = meterRegistry.get("prueba.operaciones")
+                .tags("operacion", "fallar", "resultado", "error", "excepcion", "IllegalStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void invoke_WhenMethodIsNotTimed_ShouldNotRecord() {
+        assertEquals("sin medir", servicio.sinMedir());
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
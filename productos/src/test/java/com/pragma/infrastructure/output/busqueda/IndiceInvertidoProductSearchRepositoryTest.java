@@ -0,0 +1,78 @@
+package com.pragma.infrastructure.output.busqueda;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class IndiceInvertidoProductSearchRepositoryTest {
+
+    private IndiceInvertidoProductSearchRepository indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceInvertidoProductSearchRepository(mock(ProductRepository.class), mock(PlatformTransactionManager.class));
+        indice.index(new Producto(1L, "Camiseta roja", "Algodón orgánico", 10.0, 1));
+        indice.index(new Producto(2L, "Pantalón", "Combina con una camiseta roja", 10.0, 1));
+        indice.index(new Producto(3L, "Camiseta azul", null, 10.0, 1));
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesFirst() {
+        assertEquals(List.of(1L, 2L), indice.search("roja camiseta", 10, 0));
+    }
+
+    @Test
+    void search_ShouldRequireAllTerms() {
+        assertEquals(List.of(3L), indice.search("camiseta azul", 10, 0));
+        assertEquals(List.of(), indice.search("camiseta verde", 10, 0));
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccents() {
+        assertEquals(List.of(1L), indice.search("ALGODON", 10, 0));
+        assertEquals(List.of(2L), indice.search("pantalon", 10, 0));
+    }
+
+    @Test
+    void search_ShouldPaginate() {
+        assertEquals(List.of(1L, 3L), indice.search("camiseta", 2, 0));
+        assertEquals(List.of(2L), indice.search("camiseta", 2, 2));
+    }
+
+    @Test
+    void index_ProductoModificado_ShouldReplacePreviousTerms() {
+        indice.index(new Producto(3L, "Sudadera", null, 10.0, 1));
+
+        assertEquals(List.of(), indice.search("azul", 10, 0));
+        assertEquals(List.of(3L), indice.search("sudadera", 10, 0));
+    }
+
+    @Test
+    void remove_ShouldDropProduct() {
+        indice.remove(1L);
+
+        assertEquals(List.of(3L, 2L), indice.search("camiseta", 10, 0));
+    }
+
+    @Test
+    void index_ConTransaccion_ShouldApplyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            indice.index(new Producto(4L, "Gorra", null, 10.0, 1));
+            assertEquals(List.of(), indice.search("gorra", 10, 0));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCommit());
+            assertEquals(List.of(4L), indice.search("gorra", 10, 0));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
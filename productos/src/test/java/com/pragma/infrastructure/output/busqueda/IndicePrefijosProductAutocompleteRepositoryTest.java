@@ -0,0 +1,80 @@
+package com.pragma.infrastructure.output.busqueda;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.model.SugerenciaProducto;
+import com.pragma.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class IndicePrefijosProductAutocompleteRepositoryTest {
+
+    private IndicePrefijosProductAutocompleteRepository indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndicePrefijosProductAutocompleteRepository(mock(ProductRepository.class), mock(PlatformTransactionManager.class));
+        indice.index(new Producto(3L, "Café molido", null, 10.0, 1));
+        indice.index(new Producto(1L, "Cafetera italiana", null, 10.0, 1));
+        indice.index(new Producto(2L, "Camiseta", null, 10.0, 1));
+        indice.index(new Producto(4L, "café molido", null, 10.0, 1));
+    }
+
+    private List<Long> ids(String prefijo, int limite) {
+        return indice.findByPrefix(prefijo, limite).stream().map(SugerenciaProducto::getId).toList();
+    }
+
+    @Test
+    void findByPrefix_ShouldReturnAlphabeticalMatchesIgnoringCaseAndAccents() {
+        assertEquals(List.of(3L, 4L, 1L), ids("CAFE", 10));
+        assertEquals(List.of(3L, 4L, 1L, 2L), ids("ca", 10));
+        assertEquals("Cafetera italiana", indice.findByPrefix("cafet", 10).get(0).getNombre());
+    }
+
+    @Test
+    void findByPrefix_ShouldStopAtLimit() {
+        assertEquals(List.of(3L, 4L), ids("caf", 2));
+    }
+
+    @Test
+    void findByPrefix_SinCoincidencias_ShouldReturnEmpty() {
+        assertEquals(List.of(), ids("te", 10));
+        assertEquals(List.of(), ids("  ", 10));
+    }
+
+    @Test
+    void index_ProductoRenombrado_ShouldMoveItsEntry() {
+        indice.index(new Producto(2L, "Té verde", null, 10.0, 1));
+
+        assertEquals(List.of(3L, 4L, 1L), ids("ca", 10));
+        assertEquals(List.of(2L), ids("te v", 10));
+    }
+
+    @Test
+    void remove_ShouldDropProduct() {
+        indice.remove(1L);
+        indice.remove(99L);
+
+        assertEquals(List.of(3L, 4L), ids("cafe", 10));
+    }
+
+    @Test
+    void index_ConTransaccion_ShouldApplyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            indice.remove(2L);
+            assertEquals(List.of(2L), ids("cam", 10));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCommit());
+            assertEquals(List.of(), ids("cam", 10));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.pragma.infrastructure.output.busqueda;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalizadorTextoTest {
+
+    @Test
+    void normalizar_ShouldLowercaseStripAccentsAndCollapseSeparators() {
+        assertEquals("cafe 100 arabica", NormalizadorTexto.normalizar("  Café  100% ARÁBICA "));
+        assertEquals("", NormalizadorTexto.normalizar(null));
+        assertEquals("", NormalizadorTexto.normalizar(" ¿? "));
+    }
+
+    @Test
+    void palabras_ShouldSplitNormalizedText() {
+        assertEquals(List.of("nino", "pequeno"), NormalizadorTexto.palabras("Niño-pequeño"));
+        assertEquals(List.of(), NormalizadorTexto.palabras("  "));
+    }
+}
@@ -0,0 +1,49 @@
+package com.pragma.infrastructure.output.eventos;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.domain.model.EventoProducto;
+import com.pragma.domain.model.TipoEventoProducto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchivoProductEventPublisherTest {
+
+    @TempDir
+    Path directorio;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void publish_ShouldAppendOneJsonLinePerEvent() throws Exception {
+        Path archivo = directorio.resolve("eventos/productos.ndjson");
+        ArchivoProductEventPublisher publicador = new ArchivoProductEventPublisher(archivo, objectMapper);
+        Instant instante = Instant.parse("2025-05-17T10:15:30Z");
+
+        publicador.publish(List.of(
+                new EventoProducto(1L, TipoEventoProducto.CREADO, 5L, "Taza", 10.0, 3, instante),
+                new EventoProducto(2L, TipoEventoProducto.STOCK, 5L, "Taza", 10.0, 1, instante)));
+        publicador.publish(List.of(new EventoProducto(3L, TipoEventoProducto.ELIMINADO, 5L, null, null, null, instante)));
+
+        List<String> lineas = Files.readAllLines(archivo);
+        assertEquals(3, lineas.size());
+        JsonNode primero = objectMapper.readTree(lineas.get(0));
+        assertEquals(1L, primero.get("id").asLong());
+        assertEquals("CREADO", primero.get("tipo").asText());
+        assertEquals(5L, primero.get("productoId").asLong());
+        assertEquals("2025-05-17T10:15:30Z", primero.get("ocurridoEn").asText());
+        assertEquals(1, objectMapper.readTree(lineas.get(1)).get("stock").asInt());
+        assertEquals("ELIMINADO", objectMapper.readTree(lineas.get(2)).get("tipo").asText());
+    }
+}
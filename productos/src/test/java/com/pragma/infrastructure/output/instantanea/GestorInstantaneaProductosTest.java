@@ -0,0 +1,98 @@
+package com.pragma.infrastructure.output.instantanea;
+
+import com.pragma.application.usecase.ProductUseCase;
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductRepository;
+import com.pragma.domain.repository.ProductVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GestorInstantaneaProductosTest {
+
+    @TempDir
+    Path directorio;
+
+    @Mock
+    private ProductRepository baseDatos;
+
+    @Mock
+    private ProductVersionRepository productVersionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(ProductUseCase.CACHE_PRODUCTOS);
+    private Path archivo;
+    private InstantaneaProductRepository repositorio;
+    private GestorInstantaneaProductos gestor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archivo = directorio.resolve("productos.bin");
+        InstantaneaProductos.escribir(archivo, List.of(new Producto(1L, "Anterior", "a", 1.0, 10, 0L)).iterator(), 0L);
+        repositorio = new InstantaneaProductRepository(baseDatos, InstantaneaProductos.abrir(archivo));
+        gestor = new GestorInstantaneaProductos(repositorio, baseDatos, productVersionRepository, cacheManager,
+                new TransactionTemplate(transactionManager), archivo);
+    }
+
+    @Test
+    void ejecutar_PrimeraVez_ShouldWarmCacheRewriteFileAndRetireSnapshot() throws Exception {
+        when(productVersionRepository.findCatalogVersion()).thenReturn(Optional.of("e-1"));
+        when(baseDatos.streamAll()).thenAnswer(invocacion -> List.of(
+                new Producto(1L, "Actual", "a", 1.0, 9, 1L),
+                new Producto(2L, "Nuevo", "n", 2.0, 5, 0L)).stream());
+
+        assertTrue(gestor.ejecutar());
+
+        Cache cache = cacheManager.getCache(ProductUseCase.CACHE_PRODUCTOS);
+        assertEquals("Actual", cache.get(1L, Producto.class).getNombre());
+        assertEquals("Nuevo", cache.get(2L, Producto.class).getNombre());
+        assertFalse(repositorio.sirveInstantanea());
+        InstantaneaProductos escrita = InstantaneaProductos.abrir(archivo);
+        assertEquals(2, escrita.tamano());
+        assertEquals("Actual", escrita.buscar(1L).orElseThrow().getNombre());
+    }
+
+    @Test
+    void ejecutar_PrimeraVez_ShouldEvictProductsModifiedDuringCatchUp() {
+        when(productVersionRepository.findCatalogVersion()).thenReturn(Optional.of("e-1"));
+        when(baseDatos.streamAll()).thenAnswer(invocacion -> {
+            // Una escritura concurrente al recorrido: el valor cargado en la caché puede ser el anterior.
+            repositorio.adjustStock(1L, -1);
+            return List.of(new Producto(1L, "Anterior", "a", 1.0, 10, 0L)).stream();
+        });
+
+        gestor.ejecutar();
+
+        assertNull(cacheManager.getCache(ProductUseCase.CACHE_PRODUCTOS).get(1L));
+    }
+
+    @Test
+    void ejecutar_SinCambiosEnElCatalogo_ShouldNotRewriteFile() {
+        when(productVersionRepository.findCatalogVersion()).thenReturn(Optional.of("e-1"));
+        when(baseDatos.streamAll()).thenAnswer(invocacion -> List.of(new Producto(1L, "A", "a", 1.0, 1, 0L)).stream());
+        gestor.ejecutar();
+
+        assertFalse(gestor.ejecutar());
+
+        when(productVersionRepository.findCatalogVersion()).thenReturn(Optional.of("e-2"));
+        assertTrue(gestor.ejecutar());
+        verify(baseDatos, times(2)).streamAll();
+    }
+}
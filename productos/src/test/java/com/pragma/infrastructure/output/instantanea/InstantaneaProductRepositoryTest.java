@@ -0,0 +1,94 @@
+package com.pragma.infrastructure.output.instantanea;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstantaneaProductRepositoryTest {
+
+    @TempDir
+    Path directorio;
+
+    @Mock
+    private ProductRepository delegado;
+
+    private InstantaneaProductRepository repositorio;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path archivo = directorio.resolve("productos.bin");
+        InstantaneaProductos.escribir(archivo, List.of(
+                new Producto(1L, "Uno", "uno", 1.0, 10, 0L),
+                new Producto(2L, "Dos", "dos", 2.0, 20, 0L)).iterator(), 0L);
+        repositorio = new InstantaneaProductRepository(delegado, InstantaneaProductos.abrir(archivo));
+    }
+
+    @Test
+    void findById_EnInstantanea_ShouldNotQueryDelegate() {
+        Optional<Producto> producto = repositorio.findById(1L);
+
+        assertEquals("Uno", producto.orElseThrow().getNombre());
+        assertTrue(repositorio.existsById(2L));
+        verifyNoInteractions(delegado);
+    }
+
+    @Test
+    void findById_FueraDeInstantanea_ShouldQueryDelegate() {
+        when(delegado.findById(3L)).thenReturn(Optional.of(new Producto(3L, "Tres", "tres", 3.0, 30)));
+
+        assertEquals("Tres", repositorio.findById(3L).orElseThrow().getNombre());
+    }
+
+    @Test
+    void findAllById_ShouldOnlyQueryDelegateForMissingIds() {
+        when(delegado.findAllById(List.of(3L))).thenReturn(List.of(new Producto(3L, "Tres", "tres", 3.0, 30)));
+
+        List<Producto> productos = repositorio.findAllById(List.of(1L, 3L, 2L));
+
+        assertEquals(Set.of(1L, 2L, 3L), productos.stream().map(Producto::getId).collect(Collectors.toSet()));
+        verify(delegado).findAllById(List.of(3L));
+    }
+
+    @Test
+    void findById_TrasEscribirElProducto_ShouldQueryDelegate() {
+        Producto actualizado = new Producto(1L, "Uno nuevo", "uno", 1.0, 10, 1L);
+        when(delegado.update(actualizado)).thenReturn(Optional.of(actualizado));
+        when(delegado.findById(1L)).thenReturn(Optional.of(actualizado));
+        when(delegado.existsById(2L)).thenReturn(false);
+
+        repositorio.update(actualizado);
+        repositorio.deleteById(2L);
+
+        assertEquals("Uno nuevo", repositorio.findById(1L).orElseThrow().getNombre());
+        assertFalse(repositorio.existsById(2L));
+    }
+
+    @Test
+    void retirarInstantanea_ShouldReturnModifiedIdsAndSendReadsToDelegate() {
+        when(delegado.adjustStock(2L, -1)).thenReturn(Optional.empty());
+        when(delegado.findById(1L)).thenReturn(Optional.empty());
+        repositorio.adjustStock(2L, -1);
+
+        Set<Long> modificados = repositorio.retirarInstantanea();
+
+        assertEquals(Set.of(2L), modificados);
+        assertFalse(repositorio.sirveInstantanea());
+        assertEquals(Optional.empty(), repositorio.findById(1L));
+        assertEquals(Set.of(), repositorio.retirarInstantanea());
+    }
+}
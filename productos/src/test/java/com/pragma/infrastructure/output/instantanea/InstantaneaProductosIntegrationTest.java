@@ -0,0 +1,90 @@
+package com.pragma.infrastructure.output.instantanea;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.domain.repository.ProductRepository;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InstantaneaProductosIntegrationTest {
+
+    @TempDir
+    static Path directorio;
+
+    @DynamicPropertySource
+    static void instantanea(DynamicPropertyRegistry registry) throws Exception {
+        Path archivo = directorio.resolve("productos.bin");
+        // Instantánea de una ejecución anterior, con un producto que ya no está en la base de datos
+        InstantaneaProductos.escribir(archivo, List.of(new Producto(987654L, "Retirado", null, 1.0, 1, 0L)).iterator(), 0L);
+        registry.add("productos.instantanea.habilitada", () -> "true");
+        registry.add("productos.instantanea.archivo", archivo::toString);
+        registry.add("productos.instantanea.escritura.intervalo-ms", () -> "3600000");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private GestorInstantaneaProductos gestorInstantaneaProductos;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    private InstantaneaProductRepository esperarPuestaAlDia() throws InterruptedException {
+        InstantaneaProductRepository repositorio = assertInstanceOf(InstantaneaProductRepository.class, productRepository);
+        for (int intento = 0; intento < 200 && repositorio.sirveInstantanea(); intento++) {
+            Thread.sleep(50);
+        }
+        return repositorio;
+    }
+
+    @Test
+    void arranque_ShouldCatchUpFromDatabaseAndRewriteSnapshot() throws Exception {
+        InstantaneaProductRepository repositorio = esperarPuestaAlDia();
+        assertFalse(repositorio.sirveInstantanea());
+        assertTrue(productRepository.findById(987654L).isEmpty());
+
+        mockMvc.perform(post("/productos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Persistido\",\"precio\":5.0,\"stock\":3}"))
+                .andExpect(status().isCreated());
+        Long id = jpaRepository.findAll().get(0).getId();
+        mockMvc.perform(get("/productos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("Persistido"));
+
+        assertTrue(gestorInstantaneaProductos.ejecutar());
+        InstantaneaProductos escrita = InstantaneaProductos.abrir(directorio.resolve("productos.bin"));
+        assertEquals("Persistido", escrita.buscar(id).orElseThrow().getNombre());
+        assertFalse(escrita.contiene(987654L));
+    }
+}
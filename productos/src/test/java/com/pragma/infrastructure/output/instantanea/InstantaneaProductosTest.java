@@ -0,0 +1,128 @@
+package com.pragma.infrastructure.output.instantanea;
+
+import com.pragma.domain.model.Producto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstantaneaProductosTest {
+
+    @TempDir
+    Path directorio;
+
+    private Path archivo() {
+        return directorio.resolve("productos.bin");
+    }
+
+    @Test
+    void escribirYAbrir_ShouldFindEveryProductById() throws Exception {
+        List<Producto> productos = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> new Producto(id * 3, "Producto " + id, "Descripción " + id, id * 1.5, (int) id, id + 10))
+                .toList();
+
+        int escritos = InstantaneaProductos.escribir(archivo(), productos.iterator(), 1234L);
+        InstantaneaProductos instantanea = InstantaneaProductos.abrir(archivo());
+
+        assertEquals(500, escritos);
+        assertEquals(500, instantanea.tamano());
+        assertEquals(1234L, instantanea.getCreadaEn());
+        for (Producto esperado : productos) {
+            Producto leido = instantanea.buscar(esperado.getId()).orElseThrow();
+            assertEquals(esperado.getId(), leido.getId());
+            assertEquals(esperado.getNombre(), leido.getNombre());
+            assertEquals(esperado.getDescripcion(), leido.getDescripcion());
+            assertEquals(esperado.getPrecio(), leido.getPrecio());
+            assertEquals(esperado.getStock(), leido.getStock());
+            assertEquals(esperado.getVersion(), leido.getVersion());
+        }
+    }
+
+    @Test
+    void buscar_IdAusente_ShouldReturnEmpty() throws Exception {
+        InstantaneaProductos.escribir(archivo(), List.of(
+                new Producto(2L, "A", "a", 1.0, 1),
+                new Producto(4L, "B", "b", 2.0, 2)).iterator(), 0L);
+        InstantaneaProductos instantanea = InstantaneaProductos.abrir(archivo());
+
+        assertEquals(Optional.empty(), instantanea.buscar(1L));
+        assertEquals(Optional.empty(), instantanea.buscar(3L));
+        assertEquals(Optional.empty(), instantanea.buscar(5L));
+        assertTrue(instantanea.contiene(4L));
+        assertFalse(instantanea.contiene(3L));
+    }
+
+    @Test
+    void escribirYAbrir_CamposNulosYTextosUtf8_ShouldBePreserved() throws Exception {
+        InstantaneaProductos.escribir(archivo(), List.of(
+                new Producto(1L, "Café ñandú 🍵", null, null, null),
+                new Producto(2L, null, "", 0.0, 0)).iterator(), 0L);
+        InstantaneaProductos instantanea = InstantaneaProductos.abrir(archivo());
+
+        Producto primero = instantanea.buscar(1L).orElseThrow();
+        assertEquals("Café ñandú 🍵", primero.getNombre());
+        assertNull(primero.getDescripcion());
+        assertNull(primero.getPrecio());
+        assertNull(primero.getStock());
+        assertNull(primero.getVersion());
+        Producto segundo = instantanea.buscar(2L).orElseThrow();
+        assertNull(segundo.getNombre());
+        assertEquals("", segundo.getDescripcion());
+        assertEquals(0.0, segundo.getPrecio());
+        assertEquals(0, segundo.getStock());
+    }
+
+    @Test
+    void escribir_ShouldReplaceExistingSnapshotWithoutLeavingTemporaryFiles() throws Exception {
+        InstantaneaProductos.escribir(archivo(), List.of(new Producto(1L, "A", "a", 1.0, 1)).iterator(), 0L);
+        InstantaneaProductos anterior = InstantaneaProductos.abrir(archivo());
+
+        InstantaneaProductos.escribir(archivo(), List.of(new Producto(2L, "B", "b", 2.0, 2)).iterator(), 1L);
+
+        try (var archivos = Files.list(directorio)) {
+            assertEquals(List.of(archivo()), archivos.toList());
+        }
+        InstantaneaProductos nueva = InstantaneaProductos.abrir(archivo());
+        assertFalse(nueva.contiene(1L));
+        assertTrue(nueva.contiene(2L));
+        assertEquals("A", anterior.buscar(1L).orElseThrow().getNombre());
+    }
+
+    @Test
+    void escribir_IdsDesordenados_ShouldThrowIllegalArgument() {
+        List<Producto> productos = List.of(new Producto(2L, "B", "b", 2.0, 2), new Producto(1L, "A", "a", 1.0, 1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> InstantaneaProductos.escribir(archivo(), productos.iterator(), 0L));
+        assertFalse(Files.exists(archivo()));
+    }
+
+    @Test
+    void abrir_ContenidoCorrupto_ShouldThrowIOException() throws Exception {
+        InstantaneaProductos.escribir(archivo(), List.of(new Producto(1L, "A", "a", 1.0, 1)).iterator(), 0L);
+        byte[] contenido = Files.readAllBytes(archivo());
+        contenido[InstantaneaProductos.TAMANO_CABECERA + 24] ^= 0x7F; // corrompe el stock del registro
+        Files.write(archivo(), contenido);
+
+        assertThrows(IOException.class, () -> InstantaneaProductos.abrir(archivo()));
+    }
+
+    @Test
+    void abrir_ArchivoTruncadoOAjeno_ShouldThrowIOException() throws Exception {
+        InstantaneaProductos.escribir(archivo(), List.of(new Producto(1L, "A", "a", 1.0, 1)).iterator(), 0L);
+        byte[] contenido = Files.readAllBytes(archivo());
+        Files.write(archivo(), Arrays.copyOf(contenido, contenido.length - 1));
+        assertThrows(IOException.class, () -> InstantaneaProductos.abrir(archivo()));
+
+        Files.write(archivo(), "{\"id\":1}".getBytes());
+        assertThrows(IOException.class, () -> InstantaneaProductos.abrir(archivo()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.pragma.infrastructure.output.inventario;
+
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InventarioEnMemoriaIntegrationTest {
+
+    @TempDir
+    static Path directorioWal;
+
+    @DynamicPropertySource
+    static void inventarioEnMemoria(DynamicPropertyRegistry registry) {
+        registry.add("productos.inventario.modo", () -> "memoria");
+        registry.add("productos.inventario.wal.directorio", () -> directorioWal.toString());
+        registry.add("productos.inventario.volcado.intervalo-ms", () -> "3600000");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @Autowired
+    private InventarioEnMemoria inventarioEnMemoria;
+
+    @AfterEach
+    void tearDown() {
+        inventarioEnMemoria.volcar();
+        jpaRepository.deleteAll();
+    }
+
+    private Long crearProducto(int stock) {
+        return jpaRepository.save(new ProductoEntity(null, "Oferta", null, 10.0, stock)).getId();
+    }
+
+    private int stockPersistido(Long id) {
+        return jpaRepository.findById(id).orElseThrow().getStock();
+    }
+
+    @Test
+    void actualizarStock_Concurrente_ShouldServeFromMemoryAndFlushOnce() throws Exception {
+        Long id = crearProducto(100);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<Integer>> respuestas = new ArrayList<>();
+        try {
+            for (int i = 0; i < 150; i++) {
+                respuestas.add(executor.submit(() -> {
+                    salida.await();
+                    return mockMvc.perform(patch("/productos/{id}/stock", id).param("cantidad", "-1"))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            salida.countDown();
+            int aceptadas = 0;
+            for (Future<Integer> respuesta : respuestas) {
+                if (respuesta.get() == 200) {
+                    aceptadas++;
+                }
+            }
+            assertEquals(100, aceptadas);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(100, stockPersistido(id));
+        inventarioEnMemoria.volcar();
+        assertEquals(0, stockPersistido(id));
+    }
+
+    @Test
+    void reservar_UnProductoSinStock_ShouldCompensateInMemory() throws Exception {
+        Long conStock = crearProducto(10);
+        Long sinStock = crearProducto(1);
+
+        mockMvc.perform(post("/productos/reservas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"productoId\":" + conStock + ",\"cantidad\":4},"
+                                + "{\"productoId\":" + sinStock + ",\"cantidad\":2}]}"))
+                .andExpect(status().isConflict());
+
+        assertEquals(10, inventarioEnMemoria.stock(conStock));
+        inventarioEnMemoria.volcar();
+        assertEquals(10, stockPersistido(conStock));
+    }
+
+    @Test
+    void actualizarProducto_ConVolcadoPendiente_ShouldSetAbsoluteStock() throws Exception {
+        Long id = crearProducto(10);
+        mockMvc.perform(patch("/productos/{id}/stock", id).param("cantidad", "-3")).andExpect(status().isOk());
+
+        mockMvc.perform(put("/productos/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Oferta flash\",\"precio\":12.0,\"stock\":50}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stock").value(50));
+
+        inventarioEnMemoria.volcar();
+        ProductoEntity persistido = jpaRepository.findById(id).orElseThrow();
+        assertEquals(50, persistido.getStock());
+        assertEquals("Oferta flash", persistido.getNombre());
+    }
+}
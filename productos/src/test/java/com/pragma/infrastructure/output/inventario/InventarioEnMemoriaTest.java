@@ -0,0 +1,186 @@
+package com.pragma.infrastructure.output.inventario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventarioEnMemoriaTest {
+
+    @TempDir
+    Path directorio;
+
+    private AlmacenEnMemoria almacen;
+
+    /**
+     * Almacén de prueba que simula la tabla de productos y el checkpoint.
+     */
+    static class AlmacenEnMemoria implements AlmacenStock {
+        final Map<Long, Integer> stock = new HashMap<>();
+        long checkpoint;
+        final List<Map<Long, Integer>> volcados = new ArrayList<>();
+        int fallosPendientes;
+
+        @Override
+        public synchronized OptionalInt leerStock(Long productoId) {
+            Integer valor = stock.get(productoId);
+            return valor != null ? OptionalInt.of(valor) : OptionalInt.empty();
+        }
+
+        @Override
+        public synchronized long leerCheckpoint() {
+            return checkpoint;
+        }
+
+        @Override
+        public synchronized void aplicar(Map<Long, Integer> deltas, long hastaSecuencia) {
+            if (fallosPendientes > 0) {
+                fallosPendientes--;
+                throw new IllegalStateException("Base de datos no disponible");
+            }
+            deltas.forEach((id, delta) -> stock.computeIfPresent(id, (k, v) -> v + delta));
+            volcados.add(Map.copyOf(deltas));
+            checkpoint = hastaSecuencia;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        almacen = new AlmacenEnMemoria();
+        almacen.stock.put(1L, 10);
+        almacen.stock.put(2L, 5);
+    }
+
+    @Test
+    void ajustar_ShouldApplyOnlyWhenResultIsNotNegative() {
+        try (InventarioEnMemoria inventario = new InventarioEnMemoria(almacen, directorio)) {
+            assertEquals(OptionalInt.of(7), inventario.ajustar(1L, -3));
+            assertEquals(OptionalInt.empty(), inventario.ajustar(1L, -8));
+            assertEquals(OptionalInt.empty(), inventario.ajustar(99L, 1));
+            assertEquals(7, inventario.stock(1L));
+            assertEquals(10, almacen.stock.get(1L)); // aún no volcado
+        }
+    }
+
+    @Test
+    void volcar_ShouldCoalesceDeltasIntoOneUpdatePerProduct() {
+        try (InventarioEnMemoria inventario = new InventarioEnMemoria(almacen, directorio)) {
+            for (int i = 0; i < 4; i++) {
+                inventario.ajustar(1L, -1);
+            }
+            inventario.ajustar(2L, 3);
+
+            assertEquals(2, inventario.volcar());
+
+            assertEquals(List.of(Map.of(1L, -4, 2L, 3)), almacen.volcados);
+            assertEquals(6, almacen.stock.get(1L));
+            assertEquals(8, almacen.stock.get(2L));
+            assertEquals(5, almacen.checkpoint);
+            assertEquals(0, inventario.volcar());
+        }
+    }
+
+    @Test
+    void ajustar_Concurrente_ShouldNeverOversellASingleProduct() throws Exception {
+        almacen.stock.put(1L, 5_000);
+        AtomicInteger aceptadas = new AtomicInteger();
+        try (InventarioEnMemoria inventario = new InventarioEnMemoria(almacen, directorio)) {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int hilo = 0; hilo < 8; hilo++) {
+                tareas.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        if (inventario.ajustar(1L, -1).isPresent()) {
+                            aceptadas.incrementAndGet();
+                        }
+                        if (i % 250 == 0) {
+                            inventario.volcar();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+            executor.shutdown();
+
+            assertEquals(5_000, aceptadas.get());
+            assertEquals(0, inventario.stock(1L));
+        }
+        assertEquals(0, almacen.stock.get(1L));
+    }
+
+    @Test
+    void reinicio_SinVolcar_ShouldReplayWalExactlyOnce() {
+        InventarioEnMemoria caido = new InventarioEnMemoria(almacen, directorio);
+        caido.ajustar(1L, -3);
+        caido.volcar();
+        caido.ajustar(1L, -2);
+        caido.ajustar(2L, -5);
+        // Caída simulada: no se cierra el motor, los dos últimos cambios solo están en el WAL.
+
+        try (InventarioEnMemoria reiniciado = new InventarioEnMemoria(almacen, directorio)) {
+            assertEquals(5, almacen.stock.get(1L));
+            assertEquals(0, almacen.stock.get(2L));
+            assertEquals(OptionalInt.of(4), reiniciado.ajustar(1L, -1));
+        }
+
+        try (InventarioEnMemoria otraVez = new InventarioEnMemoria(almacen, directorio)) {
+            assertEquals(4, almacen.stock.get(1L));
+            assertEquals(0, almacen.stock.get(2L));
+        }
+    }
+
+    @Test
+    void volcar_FalloDeBaseDeDatos_ShouldKeepDeltasForNextFlush() {
+        try (InventarioEnMemoria inventario = new InventarioEnMemoria(almacen, directorio)) {
+            inventario.ajustar(1L, -2);
+            almacen.fallosPendientes = 1;
+
+            assertThrows(IllegalStateException.class, inventario::volcar);
+            inventario.ajustar(1L, -1);
+            inventario.volcar();
+
+            assertEquals(7, almacen.stock.get(1L));
+            assertEquals(2, almacen.checkpoint);
+        }
+    }
+
+    @Test
+    void fijarYCompensar_ShouldBeLoggedAsRelativeChanges() {
+        try (InventarioEnMemoria inventario = new InventarioEnMemoria(almacen, directorio)) {
+            assertEquals(OptionalInt.of(10), inventario.fijar(1L, 25));
+            inventario.compensar(1L, -15);
+
+            assertEquals(10, inventario.stock(1L));
+            assertEquals(0, inventario.volcar());
+        }
+        assertEquals(10, almacen.stock.get(1L));
+    }
+
+    @Test
+    void ajustarYFijar_FalloDelWal_ShouldLeaveStockUnchanged() {
+        InventarioEnMemoria inventario = new InventarioEnMemoria(almacen, directorio);
+        assertEquals(OptionalInt.of(9), inventario.ajustar(1L, -1));
+        inventario.close(); // con el WAL cerrado, toda escritura falla
+
+        assertThrows(RuntimeException.class, () -> inventario.ajustar(1L, -3));
+        assertThrows(RuntimeException.class, () -> inventario.fijar(1L, 25));
+
+        assertEquals(9, inventario.stock(1L));
+        assertEquals(0, inventario.volcar());
+        assertEquals(9, almacen.stock.get(1L));
+    }
+}
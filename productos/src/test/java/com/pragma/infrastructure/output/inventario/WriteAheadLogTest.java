@@ -0,0 +1,103 @@
+package com.pragma.infrastructure.output.inventario;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directorio;
+
+    private List<Path> segmentos() throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            return archivos.sorted().toList();
+        }
+    }
+
+    @Test
+    void recuperar_ShouldCoalesceDurableRecordsPerProduct() throws Exception {
+        try (WriteAheadLog wal = new WriteAheadLog(directorio, 0)) {
+            CompletableFuture.allOf(
+                    wal.append(1L, -1), wal.append(1L, -2), wal.append(2L, 5), wal.append(3L, 4), wal.append(3L, -4)
+            ).join();
+        }
+
+        WriteAheadLog.Recuperacion recuperacion = WriteAheadLog.recuperar(directorio, 0);
+
+        assertEquals(Map.of(1L, -3, 2L, 5), recuperacion.deltas());
+        assertEquals(5, recuperacion.ultimaSecuencia());
+    }
+
+    @Test
+    void recuperar_ShouldSkipRecordsUpToCheckpoint() throws Exception {
+        try (WriteAheadLog wal = new WriteAheadLog(directorio, 0)) {
+            wal.append(1L, -1).join();
+            wal.append(1L, -1).join();
+            wal.append(1L, -1).join();
+        }
+
+        WriteAheadLog.Recuperacion recuperacion = WriteAheadLog.recuperar(directorio, 2);
+
+        assertEquals(Map.of(1L, -1), recuperacion.deltas());
+        assertEquals(3, recuperacion.ultimaSecuencia());
+    }
+
+    @Test
+    void recuperar_RegistroFinalIncompletoOCorrupto_ShouldBeIgnored() throws Exception {
+        try (WriteAheadLog wal = new WriteAheadLog(directorio, 0)) {
+            wal.append(1L, -1).join();
+            wal.append(1L, -1).join();
+        }
+        Path segmento = segmentos().get(0);
+        byte[] contenido = Files.readAllBytes(segmento);
+        contenido[WriteAheadLog.TAMANO_REGISTRO + 17] ^= 0x7F; // corrompe el delta del segundo registro
+        Files.write(segmento, contenido);
+        Files.write(segmento, new byte[]{1, 2, 3}, StandardOpenOption.APPEND); // escritura interrumpida
+
+        WriteAheadLog.Recuperacion recuperacion = WriteAheadLog.recuperar(directorio, 0);
+
+        assertEquals(Map.of(1L, -1), recuperacion.deltas());
+        assertEquals(1, recuperacion.ultimaSecuencia());
+    }
+
+    @Test
+    void rotar_ShouldSplitSegmentsAndPurgeOnlyClosedOnes() throws Exception {
+        try (WriteAheadLog wal = new WriteAheadLog(directorio, 10)) {
+            wal.append(1L, -1).join();
+            WriteAheadLog.Rotacion rotacion = wal.rotar();
+            wal.append(1L, -2).join();
+            Path cerrado = rotacion.segmento().join();
+
+            assertEquals(11, rotacion.hastaSecuencia());
+            assertEquals(2, segmentos().size());
+
+            wal.purgar(cerrado);
+
+            assertFalse(Files.exists(cerrado));
+            assertEquals(1, segmentos().size());
+        }
+
+        WriteAheadLog.Recuperacion recuperacion = WriteAheadLog.recuperar(directorio, 11);
+        assertEquals(Map.of(1L, -2), recuperacion.deltas());
+        assertEquals(12, recuperacion.ultimaSecuencia());
+    }
+
+    @Test
+    void append_DespuesDeCerrar_ShouldFail() throws Exception {
+        WriteAheadLog wal = new WriteAheadLog(directorio, 0);
+        wal.close();
+
+        assertTrue(wal.append(1L, 1).isCompletedExceptionally());
+    }
+}
@@ -2,17 +2,22 @@ package com.pragma.infrastructure.output.persistence.adapter;
 
 import com.pragma.domain.model.Producto;
 import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.filtro.FiltroIdsProductos;
 import com.pragma.infrastructure.output.persistence.mapper.ProductoPersistenceMapper;
 import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,6 +32,12 @@ class PostgresProductRepositoryAdapterTest {
     @Mock
     private ProductoPersistenceMapper mapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private FiltroIdsProductos filtroIds;
+
     private PostgresProductRepositoryAdapter repositoryAdapter;
 
     private Producto producto;
@@ -34,7 +45,7 @@ class PostgresProductRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
-        repositoryAdapter = new PostgresProductRepositoryAdapter(jpaRepository, mapper);
+        repositoryAdapter = new PostgresProductRepositoryAdapter(jpaRepository, mapper, entityManager, filtroIds, 2);
         
         producto = new Producto();
         producto.setId(1L);
@@ -52,16 +63,48 @@ class PostgresProductRepositoryAdapterTest {
     }
 
     @Test
-    void save_ValidProduct_ShouldSaveSuccessfully() {
+    void save_ExistingProduct_ShouldFlushToReturnUpdatedVersion() {
         when(mapper.toProductoEntity(any(Producto.class))).thenReturn(productoEntity);
-        when(jpaRepository.save(any(ProductoEntity.class))).thenReturn(productoEntity);
+        when(jpaRepository.saveAndFlush(any(ProductoEntity.class))).thenReturn(productoEntity);
         when(mapper.toProducto(any(ProductoEntity.class))).thenReturn(producto);
 
         Producto result = repositoryAdapter.save(producto);
 
         assertNotNull(result);
         assertEquals(producto.getId(), result.getId());
-        verify(jpaRepository).save(any(ProductoEntity.class));
+        verify(jpaRepository).saveAndFlush(any(ProductoEntity.class));
+        verify(filtroIds, never()).registrar(any());
+    }
+
+    @Test
+    void save_NewProduct_ShouldRegisterIdInExistenceFilter() {
+        ProductoEntity nueva = new ProductoEntity();
+        when(mapper.toProductoEntity(any(Producto.class))).thenReturn(nueva);
+        when(jpaRepository.save(nueva)).thenReturn(productoEntity);
+        when(mapper.toProducto(productoEntity)).thenReturn(producto);
+
+        repositoryAdapter.save(producto);
+
+        verify(filtroIds).registrar(1L);
+    }
+
+    @Test
+    void update_ExistingProduct_ShouldMapReturnedRow() {
+        Producto cambios = new Producto(1L, "Nuevo", null, 50.0, 4);
+        when(jpaRepository.actualizar(1L, null, "Nuevo", null, 50.0, 4)).thenReturn(Optional.of(productoEntity));
+        when(mapper.toProducto(productoEntity)).thenReturn(producto);
+
+        assertEquals(Optional.of(producto), repositoryAdapter.update(cambios));
+        verify(jpaRepository, never()).findById(any());
+        verify(jpaRepository, never()).save(any());
+    }
+
+    @Test
+    void updateIfVersion_VersionObsoleta_ShouldReturnEmpty() {
+        Producto cambios = new Producto(1L, "Nuevo", null, 50.0, 4, 2L);
+        when(jpaRepository.actualizar(1L, 2L, "Nuevo", null, 50.0, 4)).thenReturn(Optional.empty());
+
+        assertTrue(repositoryAdapter.updateIfVersion(cambios).isEmpty());
     }
 
     @Test
@@ -77,33 +120,132 @@ class PostgresProductRepositoryAdapterTest {
 
     @Test
     void findAll_ShouldReturnAllProducts() {
-        List<ProductoEntity> entities = Arrays.asList(productoEntity);
-        List<Producto> productos = Arrays.asList(producto);
-
-        when(jpaRepository.findAll()).thenReturn(entities);
-        when(mapper.toProductoList(any())).thenReturn(productos);
+        when(jpaRepository.buscarVistas()).thenReturn(Arrays.asList(producto));
 
         List<Producto> result = repositoryAdapter.findAll();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(producto.getId(), result.get(0).getId());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void findAllById_ShouldReturnProjections() {
+        when(jpaRepository.buscarVistasPorIds(List.of(1L, 2L))).thenReturn(List.of(producto));
+
+        assertEquals(List.of(producto), repositoryAdapter.findAllById(List.of(1L, 2L)));
+        verifyNoInteractions(mapper);
     }
 
     @Test
     void deleteById_ShouldDeleteSuccessfully() {
-        doNothing().when(jpaRepository).deleteById(1L);
+        when(jpaRepository.eliminarPorId(1L)).thenReturn(1);
 
         assertDoesNotThrow(() -> repositoryAdapter.deleteById(1L));
-        verify(jpaRepository).deleteById(1L);
+        verify(jpaRepository).eliminarPorId(1L);
+        verify(filtroIds).retirar(1L);
+    }
+
+    @Test
+    void deleteById_SinFilaEliminada_ShouldKeepExistenceFilter() {
+        when(jpaRepository.eliminarPorId(1L)).thenReturn(0);
+
+        repositoryAdapter.deleteById(1L);
+
+        verify(filtroIds, never()).retirar(any());
     }
 
     @Test
     void existsById_ExistingProduct_ShouldReturnTrue() {
-        when(jpaRepository.existsById(1L)).thenReturn(true);
+        when(filtroIds.puedeExistir(1L)).thenReturn(true);
+        when(jpaRepository.existeId(1L)).thenReturn(true);
 
         boolean result = repositoryAdapter.existsById(1L);
 
         assertTrue(result);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void existsById_DescartadoPorFiltro_ShouldNotQueryDatabase() {
+        when(filtroIds.puedeExistir(1L)).thenReturn(false);
+
+        assertFalse(repositoryAdapter.existsById(1L));
+        verify(jpaRepository, never()).existeId(any());
+    }
+
+    @Test
+    void findNextPage_ShouldQueryIdRangeWithLimit() {
+        when(jpaRepository.buscarVistasDespuesDe(5L, Limit.of(10))).thenReturn(Arrays.asList(producto));
+
+        List<Producto> result = repositoryAdapter.findNextPage(5L, 10);
+
+        assertEquals(1, result.size());
+        verify(jpaRepository).buscarVistasDespuesDe(5L, Limit.of(10));
+    }
+
+    @Test
+    void findNextPage_NullAfterId_ShouldStartFromBeginning() {
+        when(jpaRepository.buscarVistasDespuesDe(0L, Limit.of(10))).thenReturn(List.of());
+
+        List<Producto> result = repositoryAdapter.findNextPage(null, 10);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void streamAll_ShouldStreamProjectionsWithoutEntities() {
+        when(jpaRepository.recorrerVistas()).thenReturn(Stream.of(producto));
+
+        List<Producto> result;
+        try (Stream<Producto> stream = repositoryAdapter.streamAll()) {
+            result = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(1, result.size());
+        assertEquals(producto.getId(), result.get(0).getId());
+        verifyNoInteractions(entityManager, mapper);
+    }
+
+    @Test
+    void saveAll_ShouldFlushAndClearOncePerBatch() {
+        List<Producto> productos = Arrays.asList(producto, producto, producto);
+        when(mapper.toProductoEntityList(any())).thenAnswer(inv -> {
+            List<Producto> bloque = inv.getArgument(0);
+            return bloque.stream().map(p -> productoEntity).collect(Collectors.toList());
+        });
+        when(mapper.toProductoList(any())).thenAnswer(inv -> {
+            List<ProductoEntity> bloque = inv.getArgument(0);
+            return bloque.stream().map(e -> producto).collect(Collectors.toList());
+        });
+
+        List<Producto> result = repositoryAdapter.saveAll(productos);
+
+        assertEquals(3, result.size());
+        verify(jpaRepository, times(2)).saveAll(any());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(filtroIds, times(3)).registrar(1L);
+    }
+
+    @Test
+    void adjustStock_FilaActualizada_ShouldReturnMappedProduct() {
+        when(jpaRepository.ajustarStock(1L, -3)).thenReturn(Optional.of(productoEntity));
+        when(mapper.toProducto(productoEntity)).thenReturn(producto);
+
+        Optional<Producto> result = repositoryAdapter.adjustStock(1L, -3);
+
+        assertTrue(result.isPresent());
+        assertEquals(producto.getId(), result.get().getId());
+    }
+
+    @Test
+    void adjustStock_SinFilaActualizada_ShouldReturnEmpty() {
+        when(jpaRepository.ajustarStock(1L, -30)).thenReturn(Optional.empty());
+
+        Optional<Producto> result = repositoryAdapter.adjustStock(1L, -30);
+
+        assertFalse(result.isPresent());
+        verify(mapper, never()).toProducto(any(ProductoEntity.class));
+    }
+}
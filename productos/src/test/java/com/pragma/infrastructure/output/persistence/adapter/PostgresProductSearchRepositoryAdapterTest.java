@@ -0,0 +1,44 @@
+package com.pragma.infrastructure.output.persistence.adapter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresProductSearchRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void search_ShouldRankWithTsvectorAndPaginate() {
+        PostgresProductSearchRepositoryAdapter adapter = new PostgresProductSearchRepositoryAdapter(jdbcTemplate);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("camiseta roja"), eq(21), eq(40))).thenReturn(List.of(7L, 3L));
+
+        List<Long> result = adapter.search("camiseta roja", 21, 40);
+
+        assertEquals(List.of(7L, 3L), result);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForList(sql.capture(), eq(Long.class), eq("camiseta roja"), eq(21), eq(40));
+        assertTrue(sql.getValue().contains("websearch_to_tsquery('spanish', ?)"));
+        assertTrue(sql.getValue().contains("ORDER BY ts_rank_cd(p.busqueda, consulta) DESC, p.id"));
+    }
+
+    @Test
+    void afterSingletonsInstantiated_ShouldCreateGeneratedColumnAndGinIndex() {
+        new PostgresProductSearchRepositoryAdapter(jdbcTemplate).afterSingletonsInstantiated();
+
+        verify(jdbcTemplate).execute(contains("ADD COLUMN IF NOT EXISTS busqueda tsvector GENERATED ALWAYS"));
+        verify(jdbcTemplate).execute(contains("USING GIN (busqueda)"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.pragma.infrastructure.output.persistence.adapter;
+
+import com.pragma.domain.model.EstadoReserva;
+import com.pragma.domain.model.Reserva;
+import com.pragma.infrastructure.output.persistence.entity.ReservaEntity;
+import com.pragma.infrastructure.output.persistence.mapper.ReservaPersistenceMapper;
+import com.pragma.infrastructure.output.persistence.repository.ReservaSpringDataJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresReservaRepositoryAdapterTest {
+
+    @Mock
+    private ReservaSpringDataJpaRepository jpaRepository;
+
+    @Mock
+    private ReservaPersistenceMapper mapper;
+
+    private PostgresReservaRepositoryAdapter repositoryAdapter;
+
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        repositoryAdapter = new PostgresReservaRepositoryAdapter(jpaRepository, mapper);
+    }
+
+    @Test
+    void findById_ExistingId_ShouldReturnMappedReservation() {
+        ReservaEntity entity = new ReservaEntity(id, EstadoReserva.PENDIENTE, Instant.now(), List.of());
+        Reserva reserva = new Reserva(id, EstadoReserva.PENDIENTE, entity.getExpiraEn(), List.of());
+        when(jpaRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(mapper.toReserva(entity)).thenReturn(reserva);
+
+        Optional<Reserva> result = repositoryAdapter.findById(id);
+
+        assertTrue(result.isPresent());
+        assertEquals(id, result.get().getId());
+    }
+
+    @Test
+    void updateEstado_FilaActualizada_ShouldReturnTrue() {
+        when(jpaRepository.updateEstado(id, EstadoReserva.PENDIENTE, EstadoReserva.CONFIRMADA)).thenReturn(1);
+
+        assertTrue(repositoryAdapter.updateEstado(id, EstadoReserva.PENDIENTE, EstadoReserva.CONFIRMADA));
+    }
+
+    @Test
+    void updateEstado_SinFilaActualizada_ShouldReturnFalse() {
+        when(jpaRepository.updateEstado(id, EstadoReserva.PENDIENTE, EstadoReserva.CANCELADA)).thenReturn(0);
+
+        assertFalse(repositoryAdapter.updateEstado(id, EstadoReserva.PENDIENTE, EstadoReserva.CANCELADA));
+    }
+
+    @Test
+    void findExpiredIds_ShouldQueryPendingReservationsWithLimit() {
+        Instant ahora = Instant.now();
+        when(jpaRepository.findIdsVencidas(EstadoReserva.PENDIENTE, ahora, Limit.of(10))).thenReturn(List.of(id));
+
+        assertEquals(List.of(id), repositoryAdapter.findExpiredIds(ahora, 10));
+    }
+}
@@ -0,0 +1,60 @@
+package com.pragma.infrastructure.output.persistence.filtro;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FiltroBloomContadorTest {
+
+    @Test
+    void puedeContener_ElementosAgregados_ShouldNeverReturnFalse() {
+        FiltroBloomContador filtro = new FiltroBloomContador(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filtro::agregar);
+
+        assertTrue(LongStream.rangeClosed(1, 10_000).allMatch(filtro::puedeContener));
+    }
+
+    @Test
+    void puedeContener_ElementosAusentes_ShouldStayNearTargetFalsePositiveRate() {
+        FiltroBloomContador filtro = new FiltroBloomContador(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filtro::agregar);
+
+        long falsosPositivos = LongStream.rangeClosed(1_000_001, 1_100_000).filter(filtro::puedeContener).count();
+
+        assertTrue(falsosPositivos < 2_000, "Falsos positivos: " + falsosPositivos);
+    }
+
+    @Test
+    void retirar_ElementoAgregado_ShouldNotAffectOthers() {
+        FiltroBloomContador filtro = new FiltroBloomContador(1_000, 0.01);
+        LongStream.rangeClosed(1, 1_000).forEach(filtro::agregar);
+
+        LongStream.rangeClosed(1, 500).forEach(filtro::retirar);
+
+        assertTrue(LongStream.rangeClosed(501, 1_000).allMatch(filtro::puedeContener));
+        assertTrue(LongStream.rangeClosed(1, 500).filter(filtro::puedeContener).count() < 50);
+    }
+
+    @Test
+    void retirar_ContadoresSaturados_ShouldNotProduceFalseNegatives() {
+        FiltroBloomContador filtro = new FiltroBloomContador(1_000, 0.01);
+        for (int i = 0; i < 20; i++) {
+            filtro.agregar(7L);
+        }
+        filtro.agregar(8L);
+
+        for (int i = 0; i < 20; i++) {
+            filtro.retirar(7L);
+        }
+
+        assertTrue(filtro.puedeContener(8L));
+    }
+
+    @Test
+    void constructor_ParametrosNoValidos_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloomContador(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloomContador(100, 1.0));
+    }
+}
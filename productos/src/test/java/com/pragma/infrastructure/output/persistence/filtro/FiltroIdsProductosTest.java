@@ -0,0 +1,78 @@
+package com.pragma.infrastructure.output.persistence.filtro;
+
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import com.pragma.infrastructure.output.persistence.repository.ProductoSpringDataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FiltroIdsProductosTest {
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    private FiltroIdsProductos nuevoFiltro() {
+        return new FiltroIdsProductos(jpaRepository, transactionManager, true, 1_000, 0.01);
+    }
+
+    @Test
+    void puedeExistir_SinConstruir_ShouldAlwaysReturnTrue() {
+        assertTrue(nuevoFiltro().puedeExistir(123L));
+    }
+
+    @Test
+    void reconstruir_ShouldContainExistingIdsAndDiscardMissingOnes() {
+        Long id = jpaRepository.save(new ProductoEntity(null, "Existente", null, 10.0, 1)).getId();
+        FiltroIdsProductos filtro = nuevoFiltro();
+
+        filtro.reconstruir();
+
+        assertTrue(filtro.puedeExistir(id));
+        assertTrue(jpaRepository.existeId(id));
+        assertFalse(filtro.puedeExistir(id + 1_000_000));
+        assertFalse(jpaRepository.existeId(id + 1_000_000));
+    }
+
+    @Test
+    void retirar_ConTransaccion_ShouldApplyOnlyAfterCommit() {
+        FiltroIdsProductos filtro = nuevoFiltro();
+        filtro.reconstruir();
+        filtro.registrar(42L);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            filtro.retirar(42L);
+            assertTrue(filtro.puedeExistir(42L));
+            status.setRollbackOnly();
+        });
+        assertTrue(filtro.puedeExistir(42L));
+
+        transactionTemplate.executeWithoutResult(status -> filtro.retirar(42L));
+        assertFalse(filtro.puedeExistir(42L));
+    }
+
+    @Test
+    void eliminarPorId_ShouldReportDeletedRows() {
+        Long id = jpaRepository.save(new ProductoEntity(null, "Borrable", null, 10.0, 1)).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertEquals(Integer.valueOf(1), transactionTemplate.execute(status -> jpaRepository.eliminarPorId(id)));
+        assertEquals(Integer.valueOf(0), transactionTemplate.execute(status -> jpaRepository.eliminarPorId(id)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.pragma.infrastructure.output.persistence.pool;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliticaPoolConexionesTest {
+
+    private final PoliticaPoolConexiones politica =
+            new PoliticaPoolConexiones(4, 12, 2, Duration.ofMillis(5), Duration.ofMillis(100), 3);
+
+    private static PoliticaPoolConexiones.Muestra muestra(int activas, int pendientes, double esperaMs, double usoMs) {
+        return new PoliticaPoolConexiones.Muestra(activas, pendientes, esperaMs, usoMs);
+    }
+
+    @Test
+    void siguienteTamano_ConEsperas_ShouldGrowByStepUpToMaximum() {
+        assertEquals(10, politica.siguienteTamano(8, muestra(8, 3, 0, 20)));
+        assertEquals(10, politica.siguienteTamano(8, muestra(6, 0, 12, 20)));
+        assertEquals(12, politica.siguienteTamano(11, muestra(11, 5, 40, 20)));
+    }
+
+    @Test
+    void siguienteTamano_BaseDeDatosSaturada_ShouldNotGrow() {
+        assertEquals(8, politica.siguienteTamano(8, muestra(8, 6, 50, 250)));
+    }
+
+    @Test
+    void siguienteTamano_ConHolgura_ShouldShrinkOnlyAfterConsecutivePeriods() {
+        PoliticaPoolConexiones.Muestra holgada = muestra(1, 0, 0, 5);
+
+        assertEquals(8, politica.siguienteTamano(8, holgada));
+        assertEquals(8, politica.siguienteTamano(8, holgada));
+        assertEquals(7, politica.siguienteTamano(8, holgada));
+
+        assertEquals(7, politica.siguienteTamano(7, holgada));
+        assertEquals(7, politica.siguienteTamano(7, muestra(6, 0, 0, 5)));
+        assertEquals(7, politica.siguienteTamano(7, holgada));
+        assertEquals(7, politica.siguienteTamano(7, holgada));
+        assertEquals(6, politica.siguienteTamano(7, holgada));
+    }
+
+    @Test
+    void siguienteTamano_ShouldKeepSizeWithinBounds() {
+        PoliticaPoolConexiones.Muestra holgada = muestra(0, 0, 0, 0);
+        int tamano = 4;
+        for (int i = 0; i < 10; i++) {
+            tamano = politica.siguienteTamano(tamano, holgada);
+        }
+        assertEquals(4, tamano);
+        assertEquals(12, politica.siguienteTamano(40, muestra(40, 0, 0, 0)));
+    }
+
+    @Test
+    void constructor_LimitesInvalidos_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PoliticaPoolConexiones(10, 5, 1, Duration.ZERO, Duration.ZERO, 1));
+    }
+}
@@ -0,0 +1,144 @@
+package com.pragma.infrastructure.output.persistence.repository;
+
+import com.pragma.domain.model.Producto;
+import com.pragma.infrastructure.output.persistence.entity.ProductoEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ProductoSpringDataJpaRepositoryTest {
+
+    @Autowired
+    private ProductoSpringDataJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        ids = Stream.of("Arroz", "Café", "Té")
+                .map(nombre -> {
+                    ProductoEntity entidad = new ProductoEntity();
+                    entidad.setNombre(nombre);
+                    entidad.setDescripcion("Descripción de " + nombre);
+                    entidad.setPrecio(2.5);
+                    entidad.setStock(7);
+                    return jpaRepository.save(entidad).getId();
+                })
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Statistics estadisticas() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private int entidadesGestionadas() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    @Test
+    void buscarVistas_ShouldReturnProductsWithoutManagedEntities() {
+        List<Producto> productos = jpaRepository.buscarVistas();
+
+        assertEquals(ids, productos.stream().map(Producto::getId).toList());
+        Producto cafe = productos.get(1);
+        assertEquals("Café", cafe.getNombre());
+        assertEquals("Descripción de Café", cafe.getDescripcion());
+        assertEquals(2.5, cafe.getPrecio());
+        assertEquals(7, cafe.getStock());
+        assertEquals(0, entidadesGestionadas());
+    }
+
+    @Test
+    void buscarVistasDespuesDe_ShouldReturnIdRangeWithLimit() {
+        List<Producto> pagina = jpaRepository.buscarVistasDespuesDe(ids.get(0), Limit.of(1));
+
+        assertEquals(List.of(ids.get(1)), pagina.stream().map(Producto::getId).toList());
+        assertEquals(0, entidadesGestionadas());
+    }
+
+    @Test
+    void buscarVistasPorIds_ShouldOmitMissingIds() {
+        List<Producto> productos = jpaRepository.buscarVistasPorIds(List.of(ids.get(2), -1L));
+
+        assertEquals(1, productos.size());
+        assertEquals("Té", productos.get(0).getNombre());
+        assertEquals(0, entidadesGestionadas());
+    }
+
+    @Test
+    void recorrerVistas_ShouldStreamAllProductsWithoutManagedEntities() {
+        try (Stream<Producto> productos = jpaRepository.recorrerVistas()) {
+            assertEquals(ids, productos.map(Producto::getId).toList());
+        }
+        assertEquals(0, entidadesGestionadas());
+    }
+
+    @Test
+    void actualizar_ShouldUpdateAndReturnRowInOneStatement() {
+        estadisticas().clear();
+
+        ProductoEntity actualizado = jpaRepository.actualizar(ids.get(1), null, "Café molido", null, 3.0, 9)
+                .orElseThrow();
+
+        assertEquals(1, estadisticas().getPrepareStatementCount());
+        assertEquals("Café molido", actualizado.getNombre());
+        assertNull(actualizado.getDescripcion());
+        assertEquals(3.0, actualizado.getPrecio());
+        assertEquals(9, actualizado.getStock());
+        assertEquals(1L, actualizado.getVersion());
+    }
+
+    @Test
+    void actualizar_StockNulo_ShouldKeepStoredStock() {
+        ProductoEntity actualizado = jpaRepository.actualizar(ids.get(0), 0L, "Arroz integral", "Grano largo", 3.0, null)
+                .orElseThrow();
+
+        assertEquals(7, actualizado.getStock());
+        assertEquals(1L, actualizado.getVersion());
+    }
+
+    @Test
+    void actualizar_VersionObsoleta_ShouldReturnEmptyInOneStatement() {
+        estadisticas().clear();
+
+        Optional<ProductoEntity> actualizado = jpaRepository.actualizar(ids.get(2), 5L, "Té verde", null, 3.0, 1);
+
+        assertTrue(actualizado.isEmpty());
+        assertEquals(1, estadisticas().getPrepareStatementCount());
+        entityManager.clear();
+        assertEquals("Té", jpaRepository.findById(ids.get(2)).orElseThrow().getNombre());
+    }
+
+    @Test
+    void ajustarStock_ShouldUpdateAndReturnRowInOneStatement() {
+        estadisticas().clear();
+
+        ProductoEntity actualizado = jpaRepository.ajustarStock(ids.get(0), -2).orElseThrow();
+
+        assertEquals(1, estadisticas().getPrepareStatementCount());
+        assertEquals(5, actualizado.getStock());
+        assertEquals(1L, actualizado.getVersion());
+    }
+}
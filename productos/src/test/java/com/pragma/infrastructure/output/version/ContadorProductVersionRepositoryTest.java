@@ -0,0 +1,40 @@
+package com.pragma.infrastructure.output.version;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContadorProductVersionRepositoryTest {
+
+    private final ContadorProductVersionRepository versiones = new ContadorProductVersionRepository(true);
+
+    @Test
+    void increment_ShouldNeverRepeatAPreviousCatalogVersion() {
+        String inicial = versiones.findCatalogVersion().orElseThrow();
+        versiones.increment(List.of(1L));
+        String primera = versiones.findCatalogVersion().orElseThrow();
+        versiones.increment(List.of(1L, 2L));
+
+        String actual = versiones.findCatalogVersion().orElseThrow();
+        assertNotEquals(inicial, primera);
+        assertNotEquals(inicial, actual);
+        assertNotEquals(primera, actual);
+    }
+
+    @Test
+    void findCatalogVersion_OtraInstancia_ShouldNotMatch() {
+        ContadorProductVersionRepository otra = new ContadorProductVersionRepository(true);
+
+        assertNotEquals(versiones.findCatalogVersion(), otra.findCatalogVersion());
+    }
+
+    @Test
+    void findCatalogVersion_Deshabilitado_ShouldReturnEmpty() {
+        ContadorProductVersionRepository deshabilitado = new ContadorProductVersionRepository(false);
+        deshabilitado.increment(List.of(1L));
+
+        assertTrue(deshabilitado.findCatalogVersion().isEmpty());
+    }
+}
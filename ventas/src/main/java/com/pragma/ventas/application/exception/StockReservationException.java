@@ -0,0 +1,7 @@
+package com.pragma.ventas.application.exception;
+
+public class StockReservationException extends RuntimeException {
+    public StockReservationException(String message) {
+        super(message);
+    }
+}
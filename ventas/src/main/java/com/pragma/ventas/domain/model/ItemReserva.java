@@ -0,0 +1,15 @@
+package com.pragma.ventas.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemReserva {
+    private Long productoId;
+    private Integer cantidad;
+}
@@ -0,0 +1,25 @@
+package com.pragma.ventas.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stock retenido en el servicio de productos para los artículos de una cesta hasta que
+ * la venta se confirma o se cancela, o la reserva vence.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservaStock {
+    private UUID id;
+    private String estado;
+    private Instant expiraEn;
+    private List<ItemReserva> items;
+}
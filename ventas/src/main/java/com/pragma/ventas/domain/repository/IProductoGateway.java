@@ -1,8 +1,23 @@
 package com.pragma.ventas.domain.repository;
 
+import com.pragma.ventas.domain.model.ItemReserva;
 import com.pragma.ventas.domain.model.Producto;
+import com.pragma.ventas.domain.model.ReservaStock;
+
+import java.util.List;
+import java.util.UUID;
 
 public interface IProductoGateway {
     Producto obtenerProducto(Long id);
     boolean validarExistenciaProducto(Long id);
-} 
\ No newline at end of file
+
+    /**
+     * Reserva en una sola llamada el stock de todos los artículos de una cesta:
+     * o se reservan todos o no se reserva ninguno.
+     */
+    ReservaStock reservarStock(List<ItemReserva> items);
+
+    ReservaStock confirmarReserva(UUID reservaId);
+
+    ReservaStock cancelarReserva(UUID reservaId);
+}
@@ -1,13 +1,23 @@
 package com.pragma.ventas.infrastructure.config;
 
 import com.pragma.ventas.application.exception.ProductNotFoundException;
+import com.pragma.ventas.application.exception.StockReservationException;
+import com.pragma.ventas.infrastructure.output.client.FormatoProductos;
 import feign.Logger;
 import feign.Request;
+import feign.RequestInterceptor;
 import feign.Retryer;
+import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -36,12 +46,46 @@ public class FeignConfig {
         );
     }
 
+    /**
+     * Formato de los cuerpos con el servicio de productos ({@code productos.service.formato}: json, smile o cbor).
+     * Las respuestas se decodifican con el decodificador por defecto de Spring Cloud, que elige el
+     * convertidor según su {@code Content-Type}: con jackson-dataformat-smile y -cbor en el classpath,
+     * Spring Boot ya registra los convertidores de ambos formatos.
+     */
+    @Bean
+    public FormatoProductos formatoProductos(@Value("${productos.service.formato:smile}") String formato) {
+        return FormatoProductos.from(formato);
+    }
+
+    @Bean
+    public RequestInterceptor aceptarFormatoProductos(FormatoProductos formatoProductos) {
+        return plantilla -> plantilla.header(HttpHeaders.ACCEPT, formatoProductos.getAccept());
+    }
+
+    /**
+     * Codifica los cuerpos de las solicitudes en el formato configurado: el {@code Content-Type} se fija
+     * antes de delegar en {@link SpringEncoder}, que elige con él el convertidor.
+     */
+    @Bean
+    public Encoder feignEncoder(ObjectFactory<HttpMessageConverters> messageConverters, FormatoProductos formatoProductos) {
+        SpringEncoder springEncoder = new SpringEncoder(messageConverters);
+        return (cuerpo, tipo, plantilla) -> {
+            plantilla.header(HttpHeaders.CONTENT_TYPE, List.of());
+            plantilla.header(HttpHeaders.CONTENT_TYPE, formatoProductos.getMediaType().toString());
+            springEncoder.encode(cuerpo, tipo, plantilla);
+        };
+    }
+
     @Bean
     public ErrorDecoder errorDecoder() {
         return (methodKey, response) -> {
             if (response.status() == HttpStatus.NOT_FOUND.value()) {
                 return new ProductNotFoundException("Producto no encontrado");
             }
+            if (response.status() == HttpStatus.CONFLICT.value()) {
+                // Stock insuficiente al reservar, o reserva ya confirmada, cancelada o vencida
+                return new StockReservationException("No se pudo reservar o actualizar la reserva de stock");
+            }
             return new RuntimeException("Error en la comunicación con el servicio de productos");
         };
     }
@@ -0,0 +1,48 @@
+package com.pragma.ventas.infrastructure.config;
+
+import com.pragma.ventas.infrastructure.output.persistence.pool.ControladorPoolConexiones;
+import com.pragma.ventas.infrastructure.output.persistence.pool.PoliticaPoolConexiones;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Configuración del ajuste adaptativo del pool de conexiones ({@code ventas.pool.adaptativo.*}).
+ * <p>
+ * Desactivado por defecto: el pool mantiene el tamaño de {@code spring.datasource.hikari.*}. Con
+ * {@code ventas.pool.adaptativo.habilitado=true}, cada {@code ventas.pool.adaptativo.intervalo-ms}
+ * se ajusta su tamaño máximo entre {@code minimo} y {@code maximo} según la espera para obtener una
+ * conexión y el tiempo de uso de las conexiones ({@link PoliticaPoolConexiones}). Habilita las tareas
+ * programadas, que el servicio de ventas no usa para nada más.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "ventas.pool.adaptativo.habilitado", havingValue = "true")
+public class PoolConexionesConfig {
+
+    /**
+     * Controlador del tamaño del pool HikariCP de la aplicación.
+     */
+    @Bean
+    public ControladorPoolConexiones controladorPoolConexiones(
+            DataSource dataSource, MeterRegistry meterRegistry,
+            @Value("${ventas.pool.adaptativo.minimo}") int minimo,
+            @Value("${ventas.pool.adaptativo.maximo}") int maximo,
+            @Value("${ventas.pool.adaptativo.paso:2}") int paso,
+            @Value("${ventas.pool.adaptativo.espera-objetivo-ms:5}") long esperaObjetivoMs,
+            @Value("${ventas.pool.adaptativo.latencia-maxima-ms:100}") long latenciaMaximaMs,
+            @Value("${ventas.pool.adaptativo.periodos-para-reducir:6}") int periodosParaReducir) throws SQLException {
+        PoliticaPoolConexiones politica = new PoliticaPoolConexiones(minimo, maximo, paso,
+                Duration.ofMillis(esperaObjetivoMs), Duration.ofMillis(latenciaMaximaMs), periodosParaReducir);
+        return new ControladorPoolConexiones(dataSource.unwrap(HikariDataSource.class), meterRegistry, politica);
+    }
+}
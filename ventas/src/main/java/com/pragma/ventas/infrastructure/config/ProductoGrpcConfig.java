@@ -0,0 +1,54 @@
+package com.pragma.ventas.infrastructure.config;
+
+import com.pragma.productos.grpc.v1.ProductosServiceGrpc;
+import com.pragma.ventas.domain.repository.IProductoGateway;
+import com.pragma.ventas.infrastructure.output.adapter.ProductoGatewayAdapter;
+import com.pragma.ventas.infrastructure.output.adapter.ProductoGrpcGatewayAdapter;
+import com.pragma.ventas.infrastructure.output.client.ProductoClient;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuración del acceso al servicio de productos por su API interna gRPC
+ * ({@code productos.service.transporte=grpc}).
+ * <p>
+ * Por defecto ({@code rest}) ventas llama a productos con Feign ({@code ProductoClient}). Con {@code grpc},
+ * las consultas de productos y de existencia van por un único canal HTTP/2 a
+ * {@code productos.service.grpc.url}, que multiplexa las llamadas concurrentes y se mantiene abierto con
+ * pings de keepalive. Las reservas de stock siguen yendo por REST.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "productos.service.transporte", havingValue = "grpc")
+public class ProductoGrpcConfig {
+
+    /**
+     * Canal con el servicio de productos, sin TLS (red interna). Se cierra con el contexto.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ManagedChannel productosCanal(@Value("${productos.service.grpc.url:productos-app:9090}") String url,
+                                         @Value("${productos.service.grpc.keepalive-ms:30000}") long keepaliveMs) {
+        return NettyChannelBuilder.forTarget(url)
+                .usePlaintext()
+                .keepAliveTime(keepaliveMs, TimeUnit.MILLISECONDS)
+                .keepAliveWithoutCalls(true)
+                .build();
+    }
+
+    /**
+     * Gateway de productos sobre gRPC; sustituye a {@link ProductoGatewayAdapter}, en el que delega las reservas.
+     */
+    @Bean
+    public IProductoGateway productoGrpcGatewayAdapter(ManagedChannel productosCanal, ProductoClient productoClient,
+                                                       @Value("${productos.service.grpc.timeout-ms:5000}") long timeoutMs) {
+        return new ProductoGrpcGatewayAdapter(ProductosServiceGrpc.newBlockingStub(productosCanal),
+                Duration.ofMillis(timeoutMs), new ProductoGatewayAdapter(productoClient));
+    }
+}
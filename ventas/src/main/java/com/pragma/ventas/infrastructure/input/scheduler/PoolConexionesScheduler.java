@@ -0,0 +1,33 @@
+package com.pragma.ventas.infrastructure.input.scheduler;
+
+import com.pragma.ventas.infrastructure.output.persistence.pool.ControladorPoolConexiones;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea periódica que ajusta el tamaño del pool de conexiones según su uso. Solo existe con
+ * {@code ventas.pool.adaptativo.habilitado=true}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ventas.pool.adaptativo.habilitado", havingValue = "true")
+public class PoolConexionesScheduler {
+
+    private final ControladorPoolConexiones controladorPoolConexiones;
+
+    /**
+     * Ajusta el pool. Un fallo deja el tamaño como estaba hasta la siguiente ejecución.
+     */
+    @Scheduled(fixedDelayString = "${ventas.pool.adaptativo.intervalo-ms:5000}")
+    public void ajustar() {
+        try {
+            controladorPoolConexiones.ajustar();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo ajustar el pool de conexiones: {}", e.getMessage());
+        }
+    }
+}
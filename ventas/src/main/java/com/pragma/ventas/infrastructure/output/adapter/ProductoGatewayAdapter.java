@@ -1,14 +1,21 @@
 package com.pragma.ventas.infrastructure.output.adapter;
 
+import com.pragma.ventas.domain.model.ItemReserva;
+import com.pragma.ventas.domain.model.ReservaStock;
 import com.pragma.ventas.domain.repository.IProductoGateway;
 import com.pragma.ventas.domain.model.Producto;
 import com.pragma.ventas.infrastructure.output.client.ProductoClient;
+import com.pragma.ventas.infrastructure.output.client.dto.ReservaStockRequestDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.http.ResponseEntity;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Component
+@ConditionalOnProperty(name = "productos.service.transporte", havingValue = "rest", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ProductoGatewayAdapter implements IProductoGateway {
 
@@ -27,4 +34,23 @@ public class ProductoGatewayAdapter implements IProductoGateway {
                       .map(ResponseEntity::getBody)
                       .orElse(false);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ReservaStock reservarStock(List<ItemReserva> items) {
+        return bodyOf(productoClient.reservarStock(new ReservaStockRequestDto(items)));
+    }
+
+    @Override
+    public ReservaStock confirmarReserva(UUID reservaId) {
+        return bodyOf(productoClient.confirmarReserva(reservaId));
+    }
+
+    @Override
+    public ReservaStock cancelarReserva(UUID reservaId) {
+        return bodyOf(productoClient.cancelarReserva(reservaId));
+    }
+
+    private static <T> T bodyOf(ResponseEntity<T> response) {
+        return response != null ? response.getBody() : null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.pragma.ventas.infrastructure.output.adapter;
+
+import com.pragma.productos.grpc.v1.ProductoIdRequest;
+import com.pragma.productos.grpc.v1.ProductosServiceGrpc;
+import com.pragma.ventas.application.exception.ProductNotFoundException;
+import com.pragma.ventas.domain.model.ItemReserva;
+import com.pragma.ventas.domain.model.Producto;
+import com.pragma.ventas.domain.model.ReservaStock;
+import com.pragma.ventas.domain.repository.IProductoGateway;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementación de {@link IProductoGateway} sobre la API interna gRPC del servicio de productos
+ * ({@code productos.service.transporte=grpc}).
+ * <p>
+ * Las consultas de productos y de existencia son llamadas gRPC que comparten una única conexión HTTP/2,
+ * cada una con un plazo de {@code timeout}. Las reservas de stock no forman parte de la API gRPC y se
+ * delegan en el adaptador REST.
+ * </p>
+ */
+public class ProductoGrpcGatewayAdapter implements IProductoGateway {
+
+    private final ProductosServiceGrpc.ProductosServiceBlockingStub productosStub;
+    private final Duration timeout;
+    private final IProductoGateway reservas;
+
+    /**
+     * @param productosStub Stub bloqueante del servicio de productos.
+     * @param timeout Plazo de cada llamada.
+     * @param reservas Gateway con el que se hacen las reservas de stock.
+     */
+    public ProductoGrpcGatewayAdapter(ProductosServiceGrpc.ProductosServiceBlockingStub productosStub, Duration timeout,
+                                      IProductoGateway reservas) {
+        this.productosStub = productosStub;
+        this.timeout = timeout;
+        this.reservas = reservas;
+    }
+
+    @Override
+    public Producto obtenerProducto(Long id) {
+        try {
+            return toProducto(stub().getProduct(ProductoIdRequest.newBuilder().setId(id).build()));
+        } catch (StatusRuntimeException e) {
+            throw traducir(e);
+        }
+    }
+
+    @Override
+    public boolean validarExistenciaProducto(Long id) {
+        try {
+            return stub().exists(ProductoIdRequest.newBuilder().setId(id).build()).getExiste();
+        } catch (StatusRuntimeException e) {
+            throw traducir(e);
+        }
+    }
+
+    @Override
+    public ReservaStock reservarStock(List<ItemReserva> items) {
+        return reservas.reservarStock(items);
+    }
+
+    @Override
+    public ReservaStock confirmarReserva(UUID reservaId) {
+        return reservas.confirmarReserva(reservaId);
+    }
+
+    @Override
+    public ReservaStock cancelarReserva(UUID reservaId) {
+        return reservas.cancelarReserva(reservaId);
+    }
+
+    /**
+     * El plazo es absoluto: se fija en cada llamada y no en el stub compartido.
+     */
+    private ProductosServiceGrpc.ProductosServiceBlockingStub stub() {
+        return productosStub.withDeadlineAfter(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static Producto toProducto(com.pragma.productos.grpc.v1.Producto mensaje) {
+        return Producto.builder()
+                .id(mensaje.getId())
+                .nombre(mensaje.getNombre())
+                .descripcion(mensaje.hasDescripcion() ? mensaje.getDescripcion() : null)
+                .precio(mensaje.getPrecio())
+                .stock(mensaje.getStock())
+                .build();
+    }
+
+    /**
+     * Traduce el estado de gRPC a las mismas excepciones que el decodificador de errores de Feign.
+     */
+    private static RuntimeException traducir(StatusRuntimeException e) {
+        if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+            return new ProductNotFoundException("Producto no encontrado");
+        }
+        return new RuntimeException("Error en la comunicación con el servicio de productos", e);
+    }
+}
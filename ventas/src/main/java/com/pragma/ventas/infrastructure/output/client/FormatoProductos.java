@@ -0,0 +1,58 @@
+package com.pragma.ventas.infrastructure.output.client;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Formato en que {@link ProductoClient} envía y pide los cuerpos al servicio de productos
+ * ({@code productos.service.formato}).
+ */
+public enum FormatoProductos {
+
+    JSON(MediaType.APPLICATION_JSON),
+
+    /**
+     * JSON binario de Jackson: los nombres de campo repetidos se escriben como referencias.
+     */
+    SMILE(new MediaType("application", "x-jackson-smile")),
+
+    /**
+     * CBOR (RFC 8949).
+     */
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    FormatoProductos(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Tipo de contenido de los cuerpos que se envían.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Valor de {@code Accept}: el formato configurado y, con menor preferencia, JSON, para que una
+     * versión de productos sin los formatos binarios siga respondiendo.
+     */
+    public String getAccept() {
+        return this == JSON ? mediaType.toString() : mediaType + ", " + MediaType.APPLICATION_JSON + ";q=0.5";
+    }
+
+    /**
+     * Resuelve el formato a partir de su nombre, sin distinguir mayúsculas.
+     *
+     * @throws IllegalArgumentException Si el formato no está soportado.
+     */
+    public static FormatoProductos from(String nombre) {
+        try {
+            return valueOf(nombre.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Formato no soportado para el servicio de productos: " + nombre, e);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.pragma.ventas.infrastructure.output.client;
 
 import com.pragma.ventas.domain.model.Producto;
+import com.pragma.ventas.domain.model.ReservaStock;
+import com.pragma.ventas.infrastructure.output.client.dto.ReservaStockRequestDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.UUID;
 
 @FeignClient(name = "productos", url = "${productos.service.url}")
 public interface ProductoClient {
@@ -14,4 +20,13 @@ public interface ProductoClient {
     
     @GetMapping("/api/v1/productos/{id}/existe")
     ResponseEntity<Boolean> validarExistenciaProducto(@PathVariable("id") Long id);
-} 
\ No newline at end of file
+
+    @PostMapping("/api/v1/productos/reservas")
+    ResponseEntity<ReservaStock> reservarStock(@RequestBody ReservaStockRequestDto request);
+
+    @PostMapping("/api/v1/productos/reservas/{id}/confirmar")
+    ResponseEntity<ReservaStock> confirmarReserva(@PathVariable("id") UUID id);
+
+    @PostMapping("/api/v1/productos/reservas/{id}/cancelar")
+    ResponseEntity<ReservaStock> cancelarReserva(@PathVariable("id") UUID id);
+}
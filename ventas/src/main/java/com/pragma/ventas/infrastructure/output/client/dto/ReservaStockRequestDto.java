@@ -0,0 +1,15 @@
+package com.pragma.ventas.infrastructure.output.client.dto;
+
+import com.pragma.ventas.domain.model.ItemReserva;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservaStockRequestDto {
+    private List<ItemReserva> items;
+}
@@ -0,0 +1,90 @@
+package com.pragma.ventas.infrastructure.output.persistence.pool;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ajusta el tamaño máximo de un pool HikariCP según su uso, dentro de los límites de una
+ * {@link PoliticaPoolConexiones}.
+ * <p>
+ * Cada ajuste toma una muestra del pool: las conexiones activas y los hilos en espera de su MXBean, y
+ * la espera media para obtener una conexión ({@code hikaricp.connections.acquire}) y el tiempo medio
+ * de uso de cada conexión ({@code hikaricp.connections.usage}) desde el ajuste anterior, de los
+ * temporizadores que HikariCP publica en Micrometer. El nuevo tamaño se aplica en caliente a través
+ * de {@link HikariConfigMXBean}: al crecer, el pool abre conexiones bajo demanda; al reducirse, no abre
+ * nuevas por encima del límite y retira las sobrantes a medida que superan el tiempo de inactividad.
+ * </p>
+ */
+@Slf4j
+public class ControladorPoolConexiones {
+
+    private final HikariDataSource pool;
+    private final MeterRegistry meterRegistry;
+    private final PoliticaPoolConexiones politica;
+    private Acumulado esperaAnterior = Acumulado.VACIO;
+    private Acumulado usoAnterior = Acumulado.VACIO;
+
+    /**
+     * Crea el controlador.
+     *
+     * @param pool El pool de conexiones que se ajusta.
+     * @param meterRegistry El registro en el que HikariCP publica sus métricas.
+     * @param politica La política que decide el tamaño del pool.
+     */
+    public ControladorPoolConexiones(HikariDataSource pool, MeterRegistry meterRegistry, PoliticaPoolConexiones politica) {
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.politica = politica;
+    }
+
+    /**
+     * Toma una muestra del pool y ajusta su tamaño máximo si la política lo indica.
+     *
+     * @return El tamaño máximo del pool tras el ajuste.
+     */
+    public synchronized int ajustar() {
+        HikariConfigMXBean configuracion = pool.getHikariConfigMXBean();
+        int actual = configuracion.getMaximumPoolSize();
+        HikariPoolMXBean estado = pool.getHikariPoolMXBean();
+        if (estado == null) {
+            return actual;
+        }
+        Acumulado espera = acumulado("hikaricp.connections.acquire");
+        Acumulado uso = acumulado("hikaricp.connections.usage");
+        PoliticaPoolConexiones.Muestra muestra = new PoliticaPoolConexiones.Muestra(estado.getActiveConnections(),
+                estado.getThreadsAwaitingConnection(), espera.mediaDesde(esperaAnterior), uso.mediaDesde(usoAnterior));
+        esperaAnterior = espera;
+        usoAnterior = uso;
+
+        int nuevo = politica.siguienteTamano(actual, muestra);
+        if (nuevo != actual) {
+            if (configuracion.getMinimumIdle() > nuevo) {
+                configuracion.setMinimumIdle(nuevo);
+            }
+            configuracion.setMaximumPoolSize(nuevo);
+            log.info("Pool de conexiones {}: tamaño máximo {} -> {} ({})", configuracion.getPoolName(), actual, nuevo, muestra);
+        }
+        return nuevo;
+    }
+
+    private Acumulado acumulado(String metrica) {
+        Timer timer = meterRegistry.find(metrica).tag("pool", pool.getPoolName()).timer();
+        return timer == null ? Acumulado.VACIO : new Acumulado(timer.count(), timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    private record Acumulado(long cuenta, double totalMs) {
+
+        static final Acumulado VACIO = new Acumulado(0, 0);
+
+        double mediaDesde(Acumulado anterior) {
+            long cuentaPeriodo = cuenta - anterior.cuenta;
+            return cuentaPeriodo <= 0 ? 0 : (totalMs - anterior.totalMs) / cuentaPeriodo;
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.pragma.ventas.infrastructure.output.adapter;
 
+import com.pragma.ventas.domain.model.ItemReserva;
 import com.pragma.ventas.domain.model.Producto;
+import com.pragma.ventas.domain.model.ReservaStock;
 import com.pragma.ventas.infrastructure.output.client.ProductoClient;
+import com.pragma.ventas.infrastructure.output.client.dto.ReservaStockRequestDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -71,4 +79,48 @@ class ProductoGatewayAdapterTest {
         boolean result = productoGatewayAdapter.validarExistenciaProducto(1L);
         assertFalse(result);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testReservarStock_SendsWholeBasketInOneCall() {
+        List<ItemReserva> items = List.of(
+                ItemReserva.builder().productoId(1L).cantidad(2).build(),
+                ItemReserva.builder().productoId(2L).cantidad(3).build());
+        ReservaStock reserva = ReservaStock.builder().id(UUID.randomUUID()).estado("PENDIENTE").items(items).build();
+        when(productoClient.reservarStock(any(ReservaStockRequestDto.class))).thenReturn(ResponseEntity.ok(reserva));
+
+        ReservaStock result = productoGatewayAdapter.reservarStock(items);
+
+        ArgumentCaptor<ReservaStockRequestDto> captor = ArgumentCaptor.forClass(ReservaStockRequestDto.class);
+        verify(productoClient, times(1)).reservarStock(captor.capture());
+        assertEquals(items, captor.getValue().getItems());
+        assertEquals(reserva.getId(), result.getId());
+        assertEquals("PENDIENTE", result.getEstado());
+    }
+
+    @Test
+    void testReservarStock_WhenResponseIsNull() {
+        when(productoClient.reservarStock(any(ReservaStockRequestDto.class))).thenReturn(null);
+
+        assertNull(productoGatewayAdapter.reservarStock(List.of()));
+    }
+
+    @Test
+    void testConfirmarReserva() {
+        UUID id = UUID.randomUUID();
+        ReservaStock reserva = ReservaStock.builder().id(id).estado("CONFIRMADA").build();
+        when(productoClient.confirmarReserva(id)).thenReturn(ResponseEntity.ok(reserva));
+
+        ReservaStock result = productoGatewayAdapter.confirmarReserva(id);
+        assertEquals("CONFIRMADA", result.getEstado());
+    }
+
+    @Test
+    void testCancelarReserva() {
+        UUID id = UUID.randomUUID();
+        ReservaStock reserva = ReservaStock.builder().id(id).estado("CANCELADA").build();
+        when(productoClient.cancelarReserva(id)).thenReturn(ResponseEntity.ok(reserva));
+
+        ReservaStock result = productoGatewayAdapter.cancelarReserva(id);
+        assertEquals("CANCELADA", result.getEstado());
+    }
+}
@@ -0,0 +1,118 @@
+package com.pragma.ventas.infrastructure.output.adapter;
+
+import com.pragma.productos.grpc.v1.ExisteReply;
+import com.pragma.productos.grpc.v1.ProductoIdRequest;
+import com.pragma.productos.grpc.v1.ProductosServiceGrpc;
+import com.pragma.ventas.application.exception.ProductNotFoundException;
+import com.pragma.ventas.domain.model.ItemReserva;
+import com.pragma.ventas.domain.model.Producto;
+import com.pragma.ventas.domain.model.ReservaStock;
+import com.pragma.ventas.domain.repository.IProductoGateway;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductoGrpcGatewayAdapterTest {
+
+    private Server servidor;
+    private ManagedChannel canal;
+    private IProductoGateway reservas;
+    private ProductoGrpcGatewayAdapter productoGrpcGatewayAdapter;
+
+    /**
+     * Servicio de productos de prueba: el producto 1 existe, el 2 no y el 3 falla.
+     */
+    private static class ProductosFalsos extends ProductosServiceGrpc.ProductosServiceImplBase {
+
+        @Override
+        public void getProduct(ProductoIdRequest request, StreamObserver<com.pragma.productos.grpc.v1.Producto> respuesta) {
+            if (request.getId() == 1L) {
+                respuesta.onNext(com.pragma.productos.grpc.v1.Producto.newBuilder()
+                        .setId(1L).setNombre("Laptop").setPrecio(1200.0).setStock(5).build());
+                respuesta.onCompleted();
+            } else if (request.getId() == 2L) {
+                respuesta.onError(Status.NOT_FOUND.asRuntimeException());
+            } else {
+                respuesta.onError(Status.UNAVAILABLE.asRuntimeException());
+            }
+        }
+
+        @Override
+        public void exists(ProductoIdRequest request, StreamObserver<ExisteReply> respuesta) {
+            respuesta.onNext(ExisteReply.newBuilder().setExiste(request.getId() == 1L).build());
+            respuesta.onCompleted();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String nombre = InProcessServerBuilder.generateName();
+        servidor = InProcessServerBuilder.forName(nombre).directExecutor().addService(new ProductosFalsos()).build().start();
+        canal = InProcessChannelBuilder.forName(nombre).directExecutor().build();
+        reservas = mock(IProductoGateway.class);
+        productoGrpcGatewayAdapter = new ProductoGrpcGatewayAdapter(ProductosServiceGrpc.newBlockingStub(canal),
+                Duration.ofSeconds(5), reservas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        canal.shutdownNow();
+        servidor.shutdownNow();
+    }
+
+    @Test
+    void testObtenerProducto() {
+        Producto result = productoGrpcGatewayAdapter.obtenerProducto(1L);
+
+        assertEquals(1L, result.getId());
+        assertEquals("Laptop", result.getNombre());
+        assertNull(result.getDescripcion());
+        assertEquals(1200.0, result.getPrecio());
+        assertEquals(5, result.getStock());
+    }
+
+    @Test
+    void testObtenerProducto_WhenNotFound() {
+        assertThrows(ProductNotFoundException.class, () -> productoGrpcGatewayAdapter.obtenerProducto(2L));
+    }
+
+    @Test
+    void testObtenerProducto_WhenServiceFails() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> productoGrpcGatewayAdapter.obtenerProducto(3L));
+        assertEquals("Error en la comunicación con el servicio de productos", e.getMessage());
+    }
+
+    @Test
+    void testValidarExistenciaProducto() {
+        assertTrue(productoGrpcGatewayAdapter.validarExistenciaProducto(1L));
+        assertFalse(productoGrpcGatewayAdapter.validarExistenciaProducto(2L));
+    }
+
+    @Test
+    void testReservas_ShouldDelegate() {
+        UUID id = UUID.randomUUID();
+        List<ItemReserva> items = List.of(new ItemReserva(1L, 2));
+        ReservaStock reserva = ReservaStock.builder().id(id).estado("PENDIENTE").build();
+        when(reservas.reservarStock(items)).thenReturn(reserva);
+        when(reservas.confirmarReserva(id)).thenReturn(reserva);
+        when(reservas.cancelarReserva(id)).thenReturn(reserva);
+
+        assertSame(reserva, productoGrpcGatewayAdapter.reservarStock(items));
+        assertSame(reserva, productoGrpcGatewayAdapter.confirmarReserva(id));
+        assertSame(reserva, productoGrpcGatewayAdapter.cancelarReserva(id));
+    }
+}
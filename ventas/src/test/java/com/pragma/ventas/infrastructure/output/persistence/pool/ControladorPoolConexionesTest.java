@@ -0,0 +1,107 @@
+package com.pragma.ventas.infrastructure.output.persistence.pool;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba el controlador con carga sintética sobre un pool HikariCP real contra H2 en memoria.
+ */
+class ControladorPoolConexionesTest {
+
+    private static final int HILOS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicBoolean enCarga = new AtomicBoolean(true);
+    private final ExecutorService carga = Executors.newFixedThreadPool(HILOS);
+    private HikariDataSource pool;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        enCarga.set(false);
+        carga.shutdown();
+        assertTrue(carga.awaitTermination(10, TimeUnit.SECONDS));
+        pool.close();
+    }
+
+    private ControladorPoolConexiones controlador(String nombre, Duration latenciaMaxima) {
+        HikariConfig configuracion = new HikariConfig();
+        configuracion.setJdbcUrl("jdbc:h2:mem:" + nombre + ";DB_CLOSE_DELAY=-1");
+        configuracion.setPoolName(nombre);
+        configuracion.setMaximumPoolSize(2);
+        configuracion.setMinimumIdle(1);
+        configuracion.setConnectionTimeout(10_000);
+        configuracion.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pool = new HikariDataSource(configuracion);
+        return new ControladorPoolConexiones(pool, meterRegistry,
+                new PoliticaPoolConexiones(2, 8, 2, Duration.ofMillis(1), latenciaMaxima, 2));
+    }
+
+    private void iniciarCarga(long retencionMs) {
+        for (int i = 0; i < HILOS; i++) {
+            carga.submit(() -> {
+                while (enCarga.get()) {
+                    try (Connection conexion = pool.getConnection(); Statement sentencia = conexion.createStatement()) {
+                        sentencia.execute("SELECT 1");
+                        Thread.sleep(retencionMs);
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
+    @Test
+    void ajustar_BajoCargaYEnReposo_ShouldGrowToMaximumThenShrinkToMinimum() throws Exception {
+        ControladorPoolConexiones controlador = controlador("pool-carga", Duration.ofSeconds(1));
+        iniciarCarga(10);
+
+        int tamano = 2;
+        for (int i = 0; i < 20 && tamano < 8; i++) {
+            Thread.sleep(100);
+            tamano = controlador.ajustar();
+        }
+        assertEquals(8, tamano);
+        Thread.sleep(200);
+        assertTrue(pool.getHikariPoolMXBean().getTotalConnections() > 2);
+
+        enCarga.set(false);
+        Thread.sleep(100);
+        controlador.ajustar();
+        for (int i = 0; i < 20 && tamano > 2; i++) {
+            tamano = controlador.ajustar();
+        }
+        assertEquals(2, tamano);
+        assertEquals(2, pool.getMaximumPoolSize());
+        assertTrue(pool.getMinimumIdle() <= 2);
+    }
+
+    @Test
+    void ajustar_ConexionesLentas_ShouldNotGrowPool() throws Exception {
+        ControladorPoolConexiones controlador = controlador("pool-lento", Duration.ofMillis(100));
+        iniciarCarga(300);
+
+        Thread.sleep(700);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, controlador.ajustar());
+            Thread.sleep(400);
+        }
+        assertTrue(pool.getHikariPoolMXBean().getThreadsAwaitingConnection() > 0);
+    }
+}